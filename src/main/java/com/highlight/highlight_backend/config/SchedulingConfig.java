@@ -1,7 +1,17 @@
 package com.highlight.highlight_backend.config;
 
+import com.highlight.highlight_backend.service.cluster.LeaderOnly;
+import com.highlight.highlight_backend.service.cluster.LeaderOnlyInterceptor;
+import com.highlight.highlight_backend.service.cluster.SchedulerLeaderElection;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
 import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
@@ -30,4 +40,18 @@ public class SchedulingConfig {
         scheduler.initialize();
         return scheduler;
     }
-}
\ No newline at end of file
+    
+    /**
+     * {@link LeaderOnly} 작업을 리더 노드에서만 실행하는 advisor
+     * 트랜잭션보다 먼저 적용되어 리더가 아닌 노드에서는 트랜잭션도 시작하지 않습니다.
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor leaderOnlyAdvisor(ObjectProvider<SchedulerLeaderElection> leaderElection) {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+            AnnotationMatchingPointcut.forMethodAnnotation(LeaderOnly.class),
+            new LeaderOnlyInterceptor(leaderElection));
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+}
@@ -0,0 +1,41 @@
+package com.highlight.highlight_backend.config;
+
+import com.highlight.highlight_backend.service.sms.CoolSmsProvider;
+import com.highlight.highlight_backend.service.sms.SmsProvider;
+import com.highlight.highlight_backend.service.sms.StubSmsProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * SMS 제공자 설정
+ * 
+ * 제공자 (sms.provider)
+ * - coolsms: CoolSMS 로 실제 발송 (기본값)
+ * - stub: 외부로 발송하지 않고 로그만 남김 (로컬 개발, 오프라인 테스트)
+ * 
+ * 발송은 모두 SmsGateway 를 거치며, 큐/배치/시간 제한/서킷 브레이커는 제공자와 관계없이 적용됩니다.
+ * 
+ * @author 전우선
+ * @since 2025.08.20
+ */
+@Slf4j
+@Configuration
+public class SmsConfig {
+
+    @Value("${sms.provider:coolsms}")
+    private String provider;
+
+    @Bean
+    public SmsProvider smsProvider(@Value("${coolsms.api.key:}") String apiKey,
+                                   @Value("${coolsms.api.secret:}") String apiSecret,
+                                   @Value("${coolsms.from-number:}") String fromPhoneNumber,
+                                   @Value("${coolsms.batch-size:100}") int batchSize) {
+        if ("stub".equalsIgnoreCase(provider)) {
+            log.warn("SMS stub 제공자 사용: 실제 SMS 가 발송되지 않습니다.");
+            return new StubSmsProvider();
+        }
+        return new CoolSmsProvider(apiKey, apiSecret, fromPhoneNumber, batchSize);
+    }
+}
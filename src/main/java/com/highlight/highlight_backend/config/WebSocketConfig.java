@@ -1,6 +1,11 @@
 package com.highlight.highlight_backend.config;
 
+import com.highlight.highlight_backend.security.StompAuthChannelInterceptor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
@@ -12,13 +17,40 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
  * 실시간 경매 정보 전송을 위한 WebSocket 설정을 담당합니다.
  * STOMP 프로토콜을 사용하여 메시지 브로커 패턴으로 구현됩니다.
  * 
+ * 브로커 모드 (websocket.broker.mode)
+ * - simple: 인메모리 브로커 (단일 인스턴스, 기본값)
+ * - relay: 외부 STOMP 브로커(ActiveMQ Artemis 등)로 /topic, /queue 를 중계하여
+ *          여러 백엔드 인스턴스의 구독자가 같은 메시지를 받도록 합니다.
+ * 
+ * 개인 알림(/queue/user/{userId}/notifications)은 CONNECT 시 인증된 본인만 구독할 수 있습니다
+ * (StompAuthChannelInterceptor 참고).
+ * 
  * @author 전우선
  * @since 2025.08.15
  */
+@Slf4j
 @Configuration
 @EnableWebSocketMessageBroker
+@RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final StompAuthChannelInterceptor stompAuthChannelInterceptor;
+
+    @Value("${websocket.broker.mode:simple}")
+    private String brokerMode;
+
+    @Value("${websocket.broker.relay-host:localhost}")
+    private String relayHost;
+
+    @Value("${websocket.broker.relay-port:61613}")
+    private int relayPort;
+
+    @Value("${websocket.broker.login:guest}")
+    private String relayLogin;
+
+    @Value("${websocket.broker.passcode:guest}")
+    private String relayPasscode;
+
     /**
      * 메시지 브로커 설정
      * 
@@ -28,7 +60,19 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
         // 클라이언트가 구독할 경로 prefix
-        config.enableSimpleBroker("/topic", "/queue");
+        if ("relay".equalsIgnoreCase(brokerMode)) {
+            // 외부 STOMP 브로커 중계 (다중 인스턴스)
+            config.enableStompBrokerRelay("/topic", "/queue")
+                    .setRelayHost(relayHost)
+                    .setRelayPort(relayPort)
+                    .setClientLogin(relayLogin)
+                    .setClientPasscode(relayPasscode)
+                    .setSystemLogin(relayLogin)
+                    .setSystemPasscode(relayPasscode);
+            log.info("WebSocket 브로커 모드: relay ({}:{})", relayHost, relayPort);
+        } else {
+            config.enableSimpleBroker("/topic", "/queue");
+        }
         
         // 클라이언트가 서버로 메시지 보낼 때 사용할 prefix
         config.setApplicationDestinationPrefixes("/app");
@@ -37,6 +81,14 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         config.setUserDestinationPrefix("/user");
     }
 
+    /**
+     * 클라이언트 수신 채널 설정 (STOMP 인증 및 개인 알림 구독 권한 확인)
+     */
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(stompAuthChannelInterceptor);
+    }
+
     /**
      * WebSocket 엔드포인트 등록
      * 
@@ -1,13 +1,28 @@
 package com.highlight.highlight_backend.config;
 
+import com.highlight.highlight_backend.dto.websocket.NotificationReplayDto;
+import com.highlight.highlight_backend.dto.websocket.WebSocketMessageDto;
+import com.highlight.highlight_backend.dto.websocket.WebSocketMessageDto.WebSocketMessageType;
+import com.highlight.highlight_backend.security.StompAuthChannelInterceptor;
+import com.highlight.highlight_backend.service.AuctionStreamState;
 import com.highlight.highlight_backend.service.WebSocketService;
-import lombok.RequiredArgsConstructor;
+import com.highlight.highlight_backend.service.notification.UserNotificationInbox;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.event.EventListener;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.messaging.SessionConnectedEvent;
 import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+import java.security.Principal;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * WebSocket 연결/해제 이벤트 리스너
@@ -19,10 +34,44 @@ import org.springframework.web.socket.messaging.SessionDisconnectEvent;
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class WebSocketEventListener {
     
+    /**
+     * 경매 토픽 구독 경로 (/topic/auction/{auctionId})
+     */
+    private static final Pattern AUCTION_TOPIC_DESTINATION =
+            Pattern.compile("^/topic/auction/(\\d+)$");
+    
+    /**
+     * 클라이언트가 마지막으로 받은 개인 알림 순번 (SUBSCRIBE 프레임 헤더)
+     */
+    private static final String LAST_SEQ_HEADER = "last-seq";
+    
+    /**
+     * 클라이언트가 사용하는 경매 스트림 프로토콜 버전 (SUBSCRIBE 프레임 헤더, 2 이상이면 스냅샷 전송)
+     */
+    private static final String STREAM_VERSION_HEADER = "stream-version";
+    
     private final WebSocketService webSocketService;
+    private final UserNotificationInbox userNotificationInbox;
+    private final AuctionStreamState auctionStreamState;
+    
+    /**
+     * 구독한 세션에만 직접 보내는 템플릿 (브로커를 거치지 않음)
+     */
+    private final SimpMessagingTemplate sessionMessagingTemplate;
+    
+    public WebSocketEventListener(WebSocketService webSocketService,
+                                  UserNotificationInbox userNotificationInbox,
+                                  AuctionStreamState auctionStreamState,
+                                  SimpMessagingTemplate brokerMessagingTemplate,
+                                  @Qualifier("clientOutboundChannel") MessageChannel clientOutboundChannel) {
+        this.webSocketService = webSocketService;
+        this.userNotificationInbox = userNotificationInbox;
+        this.auctionStreamState = auctionStreamState;
+        this.sessionMessagingTemplate = new SimpMessagingTemplate(clientOutboundChannel);
+        this.sessionMessagingTemplate.setMessageConverter(brokerMessagingTemplate.getMessageConverter());
+    }
     
     /**
      * WebSocket 연결 성공 이벤트 처리
@@ -38,6 +87,101 @@ public class WebSocketEventListener {
         // 연결 성공 메시지는 개별 경매별로 전송하므로 여기서는 로깅만 수행
     }
     
+    /**
+     * 구독 이벤트 처리 (경매 스냅샷, 개인 알림 재전송)
+     * 
+     * 브로커에 구독이 등록되기 전에 호출되므로, 응답은 브로커를 거치지 않고 해당 구독에만 직접 보냅니다.
+     * 이 때문에 응답과 이후 실시간 메시지의 도착 순서가 바뀔 수 있으며, 클라이언트는 순번으로 정렬/중복 제거해야 합니다.
+     */
+    @EventListener
+    public void handleWebSocketSubscribeListener(SessionSubscribeEvent event) {
+        StompHeaderAccessor headerAccessor = StompHeaderAccessor.wrap(event.getMessage());
+        String destination = headerAccessor.getDestination();
+        if (destination == null) {
+            return;
+        }
+        
+        Matcher auctionMatcher = AUCTION_TOPIC_DESTINATION.matcher(destination);
+        if (auctionMatcher.matches()) {
+            sendAuctionSnapshot(headerAccessor, destination, Long.parseLong(auctionMatcher.group(1)));
+            return;
+        }
+        
+        Long notificationOwnerId = StompAuthChannelInterceptor.personalNotificationOwner(destination);
+        if (notificationOwnerId != null) {
+            replayPersonalNotifications(headerAccessor, destination, notificationOwnerId, event.getUser());
+        }
+    }
+    
+    /**
+     * 경매 토픽 구독 시 전체 상태 스냅샷 전송 (stream-version 2 이상 클라이언트만)
+     * 
+     * 이후에는 순번이 붙은 변경분(NEW_BID, 경매 상태 변경)만 받으며, 같은 epoch 안에서 순번이 건너뛰면
+     * /app/auction/{auctionId}/snapshot 을 구독해 스냅샷을 다시 받습니다.
+     */
+    private void sendAuctionSnapshot(StompHeaderAccessor headerAccessor, String destination, Long auctionId) {
+        String streamVersionHeader = headerAccessor.getFirstNativeHeader(STREAM_VERSION_HEADER);
+        if (streamVersionHeader == null) {
+            return;
+        }
+        
+        try {
+            if (Integer.parseInt(streamVersionHeader.trim()) < AuctionStreamState.PROTOCOL_VERSION) {
+                return;
+            }
+            auctionStreamState.snapshot(auctionId).ifPresent(snapshot ->
+                    sendToSubscription(headerAccessor, destination, snapshot));
+        } catch (NumberFormatException e) {
+            log.warn("경매 스트림 프로토콜 버전 형식이 올바르지 않습니다: {}", streamVersionHeader);
+        } catch (Exception e) {
+            log.error("경매 스냅샷 전송 실패: 경매ID={}, 오류={}", auctionId, e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * 개인 알림 구독 시 놓친 알림 재전송
+     * 
+     * SUBSCRIBE 프레임에 last-seq 헤더가 있으면 그 이후의 개인 알림을 NOTIFICATION_REPLAY 한 프레임으로 보냅니다.
+     * 구독은 StompAuthChannelInterceptor 에서 본인만 허용하지만, 알림 내역을 조회하기 전에 한 번 더 확인합니다.
+     */
+    private void replayPersonalNotifications(StompHeaderAccessor headerAccessor, String destination, Long userId,
+                                             Principal user) {
+        String lastSeqHeader = headerAccessor.getFirstNativeHeader(LAST_SEQ_HEADER);
+        if (lastSeqHeader == null) {
+            return;
+        }
+        if (!StompAuthChannelInterceptor.isOwner(user, userId)) {
+            log.warn("개인 알림 재전송 거부 (본인 아님): 세션ID={}, 구독={}", headerAccessor.getSessionId(), destination);
+            return;
+        }
+        
+        try {
+            long lastSeq = Long.parseLong(lastSeqHeader.trim());
+            NotificationReplayDto replay = userNotificationInbox.findAfter(userId, lastSeq);
+            sendToSubscription(headerAccessor, destination,
+                    WebSocketMessageDto.of(WebSocketMessageType.NOTIFICATION_REPLAY, null, replay));
+            
+            log.debug("개인 알림 재전송: 사용자={}, 순번 {} 이후 {}건, 누락={}",
+                    userId, lastSeq, replay.getMessages().size(), replay.isTruncated());
+        } catch (NumberFormatException e) {
+            log.warn("개인 알림 재전송 요청의 순번 형식이 올바르지 않습니다: {}", lastSeqHeader);
+        } catch (Exception e) {
+            log.error("개인 알림 재전송 실패: 구독={}, 오류={}", destination, e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * 구독한 세션의 해당 구독으로만 메시지 전송
+     */
+    private void sendToSubscription(StompHeaderAccessor headerAccessor, String destination, WebSocketMessageDto message) {
+        SimpMessageHeaderAccessor replyAccessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        replyAccessor.setSessionId(headerAccessor.getSessionId());
+        replyAccessor.setSubscriptionId(headerAccessor.getSubscriptionId());
+        replyAccessor.setLeaveMutable(true);
+        
+        sessionMessagingTemplate.convertAndSend(destination, message, replyAccessor.getMessageHeaders());
+    }
+    
     /**
      * WebSocket 연결 해제 이벤트 처리
      */
@@ -64,4 +208,4 @@ public class WebSocketEventListener {
     public void notifyConnectionLost(Long auctionId) {
         webSocketService.sendConnectionLostNotification(auctionId);
     }
-}
\ No newline at end of file
+}
@@ -1,7 +1,9 @@
 package com.highlight.highlight_backend.controller;
 
+import com.highlight.highlight_backend.dto.websocket.WebSocketMessageDto;
 import com.highlight.highlight_backend.exception.CommonErrorCode;
 import com.highlight.highlight_backend.exception.ErrorCode;
+import com.highlight.highlight_backend.service.AuctionStreamState;
 import com.highlight.highlight_backend.service.WebSocketService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -31,6 +33,7 @@ import org.springframework.stereotype.Controller;
 public class WebSocketController {
     
     private final WebSocketService webSocketService;
+    private final AuctionStreamState auctionStreamState;
     
     /**
      * 특정 경매 구독 처리
@@ -57,6 +60,28 @@ public class WebSocketController {
         webSocketService.sendConnectionEstablished(auctionId);
     }
     
+    /**
+     * 경매 스냅샷 재동기화 요청 처리
+     * 
+     * 경매 토픽에서 순번이 건너뛴 것을 발견한 클라이언트가 /app/auction/{auctionId}/snapshot 을 구독하면
+     * 캐시된 전체 상태를 현재 순번과 함께 요청한 클라이언트에게만 한 번 전송합니다 (DB 조회 없음, 캐시에 없을 때만 조회).
+     * 
+     * @param auctionId 재동기화할 경매 ID
+     * @return AUCTION_SNAPSHOT 메시지 (경매가 없으면 전송하지 않음)
+     */
+    @SubscribeMapping("/auction/{auctionId}/snapshot")
+    @Operation(
+        summary = "경매 스냅샷 재동기화",
+        description = "경매 토픽 순번이 건너뛴 경우 경매 전체 상태와 현재 순번을 다시 받습니다. 이후 순번이 더 큰 변경분만 적용합니다."
+    )
+    public WebSocketMessageDto resyncAuctionSnapshot(
+            @Parameter(description = "재동기화할 경매의 고유 ID", required = true, example = "1")
+            @DestinationVariable Long auctionId) {
+        log.debug("WebSocket - 경매 스냅샷 재동기화: 경매ID={}", auctionId);
+        
+        return auctionStreamState.snapshot(auctionId).orElse(null);
+    }
+    
     /**
      * 전체 경매 목록 구독 처리
      * 
@@ -53,7 +53,7 @@ public class AuctionSearchController {
     @GetMapping("/")
     @Operation(
         summary = "경매 목록 조회 및 검색", 
-        description = "모든 경매 목록을 필터링과 정렬 조건에 따라 조회합니다. 로그인 없이 접근 가능한 공개 API입니다. 카테고리, 가격 범위, 브랜드, 경매 상태 등으로 필터링할 수 있으며, 다양한 정렬 옵션을 제공합니다."
+        description = "모든 경매 목록을 필터링과 정렬 조건에 따라 조회합니다. 로그인 없이 접근 가능한 공개 API입니다. 카테고리, 가격 범위, 브랜드, 경매 상태 등으로 필터링할 수 있으며, 다양한 정렬 옵션을 제공합니다. 응답의 facets 에는 필터 UI 용 카테고리/브랜드/가격 구간별 건수가 포함됩니다."
     )
     @ApiResponses({
         @ApiResponse(
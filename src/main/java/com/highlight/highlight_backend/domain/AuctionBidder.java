@@ -0,0 +1,70 @@
+package com.highlight.highlight_backend.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 경매 입찰자 엔티티
+ * 
+ * 경매별 입찰자 한 명당 한 행을 유지하며, 해당 사용자의 최신 입찰 ID를 저장합니다.
+ * 입찰 저장과 같은 트랜잭션에서 갱신되어 경매의 입찰자 수/입찰 수(Auction.totalBidders, totalBids)를
+ * 입찰 내역 전체를 집계하지 않고 증분으로 유지하는 데 사용됩니다.
+ * 
+ * @author 전우선
+ * @since 2025.08.20
+ */
+@Entity
+@Table(name = "auction_bidder",
+       uniqueConstraints = {
+           @UniqueConstraint(name = "uk_auction_bidder", columnNames = {"auction_id", "user_id"})
+       })
+@Getter
+@Setter
+@NoArgsConstructor
+@EntityListeners(AuditingEntityListener.class)
+public class AuctionBidder {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    /**
+     * 경매 ID
+     */
+    @Column(name = "auction_id", nullable = false)
+    private Long auctionId;
+    
+    /**
+     * 입찰자 ID
+     */
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+    
+    /**
+     * 해당 사용자의 최신 입찰 ID
+     */
+    @Column(name = "latest_bid_id", nullable = false)
+    private Long latestBidId;
+    
+    /**
+     * 마지막 입찰 시간
+     */
+    @LastModifiedDate
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    /**
+     * 생성자 - 경매 첫 입찰
+     */
+    public AuctionBidder(Long auctionId, Long userId, Long latestBidId) {
+        this.auctionId = auctionId;
+        this.userId = userId;
+        this.latestBidId = latestBidId;
+    }
+}
@@ -0,0 +1,94 @@
+package com.highlight.highlight_backend.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 경매 생명주기 이벤트 아웃박스 엔티티
+ * 
+ * 경매 시작/종료/취소/즉시구매가 일어난 트랜잭션 안에서 함께 저장되어, 커밋된 상태 변경만 후속 처리
+ * (상품 상태, WebSocket 알림, 판매자 통계)로 전달되도록 합니다. 전달이 끝나면 publishedAt 이 기록됩니다.
+ * 
+ * @author 전우선
+ * @since 2025.08.20
+ */
+@Entity
+@Table(name = "auction_outbox_event",
+       indexes = {
+           @Index(name = "idx_outbox_unpublished", columnList = "published_at, id")
+       })
+@Getter
+@NoArgsConstructor
+@EntityListeners(AuditingEntityListener.class)
+public class AuctionOutboxEvent {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    /**
+     * 경매 ID
+     */
+    @Column(name = "auction_id", nullable = false)
+    private Long auctionId;
+    
+    /**
+     * 이벤트 종류
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 20)
+    private EventType eventType;
+    
+    /**
+     * 낙찰 입찰 ID (종료/즉시구매, 낙찰자가 없으면 null)
+     */
+    @Column(name = "winner_bid_id")
+    private Long winnerBidId;
+    
+    /**
+     * 이벤트 발생 시간
+     */
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    /**
+     * 전달 완료 시간 (미전달이면 null)
+     */
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+    
+    /**
+     * 생성자
+     */
+    public AuctionOutboxEvent(Long auctionId, EventType eventType, Long winnerBidId) {
+        this.auctionId = auctionId;
+        this.eventType = eventType;
+        this.winnerBidId = winnerBidId;
+    }
+    
+    /**
+     * 경매 생명주기 이벤트 종류
+     */
+    public enum EventType {
+        STARTED("경매 시작"),
+        ENDED("경매 종료"),
+        CANCELLED("경매 취소"),
+        BOUGHT_NOW("즉시구매");
+        
+        private final String description;
+        
+        EventType(String description) {
+            this.description = description;
+        }
+        
+        public String getDescription() {
+            return description;
+        }
+    }
+}
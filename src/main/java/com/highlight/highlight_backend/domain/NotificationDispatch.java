@@ -0,0 +1,107 @@
+package com.highlight.highlight_backend.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상품 알림 대량 발송 진행 상황 엔티티
+ * 
+ * 경매 하나의 알림 유형별 발송 한 건이며, 마지막으로 발송을 마친 상품 알림 ID(커서)를 기록합니다.
+ * 발송 도중 재기동되면 커서 이후부터 이어서 발송합니다.
+ * 생성/갱신은 ProductNotificationDispatcher 에서 조건부 UPDATE 로 처리하며, 엔티티는 테이블 정의에만 사용됩니다.
+ * 
+ * @author 전우선
+ * @since 2025.08.20
+ */
+@Entity
+@Table(name = "notification_dispatch",
+       uniqueConstraints = @UniqueConstraint(name = "uk_dispatch_auction_type", columnNames = {"auction_id", "notification_type"}),
+       indexes = @Index(name = "idx_dispatch_status", columnList = "status, updated_at"))
+@Getter
+@NoArgsConstructor
+public class NotificationDispatch {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    /**
+     * 경매 ID
+     */
+    @Column(name = "auction_id", nullable = false)
+    private Long auctionId;
+    
+    /**
+     * 상품 ID
+     */
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+    
+    /**
+     * 알림 유형
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "notification_type", nullable = false, length = 30)
+    private ProductNotification.NotificationType notificationType;
+    
+    /**
+     * 발송 상태
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private DispatchStatus status;
+    
+    /**
+     * 마지막으로 발송을 마친 상품 알림 ID (커서)
+     */
+    @Column(name = "last_notification_id", nullable = false)
+    private Long lastNotificationId;
+    
+    /**
+     * 발송 대상 수 (누적)
+     */
+    @Column(name = "sent_count", nullable = false)
+    private Integer sentCount;
+    
+    /**
+     * 생성 시간
+     */
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+    
+    /**
+     * 마지막 진행 시간 (발송 노드 확인용, 오래 갱신되지 않으면 다른 노드가 이어받음)
+     */
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+    
+    /**
+     * 발송 상태 열거형
+     */
+    public enum DispatchStatus {
+        IN_PROGRESS("발송 중"),
+        COMPLETED("발송 완료");
+        
+        private final String description;
+        
+        DispatchStatus(String description) {
+            this.description = description;
+        }
+        
+        public String getDescription() {
+            return description;
+        }
+    }
+}
@@ -10,6 +10,7 @@ import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDateTime;
 
 /**
@@ -29,6 +30,7 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "product_associations", 
+       uniqueConstraints = @UniqueConstraint(name = "uk_source_target", columnNames = {"source_product_id", "target_product_id"}),
        indexes = {
            @Index(name = "idx_source_product_score", columnList = "source_product_id, association_score DESC"),
            @Index(name = "idx_target_product_score", columnList = "target_product_id, association_score DESC")
@@ -40,6 +42,16 @@ import java.time.LocalDateTime;
 @EntityListeners(AuditingEntityListener.class)
 public class ProductAssociation {
 
+    /**
+     * 동일 세션 함께 조회로 인정하는 최소 건수 (미만이면 동일 세션 건수를 0으로 봄)
+     */
+    public static final int MIN_SESSION_CO_VIEWS = 2;
+
+    /**
+     * 연관도로 저장하는 최소 총 함께 조회 건수 (너무 적은 연관도는 제외)
+     */
+    public static final int MIN_TOTAL_CO_VIEWS = 2;
+
     /**
      * 연관도 ID (Primary Key)
      */
@@ -153,26 +165,36 @@ public class ProductAssociation {
      * - 시간보너스: 최근 30일 내 조회 시 추가 점수
      */
     public BigDecimal calculateScore() {
-        double baseScore = coViewCount.doubleValue();
-        double sessionBonus = sameSessionCount.doubleValue() * 2.0;
-        double userBonus = sameUserCount.doubleValue() * 1.5;
-        
         // 시간 보너스: 최근 30일 내 조회 시 20% 보너스
-        double timeBonus = 0.0;
-        if (lastCoViewedAt != null && lastCoViewedAt.isAfter(LocalDateTime.now().minusDays(30))) {
-            timeBonus = baseScore * 0.2;
-        }
-        
+        boolean recent = lastCoViewedAt != null && lastCoViewedAt.isAfter(LocalDateTime.now().minusDays(30));
         // 카테고리 가중치: 같은 카테고리인 경우 10% 보너스
-        double categoryBonus = 0.0;
-        if (sourceProduct.getCategory() != null && targetProduct.getCategory() != null &&
-            sourceProduct.getCategory().equals(targetProduct.getCategory())) {
-            categoryBonus = baseScore * 0.1;
-        }
-        
+        boolean sameCategory = sourceProduct.getCategory() != null && targetProduct.getCategory() != null &&
+            sourceProduct.getCategory().equals(targetProduct.getCategory());
+
+        return calculateScore(coViewCount, sameSessionCount, sameUserCount, recent, sameCategory);
+    }
+
+    /**
+     * 연관도 점수 계산 (엔티티 없이 건수로 계산, 연관도 배치에서 사용)
+     *
+     * @param coViewCount 총 함께 조회 횟수
+     * @param sameSessionCount 동일 세션 함께 조회 횟수
+     * @param sameUserCount 동일 사용자 함께 조회 횟수
+     * @param recent 최근 30일 내 함께 조회 여부
+     * @param sameCategory 같은 카테고리 여부
+     * @return 연관도 점수 (최대 100)
+     */
+    public static BigDecimal calculateScore(int coViewCount, int sameSessionCount, int sameUserCount,
+                                            boolean recent, boolean sameCategory) {
+        double baseScore = coViewCount;
+        double sessionBonus = sameSessionCount * 2.0;
+        double userBonus = sameUserCount * 1.5;
+        double timeBonus = recent ? baseScore * 0.2 : 0.0;
+        double categoryBonus = sameCategory ? baseScore * 0.1 : 0.0;
+
         double totalScore = baseScore + sessionBonus + userBonus + timeBonus + categoryBonus;
         
         // 최대 점수 100점으로 제한
-        return BigDecimal.valueOf(Math.min(totalScore, 100.0));
+        return BigDecimal.valueOf(Math.min(totalScore, 100.0)).setScale(2, RoundingMode.HALF_UP);
     }
 }
\ No newline at end of file
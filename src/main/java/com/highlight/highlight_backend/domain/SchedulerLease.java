@@ -0,0 +1,52 @@
+package com.highlight.highlight_backend.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄러 리스 엔티티
+ * 
+ * 여러 서버 인스턴스 중 스케줄 작업을 실행할 리더 노드를 정하기 위한 리스입니다.
+ * 리스 이름당 한 행이며, 만료 시간(locked_until)이 지나기 전까지는 보유 노드만 갱신할 수 있습니다.
+ * 획득/갱신은 SchedulerLeaderElection 에서 조건부 UPDATE 로 처리하며, 엔티티는 테이블 정의에만 사용됩니다.
+ * 
+ * @author 전우선
+ * @since 2025.08.20
+ */
+@Entity
+@Table(name = "scheduler_lease")
+@Getter
+@NoArgsConstructor
+public class SchedulerLease {
+    
+    /**
+     * 리스 이름
+     */
+    @Id
+    @Column(name = "lease_name", length = 64)
+    private String leaseName;
+    
+    /**
+     * 리스 보유 노드 ID
+     */
+    @Column(name = "owner_id", nullable = false, length = 128)
+    private String ownerId;
+    
+    /**
+     * 리스 만료 시간
+     */
+    @Column(name = "locked_until", nullable = false)
+    private LocalDateTime lockedUntil;
+    
+    /**
+     * 마지막 획득/갱신 시간
+     */
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,72 @@
+package com.highlight.highlight_backend.domain;
+
+import com.highlight.highlight_backend.dto.websocket.WebSocketMessageDto;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 개인 알림함 엔티티
+ * 
+ * /queue/user/{id}/notifications 로 보낸 개인 알림 한 건이며, ID 가 알림 순번(seq)입니다.
+ * 클라이언트가 재연결 시 마지막으로 받은 순번을 보내면 이후 알림을 한 번에 다시 받습니다.
+ * 저장/조회는 UserNotificationInbox 에서 JdbcTemplate 으로 처리하며, 엔티티는 테이블 정의에만 사용됩니다.
+ * 
+ * @author 전우선
+ * @since 2025.08.20
+ */
+@Entity
+@Table(name = "user_notification",
+       indexes = {
+           @Index(name = "idx_user_notification_user", columnList = "user_id, id"),
+           @Index(name = "idx_user_notification_created", columnList = "created_at")
+       })
+@Getter
+@NoArgsConstructor
+public class UserNotification {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    /**
+     * 수신 사용자 ID
+     */
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+    
+    /**
+     * 메시지 타입
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "message_type", nullable = false, length = 40)
+    private WebSocketMessageDto.WebSocketMessageType messageType;
+    
+    /**
+     * 관련 경매 ID
+     */
+    @Column(name = "auction_id")
+    private Long auctionId;
+    
+    /**
+     * 메시지 데이터 (JSON)
+     */
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+    
+    /**
+     * 알림 생성 시간
+     */
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,40 @@
+package com.highlight.highlight_backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 경매 목록 필터 UI 용 항목별 건수 응답 DTO
+ *
+ * 각 항목의 건수는 해당 항목 자신의 필터를 뺀 나머지 조건으로 셉니다.
+ * (예: 카테고리 FURNITURE 를 선택해도 다른 카테고리의 건수가 함께 내려감)
+ *
+ * @author 전우선
+ * @since 2025.08.20
+ */
+@Getter
+@AllArgsConstructor
+public class AuctionFacetsDto {
+
+    private List<FacetCount> categories;  // 카테고리별 건수
+    private List<FacetCount> brands;      // 브랜드별 건수 (건수 많은 순)
+    private List<PriceBucketCount> priceBuckets; // 현재가 구간별 건수
+
+    @Getter
+    @AllArgsConstructor
+    public static class FacetCount {
+        private String value;  // 필터에 넘길 값
+        private String label;  // 화면 표시명
+        private long count;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class PriceBucketCount {
+        private Long minPrice; // 구간 최소 가격 (포함)
+        private Long maxPrice; // 구간 최대 가격 (포함, null 이면 상한 없음)
+        private long count;
+    }
+}
@@ -0,0 +1,27 @@
+package com.highlight.highlight_backend.dto;
+
+import lombok.Getter;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * 경매 목록 검색 결과 (페이지 + 필터 항목별 건수)
+ *
+ * 기존 페이지 응답 필드는 그대로 두고 facets 필드만 추가됩니다.
+ *
+ * @author 전우선
+ * @since 2025.08.20
+ */
+@Getter
+public class AuctionSearchResultDto extends PageImpl<UserAuctionResponseDto> {
+
+    private final AuctionFacetsDto facets;
+
+    public AuctionSearchResultDto(List<UserAuctionResponseDto> content, Pageable pageable, long total,
+                                  AuctionFacetsDto facets) {
+        super(content, pageable, total);
+        this.facets = facets;
+    }
+}
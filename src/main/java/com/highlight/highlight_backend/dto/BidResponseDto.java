@@ -150,7 +150,32 @@ public class BidResponseDto {
             true // 본인 입찰 내역이므로 true
         );
     }
-    
+
+    /**
+     * 수락 직후 응답용 DTO 생성 (DB 저장 전이므로 입찰 ID 없음)
+     * 
+     * @param isWinning 수락 직후 최고 입찰 여부 (다른 사용자의 자동 입찰에 바로 밀린 경우 false)
+     */
+    public static BidResponseDto fromAcceptedBid(Long auctionId, String productName, String nickname,
+                                                 BigDecimal bidAmount, boolean isAutoBid, LocalDateTime acceptedAt,
+                                                 boolean isWinning) {
+        Bid.BidStatus status = isWinning ? Bid.BidStatus.WINNING : Bid.BidStatus.OUTBID;
+        
+        return new BidResponseDto(
+            null,
+            auctionId,
+            productName,
+            nickname,
+            bidAmount,
+            status.name(),
+            status.getDescription(),
+            isAutoBid,
+            acceptedAt,
+            isWinning,
+            true
+        );
+    }
+
     /**
      * 닉네임 마스킹 처리
      * 예: "홍길동" -> "홍**"
@@ -24,7 +24,7 @@ import java.time.LocalDateTime;
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 @Schema(description = "함께 본 상품 응답 DTO")
 public class ViewTogetherProductResponseDto {
 
@@ -0,0 +1,32 @@
+package com.highlight.highlight_backend.dto.websocket;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 경매 카운트다운 WebSocket 메시지 데이터 DTO
+ * 
+ * 매초 전송되는 남은 시간만 담은 경량 메시지입니다.
+ * 가격/입찰자 등 전체 상태는 AuctionStatusWebSocketDto 로 상태가 바뀔 때만 전송됩니다.
+ * 
+ * @author 전우선
+ * @since 2025.08.20
+ */
+@Getter
+@AllArgsConstructor
+@Schema(description = "경매 카운트다운 WebSocket 메시지 데이터 DTO")
+public class AuctionCountdownWebSocketDto {
+    
+    /**
+     * 경매 ID
+     */
+    @Schema(description = "경매 ID", example = "1")
+    private Long auctionId;
+    
+    /**
+     * 남은 시간 (초)
+     */
+    @Schema(description = "경매 종료까지 남은 시간 (초)", example = "3600")
+    private Long remainingTimeInSeconds;
+}
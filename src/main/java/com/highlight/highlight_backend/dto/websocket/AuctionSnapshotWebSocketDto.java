@@ -0,0 +1,35 @@
+package com.highlight.highlight_backend.dto.websocket;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 경매 전체 상태 스냅샷 WebSocket 메시지 데이터 DTO
+ * 
+ * 경매 토픽 구독 또는 재동기화 요청 시 한 번 전송됩니다. 메시지와 같은 epoch 에서는 순번(seq) 이후의 변경분
+ * (NEW_BID, 경매 상태 변경)만 이어서 적용하면 되며, 순번이 같거나 작은 변경분은 이미 반영된 것입니다.
+ * 다른 epoch(다른 서버가 붙인 순번)의 변경분은 처음 받은 순번부터 이어서 확인합니다.
+ * 
+ * @author 전우선
+ * @since 2025.08.20
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "경매 전체 상태 스냅샷 WebSocket 메시지 데이터 DTO")
+public class AuctionSnapshotWebSocketDto {
+    
+    /**
+     * 경매 스트림 프로토콜 버전
+     */
+    @Schema(description = "경매 스트림 프로토콜 버전", example = "2")
+    private int protocolVersion;
+    
+    /**
+     * 경매 전체 상태
+     */
+    @Schema(description = "경매 전체 상태")
+    private AuctionStatusWebSocketDto state;
+}
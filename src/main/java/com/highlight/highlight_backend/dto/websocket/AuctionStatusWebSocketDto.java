@@ -124,6 +124,56 @@ public class AuctionStatusWebSocketDto {
         );
     }
     
+    /**
+     * 새 입찰을 반영한 상태 (경매 상태 캐시에서 입찰 메시지를 스냅샷에 적용할 때 사용)
+     */
+    public AuctionStatusWebSocketDto withBid(BidWebSocketDto bid) {
+        return new AuctionStatusWebSocketDto(
+            auctionId,
+            productName,
+            status,
+            statusDescription,
+            bid.getCurrentHighestBid() != null ? bid.getCurrentHighestBid() : currentHighestBid,
+            bid.getTotalBidders() != null ? bid.getTotalBidders() : totalBidders,
+            bid.getTotalBids() != null ? bid.getTotalBids() : totalBids,
+            bid.getBidderNickname(),  // 입찰 메시지의 닉네임은 이미 마스킹됨
+            scheduledStartTime,
+            scheduledEndTime,
+            actualStartTime,
+            actualEndTime,
+            remainingTimeInSeconds,
+            LocalDateTime.now()
+        );
+    }
+    
+    /**
+     * 남은 시간을 현재 시각 기준으로 다시 계산한 상태 (캐시된 스냅샷 전송 시 사용)
+     */
+    public AuctionStatusWebSocketDto withCurrentRemainingTime() {
+        long remainingSeconds = 0L;
+        if (Auction.AuctionStatus.IN_PROGRESS.name().equals(status) && scheduledEndTime != null) {
+            LocalDateTime now = LocalDateTime.now(java.time.ZoneId.of("Asia/Seoul"));
+            remainingSeconds = Math.max(0L, java.time.Duration.between(now, scheduledEndTime).getSeconds());
+        }
+        
+        return new AuctionStatusWebSocketDto(
+            auctionId,
+            productName,
+            status,
+            statusDescription,
+            currentHighestBid,
+            totalBidders,
+            totalBids,
+            currentWinnerNickname,
+            scheduledStartTime,
+            scheduledEndTime,
+            actualStartTime,
+            actualEndTime,
+            remainingSeconds,
+            lastUpdatedAt
+        );
+    }
+    
     /**
      * 경매 종료까지 남은 시간 계산 (초 단위)
      */
@@ -0,0 +1,41 @@
+package com.highlight.highlight_backend.dto.websocket;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 개인 알림 재전송 DTO
+ * 
+ * 개인 알림 구독 시 클라이언트가 보낸 마지막 순번 이후의 알림을 한 프레임으로 묶어 전달합니다.
+ * 
+ * @author 전우선
+ * @since 2025.08.20
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "개인 알림 재전송 DTO")
+public class NotificationReplayDto {
+    
+    /**
+     * 놓친 알림 (순번 오름차순)
+     */
+    @Schema(description = "놓친 알림 목록 (순번 오름차순)")
+    private List<WebSocketMessageDto> messages;
+    
+    /**
+     * 재전송한 마지막 순번 (알림이 없으면 요청한 순번 그대로)
+     */
+    @Schema(description = "재전송한 마지막 순번", example = "1024")
+    private Long lastSeq;
+    
+    /**
+     * 재전송 한도를 넘어 오래된 알림이 빠졌는지 여부 (true 이면 REST 로 현재 상태를 다시 조회)
+     */
+    @Schema(description = "일부 알림 누락 여부", example = "false")
+    private boolean truncated;
+}
@@ -1,5 +1,6 @@
 package com.highlight.highlight_backend.dto.websocket;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -43,11 +44,43 @@ public class WebSocketMessageDto {
     @Schema(description = "메시지 전송 시간", example = "2025-08-15T14:30:00")
     private LocalDateTime timestamp;
     
+    /**
+     * 메시지 순번 (순번이 있는 메시지만)
+     * - 개인 알림: 개인 알림함 순번, 재연결 시 마지막으로 받은 순번을 보내면 이후 알림을 재전송
+     * - 경매 토픽: 경매별 스냅샷/변경분 순번 (epoch 안에서만 이어짐), 같은 epoch 에서 순번이 건너뛰면 스냅샷을 다시 요청
+     */
+    @Schema(description = "메시지 순번 (개인 알림함 순번 또는 경매별 스트림 순번)", example = "1024")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long seq;
+    
+    /**
+     * 경매 토픽 순번의 epoch (순번을 붙인 서버와 그 서버의 경매별 순번 시작을 구분)
+     * 여러 서버가 같은 경매 토픽으로 발행하면(relay 브로커) 서버마다 순번을 따로 붙이므로,
+     * 클라이언트는 epoch 별 마지막 순번을 기억하고 같은 epoch 안에서만 건너뜀을 확인합니다.
+     */
+    @Schema(description = "경매 스트림 순번 epoch (epoch 별로 순번이 이어짐)", example = "3f9c2a1b-1")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String epoch;
+    
     /**
      * 메시지 생성자
      */
     public static WebSocketMessageDto of(WebSocketMessageType type, Long auctionId, Object data) {
-        return new WebSocketMessageDto(type, auctionId, data, LocalDateTime.now());
+        return new WebSocketMessageDto(type, auctionId, data, LocalDateTime.now(), null, null);
+    }
+    
+    /**
+     * 순번을 붙인 메시지
+     */
+    public WebSocketMessageDto withSeq(Long seq) {
+        return new WebSocketMessageDto(type, auctionId, data, timestamp, seq, null);
+    }
+    
+    /**
+     * 경매 토픽 순번과 epoch 을 붙인 메시지
+     */
+    public WebSocketMessageDto withSeq(String epoch, Long seq) {
+        return new WebSocketMessageDto(type, auctionId, data, timestamp, seq, epoch);
     }
     
     /**
@@ -57,6 +90,7 @@ public class WebSocketMessageDto {
     public enum WebSocketMessageType {
         NEW_BID("새로운 입찰"),                    // 새 입찰 발생
         AUCTION_STATUS_UPDATE("경매 상태 업데이트"), // 경매 상태 변경  
+        AUCTION_COUNTDOWN("경매 카운트다운"),       // 남은 시간 (매초)
         AUCTION_STARTED("경매 시작"),              // 경매 시작
         AUCTION_ENDED("경매 종료"),                // 경매 종료
         AUCTION_CANCELLED("경매 취소"),            // 경매 취소
@@ -68,6 +102,8 @@ public class WebSocketMessageDto {
         BUY_IT_NOW_COMPLETED("즉시 구매 완료"),     // 즉시 구매 완료 알림
         CONNECTION_ESTABLISHED("연결 성공"),       // WebSocket 연결 성공
         CONNECTION_LOST("연결 끊김"),              // WebSocket 연결 끊김
+        NOTIFICATION_REPLAY("개인 알림 재전송"),    // 재연결 시 놓친 개인 알림 묶음
+        AUCTION_SNAPSHOT("경매 전체 상태"),         // 구독/재동기화 시 경매 전체 상태 (이후 변경분은 순번으로 이어짐)
         ERROR("오류");                            // 오류 메시지
         
         private final String description;
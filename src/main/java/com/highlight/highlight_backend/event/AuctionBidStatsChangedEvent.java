@@ -0,0 +1,35 @@
+package com.highlight.highlight_backend.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * 경매 입찰 통계 변경 이벤트
+ * 
+ * 입찰 배치가 커밋된 뒤 경매마다 한 번 발행되며, 현재가와 입찰 수만 담습니다.
+ * 경매 검색 인덱스가 DB 조회 없이 가격/인기순 정렬 값을 갱신하는 데 사용합니다.
+ * 
+ * @author 전우선
+ * @since 2025.08.20
+ */
+@Getter
+@AllArgsConstructor
+public class AuctionBidStatsChangedEvent {
+    
+    /**
+     * 경매 ID
+     */
+    private final Long auctionId;
+    
+    /**
+     * 현재 최고 입찰가
+     */
+    private final BigDecimal currentHighestBid;
+    
+    /**
+     * 총 입찰 횟수
+     */
+    private final Integer totalBids;
+}
@@ -0,0 +1,48 @@
+package com.highlight.highlight_backend.event;
+
+import com.highlight.highlight_backend.domain.AuctionOutboxEvent;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 경매 생명주기 이벤트
+ * 
+ * 아웃박스에 기록된 경매 시작/종료/취소/즉시구매가 커밋된 뒤 AuctionOutboxService 가 발행하며,
+ * 상품 상태, WebSocket 알림, 판매자 통계 구독자가 처리합니다.
+ * 아웃박스 재전달로 같은 이벤트가 두 번 이상 전달될 수 있으므로 구독자는 중복 처리에 안전해야 합니다.
+ * 
+ * @author 전우선
+ * @since 2025.08.20
+ */
+@Getter
+@AllArgsConstructor
+public class AuctionLifecycleEvent {
+    
+    /**
+     * 아웃박스 이벤트 ID
+     */
+    private final Long outboxEventId;
+    
+    /**
+     * 경매 ID
+     */
+    private final Long auctionId;
+    
+    /**
+     * 이벤트 종류
+     */
+    private final AuctionOutboxEvent.EventType eventType;
+    
+    /**
+     * 낙찰 입찰 ID (종료/즉시구매, 낙찰자가 없으면 null)
+     */
+    private final Long winnerBidId;
+    
+    /**
+     * 아웃박스 엔티티로부터 이벤트 생성
+     */
+    public static AuctionLifecycleEvent from(AuctionOutboxEvent outboxEvent) {
+        return new AuctionLifecycleEvent(outboxEvent.getId(), outboxEvent.getAuctionId(),
+                outboxEvent.getEventType(), outboxEvent.getWinnerBidId());
+    }
+}
@@ -0,0 +1,49 @@
+package com.highlight.highlight_backend.event;
+
+import com.highlight.highlight_backend.domain.Auction;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 경매 상태 변경 이벤트
+ * 
+ * 경매가 예약/시작/종료/취소되거나 일정이 수정(소프트 클로즈 연장 포함)될 때 발행되며,
+ * 카운트다운 스냅샷과 경매 타이머처럼 경매 일정을 메모리에 유지하는 컴포넌트가 구독합니다.
+ * 
+ * @author 전우선
+ * @since 2025.08.20
+ */
+@Getter
+@AllArgsConstructor
+public class AuctionStatusChangedEvent {
+    
+    /**
+     * 경매 ID
+     */
+    private final Long auctionId;
+    
+    /**
+     * 변경 후 경매 상태
+     */
+    private final Auction.AuctionStatus status;
+    
+    /**
+     * 변경 후 시작 예정 시간
+     */
+    private final LocalDateTime scheduledStartTime;
+    
+    /**
+     * 변경 후 종료 예정 시간
+     */
+    private final LocalDateTime scheduledEndTime;
+    
+    /**
+     * Auction 엔티티로부터 이벤트 생성
+     */
+    public static AuctionStatusChangedEvent of(Auction auction) {
+        return new AuctionStatusChangedEvent(auction.getId(), auction.getStatus(),
+                auction.getScheduledStartTime(), auction.getScheduledEndTime());
+    }
+}
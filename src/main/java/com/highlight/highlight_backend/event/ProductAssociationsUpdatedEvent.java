@@ -0,0 +1,23 @@
+package com.highlight.highlight_backend.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 상품 연관도 갱신 이벤트
+ *
+ * 연관도 배치(ProductAssociationBatchService)나 실시간 갱신기(IncrementalAssociationUpdater)가
+ * product_associations 저장을 마친 뒤 발행하며, 함께 본 상품 추천을 메모리에 유지하는 컴포넌트가 구독합니다.
+ *
+ * @author 전우선
+ * @since 2025.08.20
+ */
+@Getter
+@AllArgsConstructor
+public class ProductAssociationsUpdatedEvent {
+
+    /**
+     * 저장된 연관도 행 수
+     */
+    private final int writtenRows;
+}
@@ -0,0 +1,23 @@
+package com.highlight.highlight_backend.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 상품 정보 변경 이벤트
+ * 
+ * 상품명/브랜드/카테고리/프리미엄 여부/이미지가 바뀌거나 상품이 삭제될 때 발행되며,
+ * 경매 검색 인덱스처럼 상품 정보를 메모리에 유지하는 컴포넌트가 구독합니다.
+ * 
+ * @author 전우선
+ * @since 2025.08.20
+ */
+@Getter
+@AllArgsConstructor
+public class ProductChangedEvent {
+    
+    /**
+     * 상품 ID
+     */
+    private final Long productId;
+}
@@ -0,0 +1,29 @@
+package com.highlight.highlight_backend.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 상품 조회 이력 저장 이벤트
+ * 
+ * ProductViewRecorder 가 조회 이력 배치를 저장한 직후 writer 스레드에서 발행하며,
+ * 함께 본 상품 연관도를 조회 흐름에 따라 갱신하는 컴포넌트가 구독합니다.
+ * 
+ * @author 전우선
+ * @since 2025.08.20
+ */
+@Getter
+@AllArgsConstructor
+public class ProductViewsRecordedEvent {
+    
+    /**
+     * 저장된 조회 이력 (조회 시간 순)
+     */
+    private final List<RecordedView> views;
+
+    public record RecordedView(Long userId, String sessionId, Long productId, LocalDateTime viewedAt) {
+    }
+}
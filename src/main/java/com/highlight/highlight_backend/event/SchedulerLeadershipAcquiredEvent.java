@@ -0,0 +1,23 @@
+package com.highlight.highlight_backend.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 스케줄러 리더 획득 이벤트
+ * 
+ * 이 노드가 스케줄러 리스를 새로 획득했을 때 발행되며,
+ * 리더 노드에서만 동작하는 컴포넌트(경매 타이머, 카운트다운 등)가 DB 기준으로 상태를 다시 맞추는 데 사용합니다.
+ * 
+ * @author 전우선
+ * @since 2025.08.20
+ */
+@Getter
+@AllArgsConstructor
+public class SchedulerLeadershipAcquiredEvent {
+    
+    /**
+     * 리더가 된 노드 ID
+     */
+    private final String nodeId;
+}
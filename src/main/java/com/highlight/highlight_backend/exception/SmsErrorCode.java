@@ -21,7 +21,9 @@ public enum SmsErrorCode implements ErrorCode {
     /** 인증코드 유효시간 만료 */
     VERIFICATION_CODE_EXPIRED(HttpStatus.UNAUTHORIZED, "SMS_003", "인증 유효 시간이 초과되었습니다."),
     /** 휴대폰 인증 실패 또는 만료 */
-    VERIFICATION_FAILED_OR_EXPIRED(HttpStatus.BAD_REQUEST, "SMS_004", "휴대폰 인증에 실패했거나 유효 시간이 만료되었습니다.");
+    VERIFICATION_FAILED_OR_EXPIRED(HttpStatus.BAD_REQUEST, "SMS_004", "휴대폰 인증에 실패했거나 유효 시간이 만료되었습니다."),
+    /** SMS 제공자 장애로 발송 일시 중단 (서킷 브레이커 열림, 발송 대기열 가득 참) */
+    SMS_PROVIDER_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "SMS_005", "SMS 발송이 일시적으로 불가능합니다. 잠시 후 다시 시도해주세요.");
     
     private final HttpStatus httpStatus;
     private final String code;
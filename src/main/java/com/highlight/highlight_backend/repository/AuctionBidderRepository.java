@@ -0,0 +1,22 @@
+package com.highlight.highlight_backend.repository;
+
+import com.highlight.highlight_backend.domain.AuctionBidder;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * 경매 입찰자 리포지토리
+ * 
+ * @author 전우선
+ * @since 2025.08.20
+ */
+@Repository
+public interface AuctionBidderRepository extends JpaRepository<AuctionBidder, Long> {
+    
+    /**
+     * 경매의 특정 입찰자 조회
+     */
+    Optional<AuctionBidder> findByAuctionIdAndUserId(Long auctionId, Long userId);
+}
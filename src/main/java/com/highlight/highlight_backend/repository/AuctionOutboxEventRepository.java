@@ -0,0 +1,57 @@
+package com.highlight.highlight_backend.repository;
+
+import com.highlight.highlight_backend.domain.AuctionOutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 경매 생명주기 이벤트 아웃박스 리포지토리
+ * 
+ * @author 전우선
+ * @since 2025.08.20
+ */
+@Repository
+public interface AuctionOutboxEventRepository extends JpaRepository<AuctionOutboxEvent, Long> {
+    
+    /**
+     * 미전달 이벤트 조회 (발생 순)
+     * 
+     * @param createdBefore 이 시간 이전에 발생한 이벤트만 조회 (커밋 직후 전달 중인 이벤트 제외)
+     * @param pageable 조회 건수
+     * @return 미전달 이벤트 목록
+     */
+    @Query("SELECT e FROM AuctionOutboxEvent e " +
+           "WHERE e.publishedAt IS NULL " +
+           "AND e.createdAt < :createdBefore " +
+           "ORDER BY e.id ASC")
+    List<AuctionOutboxEvent> findUnpublished(@Param("createdBefore") LocalDateTime createdBefore, Pageable pageable);
+    
+    /**
+     * 미전달 이벤트 조회 (ID 목록, 발생 순)
+     */
+    @Query("SELECT e FROM AuctionOutboxEvent e " +
+           "WHERE e.id IN :ids " +
+           "AND e.publishedAt IS NULL " +
+           "ORDER BY e.id ASC")
+    List<AuctionOutboxEvent> findUnpublishedByIdIn(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * 전달 완료 처리
+     * 
+     * @param id 이벤트 ID
+     * @param publishedAt 전달 완료 시간
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE AuctionOutboxEvent e SET e.publishedAt = :publishedAt " +
+           "WHERE e.id = :id AND e.publishedAt IS NULL")
+    int markPublished(@Param("id") Long id, @Param("publishedAt") LocalDateTime publishedAt);
+}
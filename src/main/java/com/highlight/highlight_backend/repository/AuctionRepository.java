@@ -13,6 +13,7 @@ import jakarta.persistence.LockModeType;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -142,6 +143,24 @@ public interface AuctionRepository extends JpaRepository<Auction, Long>, JpaSpec
     @Query("SELECT a FROM Auction a LEFT JOIN FETCH a.product p LEFT JOIN FETCH p.images WHERE a.id = :auctionId")
     Optional<Auction> findByIdWithProduct(@Param("auctionId") Long auctionId);
     
+    /**
+     * 상태별 경매를 상품/이미지와 함께 조회 (경매 검색 인덱스 구성용)
+     * 
+     * @param statuses 경매 상태 목록
+     * @return 상품 정보를 포함한 경매 목록
+     */
+    @Query("SELECT DISTINCT a FROM Auction a JOIN FETCH a.product p LEFT JOIN FETCH p.images WHERE a.status IN :statuses")
+    List<Auction> findByStatusInWithProduct(@Param("statuses") Collection<Auction.AuctionStatus> statuses);
+    
+    /**
+     * 상품의 경매를 상품/이미지와 함께 조회 (경매 검색 인덱스 갱신용)
+     * 
+     * @param productId 상품 ID
+     * @return 상품 정보를 포함한 경매 목록
+     */
+    @Query("SELECT DISTINCT a FROM Auction a JOIN FETCH a.product p LEFT JOIN FETCH p.images WHERE p.id = :productId")
+    List<Auction> findByProductIdWithProduct(@Param("productId") Long productId);
+    
     /**
      * 상품이 이미 경매에 등록되어 있는지 확인
      * 
@@ -192,7 +211,7 @@ public interface AuctionRepository extends JpaRepository<Auction, Long>, JpaSpec
     @Query("SELECT DISTINCT a.product.id FROM Auction a " +
            "JOIN Bid b ON a.id = b.auction.id " +
            "WHERE b.user.id = :userId " +
-           "AND b.status = 'WINNING' " +
+           "AND b.status IN ('WINNING', 'WON') " +
            "AND a.status = 'COMPLETED' " +
            "AND a.product.isPremium = true")
     List<Long> findPremiumProductIdsByUserId(@Param("userId") Long userId);
@@ -4,13 +4,16 @@ import com.highlight.highlight_backend.domain.Bid;
 import com.highlight.highlight_backend.domain.Auction;
 import com.highlight.highlight_backend.domain.User;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -49,16 +52,14 @@ public interface BidRepository extends JpaRepository<Bid, Long> {
     /**
      * 특정 경매의 사용자별 최신 입찰 조회 (입찰가 높은순)
      * 각 사용자의 최신 입찰 1개씩만 반환하여 일반적인 경매 UX를 제공합니다.
+     * 사용자별 최신 입찰 ID는 AuctionBidder 에 증분 저장되어 있으므로 입찰 내역 전체를 집계하지 않습니다.
      */
     @Query("SELECT b FROM Bid b " +
            "WHERE b.auction = :auction " +
            "AND b.status != 'CANCELLED' " +
            "AND b.id IN (" +
-           "    SELECT MAX(b2.id) FROM Bid b2 " +
-           "    WHERE b2.auction = :auction " +
-           "    AND b2.user = b.user " +
-           "    AND b2.status != 'CANCELLED' " +
-           "    GROUP BY b2.user" +
+           "    SELECT ab.latestBidId FROM AuctionBidder ab " +
+           "    WHERE ab.auctionId = b.auction.id" +
            ") " +
            "ORDER BY b.bidAmount DESC, b.createdAt ASC")
     Page<Bid> findBidsByAuctionOrderByBidAmountDesc(
@@ -66,20 +67,64 @@ public interface BidRepository extends JpaRepository<Bid, Long> {
             Pageable pageable);
     
     /**
-     * 특정 경매의 현재 최고 입찰 조회
+     * 특정 경매의 낙찰자(진행 중이면 현재 최고) 입찰 조회
+     * 
+     * 종료 후 낙찰 처리된 입찰(WON)을 우선하고, 낙찰 처리 전이면(진행 중이거나 종료 엔진의 일괄 낙찰 표시 전)
+     * 현재 최고 입찰(ACTIVE/WINNING)을 반환합니다.
+     */
+    default Optional<Bid> findWinnerBidByAuction(Auction auction) {
+        return findWinnerCandidatesByAuction(auction, PageRequest.of(0, 1)).stream().findFirst();
+    }
+    
+    /**
+     * 특정 경매의 낙찰 후보 입찰 조회 (낙찰 처리된 입찰 우선, 이후 최고가/선도착 순)
      */
     @Query("SELECT b FROM Bid b " +
            "WHERE b.auction = :auction " +
-           "AND b.status IN ('ACTIVE', 'WINNING') " +
-           "ORDER BY b.bidAmount DESC, b.createdAt ASC")
-    Optional<Bid> findCurrentHighestBidByAuction(@Param("auction") Auction auction);
+           "AND b.status IN ('ACTIVE', 'WINNING', 'WON') " +
+           "ORDER BY CASE WHEN b.status = 'WON' THEN 0 ELSE 1 END, b.bidAmount DESC, b.createdAt ASC")
+    List<Bid> findWinnerCandidatesByAuction(@Param("auction") Auction auction, Pageable pageable);
     
+    /**
+     * 특정 경매의 취소되지 않은 전체 입찰 조회 (입찰자 fetch)
+     * 호가창 복원용으로 경매당 한 번만 사용합니다.
+     */
+    @Query("SELECT b FROM Bid b " +
+           "JOIN FETCH b.user " +
+           "WHERE b.auction.id = :auctionId " +
+           "AND b.status != 'CANCELLED' " +
+           "ORDER BY b.id ASC")
+    List<Bid> findAllByAuctionIdWithUser(@Param("auctionId") Long auctionId);
+
+    /**
+     * ID 목록으로 입찰 조회 (경매/상품/입찰자 fetch)
+     * 배치 저장 후 응답과 실시간 알림 생성에 사용합니다.
+     */
+    @Query("SELECT b FROM Bid b " +
+           "JOIN FETCH b.user " +
+           "JOIN FETCH b.auction a " +
+           "JOIN FETCH a.product " +
+           "WHERE b.id IN :ids")
+    List<Bid> findAllByIdInWithAuctionAndUser(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 종료된 경매들의 최고 입찰을 낙찰로 일괄 변경
+     * 만료 경매 일괄 종료 시 청크당 한 번 실행합니다.
+     *
+     * @param auctionIds 종료된 경매 ID 목록
+     * @return 낙찰 처리된 입찰 수
+     */
+    @Modifying
+    @Query("UPDATE Bid b SET b.status = com.highlight.highlight_backend.domain.Bid.BidStatus.WON " +
+           "WHERE b.auction.id IN :auctionIds AND b.status = 'WINNING'")
+    int markWinningBidsAsWon(@Param("auctionIds") Collection<Long> auctionIds);
+
     /**
      * 특정 경매의 최고 입찰가 조회
      */
     @Query("SELECT MAX(b.bidAmount) FROM Bid b " +
            "WHERE b.auction = :auction " +
-           "AND b.status IN ('ACTIVE', 'WINNING')")
+           "AND b.status IN ('ACTIVE', 'WINNING', 'WON')")
     Optional<BigDecimal> findMaxBidAmountByAuction(@Param("auction") Auction auction);
     
     /**
@@ -98,38 +143,6 @@ public interface BidRepository extends JpaRepository<Bid, Long> {
            "AND b.status != 'CANCELLED'")
     Long countAllBidsByAuction(@Param("auction") Auction auction);
     
-    /**
-     * 특정 경매의 입찰자 수 조회 (사용자별 최신 입찰 기준)
-     * 거래내역 표시와 일치하는 통계를 제공합니다.
-     */
-    @Query("SELECT COUNT(DISTINCT b.user) FROM Bid b " +
-           "WHERE b.auction = :auction " +
-           "AND b.status != 'CANCELLED' " +
-           "AND b.id IN (" +
-           "    SELECT MAX(b2.id) FROM Bid b2 " +
-           "    WHERE b2.auction = :auction " +
-           "    AND b2.user = b.user " +
-           "    AND b2.status != 'CANCELLED' " +
-           "    GROUP BY b2.user" +
-           ")")
-    Long countDistinctBiddersByAuction(@Param("auction") Auction auction);
-    
-    /**
-     * 특정 경매의 사용자별 최신 입찰 수 조회
-     * 거래내역 표시와 일치하는 통계를 제공합니다.
-     */
-    @Query("SELECT COUNT(b) FROM Bid b " +
-           "WHERE b.auction = :auction " +
-           "AND b.status != 'CANCELLED' " +
-           "AND b.id IN (" +
-           "    SELECT MAX(b2.id) FROM Bid b2 " +
-           "    WHERE b2.auction = :auction " +
-           "    AND b2.user = b.user " +
-           "    AND b2.status != 'CANCELLED' " +
-           "    GROUP BY b2.user" +
-           ")")
-    Long countBidsByAuction(@Param("auction") Auction auction);
-    
     /**
      * 사용자의 특정 경매 입찰 내역 조회
      */
@@ -250,7 +263,7 @@ public interface BidRepository extends JpaRepository<Bid, Long> {
            "JOIN b.auction a " +
            "WHERE a.product.id = :productId " +
            "AND b.user.id = :userId " +
-           "AND b.status = 'WINNING' " +
+           "AND b.status IN ('WINNING', 'WON') " +
            "AND a.status = 'COMPLETED'")
     Optional<Bid> findWinningBidByProductIdAndUserId(
             @Param("productId") Long productId, 
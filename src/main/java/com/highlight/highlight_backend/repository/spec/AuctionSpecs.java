@@ -7,6 +7,7 @@ import org.springframework.util.StringUtils;
 
 import jakarta.persistence.criteria.Join;
 import java.time.LocalDateTime;
+import java.util.Collection;
 
 public class AuctionSpecs {
 
@@ -28,17 +29,18 @@ public class AuctionSpecs {
                 return null;
             }
             Join<Auction, Product> productJoin = root.join("product");
-            return criteriaBuilder.equal(productJoin.get("brandName"), brand);
+            return criteriaBuilder.equal(productJoin.get("brand"), brand);
         };
     }
 
-    // 행사명 필터 (Auction의 title에 포함되는지 검색)
+    // 행사명 필터 (상품명에 포함되는지 검색)
     public static Specification<Auction> hasEventName(String eventName) {
         return (root, query, criteriaBuilder) -> {
             if (!StringUtils.hasText(eventName)) {
                 return null;
             }
-            return criteriaBuilder.like(root.get("auctionTitle"), "%" + eventName + "%");
+            Join<Auction, Product> productJoin = root.join("product");
+            return criteriaBuilder.like(productJoin.get("productName"), "%" + eventName + "%");
         };
     }
 
@@ -69,6 +71,11 @@ public class AuctionSpecs {
         };
     }
     
+    // 노출 대상 경매 상태 필터
+    public static Specification<Auction> hasStatusIn(Collection<Auction.AuctionStatus> statuses) {
+        return (root, query, criteriaBuilder) -> root.get("status").in(statuses);
+    }
+
     // 경매 상태 필터 (진행중/예정/마감임박)
     public static Specification<Auction> hasAuctionStatus(String status) {
         return (root, query, criteriaBuilder) -> {
@@ -0,0 +1,110 @@
+package com.highlight.highlight_backend.security;
+
+import com.highlight.highlight_backend.util.JwtUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.security.Principal;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * STOMP 인증 인터셉터
+ *
+ * CONNECT 프레임의 Authorization 헤더(Bearer JWT)로 세션 사용자를 설정하고,
+ * 개인 알림 경로(/queue/user/{userId}/notifications) 구독은 세션 사용자가 본인일 때만 허용합니다.
+ * 핸드셰이크 요청에서 JwtAuthenticationFilter 로 인증된 경우에는 그 사용자가 세션 사용자가 됩니다.
+ * 토큰 없이 연결한 세션은 공개 경매 토픽만 구독할 수 있습니다.
+ *
+ * @author 전우선
+ * @since 2025.08.20
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+
+    /**
+     * 개인 알림 구독 경로 (/queue/user/{userId}/notifications)
+     */
+    private static final Pattern PERSONAL_NOTIFICATION_DESTINATION =
+            Pattern.compile("^/queue/user/(\\d+)/notifications$");
+
+    private final JwtUtil jwtUtil;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null) {
+            return message;
+        }
+
+        if (StompCommand.CONNECT.equals(accessor.getCommand())) {
+            authenticate(accessor);
+        } else if (StompCommand.SUBSCRIBE.equals(accessor.getCommand())) {
+            Long ownerId = personalNotificationOwner(accessor.getDestination());
+            if (ownerId != null && !isOwner(accessor.getUser(), ownerId)) {
+                log.warn("다른 사용자의 개인 알림 구독 거부: 세션ID={}, 구독={}", accessor.getSessionId(), accessor.getDestination());
+                throw new MessageDeliveryException(message, "본인의 개인 알림만 구독할 수 있습니다.");
+            }
+        }
+        return message;
+    }
+
+    /**
+     * 개인 알림 구독 경로의 사용자 ID (개인 알림 경로가 아니면 null)
+     *
+     * @param destination 구독 경로
+     * @return 알림 수신 사용자 ID
+     */
+    public static Long personalNotificationOwner(String destination) {
+        if (destination == null) {
+            return null;
+        }
+        Matcher matcher = PERSONAL_NOTIFICATION_DESTINATION.matcher(destination);
+        return matcher.matches() ? Long.parseLong(matcher.group(1)) : null;
+    }
+
+    /**
+     * 세션 사용자가 해당 사용자 본인인지 확인 (인증 주체 이름은 사용자 ID)
+     *
+     * @param user 세션 사용자 (미인증이면 null)
+     * @param userId 사용자 ID
+     * @return 본인이면 true
+     */
+    public static boolean isOwner(Principal user, Long userId) {
+        return user != null && userId.toString().equals(user.getName());
+    }
+
+    /**
+     * CONNECT 프레임의 JWT 로 세션 사용자 설정 (토큰이 없거나 유효하지 않으면 익명 세션)
+     */
+    private void authenticate(StompHeaderAccessor accessor) {
+        String token = jwtUtil.extractTokenFromBearer(accessor.getFirstNativeHeader("Authorization"));
+        if (token == null || !jwtUtil.validateToken(token)) {
+            return;
+        }
+
+        try {
+            Long userId = jwtUtil.getUserId(token);
+            String role = jwtUtil.getRole(token);
+            List<SimpleGrantedAuthority> authorities = role != null && !role.isEmpty()
+                    ? List.of(new SimpleGrantedAuthority("ROLE_" + role))
+                    : List.of();
+            accessor.setUser(new UsernamePasswordAuthenticationToken(userId, null, authorities));
+        } catch (Exception e) {
+            log.warn("WebSocket JWT 인증 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,282 @@
+package com.highlight.highlight_backend.service;
+
+import com.highlight.highlight_backend.repository.BidRepository;
+import com.highlight.highlight_backend.service.bid.AuctionOrderBookRegistry;
+import com.highlight.highlight_backend.service.bid.BidSequencer;
+import com.highlight.highlight_backend.service.bid.BidWriteBehindService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 만료 경매 일괄 종료 엔진
+ *
+ * 종료 타이머가 만료된 경매를 대기열에 모아 청크(기본 100건) 단위로 꺼내고, 고정 크기 워커 풀(기본 8개)에서
+ * 경매마다 짧은 트랜잭션 하나로 종료합니다. 같은 시각에 많은 경매가 끝나도 타이머 스레드 하나에서 순서대로
+ * 처리하지 않으며, 한 경매의 행 락 대기나 실패가 다른 경매 종료를 막지 않습니다.
+ * 낙찰 입찰 표시(WINNING -> WON)는 경매별로 하지 않고 청크마다 UPDATE 한 번으로 처리합니다.
+ *
+ * 경매 하나의 종료 순서는 다음과 같습니다.
+ * 1. 경매 메일박스에서 호가창을 닫음 (앞서 수락된 입찰의 저장 요청까지 끝난 뒤 실행)
+ * 2. write-behind 큐에 남은 입찰 저장 완료 대기 (마지막 입찰까지 DB에 반영된 뒤 낙찰자 결정)
+ * 3. 경매 행 락 후 종료 (AuctionSchedulerService.endAuctionIfExpired)
+ *
+ * 종료 예정 시간부터 실제 종료까지의 지연은 auction.close.lag 로 기록합니다.
+ *
+ * @author 전우선
+ * @since 2025.08.20
+ */
+@Slf4j
+@Service
+public class AuctionCloseEngine {
+
+    private final AuctionSchedulerService auctionSchedulerService;
+    private final AuctionOrderBookRegistry orderBookRegistry;
+    private final BidSequencer bidSequencer;
+    private final BidWriteBehindService bidWriteBehindService;
+    private final BidRepository bidRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int chunkSize;
+    private final long drainTimeoutMs;
+
+    private final Timer closeLag;
+    private final Counter closeFailures;
+
+    private final BlockingQueue<CloseRequest> queue = new LinkedBlockingQueue<>();
+    private final ExecutorService workers;
+    private final Thread dispatcher;
+    private volatile boolean running = true;
+
+    /**
+     * 대기/처리 중인 종료 요청 (경매 ID -> 요청, 같은 경매의 중복 요청은 하나로 합침)
+     */
+    private final Map<Long, CloseRequest> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * 낙찰 표시 대기 중인 경매 ID (dispatcher 스레드 전용, 실패 시 다음 청크에서 재시도)
+     */
+    private final Set<Long> pendingWinnerMarks = new LinkedHashSet<>();
+
+    public AuctionCloseEngine(AuctionSchedulerService auctionSchedulerService,
+                              AuctionOrderBookRegistry orderBookRegistry,
+                              BidSequencer bidSequencer,
+                              BidWriteBehindService bidWriteBehindService,
+                              BidRepository bidRepository,
+                              PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry,
+                              @Value("${auction.close.workers:8}") int workerCount,
+                              @Value("${auction.close.chunk-size:100}") int chunkSize,
+                              @Value("${auction.close.drain-timeout-ms:5000}") long drainTimeoutMs) {
+        this.auctionSchedulerService = auctionSchedulerService;
+        this.orderBookRegistry = orderBookRegistry;
+        this.bidSequencer = bidSequencer;
+        this.bidWriteBehindService = bidWriteBehindService;
+        this.bidRepository = bidRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = Math.max(1, chunkSize);
+        this.drainTimeoutMs = Math.max(0, drainTimeoutMs);
+
+        this.closeLag = Timer.builder("auction.close.lag")
+            .description("경매 종료 예정 시간부터 실제 종료까지의 지연")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+        this.closeFailures = Counter.builder("auction.close.failures")
+            .description("경매 종료 처리 실패 횟수")
+            .register(meterRegistry);
+        Gauge.builder("auction.close.pending", queue, BlockingQueue::size)
+            .description("종료 대기 중인 경매 수")
+            .register(meterRegistry);
+
+        // 청크 단위로 넘기고 청크가 끝날 때까지 기다리므로 워커 큐는 청크 크기를 넘지 않음
+        int threads = Math.max(1, workerCount);
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(this.chunkSize),
+            r -> new Thread(r, "auction-close-" + threadIndex.incrementAndGet()));
+        this.dispatcher = new Thread(this::runDispatcher, "auction-close-dispatcher");
+        this.dispatcher.start();
+    }
+
+    /**
+     * 경매 종료 요청 (종료 타이머 만료 시 호출)
+     *
+     * @param auctionId 경매 ID
+     * @param scheduledEndTime 종료 예정 시간 (종료 지연 측정용)
+     * @return 종료했으면 true, 이미 종료되었거나 종료 시간이 연장되었으면 false 로 완료되는 Future
+     */
+    public CompletableFuture<Boolean> requestClose(Long auctionId, LocalDateTime scheduledEndTime) {
+        if (!running) {
+            return CompletableFuture.failedFuture(new IllegalStateException("경매 종료 엔진이 중지되었습니다."));
+        }
+        return inFlight.computeIfAbsent(auctionId, id -> {
+            CloseRequest request = new CloseRequest(id, scheduledEndTime);
+            queue.add(request);
+            return request;
+        }).future;
+    }
+
+    /**
+     * dispatcher 스레드: 대기열에서 청크 단위로 꺼내 워커 풀에서 병렬 종료
+     */
+    private void runDispatcher() {
+        List<CloseRequest> chunk = new ArrayList<>(chunkSize);
+        while (running) {
+            try {
+                CloseRequest first = queue.poll(1, TimeUnit.SECONDS);
+                if (first != null) {
+                    chunk.add(first);
+                    queue.drainTo(chunk, chunkSize - 1);
+                    closeChunk(chunk);
+                } else {
+                    markWinners();
+                }
+            } catch (InterruptedException e) {
+                running = false;
+            } catch (RuntimeException e) {
+                log.error("경매 종료 dispatcher 처리 중 오류 발생: {}", e.getMessage(), e);
+            } finally {
+                chunk.clear();
+            }
+        }
+
+        // 종료 중: 처리하지 못한 요청은 실패로 완료 (재기동 시 타이머 복원으로 다시 처리됨)
+        CloseRequest request;
+        while ((request = queue.poll()) != null) {
+            inFlight.remove(request.auctionId, request);
+            request.future.completeExceptionally(new IllegalStateException("경매 종료 엔진이 중지되었습니다."));
+        }
+    }
+
+    /**
+     * 청크 하나 종료: 경매별 트랜잭션으로 병렬 종료 후 낙찰 입찰 일괄 표시
+     */
+    private void closeChunk(List<CloseRequest> chunk) {
+        Map<CloseRequest, CompletableFuture<Boolean>> results = new LinkedHashMap<>();
+        for (CloseRequest request : chunk) {
+            results.put(request, CompletableFuture.supplyAsync(() -> close(request), workers));
+        }
+        CompletableFuture.allOf(results.values().toArray(CompletableFuture[]::new))
+            .exceptionally(e -> null)
+            .join();
+
+        results.forEach((request, result) -> {
+            if (!result.isCompletedExceptionally() && result.join()) {
+                pendingWinnerMarks.add(request.auctionId);
+            }
+        });
+        markWinners();
+
+        results.forEach((request, result) -> {
+            inFlight.remove(request.auctionId, request);
+            result.whenComplete((closed, error) -> {
+                if (error != null) {
+                    closeFailures.increment();
+                    request.future.completeExceptionally(error);
+                } else {
+                    request.future.complete(closed);
+                }
+            });
+        });
+
+        log.debug("경매 종료 청크 처리 완료: {}건, 대기={}건", chunk.size(), queue.size());
+    }
+
+    /**
+     * 경매 하나 종료 (워커 스레드)
+     */
+    private boolean close(CloseRequest request) {
+        Long auctionId = request.auctionId;
+
+        // 1. 경매 메일박스에서 호가창 닫기 (소프트 클로즈로 연장된 경우 보류)
+        boolean bookClosed = bidSequencer.submit(auctionId,
+            () -> orderBookRegistry.closeIfExpired(auctionId, LocalDateTime.now())).join();
+        if (!bookClosed) {
+            return false;
+        }
+
+        // 2. 닫기 전에 수락된 입찰의 저장 완료 대기
+        try {
+            bidWriteBehindService.awaitDrained().get(drainTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("입찰 저장 완료 대기 시간 초과: 경매ID=" + auctionId, e);
+        } catch (Exception e) {
+            throw new IllegalStateException("입찰 저장 완료 대기 실패: 경매ID=" + auctionId, e);
+        }
+
+        // 3. 경매 행 락 후 종료 (경매별 트랜잭션)
+        boolean closed = auctionSchedulerService.endAuctionIfExpired(auctionId);
+        if (closed && request.scheduledEndTime != null) {
+            closeLag.record(Duration.between(request.scheduledEndTime, LocalDateTime.now()));
+        }
+        return closed;
+    }
+
+    /**
+     * 종료된 경매의 최고 입찰을 낙찰로 일괄 변경 (UPDATE 한 번)
+     */
+    private void markWinners() {
+        if (pendingWinnerMarks.isEmpty()) {
+            return;
+        }
+
+        List<Long> auctionIds = new ArrayList<>(pendingWinnerMarks);
+        try {
+            Integer marked = transactionTemplate.execute(status -> bidRepository.markWinningBidsAsWon(auctionIds));
+            pendingWinnerMarks.clear();
+            log.debug("낙찰 입찰 일괄 표시 완료: 경매 {}개, 입찰 {}건", auctionIds.size(), marked);
+        } catch (Exception e) {
+            log.error("낙찰 입찰 일괄 표시 실패, 다음 주기에 재시도: 경매 {}개, 오류={}",
+                    auctionIds.size(), e.getMessage(), e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        dispatcher.interrupt();
+        try {
+            dispatcher.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        workers.shutdown();
+    }
+
+    private static final class CloseRequest {
+
+        private final Long auctionId;
+        private final LocalDateTime scheduledEndTime;
+        private final CompletableFuture<Boolean> future = new CompletableFuture<>();
+
+        private CloseRequest(Long auctionId, LocalDateTime scheduledEndTime) {
+            this.auctionId = auctionId;
+            this.scheduledEndTime = scheduledEndTime;
+        }
+    }
+}
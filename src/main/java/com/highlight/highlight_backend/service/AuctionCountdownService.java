@@ -1,86 +1,237 @@
 package com.highlight.highlight_backend.service;
 
 import com.highlight.highlight_backend.domain.Auction;
+import com.highlight.highlight_backend.event.AuctionStatusChangedEvent;
+import com.highlight.highlight_backend.event.SchedulerLeadershipAcquiredEvent;
 import com.highlight.highlight_backend.repository.AuctionRepository;
-import lombok.RequiredArgsConstructor;
+import com.highlight.highlight_backend.service.cluster.LeaderOnly;
+import com.highlight.highlight_backend.service.cluster.SchedulerLeaderElection;
+import com.highlight.highlight_backend.util.HierarchicalTimingWheel;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
 
 /**
  * 경매 카운트다운 실시간 전송 서비스
- * 
- * 진행 중인 경매의 남은 시간을 주기적으로 계산하여 WebSocket으로 전송합니다.
- * 
+ *
+ * 진행 중인 경매의 종료 시간을 메모리 스냅샷으로 유지하고, 남은 시간을 로컬에서 계산하여 WebSocket으로 전송합니다.
+ * 스냅샷은 경매 상태 변경 이벤트로 갱신되며, 누락된 이벤트에 대비해 1분마다 DB와 한 번 맞춥니다.
+ * 매초 전송은 남은 시간만 담은 경량 메시지이고, 전체 상태는 경매 상태가 바뀔 때만 전송됩니다.
+ * 종료 임박 알림은 계층형 타이밍 휠에 예약되어 정해진 시점에 한 번씩 전송됩니다.
+ * 스냅샷은 모든 노드가 유지하되, 전송은 스케줄러 리더 노드에서만 하여 중복 전송을 막습니다.
+ *
  * @author 전우선
  * @since 2025.08.16
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class AuctionCountdownService {
-    
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    /**
+     * 종료 임박 알림 시점 (종료 전 초)
+     */
+    private static final long[] ENDING_SOON_ALERT_SECONDS = {60, 50, 40, 30, 20, 10};
+
     private final AuctionRepository auctionRepository;
     private final WebSocketService webSocketService;
-    
+    private final SchedulerLeaderElection leaderElection;
+    private final ExecutorService alertExecutor;
+    private final HierarchicalTimingWheel timingWheel;
+
     /**
-     * 진행 중인 경매의 남은 시간을 주기적으로 전송 (1초마다)
+     * 진행 중인 경매 스냅샷 (경매 ID -> 스냅샷)
+     */
+    private final Map<Long, CountdownSnapshot> snapshots = new ConcurrentHashMap<>();
+
+    public AuctionCountdownService(AuctionRepository auctionRepository, WebSocketService webSocketService,
+                                   SchedulerLeaderElection leaderElection) {
+        this.auctionRepository = auctionRepository;
+        this.webSocketService = webSocketService;
+        this.leaderElection = leaderElection;
+        this.alertExecutor = Executors.newSingleThreadExecutor(r -> new Thread(r, "auction-ending-soon"));
+        this.timingWheel = new HierarchicalTimingWheel("auction-countdown-wheel", 100, 64, alertExecutor);
+    }
+
+    /**
+     * 진행 중인 경매의 남은 시간을 주기적으로 전송 (1초마다, DB 조회 없음)
      */
-    @Transactional(readOnly = true)
     @Scheduled(fixedRate = 1000) // 1초마다 실행
+    @LeaderOnly
     public void sendCountdownUpdates() {
         try {
-            // 진행 중인 경매만 조회
-            List<Auction> inProgressAuctions = auctionRepository.findByStatus(Auction.AuctionStatus.IN_PROGRESS);
-            
-            for (Auction auction : inProgressAuctions) {
-                // 종료 시간이 지났는지 확인 (한국 시간 기준)
-                if (LocalDateTime.now(java.time.ZoneId.of("Asia/Seoul")).isAfter(auction.getScheduledEndTime())) {
-                    log.info("경매 종료 시간 도달: 경매ID={}", auction.getId());
-                    continue; // 종료된 경매는 스킵 (AuctionService에서 별도 처리)
+            LocalDateTime now = LocalDateTime.now(KST);
+            int sent = 0;
+
+            for (CountdownSnapshot snapshot : snapshots.values()) {
+                long remainingSeconds = Duration.between(now, snapshot.scheduledEndTime).getSeconds();
+
+                // 종료 시간이 지난 경매는 스킵 (AuctionSchedulerService에서 별도 처리)
+                if (remainingSeconds < 0) {
+                    continue;
+                }
+
+                // 남은 시간이 바뀐 경우에만 전송
+                if (remainingSeconds != snapshot.lastSentRemainingSeconds) {
+                    webSocketService.sendCountdownUpdate(snapshot.auctionId, remainingSeconds);
+                    snapshot.lastSentRemainingSeconds = remainingSeconds;
+                    sent++;
                 }
-                
-                // WebSocket으로 경매 상태 업데이트 전송 (남은 시간 포함)
-                webSocketService.sendAuctionStatusUpdate(auction);
             }
-            
-            if (!inProgressAuctions.isEmpty()) {
-                log.debug("카운트다운 업데이트 전송 완료: {} 개 경매", inProgressAuctions.size());
+
+            if (sent > 0) {
+                log.debug("카운트다운 업데이트 전송 완료: {} 개 경매", sent);
             }
-            
+
         } catch (Exception e) {
             log.error("카운트다운 업데이트 전송 중 오류 발생: {}", e.getMessage(), e);
         }
     }
-    
+
     /**
-     * 경매 종료 임박 알림 (마지막 1분)
+     * 진행 중인 경매 스냅샷을 DB와 동기화 (기동 시 1회 + 기본 1분마다)
+     * 이벤트가 누락된 경우나 다른 노드에서 바뀐 경매도 스냅샷이 어긋난 상태로 남지 않도록 합니다.
      */
-    @Scheduled(fixedRate = 10000) // 10초마다 실행
-    public void sendEndingSoonAlerts() {
+    @Scheduled(fixedRateString = "${auction.countdown.reconcile-interval-ms:60000}")
+    @Transactional(readOnly = true)
+    public void reconcileSnapshots() {
         try {
-            LocalDateTime now = LocalDateTime.now(java.time.ZoneId.of("Asia/Seoul"));
-            LocalDateTime oneMinuteLater = now.plusMinutes(1);
-            
-            // 1분 내로 종료 예정인 경매 조회
-            List<Auction> endingSoonAuctions = auctionRepository.findByStatusAndScheduledEndTimeBetween(
-                Auction.AuctionStatus.IN_PROGRESS, now, oneMinuteLater);
-            
-            for (Auction auction : endingSoonAuctions) {
-                long remainingSeconds = java.time.Duration.between(now, auction.getScheduledEndTime()).getSeconds();
-                
-                if (remainingSeconds <= 60 && remainingSeconds > 0) {
-                    log.info("경매 종료 임박 알림: 경매ID={}, 남은시간={}초", auction.getId(), remainingSeconds);
-                    webSocketService.sendEndingSoonAlert(auction, remainingSeconds);
-                }
+            List<Auction> inProgressAuctions = auctionRepository.findByStatus(Auction.AuctionStatus.IN_PROGRESS);
+            Set<Long> inProgressIds = inProgressAuctions.stream()
+                .map(Auction::getId)
+                .collect(Collectors.toSet());
+
+            inProgressAuctions.forEach(this::register);
+            new ArrayList<>(snapshots.keySet()).stream()
+                .filter(id -> !inProgressIds.contains(id))
+                .forEach(this::unregister);
+
+            log.debug("카운트다운 스냅샷 동기화 완료: {} 개 경매", snapshots.size());
+        } catch (Exception e) {
+            log.error("카운트다운 스냅샷 동기화 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 리더가 된 경우 다른 노드에서 바뀐 경매가 반영되도록 즉시 동기화
+     */
+    @EventListener
+    public void onLeadershipAcquired(SchedulerLeadershipAcquiredEvent event) {
+        reconcileSnapshots();
+    }
+
+    /**
+     * 경매 상태 변경 시 스냅샷 갱신 (트랜잭션 커밋 후)
+     * 진행 중으로 바뀐 경매는 전체 상태를 한 번 전송합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onAuctionStatusChanged(AuctionStatusChangedEvent event) {
+        try {
+            if (event.getStatus() != Auction.AuctionStatus.IN_PROGRESS) {
+                unregister(event.getAuctionId());
+                return;
             }
-            
+
+            auctionRepository.findByIdWithProduct(event.getAuctionId()).ifPresent(auction -> {
+                register(auction);
+                webSocketService.sendAuctionStatusUpdate(auction);
+            });
         } catch (Exception e) {
-            log.error("종료 임박 알림 전송 중 오류 발생: {}", e.getMessage(), e);
+            log.error("카운트다운 스냅샷 갱신 중 오류 발생: 경매ID={}, 오류={}", event.getAuctionId(), e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 스냅샷 등록 (종료 시간이 바뀐 경우 종료 임박 알림 재예약)
+     */
+    private void register(Auction auction) {
+        snapshots.compute(auction.getId(), (id, existing) -> {
+            if (existing != null && existing.scheduledEndTime.equals(auction.getScheduledEndTime())) {
+                return existing;
+            }
+            if (existing != null) {
+                existing.cancelAlerts();
+            }
+            CountdownSnapshot snapshot = new CountdownSnapshot(id, auction.getScheduledEndTime());
+            scheduleEndingSoonAlerts(snapshot);
+            return snapshot;
+        });
+    }
+
+    /**
+     * 스냅샷 제거 및 예약된 알림 취소
+     */
+    private void unregister(Long auctionId) {
+        CountdownSnapshot removed = snapshots.remove(auctionId);
+        if (removed != null) {
+            removed.cancelAlerts();
+        }
+    }
+
+    /**
+     * 경매 종료 임박 알림 예약 (마지막 1분, 10초 간격)
+     */
+    private void scheduleEndingSoonAlerts(CountdownSnapshot snapshot) {
+        LocalDateTime now = LocalDateTime.now(KST);
+
+        for (long alertSeconds : ENDING_SOON_ALERT_SECONDS) {
+            long delayMs = Duration.between(now, snapshot.scheduledEndTime.minusSeconds(alertSeconds)).toMillis();
+            if (delayMs < 0) {
+                continue; // 이미 지난 알림 시점
+            }
+
+            snapshot.alerts.add(timingWheel.schedule(() -> {
+                if (!leaderElection.isLeader()) {
+                    return; // 리더 노드에서만 전송
+                }
+                log.info("경매 종료 임박 알림: 경매ID={}, 남은시간={}초", snapshot.auctionId, alertSeconds);
+                webSocketService.sendEndingSoonAlert(snapshot.auctionId, alertSeconds);
+            }, delayMs));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timingWheel.close();
+        alertExecutor.shutdown();
+    }
+
+    /**
+     * 진행 중인 경매의 카운트다운 스냅샷
+     */
+    private static final class CountdownSnapshot {
+
+        private final Long auctionId;
+        private final LocalDateTime scheduledEndTime;
+        private final List<HierarchicalTimingWheel.Timeout> alerts = new ArrayList<>();
+        private volatile long lastSentRemainingSeconds = -1L;
+
+        private CountdownSnapshot(Long auctionId, LocalDateTime scheduledEndTime) {
+            this.auctionId = auctionId;
+            this.scheduledEndTime = scheduledEndTime;
+        }
+
+        private void cancelAlerts() {
+            alerts.forEach(HierarchicalTimingWheel.Timeout::cancel);
         }
     }
-}
\ No newline at end of file
+}
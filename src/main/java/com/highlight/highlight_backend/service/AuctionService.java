@@ -2,6 +2,7 @@ package com.highlight.highlight_backend.service;
 
 import com.highlight.highlight_backend.domain.Admin;
 import com.highlight.highlight_backend.domain.Auction;
+import com.highlight.highlight_backend.domain.AuctionOutboxEvent;
 import com.highlight.highlight_backend.domain.Product;
 import com.highlight.highlight_backend.dto.AuctionEndRequestDto;
 import com.highlight.highlight_backend.dto.AuctionResponseDto;
@@ -15,18 +16,27 @@ import com.highlight.highlight_backend.exception.AuctionErrorCode;
 import com.highlight.highlight_backend.exception.AdminErrorCode;
 import com.highlight.highlight_backend.exception.ProductErrorCode;
 import com.highlight.highlight_backend.exception.UserErrorCode;
+import com.highlight.highlight_backend.event.AuctionStatusChangedEvent;
 import com.highlight.highlight_backend.repository.AdminRepository;
 import com.highlight.highlight_backend.repository.AuctionRepository;
 import com.highlight.highlight_backend.repository.BidRepository;
 import com.highlight.highlight_backend.repository.ProductRepository;
 import com.highlight.highlight_backend.repository.user.UserRepository;
+import com.highlight.highlight_backend.service.bid.AuctionBidStatsService;
+import com.highlight.highlight_backend.service.bid.AuctionOrderBookRegistry;
+import com.highlight.highlight_backend.service.bid.BidWriteBehindService;
+import com.highlight.highlight_backend.service.lifecycle.AuctionOutboxService;
 import com.highlight.highlight_backend.domain.Bid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.time.ZoneId;
@@ -50,10 +60,14 @@ public class AuctionService {
     private final AuctionRepository auctionRepository;
     private final ProductRepository productRepository;
     private final AdminRepository adminRepository;
-    private final WebSocketService webSocketService;
     private final BidRepository bidRepository;
     private final UserRepository userRepository;
-    private final AuctionSchedulerService auctionSchedulerService;
+    private final AuctionOrderBookRegistry orderBookRegistry;
+    private final BidWriteBehindService bidWriteBehindService;
+    private final PlatformTransactionManager transactionManager;
+    private final AuctionBidStatsService auctionBidStatsService;
+    private final AuctionOutboxService auctionOutboxService;
+    private final ApplicationEventPublisher eventPublisher;
     
     /**
      * 경매 예약
@@ -117,8 +131,8 @@ public class AuctionService {
         
         Auction savedAuction = auctionRepository.save(auction);
 
-        // 9. 경매 시작 스케줄링 설정
-        auctionSchedulerService.scheduleAuctionStart(savedAuction);
+        // 9. 경매 시작 타이머 등록 (커밋 후 AuctionTimerService 에서 처리)
+        eventPublisher.publishEvent(AuctionStatusChangedEvent.of(savedAuction));
 
         // 10. 관리자 경매 보류 건수 증가
         Admin admin = adminRepository.findById(adminId)
@@ -154,9 +168,6 @@ public class AuctionService {
         if (!auction.canStart()) {
             throw new BusinessException(AuctionErrorCode.CANNOT_START_AUCTION);
         }
-
-        // 스케줄된 시작 작업이 있다면 취소
-        auctionSchedulerService.cancelScheduledStart(auctionId);
         
         // 4. 즉시 시작 vs 시간 입력 처리
         if (request.isImmediateStart()) {
@@ -175,15 +186,13 @@ public class AuctionService {
             auction.startAuction(adminId);
         }
         
-        // 5. 상품 상태를 경매중으로 변경
-        auction.getProduct().setStatus(Product.ProductStatus.IN_AUCTION);
-        
         Auction updatedAuction = auctionRepository.save(auction);
         
-        // 6. WebSocket으로 경매 시작 알림 전송
-        webSocketService.sendAuctionStartedNotification(updatedAuction);
+        // 5. 상품 상태 변경(경매중)과 시작 알림은 커밋 후 아웃박스 구독자가 처리
+        auctionOutboxService.record(updatedAuction, AuctionOutboxEvent.EventType.STARTED, null);
+        eventPublisher.publishEvent(AuctionStatusChangedEvent.of(updatedAuction));
 
-        // 7. 관리자 경매 상태 카운트 업데이트 (pending -> inProgress)
+        // 6. 관리자 경매 상태 카운트 업데이트 (pending -> inProgress)
         Admin admin = adminRepository.findById(adminId)
                 .orElseThrow(() -> new BusinessException(AdminErrorCode.ADMIN_NOT_FOUND));
         adminRepository.save(admin);
@@ -197,12 +206,15 @@ public class AuctionService {
     /**
      * 경매 종료/중단
      * 
+     * 호가창을 닫고 닫기 전에 수락된 입찰의 저장 완료를 기다린 뒤, 경매 행 락을 잡은 트랜잭션에서 낙찰자를 정합니다.
+     * 저장 대기 중 트랜잭션(스냅샷, 행 락)을 잡고 있지 않도록 메서드 자체는 트랜잭션 없이 실행합니다.
+     * 
      * @param auctionId 종료할 경매 ID
      * @param request 경매 종료 요청 데이터
      * @param adminId 종료하는 관리자 ID
      * @return 종료된 경매 정보
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AuctionResponseDto endAuction(Long auctionId, AuctionEndRequestDto request, Long adminId) {
         log.info("경매 종료/중단 요청: {} (관리자: {}, 중단: {})", 
                 auctionId, adminId, request.isCancel());
@@ -210,22 +222,43 @@ public class AuctionService {
         // 1. 관리자 권한 확인
         validateAuctionManagePermission(adminId);
         
-        // 2. 경매 조회
-        Auction auction = auctionRepository.findByIdWithProduct(auctionId)
+        // 2. 경매 종료 가능 여부 확인
+        Auction found = auctionRepository.findById(auctionId)
             .orElseThrow(() -> new BusinessException(AuctionErrorCode.AUCTION_NOT_FOUND));
+        if (!found.canEnd()) {
+            throw new BusinessException(AuctionErrorCode.CANNOT_END_AUCTION);
+        }
         
-        // 3. 경매 종료 가능 여부 확인
+        // 3. 호가창을 닫아 이후 입찰을 거부하고, 닫기 전에 수락된 입찰의 저장 완료 대기
+        bidWriteBehindService.closeOrderBook(auctionId, request.isCancel()
+            ? Auction.AuctionStatus.CANCELLED : Auction.AuctionStatus.COMPLETED);
+        
+        try {
+            return new TransactionTemplate(transactionManager)
+                .execute(status -> completeEndAuction(auctionId, request, adminId));
+        } catch (RuntimeException e) {
+            // 종료하지 못했으면 닫은 호가창을 DB 기준으로 다시 복원
+            orderBookRegistry.invalidate(auctionId);
+            throw e;
+        }
+    }
+    
+    /**
+     * 경매 행 락 후 종료/중단 처리 (트랜잭션 안에서 실행)
+     */
+    private AuctionResponseDto completeEndAuction(Long auctionId, AuctionEndRequestDto request, Long adminId) {
+        Auction auction = auctionRepository.findByIdWithLock(auctionId)
+            .orElseThrow(() -> new BusinessException(AuctionErrorCode.AUCTION_NOT_FOUND));
+        
+        // 락을 잡은 뒤 다시 확인 (동시에 종료된 경우)
         if (!auction.canEnd()) {
             throw new BusinessException(AuctionErrorCode.CANNOT_END_AUCTION);
         }
-
-        // 스케줄된 시작 작업이 있다면 취소
-        auctionSchedulerService.cancelScheduledStart(auctionId);
         
         // 4. 낙찰자 조회 (정상 종료인 경우)
         Bid winnerBid = null;
         if (!request.isCancel()) {
-            winnerBid = bidRepository.findCurrentHighestBidByAuction(auction).orElse(null);
+            winnerBid = bidRepository.findWinnerBidByAuction(auction).orElse(null);
             if (winnerBid != null) {
                 winnerBid.setAsWon(); // 낙찰 상태로 변경
                 bidRepository.save(winnerBid);
@@ -233,31 +266,20 @@ public class AuctionService {
         }
         
         // 5. 종료 처리
+        //    상품 상태 변경, 취소/종료 알림, 낙찰자 결제 필요 알림은 커밋 후 아웃박스 구독자가 처리
         Auction updatedAuction;
         if (request.isCancel()) {
             // 경매 중단
             auction.cancelAuction(adminId, request.getEndReason());
-            auction.getProduct().setStatus(Product.ProductStatus.ACTIVE); // 상품 상태를 다시 활성으로
-            
             updatedAuction = auctionRepository.save(auction);
-            
-            // 경매 취소 알림 전송
-            webSocketService.sendAuctionCancelledNotification(updatedAuction);
+            auctionOutboxService.record(updatedAuction, AuctionOutboxEvent.EventType.CANCELLED, null);
         } else {
             // 경매 정상 종료
             auction.endAuction(adminId, request.getEndReason());
-            auction.getProduct().setStatus(Product.ProductStatus.AUCTION_COMPLETED);
-            
             updatedAuction = auctionRepository.save(auction);
-            
-            // 6. WebSocket으로 경매 종료 알림 전송
-            webSocketService.sendAuctionEndedNotification(updatedAuction, winnerBid);
-            
-            // 7. 낙찰자에게 결제 필요 알림 전송
-            if (winnerBid != null) {
-                webSocketService.sendPaymentRequiredNotification(auctionId, winnerBid.getBidAmount());
-            }
+            auctionOutboxService.record(updatedAuction, AuctionOutboxEvent.EventType.ENDED, winnerBid);
         }
+        eventPublisher.publishEvent(AuctionStatusChangedEvent.of(updatedAuction));
 
         // 관리자 경매 상태 카운트 업데이트 (inProgress -> completed)
         Admin admin = adminRepository.findById(adminId)
@@ -388,31 +410,52 @@ public class AuctionService {
     /**
      * 즉시구매 처리
      * 
+     * 호가창을 닫고 닫기 전에 수락된 입찰의 저장 완료를 기다린 뒤, 경매 행 락을 잡은 트랜잭션에서 즉시구매를 처리합니다.
+     * 
      * @param auctionId 즉시구매할 경매 ID
      * @param request 즉시구매 요청 데이터
      * @param userId 구매자 ID
      * @return 즉시구매 완료 정보
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public BuyItNowResponseDto buyItNow(Long auctionId, BuyItNowRequestDto request, Long userId) {
         log.info("즉시구매 요청: 경매 {} (사용자: {})", auctionId, userId);
         
-        // 1. 경매 조회
-        Auction auction = auctionRepository.findByIdWithProduct(auctionId)
+        // 1. 경매 조회 및 즉시구매 가능 여부 검증
+        Auction found = auctionRepository.findByIdWithProduct(auctionId)
+            .orElseThrow(() -> new BusinessException(AuctionErrorCode.AUCTION_NOT_FOUND));
+        validateBuyItNowEligibility(found, userId);
+        
+        // 2. 호가창을 닫아 이후 입찰을 거부하고, 닫기 전에 수락된 입찰의 저장 완료 대기
+        bidWriteBehindService.closeOrderBook(auctionId, Auction.AuctionStatus.COMPLETED);
+        
+        try {
+            return new TransactionTemplate(transactionManager)
+                .execute(status -> completeBuyItNow(auctionId, userId));
+        } catch (RuntimeException e) {
+            // 즉시구매하지 못했으면 닫은 호가창을 DB 기준으로 다시 복원
+            orderBookRegistry.invalidate(auctionId);
+            throw e;
+        }
+    }
+    
+    /**
+     * 경매 행 락 후 즉시구매 처리 (트랜잭션 안에서 실행)
+     */
+    private BuyItNowResponseDto completeBuyItNow(Long auctionId, Long userId) {
+        Auction auction = auctionRepository.findByIdWithLock(auctionId)
             .orElseThrow(() -> new BusinessException(AuctionErrorCode.AUCTION_NOT_FOUND));
         
-        // 2. 즉시구매 가능 여부 검증
-        validateBuyItNowEligibility(auction, userId);
-
-        // 스케줄된 시작 작업이 있다면 취소
-        auctionSchedulerService.cancelScheduledStart(auctionId);
+        // 락을 잡은 뒤 다시 확인 (동시에 종료된 경우)
+        if (!auction.isInProgress()) {
+            throw new BusinessException(AuctionErrorCode.AUCTION_NOT_IN_PROGRESS);
+        }
         
         // 3. 즉시구매 처리
         Bid buyItNowBid = createBuyItNowBid(auction, userId);
         
         // 4. 경매 즉시 종료
         auction.endAuction(null, "즉시구매로 인한 경매 종료");
-        auction.getProduct().setStatus(Product.ProductStatus.AUCTION_COMPLETED);
         
         // 5. 낙찰 처리
         buyItNowBid.setAsWon();
@@ -420,8 +463,9 @@ public class AuctionService {
         
         Auction completedAuction = auctionRepository.save(auction);
         
-        // 6. WebSocket 알림 전송
-        webSocketService.sendAuctionEndedNotification(completedAuction, buyItNowBid);
+        // 6. 상품 상태 변경, 종료 알림, 판매자 통계는 커밋 후 아웃박스 구독자가 처리
+        auctionOutboxService.record(completedAuction, AuctionOutboxEvent.EventType.BOUGHT_NOW, buyItNowBid);
+        eventPublisher.publishEvent(AuctionStatusChangedEvent.of(completedAuction));
         
         log.info("즉시구매 완료: 경매 {} (사용자: {}, 가격: {})", 
                 auctionId, userId, auction.getBuyItNowPrice());
@@ -466,7 +510,10 @@ public class AuctionService {
         buyItNowBid.setCreatedAt(LocalDateTime.now());
         buyItNowBid.setIsBuyItNow(true);
         
-        return bidRepository.save(buyItNowBid);
+        Bid savedBid = bidRepository.save(buyItNowBid);
+        auctionBidStatsService.recordBid(auction, savedBid);
+        
+        return savedBid;
     }
     
     /**
@@ -598,6 +645,9 @@ public class AuctionService {
         // 9. 경매 저장
         Auction updatedAuction = auctionRepository.save(auction);
         
+        // 10. 시작 시간 변경 시 시작 타이머 재등록 (커밋 후)
+        eventPublisher.publishEvent(AuctionStatusChangedEvent.of(updatedAuction));
+        
         log.info("경매 수정 완료: 경매 {} (관리자: {})", auctionId, adminId);
         
         return AuctionResponseDto.from(updatedAuction);
@@ -0,0 +1,225 @@
+package com.highlight.highlight_backend.service;
+
+import com.highlight.highlight_backend.dto.websocket.AuctionSnapshotWebSocketDto;
+import com.highlight.highlight_backend.dto.websocket.AuctionStatusWebSocketDto;
+import com.highlight.highlight_backend.dto.websocket.BidWebSocketDto;
+import com.highlight.highlight_backend.dto.websocket.WebSocketMessageDto;
+import com.highlight.highlight_backend.dto.websocket.WebSocketMessageDto.WebSocketMessageType;
+import com.highlight.highlight_backend.repository.AuctionRepository;
+import com.highlight.highlight_backend.repository.BidRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 경매 스트림 상태 캐시
+ * 
+ * /topic/auction/{id} 스트림(프로토콜 버전 2)의 경매별 순번과 전체 상태를 메모리에 유지합니다.
+ * - 상태를 바꾸는 메시지(새 입찰, 경매 상태, 시작/종료/취소 등)는 전송 직전에 경매별 순번을 붙이고 캐시에 반영
+ * - 카운트다운, 종료 임박 같은 일시적인 메시지는 순번 없이 전송 (놓쳐도 재동기화하지 않음)
+ * - 구독/재동기화 시 캐시의 전체 상태를 현재 순번과 함께 스냅샷으로 전송 (캐시에 없을 때만 DB 조회)
+ * 
+ * 새 입찰은 캐시된 상태에 바로 반영하고, 시작/종료/취소처럼 드문 변경은 캐시된 상태를 버려
+ * 다음 스냅샷 요청 때 DB에서 다시 읽습니다. 일정 시간(기본 10분) 변경이 없는 경매는 캐시에서 제거합니다.
+ * 
+ * 순번은 서버(JVM)마다 따로 붙으므로 메시지에 epoch(서버 ID + 경매별 순번 시작 번호)을 함께 붙입니다.
+ * relay 브로커 모드에서는 여러 서버가 같은 경매 토픽으로 발행하므로, 클라이언트는 epoch 별 마지막 순번을 기억하고
+ * 같은 epoch 안에서 순번이 건너뛸 때만 재동기화합니다. 처음 보는 epoch 은 받은 순번부터 이어서 확인합니다.
+ * 캐시에서 제거된 뒤 다시 시작하는 순번도 새 epoch 으로 붙습니다.
+ * 
+ * @author 전우선
+ * @since 2025.08.20
+ */
+@Slf4j
+@Component
+public class AuctionStreamState {
+    
+    /**
+     * 스냅샷 + 순번 변경분 프로토콜 버전
+     */
+    public static final int PROTOCOL_VERSION = 2;
+    
+    /**
+     * 순번을 붙이는 (경매 상태를 바꾸는) 메시지 타입
+     */
+    private static final Set<WebSocketMessageType> DELTA_TYPES = EnumSet.of(
+        WebSocketMessageType.NEW_BID,
+        WebSocketMessageType.AUCTION_STATUS_UPDATE,
+        WebSocketMessageType.AUCTION_STARTED,
+        WebSocketMessageType.AUCTION_ENDED,
+        WebSocketMessageType.AUCTION_CANCELLED,
+        WebSocketMessageType.AUCTION_UPDATED,
+        WebSocketMessageType.BUY_IT_NOW_COMPLETED
+    );
+    
+    /**
+     * 스냅샷 로드 중 변경분이 계속 들어올 때 다시 읽는 최대 횟수
+     */
+    private static final int MAX_LOAD_ATTEMPTS = 3;
+    
+    private final AuctionRepository auctionRepository;
+    private final BidRepository bidRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final long idleEvictMs;
+    
+    /**
+     * 경매별 스트림 상태 (경매 ID -> 순번, 전체 상태)
+     */
+    private final Map<Long, StreamState> states = new ConcurrentHashMap<>();
+    
+    /**
+     * 이 서버의 epoch 접두어와 경매별 순번 시작 번호
+     */
+    private final String nodeId = UUID.randomUUID().toString().substring(0, 8);
+    private final AtomicLong epochs = new AtomicLong();
+    
+    public AuctionStreamState(AuctionRepository auctionRepository,
+                              BidRepository bidRepository,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${websocket.stream.idle-evict-ms:600000}") long idleEvictMs) {
+        this.auctionRepository = auctionRepository;
+        this.bidRepository = bidRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.idleEvictMs = idleEvictMs;
+    }
+    
+    /**
+     * 경매 토픽으로 나갈 메시지에 순번을 붙이고 캐시된 상태에 반영 (AuctionTopicPublisher 전송 직전 호출)
+     * 
+     * @param auctionId 경매 ID
+     * @param message 전송할 메시지
+     * @return 순번이 붙은 메시지 (일시적인 메시지는 원본 그대로)
+     */
+    public WebSocketMessageDto sequence(Long auctionId, WebSocketMessageDto message) {
+        if (!DELTA_TYPES.contains(message.getType())) {
+            return message;
+        }
+        
+        StreamState next = states.compute(auctionId, (id, state) -> state == null
+            ? new StreamState(nextEpoch(), 1, null, System.currentTimeMillis())
+            : new StreamState(state.epoch(), state.seq() + 1, apply(state.snapshot(), message), System.currentTimeMillis()));
+        return message.withSeq(next.epoch(), next.seq());
+    }
+    
+    /**
+     * 경매 전체 상태 스냅샷 메시지 (구독/재동기화 시)
+     * 
+     * @param auctionId 경매 ID
+     * @return 현재 순번이 붙은 AUCTION_SNAPSHOT 메시지 (경매가 없으면 empty)
+     */
+    public Optional<WebSocketMessageDto> snapshot(Long auctionId) {
+        for (int attempt = 1; ; attempt++) {
+            StreamState state = states.get(auctionId);
+            if (state != null && state.snapshot() != null) {
+                return Optional.of(toSnapshotMessage(auctionId, state));
+            }
+            
+            long seqBefore = state == null ? 0 : state.seq();
+            AuctionStatusWebSocketDto loaded = load(auctionId);
+            if (loaded == null) {
+                return Optional.empty();
+            }
+            
+            // 읽는 동안 변경분이 나갔다면 읽은 상태가 그 변경분을 포함하는지 알 수 없으므로 다시 읽음
+            boolean force = attempt >= MAX_LOAD_ATTEMPTS;
+            StreamState installed = states.compute(auctionId, (id, current) -> {
+                long currentSeq = current == null ? 0 : current.seq();
+                if (current != null && current.snapshot() != null) {
+                    return current;
+                }
+                if (currentSeq != seqBefore && !force) {
+                    return current;
+                }
+                return new StreamState(current == null ? nextEpoch() : current.epoch(), currentSeq, loaded,
+                        System.currentTimeMillis());
+            });
+            
+            if (installed != null && installed.snapshot() != null) {
+                return Optional.of(toSnapshotMessage(auctionId, installed));
+            }
+        }
+    }
+    
+    /**
+     * 일정 시간 변경이 없는 경매를 캐시에서 제거
+     */
+    @Scheduled(fixedDelayString = "${websocket.stream.evict-interval-ms:60000}")
+    public void evictIdle() {
+        long cutoff = System.currentTimeMillis() - idleEvictMs;
+        int evicted = 0;
+        for (Long auctionId : new ArrayList<>(states.keySet())) {
+            if (states.computeIfPresent(auctionId, (id, state) -> state.touchedAt() < cutoff ? null : state) == null) {
+                evicted++;
+            }
+        }
+        
+        if (evicted > 0) {
+            log.debug("경매 스트림 상태 캐시 정리: {}개 제거, 남은 {}개", evicted, states.size());
+        }
+    }
+    
+    /**
+     * 새 epoch (경매의 순번을 처음부터 시작할 때)
+     */
+    private String nextEpoch() {
+        return nodeId + "-" + epochs.incrementAndGet();
+    }
+    
+    /**
+     * 변경분을 캐시된 상태에 반영 (반영할 수 없으면 null 로 두어 다음 스냅샷 때 DB에서 다시 읽음)
+     */
+    private AuctionStatusWebSocketDto apply(AuctionStatusWebSocketDto snapshot, WebSocketMessageDto message) {
+        Object data = message.getData();
+        return switch (message.getType()) {
+            case NEW_BID -> snapshot != null && data instanceof BidWebSocketDto bid ? snapshot.withBid(bid) : null;
+            case AUCTION_STATUS_UPDATE -> data instanceof AuctionStatusWebSocketDto status ? status : null;
+            default -> null;
+        };
+    }
+    
+    /**
+     * DB에서 경매 전체 상태 조회 (캐시에 없을 때만)
+     */
+    private AuctionStatusWebSocketDto load(Long auctionId) {
+        return readOnlyTransaction.execute(status -> auctionRepository.findByIdWithProduct(auctionId)
+            .map(auction -> AuctionStatusWebSocketDto.from(
+                auction,
+                auction.getTotalBidders().longValue(),
+                auction.getTotalBids().longValue(),
+                bidRepository.findWinnerBidByAuction(auction)
+                    .map(bid -> bid.getUser().getNickname())
+                    .orElse(null)))
+            .orElse(null));
+    }
+    
+    private WebSocketMessageDto toSnapshotMessage(Long auctionId, StreamState state) {
+        AuctionSnapshotWebSocketDto snapshot = new AuctionSnapshotWebSocketDto(
+            PROTOCOL_VERSION, state.snapshot().withCurrentRemainingTime());
+        return WebSocketMessageDto.of(WebSocketMessageType.AUCTION_SNAPSHOT, auctionId, snapshot)
+            .withSeq(state.epoch(), state.seq());
+    }
+    
+    /**
+     * 경매 하나의 스트림 상태
+     * 
+     * @param epoch 순번 epoch (서버 ID + 순번 시작 번호)
+     * @param seq 마지막으로 붙인 순번
+     * @param snapshot 순번까지 반영된 전체 상태 (없으면 다음 스냅샷 요청 때 DB에서 읽음)
+     * @param touchedAt 마지막 변경 시각 (ms)
+     */
+    private record StreamState(String epoch, long seq, AuctionStatusWebSocketDto snapshot, long touchedAt) {
+    }
+}
@@ -0,0 +1,317 @@
+package com.highlight.highlight_backend.service;
+
+import com.highlight.highlight_backend.domain.Auction;
+import com.highlight.highlight_backend.event.AuctionStatusChangedEvent;
+import com.highlight.highlight_backend.event.SchedulerLeadershipAcquiredEvent;
+import com.highlight.highlight_backend.repository.AuctionRepository;
+import com.highlight.highlight_backend.service.cluster.SchedulerLeaderElection;
+import com.highlight.highlight_backend.util.HierarchicalTimingWheel;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 경매 시작/종료 타이머 서비스
+ *
+ * 경매의 시작 예정 시간과 종료 예정 시간을 하나의 계층형 타이밍 휠에 등록하여, 주기적인 테이블 조회 없이
+ * 예정 시간에 바로 경매를 시작/종료합니다. 타이머의 영속 저장소는 경매 테이블의 예정 시간 컬럼이며,
+ * 기동 시 예약/진행 중인 경매로부터 타이머를 다시 등록하므로 재시작 중 지난 시작/종료도 기동 직후 처리됩니다.
+ * 일정 변경은 경매 상태 변경 이벤트(커밋 후)로 반영됩니다.
+ * 종료 타이머는 만료 시 AuctionCloseEngine 에 넘겨 워커 풀에서 경매별 트랜잭션으로 종료합니다.
+ *
+ * 여러 인스턴스로 운영할 때는 스케줄러 리더 노드가 시작/종료를 처리하고, 리더가 아닌 노드는 유예 시간 뒤에도
+ * 처리되지 않은 경우에만 대신 처리합니다 (다른 노드에서 등록된 일정은 리더가 모를 수 있으므로).
+ * 어느 쪽이든 경매 행 락 이후 상태를 확인하므로 한 노드만 처리합니다.
+ *
+ * 소프트 클로즈로 연장된 종료 시간은 연장한 입찰과 같은 트랜잭션에서 저장되고(BidWriteBehindService),
+ * 연장 요청은 경매별 최신 값 하나로 모아 두었다가 짧은 주기(기본 200ms)로 DB의 종료 시간을 확인해 한 번에 반영합니다.
+ * 마지막 순간에 입찰이 몰려도 경매당 타이머 재등록과 상태 알림은 주기마다 한 번씩만 일어납니다.
+ *
+ * @author 전우선
+ * @since 2025.08.20
+ */
+@Slf4j
+@Service
+public class AuctionTimerService implements SmartInitializingSingleton {
+
+    /**
+     * 타이머 처리 실패 시 재시도 간격 (밀리초)
+     */
+    private static final long RETRY_DELAY_MS = 1000;
+
+    /**
+     * 타이밍 휠 틱 (밀리초, 타이머는 최대 한 틱 일찍 만료될 수 있음)
+     */
+    private static final long TICK_MS = 10;
+
+    /**
+     * 리더가 아닌 노드의 처리 유예 시간 (밀리초)
+     */
+    private static final long FOLLOWER_GRACE_MS = 2000;
+
+    private final AuctionRepository auctionRepository;
+    private final AuctionSchedulerService auctionSchedulerService;
+    private final AuctionCloseEngine auctionCloseEngine;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SchedulerLeaderElection leaderElection;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService timerExecutor;
+    private final HierarchicalTimingWheel timingWheel;
+
+    /**
+     * 등록된 타이머 (경매 ID + 종류 -> 타이머)
+     */
+    private final Map<TimerKey, AuctionTimer> timers = new ConcurrentHashMap<>();
+
+    /**
+     * 반영 대기 중인 연장 요청 (경매 ID -> 연장된 종료 시간)
+     */
+    private final Map<Long, LocalDateTime> pendingExtensions = new ConcurrentHashMap<>();
+
+    public AuctionTimerService(AuctionRepository auctionRepository,
+                               AuctionSchedulerService auctionSchedulerService,
+                               AuctionCloseEngine auctionCloseEngine,
+                               ApplicationEventPublisher eventPublisher,
+                               SchedulerLeaderElection leaderElection,
+                               PlatformTransactionManager transactionManager) {
+        this.auctionRepository = auctionRepository;
+        this.auctionSchedulerService = auctionSchedulerService;
+        this.auctionCloseEngine = auctionCloseEngine;
+        this.eventPublisher = eventPublisher;
+        this.leaderElection = leaderElection;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.timerExecutor = Executors.newSingleThreadExecutor(r -> new Thread(r, "auction-timer"));
+        this.timingWheel = new HierarchicalTimingWheel("auction-timer-wheel", TICK_MS, 64, timerExecutor);
+    }
+
+    /**
+     * 기동 시 예약/진행 중인 경매의 타이머 복원
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        rehydrate();
+    }
+
+    /**
+     * 리더가 된 경우 다른 노드에서 등록된 일정까지 처리하도록 타이머 복원
+     */
+    @EventListener
+    public void onLeadershipAcquired(SchedulerLeadershipAcquiredEvent event) {
+        rehydrate();
+    }
+
+    /**
+     * 예약/진행 중인 경매의 타이머를 DB 기준으로 등록 (이미 같은 시간으로 등록된 타이머는 유지)
+     */
+    private void rehydrate() {
+        try {
+            List<Auction> scheduledAuctions = auctionRepository.findByStatus(Auction.AuctionStatus.SCHEDULED);
+            List<Auction> inProgressAuctions = auctionRepository.findByStatus(Auction.AuctionStatus.IN_PROGRESS);
+
+            scheduledAuctions.forEach(auction -> schedule(new TimerKey(auction.getId(), TimerType.START), auction.getScheduledStartTime()));
+            inProgressAuctions.forEach(auction -> schedule(new TimerKey(auction.getId(), TimerType.END), auction.getScheduledEndTime()));
+
+            log.info("경매 타이머 복원 완료: 시작 대기={}개, 종료 대기={}개", scheduledAuctions.size(), inProgressAuctions.size());
+        } catch (Exception e) {
+            log.error("경매 타이머 복원 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 소프트 클로즈 연장 요청 (입찰 수락 시 호출, 다음 반영 주기에 한 번에 처리)
+     *
+     * @param auctionId 경매 ID
+     * @param extendedEndTime 연장된 종료 시간
+     */
+    public void requestExtension(Long auctionId, LocalDateTime extendedEndTime) {
+        pendingExtensions.merge(auctionId, extendedEndTime, (a, b) -> a.isAfter(b) ? a : b);
+    }
+
+    /**
+     * 대기 중인 연장 요청 일괄 반영
+     * DB에 저장된 종료 시간을 기준으로 상태 변경 이벤트를 발행하여 종료 타이머 재등록과 카운트다운/클라이언트 알림을 처리합니다.
+     * 연장한 입찰이 아직 저장되지 않았으면 다음 주기에 다시 확인하고, 연장 시간이 지나면(저장 실패) 버립니다.
+     */
+    @Scheduled(fixedDelayString = "${auction.soft-close.flush-interval-ms:200}")
+    public void flushExtensions() {
+        if (pendingExtensions.isEmpty()) {
+            return;
+        }
+
+        Map<Long, LocalDateTime> extensions = new HashMap<>();
+        for (Long auctionId : new ArrayList<>(pendingExtensions.keySet())) {
+            LocalDateTime endTime = pendingExtensions.remove(auctionId);
+            if (endTime != null) {
+                extensions.put(auctionId, endTime);
+            }
+        }
+
+        try {
+            List<Auction> auctions = transactionTemplate.execute(status -> auctionRepository.findAllById(extensions.keySet()));
+            LocalDateTime now = LocalDateTime.now();
+
+            for (Auction auction : auctions) {
+                if (auction.getStatus() != Auction.AuctionStatus.IN_PROGRESS) {
+                    continue;
+                }
+                LocalDateTime requested = extensions.get(auction.getId());
+                LocalDateTime endTime = auction.getScheduledEndTime();
+                if (endTime == null || endTime.isBefore(requested)) {
+                    // 연장한 입찰이 아직 저장되지 않음
+                    if (requested.isAfter(now)) {
+                        requestExtension(auction.getId(), requested);
+                    }
+                    continue;
+                }
+                eventPublisher.publishEvent(
+                    new AuctionStatusChangedEvent(auction.getId(), Auction.AuctionStatus.IN_PROGRESS, null, endTime));
+                log.info("경매 종료 시간 연장: 경매ID={}, 종료예정={}", auction.getId(), endTime);
+            }
+        } catch (Exception e) {
+            // 다음 주기에 다시 반영 (더 늦은 연장 요청이 있으면 그 값 유지)
+            log.error("경매 종료 시간 연장 반영 실패: {}건, 오류={}", extensions.size(), e.getMessage(), e);
+            extensions.forEach(this::requestExtension);
+        }
+    }
+
+    /**
+     * 경매 상태/일정 변경 시 타이머 등록/취소 (트랜잭션 커밋 후)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAuctionStatusChanged(AuctionStatusChangedEvent event) {
+        TimerKey startKey = new TimerKey(event.getAuctionId(), TimerType.START);
+        TimerKey endKey = new TimerKey(event.getAuctionId(), TimerType.END);
+
+        switch (event.getStatus()) {
+            case SCHEDULED -> {
+                schedule(startKey, event.getScheduledStartTime());
+                cancel(endKey);
+            }
+            case IN_PROGRESS -> {
+                cancel(startKey);
+                schedule(endKey, event.getScheduledEndTime());
+            }
+            default -> {
+                cancel(startKey);
+                cancel(endKey);
+            }
+        }
+    }
+
+    /**
+     * 타이머 등록 (예정 시간이 같으면 유지, 바뀌었으면 재등록)
+     */
+    private void schedule(TimerKey key, LocalDateTime dueTime) {
+        if (dueTime == null) {
+            return;
+        }
+
+        timers.compute(key, (k, existing) -> {
+            if (existing != null && existing.dueTime.equals(dueTime)) {
+                return existing;
+            }
+            if (existing != null) {
+                existing.timeout.cancel();
+            }
+            long delayMs = Duration.between(LocalDateTime.now(), dueTime).toMillis();
+            return new AuctionTimer(dueTime, timingWheel.schedule(() -> fire(k, dueTime, false), delayMs));
+        });
+    }
+
+    private void cancel(TimerKey key) {
+        AuctionTimer removed = timers.remove(key);
+        if (removed != null) {
+            removed.timeout.cancel();
+        }
+    }
+
+    /**
+     * 예정 시간 도달: 경매 시작/종료
+     * 일정이 바뀐 경우에는 아무것도 하지 않으며, 변경 이벤트로 등록된 새 타이머가 처리합니다.
+     */
+    private void fire(TimerKey key, LocalDateTime dueTime, boolean deferred) {
+        // 틱 단위로 일찍 만료된 경우 남은 시간 뒤 다시 실행
+        long remainingMs = Duration.between(LocalDateTime.now(), dueTime).toMillis();
+        if (remainingMs > 0) {
+            reschedule(key, dueTime, remainingMs + TICK_MS, deferred);
+            return;
+        }
+
+        // 리더가 아니면 리더가 먼저 처리하도록 한 번 유예
+        if (!deferred && !leaderElection.isLeader()) {
+            reschedule(key, dueTime, FOLLOWER_GRACE_MS, true);
+            return;
+        }
+
+        try {
+            if (key.type == TimerType.START) {
+                onFired(key, dueTime, deferred, auctionSchedulerService.startAuction(key.auctionId), null);
+            } else {
+                // 종료는 일괄 종료 엔진의 워커 풀에서 처리 (타이머 스레드는 대기하지 않음)
+                auctionCloseEngine.requestClose(key.auctionId, dueTime)
+                    .whenComplete((done, error) -> onFired(key, dueTime, deferred, Boolean.TRUE.equals(done), error));
+            }
+        } catch (Exception e) {
+            onFired(key, dueTime, deferred, false, e);
+        }
+    }
+
+    /**
+     * 시작/종료 처리 결과 반영: 완료 시 타이머 제거, 실패 시 재시도
+     */
+    private void onFired(TimerKey key, LocalDateTime dueTime, boolean deferred, boolean done, Throwable error) {
+        if (error != null) {
+            log.error("경매 타이머 처리 중 오류 발생, {}ms 후 재시도: 경매ID={}, 종류={}, 오류={}",
+                    RETRY_DELAY_MS, key.auctionId, key.type, error.getMessage(), error);
+            reschedule(key, dueTime, RETRY_DELAY_MS, deferred);
+            return;
+        }
+        if (!done) {
+            // 다른 노드가 이미 처리했거나 일정이 바뀐 경우 (바뀐 일정은 이벤트로 다시 등록됨)
+            log.debug("경매 타이머 처리 생략: 경매ID={}, 종류={}, 예정={}", key.auctionId, key.type, dueTime);
+        }
+        timers.computeIfPresent(key, (k, timer) -> timer.dueTime.equals(dueTime) ? null : timer);
+    }
+
+    /**
+     * 같은 예정 시간의 타이머가 아직 등록되어 있으면 지연 후 다시 실행
+     */
+    private void reschedule(TimerKey key, LocalDateTime dueTime, long delayMs, boolean deferred) {
+        timers.computeIfPresent(key, (k, timer) -> timer.dueTime.equals(dueTime)
+            ? new AuctionTimer(dueTime, timingWheel.schedule(() -> fire(k, dueTime, deferred), delayMs))
+            : timer);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timingWheel.close();
+        timerExecutor.shutdown();
+    }
+
+    private enum TimerType {
+        START, END
+    }
+
+    private record TimerKey(Long auctionId, TimerType type) {
+    }
+
+    private record AuctionTimer(LocalDateTime dueTime, HierarchicalTimingWheel.Timeout timeout) {
+    }
+}
@@ -0,0 +1,128 @@
+package com.highlight.highlight_backend.service;
+
+import com.highlight.highlight_backend.dto.websocket.WebSocketMessageDto;
+import com.highlight.highlight_backend.dto.websocket.WebSocketMessageDto.WebSocketMessageType;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 경매 토픽 메시지 병합 발행기
+ * 
+ * /topic/auction/{id} 로 나가는 메시지를 경매별로 짧은 시간(기본 50ms) 모았다가 요청 스레드 밖에서 한 번에 발행합니다.
+ * 최신 상태만 의미 있는 메시지(새 입찰, 경매 상태, 카운트다운)는 같은 구간 안에서 마지막 것만 남기고,
+ * 종료/취소 같은 이벤트성 메시지는 모두 순서대로 전송합니다.
+ * 병합된 메시지는 한 번만 직렬화되어 구독자 전체에게 전달됩니다.
+ * 실제로 전송되는 상태 변경 메시지에만 경매별 순번이 붙으므로(AuctionStreamState), 병합으로 버려진 메시지 때문에
+ * 순번이 건너뛰지 않습니다.
+ * 
+ * @author 전우선
+ * @since 2025.08.20
+ */
+@Slf4j
+@Component
+public class AuctionTopicPublisher {
+    
+    /**
+     * 구간 내 마지막 메시지만 전송해도 되는 메시지 타입 (최신 상태 의미)
+     */
+    private static final Set<WebSocketMessageType> COALESCABLE_TYPES = EnumSet.of(
+        WebSocketMessageType.NEW_BID,
+        WebSocketMessageType.AUCTION_STATUS_UPDATE,
+        WebSocketMessageType.AUCTION_COUNTDOWN
+    );
+    
+    private final SimpMessagingTemplate messagingTemplate;
+    private final AuctionStreamState auctionStreamState;
+    private final long windowMs;
+    private final ScheduledExecutorService flusher;
+    
+    /**
+     * 경매별 전송 대기 메시지 (경매 ID -> 도착 순서 목록)
+     */
+    private final Map<Long, List<WebSocketMessageDto>> pendingFrames = new ConcurrentHashMap<>();
+    
+    public AuctionTopicPublisher(SimpMessagingTemplate messagingTemplate,
+                                 AuctionStreamState auctionStreamState,
+                                 @Value("${websocket.coalesce.window-ms:50}") long windowMs) {
+        this.messagingTemplate = messagingTemplate;
+        this.auctionStreamState = auctionStreamState;
+        this.windowMs = windowMs;
+        this.flusher = Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, "auction-topic-flusher"));
+    }
+    
+    /**
+     * 경매 토픽으로 메시지 발행 (병합 구간 후 전송)
+     * 
+     * @param auctionId 경매 ID
+     * @param message 전송할 메시지
+     */
+    public void publish(Long auctionId, WebSocketMessageDto message) {
+        if (windowMs <= 0) {
+            send(auctionId, message);
+            return;
+        }
+        
+        boolean[] firstInWindow = new boolean[1];
+        pendingFrames.compute(auctionId, (id, frames) -> {
+            if (frames == null) {
+                frames = new ArrayList<>();
+                firstInWindow[0] = true;
+            }
+            if (COALESCABLE_TYPES.contains(message.getType())) {
+                // 같은 타입의 이전 상태는 버리고 최신 상태를 뒤에 추가 (다른 메시지와의 순서 유지)
+                frames.removeIf(frame -> frame.getType() == message.getType());
+            }
+            frames.add(message);
+            return frames;
+        });
+        
+        if (firstInWindow[0]) {
+            flusher.schedule(() -> flush(auctionId), windowMs, TimeUnit.MILLISECONDS);
+        }
+    }
+    
+    /**
+     * 경매의 대기 메시지 전송
+     */
+    private void flush(Long auctionId) {
+        List<WebSocketMessageDto> frames = pendingFrames.remove(auctionId);
+        if (frames == null) {
+            return;
+        }
+        for (WebSocketMessageDto frame : frames) {
+            send(auctionId, frame);
+        }
+    }
+    
+    private void send(Long auctionId, WebSocketMessageDto message) {
+        try {
+            messagingTemplate.convertAndSend("/topic/auction/" + auctionId,
+                    auctionStreamState.sequence(auctionId, message));
+        } catch (Exception e) {
+            log.error("WebSocket - 경매 토픽 전송 실패: 경매={}, 타입={}, 에러={}", 
+                    auctionId, message.getType(), e.getMessage());
+        }
+    }
+    
+    /**
+     * 애플리케이션 종료 시 대기 메시지 전송 후 종료
+     */
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdown();
+        new ArrayList<>(pendingFrames.keySet()).forEach(this::flush);
+    }
+}
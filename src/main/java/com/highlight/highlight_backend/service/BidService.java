@@ -17,15 +17,23 @@ import com.highlight.highlight_backend.exception.CommonErrorCode;
 import com.highlight.highlight_backend.repository.AuctionRepository;
 import com.highlight.highlight_backend.repository.BidRepository;
 import com.highlight.highlight_backend.repository.user.UserRepository;
+import com.highlight.highlight_backend.service.bid.AuctionOrderBookRegistry;
+import com.highlight.highlight_backend.service.bid.BidAcceptance;
+import com.highlight.highlight_backend.service.bid.BidJournal;
+import com.highlight.highlight_backend.service.bid.BidWriteBehindService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * 입찰 관련 비즈니스 로직 서비스
@@ -42,78 +50,80 @@ public class BidService {
     private final BidRepository bidRepository;
     private final AuctionRepository auctionRepository;
     private final UserRepository userRepository;
-    private final WebSocketService webSocketService;
+    private final AuctionOrderBookRegistry orderBookRegistry;
+    private final BidWriteBehindService bidWriteBehindService;
+    private final BidJournal bidJournal;
+    private final AuctionTimerService auctionTimerService;
+    
+    /**
+     * 입찰 수락/저장 대기 최대 시간 (초)
+     */
+    private static final long PERSIST_TIMEOUT_SECONDS = 10;
     
     /**
      * 입찰 참여
      * 
+     * 경매 행에 대한 비관적 락 대신 경매별 메일박스(BidSequencer)에 입찰 명령을 넣어
+     * 단일 작성자가 인메모리 호가창에서 검증/수락하고, Bid/Auction 저장은 write-behind 로 처리합니다.
+     * 자동 입찰(isAutoBid, maxAutoBidAmount)은 호가창에 한도로 등록되어, 이후 입찰에 서버가 대신 응답합니다.
+     * 요청 스레드는 결과만 기다립니다. bid.write-behind.durable-ack=false 이면 DB 저장을 기다리지 않고
+     * 수락 즉시 응답합니다 (이 경우 응답의 입찰 ID는 비어 있음).
+     * 
      * @param request 입찰 요청 정보
      * @param userId 입찰하는 사용자 ID
      * @return 입찰 결과 정보
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public BidResponseDto createBid(BidCreateRequestDto request, Long userId) {
         log.info("입찰 참여 요청: 사용자={}, 경매={}, 금액={}", userId, request.getAuctionId(), request.getBidAmount());
         
-        // 1. 사용자 조회
+        // 1. 사용자 존재 확인
         User user = userRepository.findById(userId)
             .orElseThrow(() -> new BusinessException(UserErrorCode.USER_NOT_FOUND));
         
-        // 2. 경매 조회 (비관적 락으로 동시 입찰 방지)
-        Auction auction = auctionRepository.findByIdWithLock(request.getAuctionId())
-            .orElseThrow(() -> new BusinessException(AuctionErrorCode.AUCTION_NOT_FOUND));
-        
-        // 3. 입찰 가능 상태 검증
-        validateBidRequest(auction, request, user);
-        
-        // 4. 동일 금액 입찰 체크 및 처리
-        Optional<Bid> existingSamePriceBid = bidRepository.findBidByAuctionAndBidAmount(auction, request.getBidAmount());
-        if (existingSamePriceBid.isPresent()) {
-            // 동일한 금액으로 이미 입찰이 있는 경우 거부 (선도착 우선)
-            throw new BusinessException(AuctionErrorCode.BID_AMOUNT_TOO_LOW);
+        // 2. 자동 입찰 요청 검증
+        validateAutoBidRequest(request);
+        
+        // 3. 경매 메일박스에서 호가창 조회 (최초 1회 또는 무효화 후에만 DB에서 복원)
+        // 4. 순서대로 입찰 검증 및 수락 (진행 여부, 최소 입찰가, 입찰 단위, 동일 금액 선도착 우선)
+        //    경쟁하는 자동 입찰도 같은 임계 구역에서 한 번에 해소됨
+        // 5. 수락 순서 그대로 로컬 저널 기록 및 write-behind 저장 요청 (메일박스 안에서 실행하여 경매별 순서 보장)
+        CompletableFuture<SubmittedBid> submitted = bidWriteBehindService.submitToOrderBook(request.getAuctionId(), orderBook -> {
+            BidAcceptance acceptance = journal(orderBook.accept(
+                userId,
+                request.getBidAmount(),
+                Boolean.TRUE.equals(request.getIsAutoBid()),
+                request.getMaxAutoBidAmount()
+            ));
+            return new SubmittedBid(acceptance, bidWriteBehindService.submit(acceptance));
+        });
+        
+        // 6. 응답 전 저널 디스크 동기화 대기 (자동 입찰 응답이 있으면 응답 입찰까지)
+        SubmittedBid result = await(submitted);
+        BidAcceptance acceptance = result.acceptance();
+        BidAcceptance lastAcceptance = acceptance.getProxyResponse() != null ? acceptance.getProxyResponse() : acceptance;
+        await(bidJournal.sync(lastAcceptance.getJournalSequence()));
+        
+        // 7. 종료 직전 입찰로 종료 시간이 연장된 경우 연장 반영 요청 (소프트 클로즈)
+        if (acceptance.getExtendedEndTime() != null) {
+            auctionTimerService.requestExtension(acceptance.getAuctionId(), acceptance.getExtendedEndTime());
         }
         
-        // 5. 기존 최고 입찰 조회
-        Optional<Bid> currentHighestBid = bidRepository.findCurrentHighestBidByAuction(auction);
-        
-        // 5. 입찰 엔티티 생성
-        Bid newBid = new Bid();
-        newBid.setAuction(auction);
-        newBid.setUser(user);
-        newBid.setBidAmount(request.getBidAmount());
-        newBid.setIsAutoBid(request.getIsAutoBid() != null ? request.getIsAutoBid() : false);
-        newBid.setMaxAutoBidAmount(request.getMaxAutoBidAmount());
-        newBid.setStatus(Bid.BidStatus.WINNING);
-        
-        // 6. 기존 최고 입찰을 OUTBID로 변경 및 개인 알림
-        Bid previousWinner = null;
-        if (currentHighestBid.isPresent()) {
-            previousWinner = currentHighestBid.get();
-            previousWinner.setAsOutbid();
-            bidRepository.save(previousWinner);
+        if (!bidWriteBehindService.isDurableAck()) {
+            // 수락 즉시 응답 (저장은 다음 배치에서 처리)
+            log.info("입찰 수락 완료 (저장 대기): 사용자={}, 경매={}, 금액={}", userId, request.getAuctionId(), acceptance.getBidAmount());
+            return BidResponseDto.fromAcceptedBid(
+                acceptance.getAuctionId(),
+                acceptance.getOrderBook().getProductName(),
+                user.getNickname(),
+                acceptance.getBidAmount(),
+                acceptance.isAutoBid(),
+                acceptance.getAcceptedAt(),
+                acceptance.getProxyResponse() == null
+            );
         }
         
-        // 7. 새 입찰 저장
-        Bid savedBid = bidRepository.save(newBid);
-        
-        // 8. 사용자가 해당 경매에 처음 입찰하는 경우 참여 횟수 증가
-        if (currentHighestBid.isEmpty() || !currentHighestBid.get().getUser().getId().equals(userId)) {
-            user.participateInAuction();
-            userRepository.save(user);
-            log.info("경매 참여 횟수 증가: 사용자ID={}, 새로운 참여횟수={}, 등급={}", 
-                    userId, user.getParticipationCount(), user.getRank());
-        }
-        
-        // 9. 경매 정보 업데이트
-        updateAuctionInfo(auction, request.getBidAmount());
-        
-        // 9. WebSocket으로 실시간 알림 전송
-        webSocketService.sendNewBidNotification(savedBid);
-        
-        // 10. 이전 최고 입찰자에게 개인 알림 (다른 사용자인 경우)
-        if (previousWinner != null && !previousWinner.getUser().getId().equals(userId)) {
-            webSocketService.sendBidOutbidNotification(previousWinner, savedBid);
-        }
+        Bid savedBid = await(result.persisted());
         
         log.info("입찰 참여 완료: 입찰ID={}, 사용자={}, 금액={}", savedBid.getId(), userId, request.getBidAmount());
         
@@ -188,12 +198,12 @@ public class BidService {
             .orElseThrow(() -> new BusinessException(AuctionErrorCode.AUCTION_NOT_FOUND));
         
         // 입찰 통계 조회
-        Long totalBidders = bidRepository.countDistinctBiddersByAuction(auction);
-        Long totalBids = bidRepository.countBidsByAuction(auction);
+        Long totalBidders = auction.getTotalBidders().longValue();
+        Long totalBids = auction.getTotalBids().longValue();
         
         // 현재 최고 입찰자 조회
         String winnerNickname = null;
-        Optional<Bid> currentWinner = bidRepository.findCurrentHighestBidByAuction(auction);
+        Optional<Bid> currentWinner = bidRepository.findWinnerBidByAuction(auction);
         if (currentWinner.isPresent()) {
             winnerNickname = currentWinner.get().getUser().getNickname();
         }
@@ -263,41 +273,17 @@ public class BidService {
         
         // 4. 상세 정보 반환 (사용자별 최신 입찰 기준 통계 적용)
         Auction auction = bid.getAuction();
-        Integer calculatedTotalBids = bidRepository.countBidsByAuction(auction).intValue();
-        Integer calculatedTotalBidders = bidRepository.countDistinctBiddersByAuction(auction).intValue();
+        Integer calculatedTotalBids = auction.getTotalBids();
+        Integer calculatedTotalBidders = auction.getTotalBidders();
         
         return WinBidDetailResponseDto.fromWithCalculatedStats(bid, calculatedTotalBids, calculatedTotalBidders);
     }
     
     /**
-     * 입찰 요청 유효성 검증
+     * 자동 입찰 요청 유효성 검증
+     * 경매 상태/금액 검증은 호가창(AuctionOrderBook)에서 수행합니다.
      */
-    private void validateBidRequest(Auction auction, BidCreateRequestDto request, User user) {
-        // 경매 진행 중 여부 확인
-        if (!auction.isInProgress()) {
-            throw new BusinessException(AuctionErrorCode.CANNOT_START_AUCTION);
-        }
-        
-        // 입찰 금액 검증
-        if (auction.getCurrentHighestBid() != null) {
-            // 기존 입찰이 있는 경우: 현재 최고가 + 최소 인상폭 이상
-            BigDecimal minimumRequiredBid = auction.getCurrentHighestBid().add(auction.getMinimumBid());
-            if (request.getBidAmount().compareTo(minimumRequiredBid) < 0) {
-                throw new BusinessException(AuctionErrorCode.INVALID_MINIMUM_BID);
-            }
-        } else {
-            // 첫 입찰인 경우: 시작가 이상
-            if (request.getBidAmount().compareTo(auction.getStartPrice()) < 0) {
-                throw new BusinessException(AuctionErrorCode.INVALID_MINIMUM_BID);
-            }
-        }
-        
-        // 입찰 단위 확인
-        if (!isValidBidUnit(request.getBidAmount(), auction.getBidUnit())) {
-            throw new BusinessException(AuctionErrorCode.BID_UNIT_MISMATCH);
-        }
-        
-        // 자동 입찰인 경우 추가 검증
+    private void validateAutoBidRequest(BidCreateRequestDto request) {
         if (request.getIsAutoBid() != null && request.getIsAutoBid()) {
             if (request.getMaxAutoBidAmount() == null) {
                 throw new BusinessException(CommonErrorCode.INVALID_INPUT_VALUE);
@@ -309,30 +295,42 @@ public class BidService {
     }
     
     /**
-     * 입찰 단위 유효성 검증
+     * 수락된 입찰을 저널에 기록 (자동 입찰 응답이 있으면 이어서 기록)
+     * 기록에 실패하면 호가창과 저널이 어긋나므로 호가창을 무효화하고 입찰을 실패 처리합니다.
      */
-    private boolean isValidBidUnit(BigDecimal bidAmount, BigDecimal bidUnit) {
-        if (bidUnit == null || bidUnit.compareTo(BigDecimal.ZERO) <= 0) {
-            return true; // 입찰 단위가 설정되지 않은 경우 통과
+    private BidAcceptance journal(BidAcceptance acceptance) {
+        try {
+            BidAcceptance journaled = acceptance.withJournalSequence(bidJournal.append(acceptance));
+            BidAcceptance proxyResponse = acceptance.getProxyResponse();
+            if (proxyResponse != null) {
+                journaled = journaled.withProxyResponse(
+                        proxyResponse.withJournalSequence(bidJournal.append(proxyResponse)));
+            }
+            return journaled;
+        } catch (RuntimeException e) {
+            log.error("입찰 저널 기록 실패: 경매ID={}, 오류={}", acceptance.getAuctionId(), e.getMessage(), e);
+            orderBookRegistry.invalidate(acceptance.getAuctionId());
+            throw new BusinessException(CommonErrorCode.INTERNAL_SERVER_ERROR, e);
         }
-        
-        return bidAmount.remainder(bidUnit).compareTo(BigDecimal.ZERO) == 0;
     }
     
     /**
-     * 경매 정보 업데이트
+     * 입찰 수락/저장 완료 대기
      */
-    private void updateAuctionInfo(Auction auction, BigDecimal newBidAmount) {
-        auction.setCurrentHighestBid(newBidAmount);
-        
-        // 사용자별 최신 입찰 기준으로 정확한 통계 계산
-        Long totalBidders = bidRepository.countDistinctBiddersByAuction(auction);
-        Long totalBids = bidRepository.countBidsByAuction(auction);
-        
-        auction.setTotalBidders(totalBidders.intValue());
-        auction.setTotalBids(totalBids.intValue());
-        
-        auctionRepository.save(auction);
+    private <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.get(PERSIST_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof BusinessException businessException) {
+                throw businessException;
+            }
+            throw new BusinessException(CommonErrorCode.INTERNAL_SERVER_ERROR, e.getCause());
+        } catch (TimeoutException e) {
+            throw new BusinessException(CommonErrorCode.INTERNAL_SERVER_ERROR, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(CommonErrorCode.INTERNAL_SERVER_ERROR, e);
+        }
     }
     
     /**
@@ -375,7 +373,7 @@ public class BidService {
         }
         
         // 낙찰자 조회
-        Optional<Bid> winnerBidOpt = bidRepository.findCurrentHighestBidByAuction(auction);
+        Optional<Bid> winnerBidOpt = bidRepository.findWinnerBidByAuction(auction);
         
         if (winnerBidOpt.isEmpty()) {
             // 입찰 없이 종료된 경우 (이론적으로 불가능하지만 안전장치)
@@ -393,4 +391,10 @@ public class BidService {
             return AuctionMyResultResponseDto.createLostResult(auction, userBid, winnerBid.getBidAmount());
         }
     }
-}
\ No newline at end of file
+    
+    /**
+     * 메일박스에서 수락 및 저장 요청까지 마친 입찰
+     */
+    private record SubmittedBid(BidAcceptance acceptance, CompletableFuture<Bid> persisted) {
+    }
+}
@@ -15,10 +15,15 @@ import com.highlight.highlight_backend.repository.AuctionRepository;
 import com.highlight.highlight_backend.repository.BidRepository;
 import com.highlight.highlight_backend.repository.user.UserRepository;
 import com.highlight.highlight_backend.service.WebSocketService;
+import com.highlight.highlight_backend.service.bid.AuctionOrderBookRegistry;
+import com.highlight.highlight_backend.service.bid.BidWriteBehindService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -42,6 +47,9 @@ public class PaymentService {
     private final BidRepository bidRepository;
     private final UserRepository userRepository;
     private final WebSocketService webSocketService;
+    private final AuctionOrderBookRegistry orderBookRegistry;
+    private final BidWriteBehindService bidWriteBehindService;
+    private final PlatformTransactionManager transactionManager;
     
     /**
      * 결제 미리보기 조회
@@ -66,7 +74,7 @@ public class PaymentService {
         }
         
         // 4. 낙찰자 확인
-        Bid winningBid = bidRepository.findCurrentHighestBidByAuction(auction)
+        Bid winningBid = bidRepository.findWinnerBidByAuction(auction)
             .orElseThrow(() -> new BusinessException(PaymentErrorCode.AUCTION_NOT_WON));
         
         if (!winningBid.getUser().getId().equals(userId)) {
@@ -125,7 +133,7 @@ public class PaymentService {
         }
         
         // 4. 낙찰자 확인
-        Bid winningBid = bidRepository.findCurrentHighestBidByAuction(auction)
+        Bid winningBid = bidRepository.findWinnerBidByAuction(auction)
             .orElseThrow(() -> new BusinessException(PaymentErrorCode.AUCTION_NOT_WON));
         
         if (!winningBid.getUser().getId().equals(userId)) {
@@ -222,20 +230,40 @@ public class PaymentService {
     /**
      * 즉시 구매 처리 (경매 종료만)
      * 
+     * 호가창을 닫고 닫기 전에 수락된 입찰의 저장 완료를 기다린 뒤, 경매 행 락을 잡은 트랜잭션에서 경매를 종료합니다.
+     * 
      * @param request 즉시 구매 요청
      * @param userId 사용자 ID
      * @return 즉시 구매 결과
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public BuyItNowResponseDto processBuyItNow(BuyItNowRequestDto request, Long userId) {
         // 1. 사용자 조회
-        User user = userRepository.findById(userId)
+        userRepository.findById(userId)
             .orElseThrow(() -> new BusinessException(UserErrorCode.USER_NOT_FOUND));
         
-        // 2. 경매 조회
-        Auction auction = auctionRepository.findById(request.getAuctionId())
+        // 2. 경매 조회 및 즉시 구매 가능 여부 확인
+        Auction found = auctionRepository.findById(request.getAuctionId())
             .orElseThrow(() -> new BusinessException(AuctionErrorCode.AUCTION_NOT_FOUND));
-        
+        validateBuyItNow(found);
+
+        // 호가창을 닫아 이후 입찰을 거부하고, 닫기 전에 수락된 입찰의 저장 완료 대기
+        bidWriteBehindService.closeOrderBook(found.getId(), Auction.AuctionStatus.COMPLETED);
+
+        try {
+            return new TransactionTemplate(transactionManager)
+                .execute(status -> completeBuyItNow(request, userId));
+        } catch (RuntimeException e) {
+            // 즉시 구매하지 못했으면 닫은 호가창을 DB 기준으로 다시 복원
+            orderBookRegistry.invalidate(found.getId());
+            throw e;
+        }
+    }
+
+    /**
+     * 즉시 구매 가능 여부 확인 (진행 중이고 즉시 구매가가 설정되어 있어야 함)
+     */
+    private void validateBuyItNow(Auction auction) {
         // 3. 경매 상태 확인 (진행 중이어야 함)
         if (auction.getStatus() != Auction.AuctionStatus.IN_PROGRESS) {
             throw new BusinessException(AuctionErrorCode.AUCTION_NOT_IN_PROGRESS);
@@ -245,6 +273,19 @@ public class PaymentService {
         if (auction.getBuyItNowPrice() == null || auction.getBuyItNowPrice().compareTo(BigDecimal.ZERO) <= 0) {
             throw new BusinessException(AuctionErrorCode.BUY_IT_NOW_NOT_AVAILABLE);
         }
+    }
+
+    /**
+     * 경매 행 락 후 즉시 구매 처리 (트랜잭션 안에서 실행)
+     */
+    private BuyItNowResponseDto completeBuyItNow(BuyItNowRequestDto request, Long userId) {
+        User user = userRepository.findById(userId)
+            .orElseThrow(() -> new BusinessException(UserErrorCode.USER_NOT_FOUND));
+        Auction auction = auctionRepository.findByIdWithLock(request.getAuctionId())
+            .orElseThrow(() -> new BusinessException(AuctionErrorCode.AUCTION_NOT_FOUND));
+
+        // 락을 잡은 뒤 다시 확인 (동시에 종료된 경우)
+        validateBuyItNow(auction);
 
         // 5. 즉시 구매를 위한 입찰 생성 (낙찰자로 설정)
  
@@ -252,7 +293,7 @@ public class PaymentService {
             .auction(auction)
             .user(user)
             .bidAmount(auction.getBuyItNowPrice())
-            .status(Bid.BidStatus.WINNING)
+            .status(Bid.BidStatus.WON)
             .isBuyItNow(true)
             .build();
         bidRepository.save(buyItNowBid);
@@ -1,18 +1,28 @@
 package com.highlight.highlight_backend.service;
 
-import com.highlight.highlight_backend.domain.Product;
 import com.highlight.highlight_backend.domain.ProductAssociation;
+import com.highlight.highlight_backend.event.ProductAssociationsUpdatedEvent;
 import com.highlight.highlight_backend.repository.ProductAssociationRepository;
-import com.highlight.highlight_backend.repository.ProductRepository;
-import com.highlight.highlight_backend.repository.UserProductViewRepository;
-import lombok.RequiredArgsConstructor;
+import com.highlight.highlight_backend.service.association.ApproximateCoViewCounter;
+import com.highlight.highlight_backend.service.association.CoViewCounter;
+import com.highlight.highlight_backend.service.association.CoViewCounts;
+import com.highlight.highlight_backend.service.association.ProductAssociationWriter;
+import com.highlight.highlight_backend.service.association.ProductAssociationWriter.AssociationRow;
+import com.highlight.highlight_backend.service.cluster.LeaderOnly;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
@@ -22,73 +32,82 @@ import java.util.concurrent.CompletableFuture;
  * 
  * 사용자 조회 이력을 기반으로 상품 간 연관도를 계산하고
  * ProductAssociation 테이블을 업데이트하는 배치 작업을 수행합니다.
+ * 최근 30일 조회 이력을 한 번 순차 조회해 메모리에서 상품 쌍별 건수를 계산하고(CoViewCounter),
+ * 결과를 배치 단위 multi-row upsert 로 저장합니다(ProductAssociationWriter).
+ * 소요 시간은 product.association.batch.duration 으로 기록합니다.
+ * product.association.mode=approximate 이면 정확한 쌍 건수 대신 메모리 상한이 있는 근사 계산
+ * (ApproximateCoViewCounter, 기준 상품별 상위 K 연관 상품만 저장)을 사용합니다.
+ * 낮 동안의 조회는 IncrementalAssociationUpdater 가 증가분으로 반영하고, 이 배치가 30일 창 기준으로 다시 맞춥니다.
  * 
  * 실행 주기:
  * - 연관도 계산: 매일 새벽 3시
  * - 데이터 정리: 매주 일요일 새벽 4시
+ * 여러 인스턴스로 운영할 때는 스케줄러 리더 노드에서만 실행됩니다.
  * 
  * @author 전우선
  * @since 2025.08.18
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 @Transactional
 public class ProductAssociationBatchService {
 
-    private final UserProductViewRepository userProductViewRepository;
+    /**
+     * 재계산 최대 소요 시간 (이 시간이 지나면 실시간 갱신기가 재계산 종료로 간주)
+     */
+    private static final Duration MAX_RECALCULATION_TIME = Duration.ofHours(2);
+
+    private static final String ACTIVE_PRODUCTS_SQL = "SELECT id, category FROM product WHERE status = 'ACTIVE'";
+
     private final ProductAssociationRepository productAssociationRepository;
-    private final ProductRepository productRepository;
+    private final CoViewCounter coViewCounter;
+    private final ApproximateCoViewCounter approximateCoViewCounter;
+    private final ProductAssociationWriter productAssociationWriter;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Timer batchDuration;
+    private final boolean approximate;
+
+    public ProductAssociationBatchService(ProductAssociationRepository productAssociationRepository,
+                                          CoViewCounter coViewCounter,
+                                          ApproximateCoViewCounter approximateCoViewCounter,
+                                          ProductAssociationWriter productAssociationWriter,
+                                          JdbcTemplate jdbcTemplate,
+                                          ApplicationEventPublisher eventPublisher,
+                                          MeterRegistry meterRegistry,
+                                          @Value("${product.association.mode:exact}") String mode) {
+        this.productAssociationRepository = productAssociationRepository;
+        this.coViewCounter = coViewCounter;
+        this.approximateCoViewCounter = approximateCoViewCounter;
+        this.productAssociationWriter = productAssociationWriter;
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.batchDuration = Timer.builder("product.association.batch.duration")
+            .description("상품 연관도 계산 배치 소요 시간")
+            .register(meterRegistry);
+        this.approximate = "approximate".equalsIgnoreCase(mode);
+    }
 
     /**
      * 상품 연관도 계산 배치 작업 (매일 새벽 3시 실행)
      * 
      * 최근 30일간의 사용자 조회 이력을 분석하여
      * 상품 간 연관도를 계산하고 DB에 저장합니다.
+     * 조회와 저장은 문장 단위로 커밋합니다 (배치 전체를 하나의 트랜잭션으로 묶지 않음).
      */
     @Scheduled(cron = "0 0 3 * * *") // 매일 새벽 3시
+    @LeaderOnly
     @Async
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public CompletableFuture<Void> calculateProductAssociations() {
         long startTime = System.currentTimeMillis();
         log.info("=== 상품 연관도 계산 배치 작업 시작 ===");
 
         try {
-            // 1. 활성 상품 목록 조회
-            List<Product> activeProducts = productRepository.findByStatus(Product.ProductStatus.ACTIVE, 
-                org.springframework.data.domain.PageRequest.of(0, Integer.MAX_VALUE)).getContent();
-            log.info("분석 대상 활성 상품 수: {}", activeProducts.size());
-
-            if (activeProducts.isEmpty()) {
-                log.warn("분석할 활성 상품이 없습니다.");
-                return CompletableFuture.completedFuture(null);
-            }
-
-            // 2. 각 상품에 대해 연관도 계산
-            int processedCount = 0;
-            int totalAssociations = 0;
-            
-            LocalDateTime since30Days = LocalDateTime.now().minusDays(30);
-            
-            for (Product sourceProduct : activeProducts) {
-                try {
-                    int associations = calculateAssociationsForProduct(sourceProduct.getId(), since30Days);
-                    totalAssociations += associations;
-                    processedCount++;
-                    
-                    if (processedCount % 50 == 0) {
-                        log.info("진행률: {}/{} 상품 처리 완료", processedCount, activeProducts.size());
-                    }
-                    
-                } catch (Exception e) {
-                    log.error("상품 연관도 계산 실패: productId={}, error={}", 
-                             sourceProduct.getId(), e.getMessage(), e);
-                }
-            }
+            batchDuration.record(this::recalculate);
 
             long endTime = System.currentTimeMillis();
-            log.info("=== 상품 연관도 계산 배치 작업 완료 === " +
-                    "처리된 상품: {}, 생성/업데이트된 연관도: {}, 소요시간: {}ms",
-                    processedCount, totalAssociations, endTime - startTime);
+            log.info("=== 상품 연관도 계산 배치 작업 완료 === 소요시간: {}ms", endTime - startTime);
 
         } catch (Exception e) {
             log.error("상품 연관도 계산 배치 작업 실패", e);
@@ -98,120 +117,59 @@ public class ProductAssociationBatchService {
     }
 
     /**
-     * 특정 상품에 대한 연관도 계산
-     * 
-     * @param sourceProductId 기준 상품 ID
-     * @param sinceDate 분석 시작 날짜
-     * @return 생성/업데이트된 연관도 개수
+     * 최근 30일 조회 이력으로 활성 상품 간 연관도 재계산
      */
-    private int calculateAssociationsForProduct(Long sourceProductId, LocalDateTime sinceDate) {
-        // 1. 세션 기반 함께 조회된 상품들
-        List<Object[]> sessionBasedViews = userProductViewRepository
-            .findCoViewedProductsBySession(sourceProductId, sinceDate);
-            
-        // 2. 사용자 기반 함께 조회된 상품들
-        List<Object[]> userBasedViews = userProductViewRepository
-            .findCoViewedProductsByUser(sourceProductId, sinceDate);
-
-        // 3. 연관도 점수 계산
-        Map<Long, AssociationData> associationDataMap = new HashMap<>();
-        
-        // 세션 기반 데이터 처리
-        for (Object[] result : sessionBasedViews) {
-            Long targetProductId = (Long) result[0];
-            Long coViewCount = (Long) result[1];
-            
-            associationDataMap.computeIfAbsent(targetProductId, k -> new AssociationData())
-                .addSessionCoView(coViewCount.intValue());
-        }
-        
-        // 사용자 기반 데이터 처리
-        for (Object[] result : userBasedViews) {
-            Long targetProductId = (Long) result[0];
-            Long coViewCount = (Long) result[1];
-            
-            associationDataMap.computeIfAbsent(targetProductId, k -> new AssociationData())
-                .addUserCoView(coViewCount.intValue());
-        }
-
-        // 4. 연관도 엔티티 생성/업데이트
-        int updatedCount = 0;
-        Product sourceProduct = productRepository.findById(sourceProductId).orElse(null);
-        if (sourceProduct == null) {
-            return 0;
+    private void recalculate() {
+        // 1. 활성 상품 목록 조회
+        Map<Long, String> categories = new HashMap<>();
+        jdbcTemplate.query(ACTIVE_PRODUCTS_SQL,
+            rs -> { categories.put(rs.getLong("id"), rs.getString("category")); });
+        log.info("분석 대상 활성 상품 수: {}", categories.size());
+
+        if (categories.isEmpty()) {
+            log.warn("분석할 활성 상품이 없습니다.");
+            return;
         }
 
-        for (Map.Entry<Long, AssociationData> entry : associationDataMap.entrySet()) {
-            Long targetProductId = entry.getKey();
-            AssociationData data = entry.getValue();
-            
-            // 최소 임계값 확인 (너무 적은 연관도는 제외)
-            if (data.getTotalCoViewCount() < 2) {
-                continue;
-            }
-            
-            try {
-                Product targetProduct = productRepository.findById(targetProductId).orElse(null);
-                if (targetProduct == null || targetProduct.getStatus() != Product.ProductStatus.ACTIVE) {
-                    continue;
+        // 2~4 동안 실시간 갱신기는 증가분을 보류 (저장 중 더한 증가분을 upsert 가 덮어쓰지 않도록)
+        productAssociationWriter.beginRecalculation(MAX_RECALCULATION_TIME);
+        int written;
+        try {
+            // 2. 조회 이력 한 번 순차 조회로 상품 쌍별 함께 조회 건수 계산 (정확/근사)
+            LocalDateTime since30Days = LocalDateTime.now().minusDays(30);
+            List<Long> productIds = new ArrayList<>(categories.keySet());
+            CoViewCounts matrix = approximate
+                ? approximateCoViewCounter.count(since30Days, productIds)
+                : coViewCounter.count(since30Days, productIds);
+
+            // 3. 연관도 점수 계산 (최소 건수 기준은 실시간 갱신기와 같음)
+            List<AssociationRow> rows = new ArrayList<>(matrix.pairCount());
+            matrix.forEachPair((sourceId, targetId, sessionCount, userCount) -> {
+                int sameSessionCount = sessionCount >= ProductAssociation.MIN_SESSION_CO_VIEWS ? sessionCount : 0;
+                int totalCoViewCount = sameSessionCount + userCount;
+                if (totalCoViewCount < ProductAssociation.MIN_TOTAL_CO_VIEWS) {
+                    return;
                 }
-                
-                // 기존 연관도 조회 또는 새로 생성
-                ProductAssociation association = productAssociationRepository
-                    .findBySourceProductIdAndTargetProductId(sourceProductId, targetProductId)
-                    .orElseGet(() -> new ProductAssociation(sourceProduct, targetProduct));
-                
-                // 연관도 데이터 업데이트
-                association.incrementCoViewCount(
-                    data.getSameSessionCount() > 0, 
-                    data.getSameUserCount() > 0
-                );
-                
-                // 점수 계산 및 업데이트
-                BigDecimal newScore = calculateAssociationScore(association, data);
-                association.updateAssociationScore(newScore);
-                
-                // 저장
-                productAssociationRepository.save(association);
-                updatedCount++;
-                
-            } catch (Exception e) {
-                log.error("연관도 업데이트 실패: sourceId={}, targetId={}, error={}", 
-                         sourceProductId, targetProductId, e.getMessage());
-            }
-        }
-        
-        return updatedCount;
-    }
-
-    /**
-     * 연관도 점수 계산
-     */
-    private BigDecimal calculateAssociationScore(ProductAssociation association, AssociationData data) {
-        double baseScore = data.getTotalCoViewCount();
-        double sessionBonus = data.getSameSessionCount() * 2.0;
-        double userBonus = data.getSameUserCount() * 1.5;
-        
-        // 시간 보너스 (최근 30일 내)
-        double timeBonus = baseScore * 0.2;
-        
-        // 카테고리 보너스
-        double categoryBonus = 0.0;
-        if (association.getSourceProduct().getCategory() != null && 
-            association.getTargetProduct().getCategory() != null &&
-            association.getSourceProduct().getCategory().equals(
-                association.getTargetProduct().getCategory())) {
-            categoryBonus = baseScore * 0.1;
+                boolean sameCategory = Objects.equals(categories.get(sourceId), categories.get(targetId));
+                BigDecimal score = ProductAssociation.calculateScore(
+                    totalCoViewCount, sameSessionCount, userCount, true, sameCategory);
+                rows.add(new AssociationRow(sourceId, targetId, score, totalCoViewCount, sameSessionCount, userCount));
+            });
+
+            // 4. 배치 단위 일괄 저장
+            written = productAssociationWriter.upsert(rows);
+        } finally {
+            productAssociationWriter.endRecalculation();
         }
-        
-        double totalScore = baseScore + sessionBonus + userBonus + timeBonus + categoryBonus;
-        return BigDecimal.valueOf(Math.min(totalScore, 100.0));
+        log.info("생성/업데이트된 연관도: {}", written);
+        eventPublisher.publishEvent(new ProductAssociationsUpdatedEvent(written));
     }
 
     /**
      * 오래되고 연관도가 낮은 데이터 정리 (매주 일요일 새벽 4시)
      */
     @Scheduled(cron = "0 0 4 * * 0") // 매주 일요일 새벽 4시
+    @LeaderOnly
     @Async
     public CompletableFuture<Void> cleanupOldAssociations() {
         log.info("=== 오래된 연관도 데이터 정리 배치 작업 시작 ===");
@@ -235,27 +193,4 @@ public class ProductAssociationBatchService {
         log.info("=== 오래된 연관도 데이터 정리 배치 작업 완료 ===");
         return CompletableFuture.completedFuture(null);
     }
-
-    /**
-     * 연관도 데이터 임시 저장용 클래스
-     */
-    private static class AssociationData {
-        private int sameSessionCount = 0;
-        private int sameUserCount = 0;
-        private int totalCoViewCount = 0;
-        
-        public void addSessionCoView(int count) {
-            this.sameSessionCount += count;
-            this.totalCoViewCount += count;
-        }
-        
-        public void addUserCoView(int count) {
-            this.sameUserCount += count;
-            this.totalCoViewCount += count;
-        }
-        
-        public int getSameSessionCount() { return sameSessionCount; }
-        public int getSameUserCount() { return sameUserCount; }
-        public int getTotalCoViewCount() { return totalCoViewCount; }
-    }
-}
\ No newline at end of file
+}
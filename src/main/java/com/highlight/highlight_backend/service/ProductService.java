@@ -5,17 +5,22 @@ import com.highlight.highlight_backend.dto.ProductCreateRequestDto;
 import com.highlight.highlight_backend.dto.ProductResponseDto;
 import com.highlight.highlight_backend.dto.ProductUpdateRequestDto;
 import com.highlight.highlight_backend.dto.ViewTogetherProductResponseDto;
+import com.highlight.highlight_backend.event.ProductChangedEvent;
 import com.highlight.highlight_backend.exception.BusinessException;
 import com.highlight.highlight_backend.exception.ProductErrorCode;
 import com.highlight.highlight_backend.exception.AdminErrorCode;
 import com.highlight.highlight_backend.repository.*;
+import com.highlight.highlight_backend.service.association.ViewTogetherCache;
+import com.highlight.highlight_backend.service.view.ProductViewRecorder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
@@ -53,7 +58,9 @@ public class ProductService {
     private final UserProductViewRepository userProductViewRepository;
     private final ProductAssociationRepository productAssociationRepository;
     private final AuctionRepository auctionRepository;
-    private final BidRepository bidRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ProductViewRecorder productViewRecorder;
+    private final ViewTogetherCache viewTogetherCache;
     
     /**
      * 상품 등록
@@ -194,6 +201,7 @@ public class ProductService {
         }
         
         Product updatedProduct = productRepository.save(product);
+        eventPublisher.publishEvent(new ProductChangedEvent(productId));
         
         log.info("상품 수정 완료: {} (ID: {})", updatedProduct.getProductName(), updatedProduct.getId());
         
@@ -255,6 +263,7 @@ public class ProductService {
         }
         
         productRepository.delete(product);
+        eventPublisher.publishEvent(new ProductChangedEvent(productId));
         
         log.info("상품 삭제 완료: {} (ID: {})", product.getProductName(), product.getId());
     }
@@ -292,6 +301,7 @@ public class ProductService {
 
     /**
      * 상품 조회 이력 저장
+     * 중복 제거와 저장은 ProductViewRecorder 가 메모리 캐시와 배치 INSERT 로 처리하므로 DB를 거치지 않고 바로 반환합니다.
      * 
      * @param productId 조회한 상품 ID
      * @param userId 사용자 ID (비회원일 경우 null)
@@ -299,55 +309,27 @@ public class ProductService {
      * @param ipAddress IP 주소
      * @param userAgent User-Agent 정보
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void recordProductView(Long productId, Long userId, String sessionId, 
                                   String ipAddress, String userAgent) {
-        try {
-            // 1. 상품 존재 확인
-            Product product = productRepository.findById(productId)
-                .orElse(null);
-            
-            if (product == null) {
-                log.warn("존재하지 않는 상품 조회 시도: {}", productId);
-                return;
-            }
-
-            // 2. 중복 조회 방지 (30분 이내 동일 상품 조회는 무시)
-            var recentView = userProductViewRepository.findRecentViewByUserOrSessionAndProduct(
-                userId, sessionId, productId, LocalDateTime.now().minusMinutes(30)
-            );
-            
-            if (recentView.isPresent()) {
-                log.debug("최근 조회 기록이 존재하여 중복 저장 방지: productId={}, userId={}, sessionId={}", 
-                         productId, userId, sessionId);
-                return;
-            }
-
-            // 3. 조회 이력 저장
-            UserProductView productView = new UserProductView(
-                userId, sessionId, product, ipAddress, userAgent
-            );
-            
-            userProductViewRepository.save(productView);
-            
-            log.debug("상품 조회 이력 저장 완료: productId={}, userId={}, sessionId={}", 
-                     productId, userId, sessionId);
-                     
-        } catch (Exception e) {
-            // 조회 이력 저장 실패가 상품 조회 자체를 방해하지 않도록 예외 처리
-            log.error("상품 조회 이력 저장 실패: productId={}, error={}", productId, e.getMessage(), e);
-        }
+        productViewRecorder.record(productId, userId, sessionId, ipAddress, userAgent);
     }
 
     /**
      * 함께 본 상품 추천 조회
+     * 미리 계산된 추천 캐시(ViewTogetherCache)로 응답할 수 있으면 DB를 거치지 않고 바로 반환하며,
+     * 첫 구성 전이거나 캐시에 없는 상품(연관도 행이 없어 실시간 연관도 계산이 필요한 상품 포함)이면 아래 DB 조회로 처리합니다.
      * 
      * @param productId 기준 상품 ID
      * @param size 추천 상품 개수 (기본값: 4)
      * @return 함께 본 상품 목록
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Page<ViewTogetherProductResponseDto> getViewedTogetherProducts(Long productId, int size) {
-
+        List<ViewTogetherProductResponseDto> cached = viewTogetherCache.find(productId, size).orElse(null);
+        if (cached != null) {
+            return new PageImpl<>(cached, PageRequest.of(0, size), cached.size());
+        }
         
         try {
             // 1. 기준 상품 존재 확인
@@ -406,8 +388,8 @@ public class ProductService {
                 .map(association -> {
                     Product targetProduct = association.getTargetProduct();
                     Auction activeAuction = auctionRepository.findActiveAuctionByProductId(targetProduct.getId()).orElse(null);
-                    // 사용자별 최신 입찰 수 계산
-                    Integer bidCount = activeAuction != null ? bidRepository.countBidsByAuction(activeAuction).intValue() : 0;
+                    // 사용자별 최신 입찰 수 (증분 갱신 값)
+                    Integer bidCount = activeAuction != null ? activeAuction.getTotalBids() : 0;
                     return ViewTogetherProductResponseDto.fromProductWithCalculatedCount(targetProduct, activeAuction, association.getAssociationScore(), bidCount);
                 })
                 .toList();
@@ -468,8 +450,8 @@ public class ProductService {
                     if (hasAuction) {
                         Auction activeAuction = auctionRepository.findActiveAuctionByProductId(targetProductId).orElse(null);
                         BigDecimal score = BigDecimal.valueOf(productScores.get(targetProductId));
-                        // 사용자별 최신 입찰 수 계산
-                        Integer bidCount = activeAuction != null ? bidRepository.countBidsByAuction(activeAuction).intValue() : 0;
+                        // 사용자별 최신 입찰 수 (증분 갱신 값)
+                        Integer bidCount = activeAuction != null ? activeAuction.getTotalBids() : 0;
                         recommendations.add(ViewTogetherProductResponseDto.fromProductWithCalculatedCount(product, activeAuction, score, bidCount));
                     }
                 }
@@ -517,7 +499,7 @@ public class ProductService {
             
             if (activeAuction != null) {
                 // 진행 중인 경매가 있는 상품 우선 추가
-                Integer bidCount = bidRepository.countBidsByAuction(activeAuction).intValue();
+                Integer bidCount = activeAuction.getTotalBids();
                 ViewTogetherProductResponseDto dto = ViewTogetherProductResponseDto.fromProductWithCalculatedCount(product, activeAuction, BigDecimal.ZERO, bidCount);
                 recommendations.add(dto);
                 
@@ -528,7 +510,7 @@ public class ProductService {
                 // 진행 중인 경매가 없으면 예약된 경매 확인
                 Auction scheduledAuction = auctionRepository.findActiveOrScheduledAuctionByProductId(product.getId()).orElse(null);
                 if (scheduledAuction != null) {
-                    Integer bidCount = bidRepository.countBidsByAuction(scheduledAuction).intValue();
+                    Integer bidCount = scheduledAuction.getTotalBids();
                     ViewTogetherProductResponseDto dto = ViewTogetherProductResponseDto.fromProductWithCalculatedCount(product, scheduledAuction, BigDecimal.ZERO, bidCount);
                     scheduledRecommendations.add(dto);
                 }
@@ -557,7 +539,7 @@ public class ProductService {
                 
                 Auction activeAuction = auctionRepository.findActiveAuctionByProductId(product.getId()).orElse(null);
                 if (activeAuction != null) {
-                    Integer bidCount = bidRepository.countBidsByAuction(activeAuction).intValue();
+                    Integer bidCount = activeAuction.getTotalBids();
                     ViewTogetherProductResponseDto dto = ViewTogetherProductResponseDto.fromProductWithCalculatedCount(product, activeAuction, BigDecimal.ZERO, bidCount);
                     recommendations.add(dto);
                     
@@ -567,7 +549,7 @@ public class ProductService {
                 } else {
                     Auction scheduledAuction = auctionRepository.findActiveOrScheduledAuctionByProductId(product.getId()).orElse(null);
                     if (scheduledAuction != null) {
-                        Integer bidCount = bidRepository.countBidsByAuction(scheduledAuction).intValue();
+                        Integer bidCount = scheduledAuction.getTotalBids();
                         ViewTogetherProductResponseDto dto = ViewTogetherProductResponseDto.fromProductWithCalculatedCount(product, scheduledAuction, BigDecimal.ZERO, bidCount);
                         recommendations.add(dto);
                         
@@ -627,6 +609,7 @@ public class ProductService {
         
         // 저장
         Product savedProduct = productRepository.save(product);
+        eventPublisher.publishEvent(new ProductChangedEvent(productId));
         
         log.info("상품 프리미엄 설정 완료: {} (ID: {}, 프리미엄: {})", 
                 savedProduct.getProductName(), savedProduct.getId(), isPremium);
@@ -836,6 +819,7 @@ public class ProductService {
         }
         
         productRepository.save(product);
+        eventPublisher.publishEvent(new ProductChangedEvent(productId));
         
         log.info("상품 이미지 업로드 완료: {} 개 파일", imageUrls.size());
         return imageUrls;
@@ -874,6 +858,7 @@ public class ProductService {
         // DB에서 이미지 삭제
         product.removeImage(productImage);
         productImageRepository.delete(productImage);
+        eventPublisher.publishEvent(new ProductChangedEvent(productId));
         
         log.info("상품 이미지 삭제 완료: 이미지ID={}", imageId);
     }
@@ -4,8 +4,8 @@ import com.highlight.highlight_backend.domain.Auction;
 import com.highlight.highlight_backend.dto.UserAuctionDetailResponseDto;
 import com.highlight.highlight_backend.dto.UserAuctionResponseDto;
 import com.highlight.highlight_backend.repository.user.UserAuctionRepository;
-import com.highlight.highlight_backend.repository.BidRepository;
 import com.highlight.highlight_backend.repository.spec.AuctionSpecs; // import 추가
+import com.highlight.highlight_backend.service.search.AuctionSearchIndex;
 import lombok.RequiredArgsConstructor; // AllArgsConstructor 대신 사용
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -32,10 +32,11 @@ import java.math.RoundingMode;
 public class UserAuctionSearchService {
 
     private final UserAuctionRepository userAuctionRepository;
-    private final BidRepository bidRepository;
+    private final AuctionSearchIndex auctionSearchIndex;
 
     /**
      * 필터링, 정렬할 값을 가져오고 정렬한다.
+     * 검색 인덱스가 준비되어 있으면 메모리에서 처리하고 (필터 항목별 건수 facets 포함), 아니면
      * JapRepository 에서 Specification 을 이용하여 필터링
      * @return UserAuctionResponseDto 반환
      */
@@ -44,8 +45,14 @@ public class UserAuctionSearchService {
             String category, Long minPrice, Long maxPrice, String brand, String eventName,
             Boolean isPremium, String status, String sortCode, Pageable pageable) {
 
+        if (auctionSearchIndex.isReady()) {
+            return auctionSearchIndex.search(category, minPrice, maxPrice, brand, eventName,
+                    isPremium, status, sortCode, pageable);
+        }
+
         // 1. Specification 조합 -> Where 문을 동적으로 만듦
-        Specification<Auction> spec = Specification.where(null);
+        // 검색 인덱스와 같은 범위 (예약/진행 중 경매)
+        Specification<Auction> spec = Specification.where(AuctionSpecs.hasStatusIn(AuctionSearchIndex.INDEXED_STATUSES));
 
         if (StringUtils.hasText(category)) {
             spec = spec.and(AuctionSpecs.hasCategory(category));
@@ -75,9 +82,8 @@ public class UserAuctionSearchService {
 
         // 4. DTO로 변환하여 반환 (사용자별 최신 입찰 기준 통계 적용)
         return auctionPage.map(auction -> {
-            // 각 경매의 실제 입찰 수를 계산 (사용자별 최신 기준)
-            Long bidCount = bidRepository.countBidsByAuction(auction);
-            return UserAuctionResponseDto.fromWithCalculatedCount(auction, bidCount.intValue());
+            // 입찰 저장 시 증분 갱신된 입찰 수 사용 (사용자별 최신 기준)
+            return UserAuctionResponseDto.fromWithCalculatedCount(auction, auction.getTotalBids());
         });
     }
 
@@ -88,7 +94,7 @@ public class UserAuctionSearchService {
 
         switch (sortCode.toLowerCase()) {
             case "ending": // 마감임박순
-                return Sort.by(Sort.Direction.ASC, "endTime");
+                return Sort.by(Sort.Direction.ASC, "scheduledEndTime");
             case "popular": // 인기순 (예: 입찰 수 기준)
                 return Sort.by(Sort.Direction.DESC, "totalBids");
             case "newest": // 신규순
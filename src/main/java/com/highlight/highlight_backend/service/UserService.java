@@ -7,12 +7,10 @@ import com.highlight.highlight_backend.exception.UserErrorCode;
 import com.highlight.highlight_backend.exception.SmsErrorCode;
 import com.highlight.highlight_backend.repository.*;
 import com.highlight.highlight_backend.repository.user.UserRepository;
+import com.highlight.highlight_backend.service.sms.SmsGateway;
 import com.highlight.highlight_backend.util.JwtUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import net.nurigo.java_sdk.api.Message;
-import net.nurigo.java_sdk.exceptions.CoolsmsException;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -20,7 +18,6 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Random;
 
@@ -42,14 +39,7 @@ public class UserService {
     private final ProductRepository productRepository;
     private final BidRepository bidRepository;
 
-    @Value("${coolsms.api.key}")
-    private String apiKey;
-
-    @Value("${coolsms.api.secret}")
-    private String apiSecret;
-
-    @Value("${coolsms.from-number}")
-    private String fromPhoneNumber;
+    private final SmsGateway smsGateway;
 
 
     @Transactional
@@ -105,28 +95,26 @@ public class UserService {
             throw new BusinessException(UserErrorCode.PHONE_NUMBER_ALREADY_EXISTS);
         }
 
+        // SMS 제공자 장애 중이면 인증번호를 만들지 않고 바로 실패
+        if (!smsGateway.isAvailable()) {
+            throw new BusinessException(SmsErrorCode.SMS_PROVIDER_UNAVAILABLE);
+        }
+
         String verificationCode = createRandomCode();
 
         // DB에 인증번호와 만료 시간 저장 (기존에 있어도 덮어쓰기)
         PhoneVerification verification = new PhoneVerification(phoneNumber, verificationCode);
         phoneVerificationRepository.save(verification);
 
-        // SMS 발송 로직 (수정: user 객체 대신 phoneNumber 변수 사용)
-        Message coolsms = new Message(apiKey, apiSecret);
-        HashMap<String, String> params = new HashMap<>();
-        params.put("to", phoneNumber);
-        params.put("from", fromPhoneNumber);
-        params.put("type", "SMS");
-        params.put("text", "nafal 회원가입 인증번호 " + verificationCode + " 를 입력해주세요.");
-
-        try {
-            coolsms.send(params);
-        } catch (CoolsmsException e) {
-            log.error("SMS 발송 실패: {}", e.getMessage());
-            throw new BusinessException(SmsErrorCode.SMS_SEND_FAILED);
-        }
+        // SMS 발송 요청 (커밋 후 게이트웨이에서 비동기 발송, 응답은 발송 완료를 기다리지 않음)
+        smsGateway.send(phoneNumber, "nafal 회원가입 인증번호 " + verificationCode + " 를 입력해주세요.")
+            .whenComplete((result, error) -> {
+                if (error != null) {
+                    log.error("회원가입용 인증번호 SMS 발송 실패: {}, 오류={}", phoneNumber, error.getMessage());
+                }
+            });
 
-        log.info("회원가입용 인증번호 발송: {}", phoneNumber);
+        log.info("회원가입용 인증번호 발송 요청: {}", phoneNumber);
     }
 
     /**
@@ -2,6 +2,7 @@ package com.highlight.highlight_backend.service;
 
 import com.highlight.highlight_backend.domain.Auction;
 import com.highlight.highlight_backend.domain.Bid;
+import com.highlight.highlight_backend.dto.websocket.AuctionCountdownWebSocketDto;
 import com.highlight.highlight_backend.dto.websocket.AuctionStatusWebSocketDto;
 import com.highlight.highlight_backend.dto.websocket.BidOutbidNotificationDto;
 import com.highlight.highlight_backend.dto.websocket.BidWebSocketDto;
@@ -10,6 +11,7 @@ import com.highlight.highlight_backend.dto.websocket.WebSocketMessageDto.WebSock
 import com.highlight.highlight_backend.exception.CommonErrorCode;
 import com.highlight.highlight_backend.exception.ErrorCode;
 import com.highlight.highlight_backend.repository.BidRepository;
+import com.highlight.highlight_backend.service.notification.UserNotificationInbox;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
@@ -32,7 +34,9 @@ import java.util.Optional;
 public class WebSocketService {
     
     private final SimpMessagingTemplate messagingTemplate;
+    private final AuctionTopicPublisher auctionTopicPublisher;
     private final BidRepository bidRepository;
+    private final UserNotificationInbox userNotificationInbox;
     
     /**
      * 새로운 입찰 발생 알림
@@ -46,8 +50,8 @@ public class WebSocketService {
             //         auctionId, bid.getUser().getNickname(), bid.getBidAmount());
             
             // 입찰 통계 조회
-            Long totalBidders = bidRepository.countDistinctBiddersByAuction(bid.getAuction());
-            Long totalBids = bidRepository.countBidsByAuction(bid.getAuction());
+            Long totalBidders = bid.getAuction().getTotalBidders().longValue();
+            Long totalBids = bid.getAuction().getTotalBids().longValue();
             
             // WebSocket 메시지 데이터 생성
             BidWebSocketDto bidData = BidWebSocketDto.from(bid, totalBidders, totalBids);
@@ -58,8 +62,7 @@ public class WebSocketService {
             );
             
             // 해당 경매를 구독하고 있는 모든 클라이언트에게 브로드캐스트
-            String destination = "/topic/auction/" + auctionId;
-            messagingTemplate.convertAndSend(destination, message);
+            auctionTopicPublisher.publish(auctionId, message);
             
             // log.info("WebSocket - 새 입찰 알림 전송 완료: {}", destination);
         } catch (Exception e) {
@@ -79,12 +82,12 @@ public class WebSocketService {
         //         auctionId, auction.getStatus());
         
         // 입찰 통계 조회
-        Long totalBidders = bidRepository.countDistinctBiddersByAuction(auction);
-        Long totalBids = bidRepository.countBidsByAuction(auction);
+        Long totalBidders = auction.getTotalBidders().longValue();
+        Long totalBids = auction.getTotalBids().longValue();
         
         // 현재 최고 입찰자 조회
         String winnerNickname = null;
-        Optional<Bid> currentWinner = bidRepository.findCurrentHighestBidByAuction(auction);
+        Optional<Bid> currentWinner = bidRepository.findWinnerBidByAuction(auction);
         if (currentWinner.isPresent()) {
             winnerNickname = currentWinner.get().getUser().getNickname();
         }
@@ -100,12 +103,27 @@ public class WebSocketService {
         );
         
         // 브로드캐스트
-        String destination = "/topic/auction/" + auctionId;
-        messagingTemplate.convertAndSend(destination, message);
+        auctionTopicPublisher.publish(auctionId, message);
         
         // log.info("WebSocket - 경매 상태 업데이트 전송 완료: {}", destination);
     }
     
+    /**
+     * 경매 카운트다운 전송 (남은 시간만 포함, DB 조회 없음)
+     * 
+     * @param auctionId 경매 ID
+     * @param remainingSeconds 남은 시간 (초)
+     */
+    public void sendCountdownUpdate(Long auctionId, long remainingSeconds) {
+        WebSocketMessageDto message = WebSocketMessageDto.of(
+            WebSocketMessageType.AUCTION_COUNTDOWN, 
+            auctionId, 
+            new AuctionCountdownWebSocketDto(auctionId, remainingSeconds)
+        );
+        
+        auctionTopicPublisher.publish(auctionId, message);
+    }
+    
     /**
      * 경매 시작 알림
      * 
@@ -121,8 +139,7 @@ public class WebSocketService {
             "경매가 시작되었습니다."
         );
         
-        String destination = "/topic/auction/" + auctionId;
-        messagingTemplate.convertAndSend(destination, message);
+        auctionTopicPublisher.publish(auctionId, message);
         
         // 전체 경매 목록 구독자에게도 알림
         messagingTemplate.convertAndSend("/topic/auctions", message);
@@ -151,8 +168,7 @@ public class WebSocketService {
             endMessage
         );
         
-        String destination = "/topic/auction/" + auctionId;
-        messagingTemplate.convertAndSend(destination, message);
+        auctionTopicPublisher.publish(auctionId, message);
         
         // 전체 경매 목록 구독자에게도 알림
         messagingTemplate.convertAndSend("/topic/auctions", message);
@@ -185,8 +201,8 @@ public class WebSocketService {
                 outbidBid.getUser(), outbidBid.getAuction());
             
             // 입찰 통계 조회
-            Long totalBidders = bidRepository.countDistinctBiddersByAuction(outbidBid.getAuction());
-            Long totalBids = bidRepository.countBidsByAuction(outbidBid.getAuction());
+            Long totalBidders = outbidBid.getAuction().getTotalBidders().longValue();
+            Long totalBids = outbidBid.getAuction().getTotalBids().longValue();
             
             // 강화된 알림 데이터 생성
             BidOutbidNotificationDto notificationData = BidOutbidNotificationDto.from(
@@ -198,9 +214,10 @@ public class WebSocketService {
                 notificationData
             );
             
-            // 특정 사용자에게만 전송
-            String destination = "/queue/user/" + outbidBid.getUser().getId() + "/notifications";
-            messagingTemplate.convertAndSend(destination, message);
+            // 개인 알림함에 저장 후 특정 사용자에게만 전송 (재연결 시 재전송)
+            Long userId = outbidBid.getUser().getId();
+            String destination = "/queue/user/" + userId + "/notifications";
+            messagingTemplate.convertAndSend(destination, userNotificationInbox.append(userId, message));
             
             // log.info("WebSocket - 강화된 입찰 경합 패배 알림 전송 완료: 사용자={}, 연속패배={}", 
             //         outbidBid.getUser().getId(), consecutiveLosses);
@@ -229,7 +246,7 @@ public class WebSocketService {
     }
     
     /**
-     * 개인 알림 전송
+     * 개인 알림 전송 (개인 알림함에 저장되어 순번이 붙음)
      * 
      * @param userId 사용자 ID
      * @param message 알림 메시지
@@ -244,13 +261,30 @@ public class WebSocketService {
             message
         );
         
-        // 특정 사용자에게만 전송
+        // 개인 알림함에 저장 후 특정 사용자에게만 전송 (재연결 시 재전송)
         String destination = "/queue/user/" + userId + "/notifications";
-        messagingTemplate.convertAndSend(destination, notification);
+        messagingTemplate.convertAndSend(destination, userNotificationInbox.append(userId, notification));
         
         // log.info("WebSocket - 개인 알림 전송 완료: {}", destination);
     }
-    
+
+    /**
+     * 경매 시작 알림 신청자에게 개인 알림 전송
+     *
+     * @param userId 사용자 ID
+     * @param auctionId 시작된 경매 ID
+     * @param message 알림 메시지
+     */
+    public void sendAuctionStartReminder(Long userId, Long auctionId, String message) {
+        WebSocketMessageDto notification = WebSocketMessageDto.of(
+            WebSocketMessageType.AUCTION_STARTED,
+            auctionId,
+            message
+        );
+
+        messagingTemplate.convertAndSend("/queue/user/" + userId + "/notifications", notification);
+    }
+
     /**
      * 연결 성공 확인 메시지
      * 
@@ -266,8 +300,7 @@ public class WebSocketService {
                 "WebSocket 연결이 성공적으로 설정되었습니다."
             );
             
-            String destination = "/topic/auction/" + auctionId;
-            messagingTemplate.convertAndSend(destination, message);
+            auctionTopicPublisher.publish(auctionId, message);
         } catch (Exception e) {
             log.error("WebSocket - 연결 성공 메시지 전송 실패: 경매={}, 에러={}", auctionId, e.getMessage());
             sendErrorMessage(auctionId, CommonErrorCode.WEBSOCKET_CONNECTION_FAILED.getMessage());
@@ -290,8 +323,7 @@ public class WebSocketService {
                 errorMessage
             );
             
-            String destination = "/topic/auction/" + auctionId;
-            messagingTemplate.convertAndSend(destination, message);
+            auctionTopicPublisher.publish(auctionId, message);
         } catch (Exception e) {
             log.error("WebSocket - 에러 메시지 전송 실패: 경매={}, 원본에러={}, 전송에러={}", 
                     auctionId, errorMessage, e.getMessage());
@@ -305,7 +337,16 @@ public class WebSocketService {
      * @param remainingSeconds 남은 시간 (초)
      */
     public void sendEndingSoonAlert(Auction auction, long remainingSeconds) {
-        Long auctionId = auction.getId();
+        sendEndingSoonAlert(auction.getId(), remainingSeconds);
+    }
+    
+    /**
+     * 경매 종료 임박 알림 (1분 이내)
+     * 
+     * @param auctionId 종료 임박 경매 ID
+     * @param remainingSeconds 남은 시간 (초)
+     */
+    public void sendEndingSoonAlert(Long auctionId, long remainingSeconds) {
         // log.info("WebSocket - 경매 종료 임박 알림 전송: 경매={}, 남은시간={}초", auctionId, remainingSeconds);
         
         String alertMessage = String.format("경매가 %d초 후 종료됩니다!", remainingSeconds);
@@ -316,8 +357,7 @@ public class WebSocketService {
             alertMessage
         );
         
-        String destination = "/topic/auction/" + auctionId;
-        messagingTemplate.convertAndSend(destination, message);
+        auctionTopicPublisher.publish(auctionId, message);
         
         // log.info("WebSocket - 경매 종료 임박 알림 전송 완료: {}", destination);
     }
@@ -337,8 +377,7 @@ public class WebSocketService {
             "경매가 취소되었습니다"
         );
         
-        String destination = "/topic/auction/" + auctionId;
-        messagingTemplate.convertAndSend(destination, message);
+        auctionTopicPublisher.publish(auctionId, message);
         
         // log.info("WebSocket - 경매 취소 알림 전송 완료: {}", destination);
     }
@@ -358,8 +397,7 @@ public class WebSocketService {
             "경매 정보가 수정되었습니다"
         );
         
-        String destination = "/topic/auction/" + auctionId;
-        messagingTemplate.convertAndSend(destination, message);
+        auctionTopicPublisher.publish(auctionId, message);
         
         // log.info("WebSocket - 경매 정보 수정 알림 전송 완료: {}", destination);
     }
@@ -378,8 +416,7 @@ public class WebSocketService {
             "연결이 끊어졌어요"
         );
         
-        String destination = "/topic/auction/" + auctionId;
-        messagingTemplate.convertAndSend(destination, message);
+        auctionTopicPublisher.publish(auctionId, message);
         
         // log.info("WebSocket - 연결 끊김 알림 전송 완료: {}", destination);
     }
@@ -411,8 +448,7 @@ public class WebSocketService {
             message
         );
         
-        String destination = "/topic/auction/" + auctionId;
-        messagingTemplate.convertAndSend(destination, webSocketMessage);
+        auctionTopicPublisher.publish(auctionId, webSocketMessage);
         
         // log.info("WebSocket - 결제 필요 알림 전송 완료: {}", destination);
     }
@@ -434,8 +470,7 @@ public class WebSocketService {
             message
         );
         
-        String destination = "/topic/auction/" + auctionId;
-        messagingTemplate.convertAndSend(destination, webSocketMessage);
+        auctionTopicPublisher.publish(auctionId, webSocketMessage);
         
         // log.info("WebSocket - 결제 완료 알림 전송 완료: {}", destination);
     }
@@ -457,8 +492,7 @@ public class WebSocketService {
             message
         );
         
-        String destination = "/topic/auction/" + auctionId;
-        messagingTemplate.convertAndSend(destination, webSocketMessage);
+        auctionTopicPublisher.publish(auctionId, webSocketMessage);
         
         // log.info("WebSocket - 즉시 구매 완료 알림 전송 완료: {}", destination);
     }
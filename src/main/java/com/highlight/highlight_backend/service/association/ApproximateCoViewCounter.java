@@ -0,0 +1,145 @@
+package com.highlight.highlight_backend.service.association;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상품 함께 조회 건수 근사 계산 엔진 (메모리 상한 모드)
+ *
+ * CoViewCounter 와 같은 창 기준(세션 60분, 회원 24시간)으로 조회 이력을 시간 순으로 한 번 읽되,
+ * 조회 이력과 상품 쌍 건수를 모두 보관하지 않고 다음만 유지합니다.
+ * - 세션/회원별 최근 조회 창 (CoViewWindows, 키당 조회 수와 키 수 상한)
+ * - 세션/사용자 쌍 빈도 Count-Min Sketch (오차 ε × 전체 쌍 수, 확률 1 - δ)
+ * - 기준 상품별 연관 상품 Space-Saving 상위 K (상품 수 × 2K 항목)
+ * 따라서 메모리는 상품 수와 설정값에만 비례하고 조회량/쌍 수와 무관합니다.
+ * product.association.mode=approximate 일 때 연관도 배치가 사용합니다.
+ *
+ * @author 전우선
+ * @since 2025.08.20
+ */
+@Slf4j
+@Component
+public class ApproximateCoViewCounter {
+
+    /**
+     * 창을 벗어난 세션/회원 정리 주기 (읽은 조회 이력 수)
+     */
+    private static final int EVICT_EVERY_ROWS = 10_000;
+
+    private static final String SCAN_VIEWS_SQL =
+            "SELECT session_id, user_id, product_id, viewed_at FROM user_product_views " +
+            "WHERE viewed_at >= ? ORDER BY viewed_at";
+
+    private final JdbcTemplate scanJdbcTemplate;
+    private final double epsilon;
+    private final double delta;
+    private final int topK;
+    private final int maxWindowViews;
+    private final int maxKeys;
+
+    public ApproximateCoViewCounter(JdbcTemplate jdbcTemplate,
+                                    @Value("${product.association.approximate.epsilon:0.0001}") double epsilon,
+                                    @Value("${product.association.approximate.delta:0.01}") double delta,
+                                    @Value("${product.association.approximate.top-k:20}") int topK,
+                                    @Value("${product.association.approximate.max-window-views:50}") int maxWindowViews,
+                                    @Value("${product.association.approximate.max-keys:200000}") int maxKeys,
+                                    @Value("${product.association.stream-results:true}") boolean streamResults) {
+        this.scanJdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        if (streamResults) {
+            this.scanJdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+        }
+        this.epsilon = epsilon;
+        this.delta = delta;
+        this.topK = Math.max(1, topK);
+        this.maxWindowViews = maxWindowViews;
+        this.maxKeys = maxKeys;
+    }
+
+    /**
+     * 기간 내 조회 이력으로 상품 쌍별 함께 조회 건수 근사 계산
+     *
+     * @param since 분석 시작 시간
+     * @param productIds 대상 상품 ID (이 상품들 사이의 쌍만 계산)
+     * @return 기준 상품별 상위 K 연관 상품의 근사 건수
+     */
+    public CoViewEstimates count(LocalDateTime since, List<Long> productIds) {
+        long[] ids = productIds.stream().mapToLong(Long::longValue).toArray();
+        Map<Long, Integer> ordinals = new HashMap<>(ids.length * 2);
+        for (int i = 0; i < ids.length; i++) {
+            ordinals.put(ids[i], i);
+        }
+
+        CountMinSketch sessionCounts = new CountMinSketch(epsilon, delta);
+        CountMinSketch userCounts = new CountMinSketch(epsilon, delta);
+        SpaceSavingTopK[] topTargets = new SpaceSavingTopK[ids.length];
+        CoViewWindows<String> sessionWindows = new CoViewWindows<>(
+                CoViewCounter.SESSION_WINDOW.getSeconds(), maxWindowViews, maxKeys);
+        CoViewWindows<Long> userWindows = new CoViewWindows<>(
+                CoViewCounter.USER_WINDOW.getSeconds(), maxWindowViews, maxKeys);
+
+        CoViewWindows.PairSink sessionPairs = (current, previous) -> {
+            sessionCounts.add(LongIntCounter.pair(current, previous), 1);
+            sessionCounts.add(LongIntCounter.pair(previous, current), 1);
+            offer(topTargets, current, previous);
+        };
+        CoViewWindows.PairSink userPairs = (current, previous) -> {
+            userCounts.add(LongIntCounter.pair(current, previous), 1);
+            userCounts.add(LongIntCounter.pair(previous, current), 1);
+            offer(topTargets, current, previous);
+        };
+
+        long[] scanned = {0};
+        scanJdbcTemplate.query(SCAN_VIEWS_SQL, rs -> {
+            Integer product = ordinals.get(rs.getLong("product_id"));
+            long viewedAt = rs.getTimestamp("viewed_at").toLocalDateTime().toEpochSecond(ZoneOffset.UTC);
+            if (++scanned[0] % EVICT_EVERY_ROWS == 0) {
+                sessionWindows.evictIdle(viewedAt);
+                userWindows.evictIdle(viewedAt);
+            }
+            if (product == null) {
+                return;
+            }
+
+            String sessionId = rs.getString("session_id");
+            if (sessionId != null) {
+                sessionWindows.add(sessionId, product, viewedAt, sessionPairs);
+            }
+            long userId = rs.getLong("user_id");
+            if (!rs.wasNull()) {
+                userWindows.add(userId, product, viewedAt, userPairs);
+            }
+        }, Timestamp.valueOf(since));
+
+        log.info("상품 함께 조회 건수 근사 계산 완료: 조회 이력 {}건, 세션 쌍 {}건, 사용자 쌍 {}건, 스케치 {}KB",
+                scanned[0], sessionCounts.total(), userCounts.total(),
+                (sessionCounts.sizeInBytes() + userCounts.sizeInBytes()) / 1024);
+        return new CoViewEstimates(ids, topTargets, sessionCounts, userCounts, topK);
+    }
+
+    /**
+     * 두 상품을 서로의 상위 K 후보로 반영
+     */
+    private void offer(SpaceSavingTopK[] topTargets, int current, int previous) {
+        topTargetsOf(topTargets, current).offer(previous);
+        topTargetsOf(topTargets, previous).offer(current);
+    }
+
+    private SpaceSavingTopK topTargetsOf(SpaceSavingTopK[] topTargets, int product) {
+        SpaceSavingTopK targets = topTargets[product];
+        if (targets == null) {
+            // 여유 용량을 두어 상위 K 의 건수 오차를 줄임
+            targets = new SpaceSavingTopK(topK * 2);
+            topTargets[product] = targets;
+        }
+        return targets;
+    }
+}
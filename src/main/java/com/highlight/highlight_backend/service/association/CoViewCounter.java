@@ -0,0 +1,198 @@
+package com.highlight.highlight_backend.service.association;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 상품 함께 조회 건수 계산 엔진
+ *
+ * 기간 내 조회 이력을 조회 시간 순으로 한 번만 읽으면서 세션/사용자 키 기준으로 파티션에 나눠 담고,
+ * 파티션마다 fork-join 풀에서 병렬로 세션화한 뒤 상품 쌍별 건수를 희소 행렬(LongIntCounter)에 누적해 합칩니다.
+ * - 동일 세션: 같은 세션에서 60분 이내에 조회한 두 상품
+ * - 동일 사용자: 같은 회원이 24시간 이내에 조회한 두 상품
+ * 조회 한 쌍마다 (A, B), (B, A) 양방향으로 1씩 더하며, 이는 기존 자기 조인 쿼리의 COUNT(*) 와 같습니다.
+ *
+ * 한 키에서 시간 창 안의 조회가 너무 많으면(봇 등) 최근 MAX_WINDOW_VIEWS 건과만 짝을 지어
+ * 계산량이 조회 수의 제곱으로 늘지 않게 합니다.
+ *
+ * @author 전우선
+ * @since 2025.08.20
+ */
+@Slf4j
+@Component
+public class CoViewCounter {
+
+    static final Duration SESSION_WINDOW = Duration.ofMinutes(60);
+    static final Duration USER_WINDOW = Duration.ofHours(24);
+
+    /**
+     * 한 조회와 짝을 지을 같은 키의 이전 조회 최대 수
+     */
+    private static final int MAX_WINDOW_VIEWS = 200;
+
+    private static final String SCAN_VIEWS_SQL =
+            "SELECT session_id, user_id, product_id, viewed_at FROM user_product_views " +
+            "WHERE viewed_at >= ? ORDER BY viewed_at";
+
+    private final JdbcTemplate scanJdbcTemplate;
+    private final int parallelism;
+
+    public CoViewCounter(JdbcTemplate jdbcTemplate,
+                         @Value("${product.association.parallelism:0}") int parallelism,
+                         @Value("${product.association.stream-results:true}") boolean streamResults) {
+        // 조회 이력 전체를 메모리에 올리지 않도록 행 단위로 받음 (MySQL 스트리밍 결과)
+        this.scanJdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        if (streamResults) {
+            this.scanJdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+        }
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * 기간 내 조회 이력으로 상품 쌍별 함께 조회 건수 계산
+     *
+     * @param since 분석 시작 시간
+     * @param productIds 대상 상품 ID (이 상품들 사이의 쌍만 계산)
+     * @return 상품 쌍별 건수
+     */
+    public CoViewMatrix count(LocalDateTime since, List<Long> productIds) {
+        long[] ids = productIds.stream().mapToLong(Long::longValue).toArray();
+        Map<Long, Integer> ordinals = new HashMap<>(ids.length * 2);
+        for (int i = 0; i < ids.length; i++) {
+            ordinals.put(ids[i], i);
+        }
+
+        int partitionCount = parallelism * 4;
+        ViewPartition[] sessionPartitions = newPartitions(partitionCount);
+        ViewPartition[] userPartitions = newPartitions(partitionCount);
+        Map<String, Integer> sessionKeys = new HashMap<>();
+        Map<Long, Integer> userKeys = new HashMap<>();
+        long[] scanned = {0};
+
+        // 1. 한 번의 순차 조회로 파티션 분배
+        scanJdbcTemplate.query(SCAN_VIEWS_SQL, rs -> {
+            scanned[0]++;
+            Integer product = ordinals.get(rs.getLong("product_id"));
+            if (product == null) {
+                return;
+            }
+            long viewedAt = rs.getTimestamp("viewed_at").toLocalDateTime().toEpochSecond(ZoneOffset.UTC);
+
+            String sessionId = rs.getString("session_id");
+            if (sessionId != null) {
+                int key = sessionKeys.computeIfAbsent(sessionId, k -> sessionKeys.size());
+                sessionPartitions[Math.floorMod(key, partitionCount)].add(key, product, viewedAt);
+            }
+            long userId = rs.getLong("user_id");
+            if (!rs.wasNull()) {
+                int key = userKeys.computeIfAbsent(userId, k -> userKeys.size());
+                userPartitions[Math.floorMod(key, partitionCount)].add(key, product, viewedAt);
+            }
+        }, Timestamp.valueOf(since));
+
+        // 2. 파티션별 병렬 세션화 + 쌍 건수 누적
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            LongIntCounter sessionCounts = pool.submit(() -> countPairs(sessionPartitions, SESSION_WINDOW)).get();
+            LongIntCounter userCounts = pool.submit(() -> countPairs(userPartitions, USER_WINDOW)).get();
+
+            log.info("상품 함께 조회 건수 계산 완료: 조회 이력 {}건, 세션 {}개, 사용자 {}명, 세션 쌍 {}개, 사용자 쌍 {}개",
+                    scanned[0], sessionKeys.size(), userKeys.size(), sessionCounts.size(), userCounts.size());
+            return new CoViewMatrix(ids, sessionCounts, userCounts);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("상품 함께 조회 건수 계산이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("상품 함께 조회 건수 계산 실패", e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static LongIntCounter countPairs(ViewPartition[] partitions, Duration window) {
+        long windowSeconds = window.getSeconds();
+        return Arrays.stream(partitions)
+                .parallel()
+                .map(partition -> partition.countPairs(windowSeconds))
+                .reduce(LongIntCounter::addAll)
+                .orElseGet(LongIntCounter::new);
+    }
+
+    private static ViewPartition[] newPartitions(int count) {
+        ViewPartition[] partitions = new ViewPartition[count];
+        for (int i = 0; i < count; i++) {
+            partitions[i] = new ViewPartition();
+        }
+        return partitions;
+    }
+
+    /**
+     * 파티션 하나의 조회 이력 (조회 시간 순, 기본형 배열)
+     */
+    static final class ViewPartition {
+
+        private int[] keys = new int[256];
+        private int[] products = new int[256];
+        private long[] viewedAt = new long[256];
+        private int size;
+
+        void add(int key, int product, long viewedAtSeconds) {
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+                products = Arrays.copyOf(products, size * 2);
+                viewedAt = Arrays.copyOf(viewedAt, size * 2);
+            }
+            keys[size] = key;
+            products[size] = product;
+            viewedAt[size] = viewedAtSeconds;
+            size++;
+        }
+
+        /**
+         * 키별로 묶은 뒤 시간 창 안의 조회끼리 상품 쌍 건수 누적
+         */
+        LongIntCounter countPairs(long windowSeconds) {
+            // (키, 입력 순서) 로 정렬하면 키별로 묶이면서 키 안에서는 조회 시간 순이 유지됨
+            long[] order = new long[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = ((long) keys[i] << 32) | i;
+            }
+            Arrays.sort(order);
+
+            LongIntCounter counts = new LongIntCounter(size);
+            int groupStart = 0;
+            for (int i = 0; i < size; i++) {
+                int current = (int) order[i];
+                if (keys[current] != keys[(int) order[groupStart]]) {
+                    groupStart = i;
+                }
+
+                int from = Math.max(groupStart, i - MAX_WINDOW_VIEWS);
+                for (int j = i - 1; j >= from; j--) {
+                    int previous = (int) order[j];
+                    if (viewedAt[current] - viewedAt[previous] > windowSeconds) {
+                        break;
+                    }
+                    if (products[current] != products[previous]) {
+                        counts.add(LongIntCounter.pair(products[current], products[previous]), 1);
+                        counts.add(LongIntCounter.pair(products[previous], products[current]), 1);
+                    }
+                }
+            }
+            return counts;
+        }
+    }
+}
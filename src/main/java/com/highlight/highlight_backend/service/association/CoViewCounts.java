@@ -0,0 +1,28 @@
+package com.highlight.highlight_backend.service.association;
+
+/**
+ * 상품 쌍별 함께 조회 건수 (동일 세션 / 동일 사용자)
+ *
+ * 정확한 건수(CoViewMatrix)와 근사 건수(CoViewEstimates)가 같은 방식으로 연관도 배치에 전달됩니다.
+ * 건수는 양방향으로 누적되어 있어 (A, B) 와 (B, A) 가 같은 값을 가집니다.
+ *
+ * @author 전우선
+ * @since 2025.08.20
+ */
+public interface CoViewCounts {
+
+    /**
+     * 건수가 있는 상품 쌍 수
+     */
+    int pairCount();
+
+    /**
+     * 건수가 있는 모든 상품 쌍 순회
+     */
+    void forEachPair(PairConsumer consumer);
+
+    @FunctionalInterface
+    interface PairConsumer {
+        void accept(long sourceProductId, long targetProductId, int sameSessionCount, int sameUserCount);
+    }
+}
@@ -0,0 +1,69 @@
+package com.highlight.highlight_backend.service.association;
+
+import java.util.Arrays;
+
+/**
+ * 상품 쌍별 근사 함께 조회 건수 (ApproximateCoViewCounter 결과)
+ *
+ * 기준 상품마다 Space-Saving 으로 추린 상위 K 개 연관 상품만 내보내며,
+ * 세션/사용자 건수는 Count-Min Sketch 추정값을 Space-Saving 건수 상한으로 한 번 더 제한한 값입니다.
+ * (두 추정 모두 실제보다 크거나 같으므로 작은 쪽이 더 정확함)
+ *
+ * @author 전우선
+ * @since 2025.08.20
+ */
+public final class CoViewEstimates implements CoViewCounts {
+
+    private final long[] productIds;
+    private final SpaceSavingTopK[] topTargets;
+    private final CountMinSketch sessionCounts;
+    private final CountMinSketch userCounts;
+    private final int topK;
+
+    CoViewEstimates(long[] productIds, SpaceSavingTopK[] topTargets,
+                    CountMinSketch sessionCounts, CountMinSketch userCounts, int topK) {
+        this.productIds = productIds;
+        this.topTargets = topTargets;
+        this.sessionCounts = sessionCounts;
+        this.userCounts = userCounts;
+        this.topK = topK;
+    }
+
+    @Override
+    public int pairCount() {
+        int count = 0;
+        for (SpaceSavingTopK targets : topTargets) {
+            if (targets != null) {
+                count += Math.min(targets.size(), topK);
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public void forEachPair(PairConsumer consumer) {
+        for (int source = 0; source < topTargets.length; source++) {
+            SpaceSavingTopK targets = topTargets[source];
+            if (targets == null) {
+                continue;
+            }
+
+            // 건수 많은 순으로 상위 K 개
+            Integer[] order = new Integer[targets.size()];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> Integer.compare(targets.count(b), targets.count(a)));
+
+            for (int i = 0; i < Math.min(order.length, topK); i++) {
+                int index = order[i];
+                int target = targets.item(index);
+                long pair = LongIntCounter.pair(source, target);
+                int upperBound = targets.count(index);
+                consumer.accept(productIds[source], productIds[target],
+                        Math.min(sessionCounts.estimate(pair), upperBound),
+                        Math.min(userCounts.estimate(pair), upperBound));
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.highlight.highlight_backend.service.association;
+
+/**
+ * 상품 쌍별 정확한 함께 조회 건수 (CoViewCounter 결과)
+ *
+ * @author 전우선
+ * @since 2025.08.20
+ */
+public final class CoViewMatrix implements CoViewCounts {
+
+    private final long[] productIds;
+    private final LongIntCounter sessionCounts;
+    private final LongIntCounter userCounts;
+
+    CoViewMatrix(long[] productIds, LongIntCounter sessionCounts, LongIntCounter userCounts) {
+        this.productIds = productIds;
+        this.sessionCounts = sessionCounts;
+        this.userCounts = userCounts;
+    }
+
+    @Override
+    public int pairCount() {
+        int[] count = {sessionCounts.size()};
+        userCounts.forEach((pair, value) -> {
+            if (sessionCounts.get(pair) == 0) {
+                count[0]++;
+            }
+        });
+        return count[0];
+    }
+
+    @Override
+    public void forEachPair(PairConsumer consumer) {
+        sessionCounts.forEach((pair, sessionCount) ->
+                consumer.accept(productIds[LongIntCounter.source(pair)], productIds[LongIntCounter.target(pair)],
+                        sessionCount, userCounts.get(pair)));
+        userCounts.forEach((pair, userCount) -> {
+            if (sessionCounts.get(pair) == 0) {
+                consumer.accept(productIds[LongIntCounter.source(pair)], productIds[LongIntCounter.target(pair)],
+                        0, userCount);
+            }
+        });
+    }
+}
@@ -0,0 +1,94 @@
+package com.highlight.highlight_backend.service.association;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * 세션/회원별 최근 조회 창
+ *
+ * 키(세션 ID 또는 회원 ID)마다 시간 창 안의 최근 조회를 보관하고, 새 조회가 들어오면
+ * 창 안의 다른 상품 조회와 짝지어 알려줍니다. 조회는 키마다 시간 순으로 들어온다고 가정합니다.
+ * 키당 보관 조회 수와 키 수에 상한이 있어 트래픽과 무관하게 메모리가 제한됩니다.
+ * 스레드 안전하지 않습니다.
+ *
+ * @author 전우선
+ * @since 2025.08.20
+ */
+final class CoViewWindows<K> {
+
+    private final long windowSeconds;
+    private final int maxWindowViews;
+    private final int maxKeys;
+    private final Map<K, ArrayDeque<WindowView>> windows = new HashMap<>();
+
+    CoViewWindows(long windowSeconds, int maxWindowViews, int maxKeys) {
+        this.windowSeconds = windowSeconds;
+        this.maxWindowViews = Math.max(1, maxWindowViews);
+        this.maxKeys = Math.max(1, maxKeys);
+    }
+
+    /**
+     * 조회 추가 (창 안의 다른 상품 조회마다 pairs 호출)
+     * 키 수가 상한이면 창을 벗어난 키를 정리하고, 그래도 상한이면 새 키의 조회는 건너뜁니다.
+     *
+     * @param key 세션/회원 키
+     * @param product 상품 번호
+     * @param viewedAt 조회 시각 (초)
+     * @param pairs 짝 알림 (새 조회 상품, 이전 조회 상품)
+     */
+    void add(K key, int product, long viewedAt, PairSink pairs) {
+        ArrayDeque<WindowView> window = windows.get(key);
+        if (window == null) {
+            if (windows.size() >= maxKeys) {
+                evictIdle(viewedAt);
+                if (windows.size() >= maxKeys) {
+                    return;
+                }
+            }
+            window = new ArrayDeque<>();
+            windows.put(key, window);
+        }
+
+        while (!window.isEmpty() && viewedAt - window.peekFirst().viewedAt > windowSeconds) {
+            window.pollFirst();
+        }
+        for (WindowView previous : window) {
+            if (previous.product != product) {
+                pairs.accept(product, previous.product);
+            }
+        }
+        if (window.size() >= maxWindowViews) {
+            window.pollFirst();
+        }
+        window.addLast(new WindowView(product, viewedAt));
+    }
+
+    /**
+     * 마지막 조회가 창 밖으로 벗어난 키 정리
+     *
+     * @param now 기준 시각 (초)
+     */
+    void evictIdle(long now) {
+        Iterator<ArrayDeque<WindowView>> iterator = windows.values().iterator();
+        while (iterator.hasNext()) {
+            ArrayDeque<WindowView> window = iterator.next();
+            if (window.isEmpty() || now - window.peekLast().viewedAt > windowSeconds) {
+                iterator.remove();
+            }
+        }
+    }
+
+    int keyCount() {
+        return windows.size();
+    }
+
+    @FunctionalInterface
+    interface PairSink {
+        void accept(int product, int previousProduct);
+    }
+
+    private record WindowView(int product, long viewedAt) {
+    }
+}
@@ -0,0 +1,70 @@
+package com.highlight.highlight_backend.service.association;
+
+/**
+ * Count-Min Sketch (long 키 빈도 근사)
+ *
+ * 너비 w = ⌈e / ε⌉, 깊이 d = ⌈ln(1 / δ)⌉ 의 카운터 표로, 전체 추가 건수가 N 일 때
+ * 추정값은 실제 빈도 이상이며 확률 1 - δ 이상으로 실제 빈도 + εN 이하입니다.
+ * 메모리는 w × d 로 고정되어 키 수와 무관합니다. 스레드 안전하지 않습니다.
+ *
+ * @author 전우선
+ * @since 2025.08.20
+ */
+final class CountMinSketch {
+
+    private final int width;
+    private final int depth;
+    private final int[] table;
+    private final long[] seeds;
+    private long total;
+
+    CountMinSketch(double epsilon, double delta) {
+        this.width = (int) Math.ceil(Math.E / epsilon);
+        this.depth = (int) Math.ceil(Math.log(1 / delta));
+        this.table = new int[width * depth];
+        this.seeds = new long[depth];
+        for (int row = 0; row < depth; row++) {
+            seeds[row] = mix(0x9E3779B97F4A7C15L * (row + 1));
+        }
+    }
+
+    void add(long key, int count) {
+        for (int row = 0; row < depth; row++) {
+            table[row * width + bucket(key, row)] += count;
+        }
+        total += count;
+    }
+
+    /**
+     * 빈도 추정 (행별 카운터의 최솟값)
+     */
+    int estimate(long key) {
+        int min = Integer.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            min = Math.min(min, table[row * width + bucket(key, row)]);
+        }
+        return min;
+    }
+
+    long total() {
+        return total;
+    }
+
+    /**
+     * 메모리 사용량 (byte, 근사)
+     */
+    long sizeInBytes() {
+        return (long) table.length * Integer.BYTES;
+    }
+
+    private int bucket(long key, int row) {
+        return (int) ((mix(key ^ seeds[row]) >>> 1) % width);
+    }
+
+    private static long mix(long value) {
+        long h = value;
+        h = (h ^ (h >>> 33)) * 0xFF51AFD7ED558CCDL;
+        h = (h ^ (h >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return h ^ (h >>> 33);
+    }
+}
@@ -0,0 +1,294 @@
+package com.highlight.highlight_backend.service.association;
+
+import com.highlight.highlight_backend.domain.ProductAssociation;
+import com.highlight.highlight_backend.event.ProductAssociationsUpdatedEvent;
+import com.highlight.highlight_backend.event.ProductViewsRecordedEvent;
+import com.highlight.highlight_backend.event.ProductViewsRecordedEvent.RecordedView;
+import com.highlight.highlight_backend.service.association.ProductAssociationWriter.AssociationRow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 상품 연관도 실시간 갱신기
+ *
+ * 저장된 조회 이력(ProductViewsRecordedEvent)을 받아 세션/회원별 최근 조회 창을 메모리에 유지하고,
+ * 새 조회가 창 안의 다른 상품 조회와 짝을 이루면 상품 쌍 건수 증가분을 쌓습니다.
+ * 창 기준은 연관도 배치(CoViewCounter)와 같으며(세션 60분, 회원 24시간), 증가분은 주기적으로(기본 1분)
+ * product_associations 에 더해 새로 등록된 상품도 새벽 배치를 기다리지 않고 "함께 본 상품"에 나타납니다.
+ * 새벽 배치는 30일 창 전체로 건수를 다시 맞추므로 실시간 증가분의 누락/중복은 하루 안에 바로잡힙니다.
+ *
+ * 저장 기준은 배치와 같습니다. 동일 세션 건수는 ProductAssociation.MIN_SESSION_CO_VIEWS 이상일 때만 세고, 합계가
+ * MIN_TOTAL_CO_VIEWS 미만인 쌍은 저장하지 않고 다음 주기로 넘겨 건수가 쌓이면 저장합니다.
+ * 배치가 재계산하는 동안({@link ProductAssociationWriter#isRecalculating()})은 증가분을 보류했다가 재계산이 끝난 뒤 더하므로,
+ * 재계산 중에 더한 증가분을 배치의 upsert 가 덮어쓰지 않습니다. 재계산 전에 넘겨 둔 기준 미달 증가분은 배치 건수에
+ * 이미 포함되므로 보류를 시작할 때 버립니다. 재계산 시작 직전 한 주기 분량은 배치와 증가분에 함께 반영될 수 있습니다.
+ *
+ * 조회 창과 증가분은 노드별 메모리에 있으며, 저장 전 재기동되면 마지막 주기의 증가분은 사라집니다.
+ *
+ * @author 전우선
+ * @since 2025.08.20
+ */
+@Slf4j
+@Component
+public class IncrementalAssociationUpdater {
+
+    private static final long SESSION_WINDOW_SECONDS = CoViewCounter.SESSION_WINDOW.getSeconds();
+    private static final long USER_WINDOW_SECONDS = CoViewCounter.USER_WINDOW.getSeconds();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ProductAssociationWriter productAssociationWriter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+
+    /**
+     * 세션/회원별 최근 조회 창 (이 객체로 동기화)
+     */
+    private final CoViewWindows<String> sessionWindows;
+    private final CoViewWindows<Long> userWindows;
+
+    /**
+     * 아직 저장하지 않은 상품 쌍 건수 증가분 (이 객체로 동기화)
+     */
+    private LongIntCounter sessionDeltas = new LongIntCounter();
+    private LongIntCounter userDeltas = new LongIntCounter();
+
+    /**
+     * 기준 미달이거나 재계산 중이라 다음 주기로 넘긴 증가분 (flush 스레드에서만 접근)
+     */
+    private LongIntCounter pendingSessions = new LongIntCounter();
+    private LongIntCounter pendingUsers = new LongIntCounter();
+
+    /**
+     * 배치 재계산 중이라 증가분을 보류하고 있는지 여부 (flush 스레드에서만 접근)
+     */
+    private boolean holdingForRecalculation;
+
+    /**
+     * 다음 주기로 넘기는 상품 쌍 최대 수 (넘으면 버리고 새벽 배치에 맡김)
+     */
+    private final int maxPendingPairs;
+
+    public IncrementalAssociationUpdater(JdbcTemplate jdbcTemplate,
+                                         ProductAssociationWriter productAssociationWriter,
+                                         ApplicationEventPublisher eventPublisher,
+                                         @Value("${product.association.incremental.enabled:true}") boolean enabled,
+                                         @Value("${product.association.incremental.max-window-views:50}") int maxWindowViews,
+                                         @Value("${product.association.incremental.max-keys:100000}") int maxKeys,
+                                         @Value("${product.association.incremental.max-pending-pairs:200000}") int maxPendingPairs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.productAssociationWriter = productAssociationWriter;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.maxPendingPairs = maxPendingPairs;
+        this.sessionWindows = new CoViewWindows<>(SESSION_WINDOW_SECONDS, maxWindowViews, maxKeys);
+        this.userWindows = new CoViewWindows<>(USER_WINDOW_SECONDS, maxWindowViews, maxKeys);
+    }
+
+    /**
+     * 저장된 조회 이력 반영 (ProductViewRecorder writer 스레드)
+     */
+    @EventListener
+    public void onViewsRecorded(ProductViewsRecordedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        synchronized (this) {
+            for (RecordedView view : event.getViews()) {
+                record(view);
+            }
+        }
+    }
+
+    private void record(RecordedView view) {
+        if (view.productId() == null || view.productId() > Integer.MAX_VALUE || view.viewedAt() == null) {
+            return;
+        }
+        int product = view.productId().intValue();
+        long viewedAt = view.viewedAt().toEpochSecond(ZoneOffset.UTC);
+
+        if (view.sessionId() != null) {
+            sessionWindows.add(view.sessionId(), product, viewedAt, (current, previous) -> {
+                sessionDeltas.add(LongIntCounter.pair(current, previous), 1);
+                sessionDeltas.add(LongIntCounter.pair(previous, current), 1);
+            });
+        }
+        if (view.userId() != null) {
+            userWindows.add(view.userId(), product, viewedAt, (current, previous) -> {
+                userDeltas.add(LongIntCounter.pair(current, previous), 1);
+                userDeltas.add(LongIntCounter.pair(previous, current), 1);
+            });
+        }
+    }
+
+    /**
+     * 쌓인 증가분을 product_associations 에 반영 (기본 1분마다)
+     * 활성 상품끼리의 쌍 중 배치와 같은 최소 건수 기준을 넘는 쌍만 반영하고, 기준 미달 쌍은 다음 주기로 넘깁니다.
+     * 배치 재계산 중이면 반영하지 않고 보류하며, 저장에 실패하면 증가분을 되돌려 다음 주기에 다시 시도합니다.
+     */
+    @Scheduled(fixedDelayString = "${product.association.incremental.flush-interval-ms:60000}")
+    public void flush() {
+        LongIntCounter sessions;
+        LongIntCounter users;
+        synchronized (this) {
+            evictIdleWindows();
+            sessions = sessionDeltas;
+            users = userDeltas;
+            sessionDeltas = new LongIntCounter();
+            userDeltas = new LongIntCounter();
+        }
+        if (sessions.size() == 0 && users.size() == 0 && pendingSessions.size() == 0 && pendingUsers.size() == 0) {
+            return;
+        }
+
+        boolean recalculating;
+        try {
+            recalculating = productAssociationWriter.isRecalculating();
+        } catch (Exception e) {
+            log.error("상품 연관도 재계산 여부 확인 실패, 다음 주기에 재시도: {}", e.getMessage(), e);
+            pendingSessions.addAll(sessions);
+            pendingUsers.addAll(users);
+            return;
+        }
+        if (recalculating) {
+            hold(sessions, users);
+            return;
+        }
+        if (holdingForRecalculation) {
+            holdingForRecalculation = false;
+            log.info("상품 연관도 재계산 종료, 보류한 증가분 반영: {}건", pendingSessions.size() + pendingUsers.size());
+        }
+
+        sessions.addAll(pendingSessions);
+        users.addAll(pendingUsers);
+        pendingSessions = new LongIntCounter();
+        pendingUsers = new LongIntCounter();
+
+        try {
+            Set<Long> productIds = new HashSet<>();
+            forEachDelta(sessions, users, (sourceId, targetId, sessionCount, userCount) -> {
+                productIds.add(sourceId);
+                productIds.add(targetId);
+            });
+            Map<Long, String> categories = findActiveCategories(productIds);
+
+            LongIntCounter keptSessions = new LongIntCounter();
+            LongIntCounter keptUsers = new LongIntCounter();
+            List<AssociationRow> sameCategoryRows = new ArrayList<>();
+            List<AssociationRow> otherCategoryRows = new ArrayList<>();
+            forEachDelta(sessions, users, (sourceId, targetId, sessionCount, userCount) -> {
+                if (!categories.containsKey(sourceId) || !categories.containsKey(targetId)) {
+                    return;
+                }
+                long pair = LongIntCounter.pair((int) sourceId, (int) targetId);
+                int sameSessionCount = sessionCount >= ProductAssociation.MIN_SESSION_CO_VIEWS ? sessionCount : 0;
+                int total = sameSessionCount + userCount;
+                if (total < ProductAssociation.MIN_TOTAL_CO_VIEWS) {
+                    if (sessionCount > 0) {
+                        keptSessions.add(pair, sessionCount);
+                    }
+                    if (userCount > 0) {
+                        keptUsers.add(pair, userCount);
+                    }
+                    return;
+                }
+                if (sameSessionCount == 0 && sessionCount > 0) {
+                    keptSessions.add(pair, sessionCount); // 기준 미달 동일 세션 건수는 쌓일 때까지 넘김
+                }
+                boolean sameCategory = Objects.equals(categories.get(sourceId), categories.get(targetId));
+                BigDecimal score = ProductAssociation.calculateScore(total, sameSessionCount, userCount, true, sameCategory);
+                (sameCategory ? sameCategoryRows : otherCategoryRows)
+                        .add(new AssociationRow(sourceId, targetId, score, total, sameSessionCount, userCount));
+            });
+
+            int written = productAssociationWriter.addDeltas(sameCategoryRows, true)
+                    + productAssociationWriter.addDeltas(otherCategoryRows, false);
+            log.debug("상품 연관도 실시간 반영 완료: {}건", written);
+            if (written > 0) {
+                eventPublisher.publishEvent(new ProductAssociationsUpdatedEvent(written));
+            }
+            keep(keptSessions, keptUsers);
+        } catch (Exception e) {
+            log.error("상품 연관도 실시간 반영 실패, 다음 주기에 재시도: {}", e.getMessage(), e);
+            keep(sessions, users);
+        }
+    }
+
+    /**
+     * 배치 재계산 중 증가분 보류 (보류를 시작할 때 재계산 전에 넘겨 둔 증가분은 버림)
+     */
+    private void hold(LongIntCounter sessions, LongIntCounter users) {
+        if (!holdingForRecalculation) {
+            holdingForRecalculation = true;
+            pendingSessions = new LongIntCounter();
+            pendingUsers = new LongIntCounter();
+            log.info("상품 연관도 재계산 중, 실시간 증가분 보류");
+        }
+        pendingSessions.addAll(sessions);
+        pendingUsers.addAll(users);
+    }
+
+    /**
+     * 다음 주기로 넘길 증가분 보관 (상한을 넘으면 버리고 새벽 배치에 맡김)
+     */
+    private void keep(LongIntCounter sessions, LongIntCounter users) {
+        if (sessions.size() + users.size() > maxPendingPairs) {
+            log.warn("상품 연관도 미반영 증가분이 상한을 넘어 버림: {}건", sessions.size() + users.size());
+            pendingSessions = new LongIntCounter();
+            pendingUsers = new LongIntCounter();
+            return;
+        }
+        pendingSessions = sessions;
+        pendingUsers = users;
+    }
+
+    /**
+     * 세션/회원 증가분을 상품 쌍별로 합쳐 순회 (키는 상품 ID 쌍)
+     */
+    private static void forEachDelta(LongIntCounter sessions, LongIntCounter users, CoViewCounts.PairConsumer consumer) {
+        sessions.forEach((pair, sessionCount) -> consumer.accept(LongIntCounter.source(pair), LongIntCounter.target(pair),
+                sessionCount, users.get(pair)));
+        users.forEach((pair, userCount) -> {
+            if (sessions.get(pair) == 0) {
+                consumer.accept(LongIntCounter.source(pair), LongIntCounter.target(pair), 0, userCount);
+            }
+        });
+    }
+
+    private Map<Long, String> findActiveCategories(Set<Long> productIds) {
+        Map<Long, String> categories = new HashMap<>();
+        if (productIds.isEmpty()) {
+            return categories;
+        }
+        String placeholders = String.join(", ", Collections.nCopies(productIds.size(), "?"));
+        jdbcTemplate.query("SELECT id, category FROM product WHERE status = 'ACTIVE' AND id IN (" + placeholders + ")",
+                rs -> { categories.put(rs.getLong("id"), rs.getString("category")); },
+                productIds.toArray());
+        return categories;
+    }
+
+    /**
+     * 마지막 조회가 창 밖으로 벗어난 세션/회원 정리 (동기화 안에서 호출)
+     */
+    private void evictIdleWindows() {
+        long now = LocalDateTime.now().toEpochSecond(ZoneOffset.UTC);
+        sessionWindows.evictIdle(now);
+        userWindows.evictIdle(now);
+    }
+}
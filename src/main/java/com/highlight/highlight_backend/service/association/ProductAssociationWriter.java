@@ -0,0 +1,169 @@
+package com.highlight.highlight_backend.service.association;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 상품 연관도 일괄 저장
+ *
+ * product_associations 의 (기준 상품, 연관 상품) 유니크 키를 이용해
+ * multi-row INSERT ... ON DUPLICATE KEY UPDATE 로 배치당 한 번에 저장합니다.
+ * - upsert: 연관도 배치의 기간 전체 건수로 교체
+ * - addDeltas: 실시간 갱신의 증가분을 더하고 점수를 DB에서 다시 계산 (여러 노드가 동시에 더해도 유실 없음)
+ * 연관도 배치가 재계산하는 동안은 scheduler_lease 의 재계산 리스로 표시하여, 각 노드의 실시간 갱신기가
+ * 증가분을 보류하고 배치의 upsert 이후에 더하도록 합니다.
+ *
+ * @author 전우선
+ * @since 2025.08.20
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductAssociationWriter {
+
+    /**
+     * 한 번의 INSERT 에 담는 최대 행 수
+     */
+    static final int BATCH_SIZE = 1000;
+
+    private static final String UPSERT_SQL_PREFIX =
+            "INSERT INTO product_associations (source_product_id, target_product_id, association_score, " +
+            "co_view_count, same_session_count, same_user_count, last_co_viewed_at, score_calculated_at, created_at) VALUES ";
+
+    private static final String UPSERT_SQL_ROW = "(?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String UPSERT_SQL_SUFFIX =
+            " ON DUPLICATE KEY UPDATE association_score = VALUES(association_score), " +
+            "co_view_count = VALUES(co_view_count), same_session_count = VALUES(same_session_count), " +
+            "same_user_count = VALUES(same_user_count), last_co_viewed_at = VALUES(last_co_viewed_at), " +
+            "score_calculated_at = VALUES(score_calculated_at)";
+
+    /**
+     * 증가분 반영 시 점수 계산식 (ProductAssociation.calculateScore 와 동일, 최근 조회 보너스 포함)
+     * MySQL 은 ON DUPLICATE KEY UPDATE 의 앞선 대입 결과를 뒤 식에서 사용하므로 더한 뒤 건수로 계산됨
+     */
+    private static final String ADD_DELTAS_SQL_SUFFIX =
+            " ON DUPLICATE KEY UPDATE co_view_count = co_view_count + VALUES(co_view_count), " +
+            "same_session_count = same_session_count + VALUES(same_session_count), " +
+            "same_user_count = same_user_count + VALUES(same_user_count), " +
+            "last_co_viewed_at = VALUES(last_co_viewed_at), " +
+            "association_score = LEAST(100.00, co_view_count * %s + same_session_count * 2.0 + same_user_count * 1.5), " +
+            "score_calculated_at = VALUES(score_calculated_at)";
+
+    /**
+     * 연관도 재계산 중 표시 리스 이름
+     */
+    static final String RECALCULATION_LEASE = "product-association-recalculation";
+
+    private static final String UPDATE_RECALCULATION_SQL =
+            "UPDATE scheduler_lease SET locked_until = ?, updated_at = ? WHERE lease_name = ?";
+
+    private static final String INSERT_RECALCULATION_SQL =
+            "INSERT INTO scheduler_lease (lease_name, owner_id, locked_until, updated_at) VALUES (?, 'batch', ?, ?)";
+
+    private static final String COUNT_RECALCULATION_SQL =
+            "SELECT COUNT(*) FROM scheduler_lease WHERE lease_name = ? AND locked_until > ?";
+
+    private static final String SAME_CATEGORY_FACTOR = "1.3";
+    private static final String OTHER_CATEGORY_FACTOR = "1.2";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 연관도 일괄 저장 (있으면 건수/점수 교체)
+     *
+     * @param rows 저장할 연관도
+     * @return 저장한 행 수
+     */
+    public int upsert(List<AssociationRow> rows) {
+        return write(rows, UPSERT_SQL_SUFFIX);
+    }
+
+    /**
+     * 함께 조회 증가분 반영 (없으면 증가분으로 생성)
+     *
+     * @param rows 증가분 (건수 필드가 증가량, 점수는 새로 생성될 때의 점수)
+     * @param sameCategory 모든 행이 같은 카테고리 상품 쌍인지 여부 (점수의 카테고리 보너스)
+     * @return 반영한 행 수
+     */
+    public int addDeltas(List<AssociationRow> rows, boolean sameCategory) {
+        return write(rows, String.format(ADD_DELTAS_SQL_SUFFIX,
+                sameCategory ? SAME_CATEGORY_FACTOR : OTHER_CATEGORY_FACTOR));
+    }
+
+    /**
+     * 연관도 재계산 시작 표시 (비정상 종료 시에도 최대 소요 시간이 지나면 해제)
+     *
+     * @param maxDuration 재계산 최대 소요 시간
+     */
+    public void beginRecalculation(Duration maxDuration) {
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp lockedUntil = Timestamp.valueOf(now.plus(maxDuration));
+        if (jdbcTemplate.update(UPDATE_RECALCULATION_SQL, lockedUntil, Timestamp.valueOf(now), RECALCULATION_LEASE) > 0) {
+            return;
+        }
+        try {
+            jdbcTemplate.update(INSERT_RECALCULATION_SQL, RECALCULATION_LEASE, lockedUntil, Timestamp.valueOf(now));
+        } catch (DuplicateKeyException e) {
+            jdbcTemplate.update(UPDATE_RECALCULATION_SQL, lockedUntil, Timestamp.valueOf(now), RECALCULATION_LEASE);
+        }
+    }
+
+    /**
+     * 연관도 재계산 종료 표시
+     */
+    public void endRecalculation() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update(UPDATE_RECALCULATION_SQL, now, now, RECALCULATION_LEASE);
+    }
+
+    /**
+     * 연관도 배치가 재계산 중인지 여부
+     */
+    public boolean isRecalculating() {
+        Integer count = jdbcTemplate.queryForObject(COUNT_RECALCULATION_SQL, Integer.class,
+                RECALCULATION_LEASE, Timestamp.valueOf(LocalDateTime.now()));
+        return count != null && count > 0;
+    }
+
+    private int write(List<AssociationRow> rows, String suffix) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int written = 0;
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            List<AssociationRow> batch = rows.subList(from, Math.min(rows.size(), from + BATCH_SIZE));
+            Object[] args = new Object[batch.size() * 9];
+            int i = 0;
+            for (AssociationRow row : batch) {
+                args[i++] = row.sourceProductId();
+                args[i++] = row.targetProductId();
+                args[i++] = row.score();
+                args[i++] = row.coViewCount();
+                args[i++] = row.sameSessionCount();
+                args[i++] = row.sameUserCount();
+                args[i++] = now;
+                args[i++] = now;
+                args[i++] = now;
+            }
+            jdbcTemplate.update(UPSERT_SQL_PREFIX
+                    + String.join(", ", Collections.nCopies(batch.size(), UPSERT_SQL_ROW))
+                    + suffix, args);
+            written += batch.size();
+        }
+        return written;
+    }
+
+    /**
+     * 저장할 연관도 한 행
+     */
+    public record AssociationRow(long sourceProductId, long targetProductId, BigDecimal score,
+                                 int coViewCount, int sameSessionCount, int sameUserCount) {
+    }
+}
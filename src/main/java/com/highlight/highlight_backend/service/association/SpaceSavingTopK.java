@@ -0,0 +1,74 @@
+package com.highlight.highlight_backend.service.association;
+
+/**
+ * Space-Saving 상위 K 추적 (int 항목)
+ *
+ * 최대 capacity 개의 항목만 보관하며, 가득 찬 상태에서 새 항목이 들어오면 건수가 가장 적은 항목을
+ * 대체하고 그 건수 + 1 로 시작합니다(대체된 건수는 error 로 기록). 보관 중인 항목의 건수는 실제 빈도 이상이고
+ * 실제 빈도 + 전체 건수 / capacity 이하이며, 빈도가 전체 건수 / capacity 를 넘는 항목은 반드시 남습니다.
+ * capacity 가 작으므로(기본 수십 개) 항목 검색은 배열 순차 탐색으로 합니다. 스레드 안전하지 않습니다.
+ *
+ * @author 전우선
+ * @since 2025.08.20
+ */
+final class SpaceSavingTopK {
+
+    private final int[] items;
+    private final int[] counts;
+    private final int[] errors;
+    private int size;
+
+    SpaceSavingTopK(int capacity) {
+        this.items = new int[capacity];
+        this.counts = new int[capacity];
+        this.errors = new int[capacity];
+    }
+
+    void offer(int item) {
+        for (int i = 0; i < size; i++) {
+            if (items[i] == item) {
+                counts[i]++;
+                return;
+            }
+        }
+        if (size < items.length) {
+            items[size] = item;
+            counts[size] = 1;
+            errors[size] = 0;
+            size++;
+            return;
+        }
+
+        int min = 0;
+        for (int i = 1; i < size; i++) {
+            if (counts[i] < counts[min]) {
+                min = i;
+            }
+        }
+        items[min] = item;
+        errors[min] = counts[min];
+        counts[min]++;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int item(int index) {
+        return items[index];
+    }
+
+    /**
+     * 항목 건수 상한 (실제 빈도 이상)
+     */
+    int count(int index) {
+        return counts[index];
+    }
+
+    /**
+     * 항목 건수 하한 (실제 빈도 이하)
+     */
+    int guaranteedCount(int index) {
+        return counts[index] - errors[index];
+    }
+}
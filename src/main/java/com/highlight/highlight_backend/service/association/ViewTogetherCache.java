@@ -0,0 +1,476 @@
+package com.highlight.highlight_backend.service.association;
+
+import com.highlight.highlight_backend.domain.Auction;
+import com.highlight.highlight_backend.domain.AuctionOutboxEvent;
+import com.highlight.highlight_backend.domain.Product;
+import com.highlight.highlight_backend.dto.ViewTogetherProductResponseDto;
+import com.highlight.highlight_backend.event.AuctionBidStatsChangedEvent;
+import com.highlight.highlight_backend.event.AuctionLifecycleEvent;
+import com.highlight.highlight_backend.event.AuctionStatusChangedEvent;
+import com.highlight.highlight_backend.event.ProductAssociationsUpdatedEvent;
+import com.highlight.highlight_backend.event.ProductChangedEvent;
+import com.highlight.highlight_backend.repository.AuctionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * 함께 본 상품 추천 캐시 (메모리)
+ *
+ * 상품마다 최종 추천 카드 목록(기본 상위 20개)을 미리 계산해 불변 맵으로 들고 있다가 통째로 교체하므로,
+ * 함께 본 상품 조회는 DB를 거치지 않고 맵에서 앞쪽 size 개만 잘라 응답합니다.
+ * 연관도 행이 있는 상품만 담으며, 카드 순서는 기존 조회와 같습니다.
+ * 1. 연관도 점수 순 연관 상품 (진행 중/예약된 경매가 있는 상품만)
+ * 2. 부족하면 같은 카테고리/브랜드의 활성 상품 (진행 중 경매 우선, 다음 예약 경매)
+ * 3. 그래도 부족하면 진행 중/예약 경매가 있는 최근 등록 상품
+ *
+ * 재구성은 진행 중/예약 경매(상품/이미지 포함), 상품 카테고리/브랜드, 연관도를 한 번씩 읽어 메모리에서 계산합니다.
+ * 연관도 배치/실시간 반영, 경매 상태 변경, 상품 변경 이벤트를 받으면 다시 만들되 몰려오는 이벤트는 묶어서
+ * 짧은 주기(기본 5초)마다 한 번만 재구성하고, 다른 노드의 변경에 대비해 기본 5분마다 전체를 다시 만듭니다.
+ * 재구성 전이라도 종료/취소된 경매의 카드는 응답에서 바로 빼고, 입찰 이벤트의 현재가/입찰 수는 바로 반영합니다.
+ *
+ * 첫 구성 전, K 보다 많이 요청한 경우, 맵에 없는 상품은 DB 조회로 처리합니다. 맵에 없는 상품은 마지막 구성 이후
+ * 등록된 상품과 (활성 상품과의) 연관도 행이 없는 상품입니다. 연관도 행이 없으면 기존 조회가 조회 이력으로
+ * 실시간 연관도를 계산하므로, 캐시로 카테고리/브랜드 카드를 대신 응답하지 않고 같은 경로를 타게 합니다.
+ *
+ * @author 전우선
+ * @since 2025.08.20
+ */
+@Slf4j
+@Component
+public class ViewTogetherCache {
+
+    /**
+     * 추천 카드로 노출하는 경매 상태 (기존 조회와 같이 진행 중/예약)
+     */
+    private static final Set<Auction.AuctionStatus> CARD_STATUSES = EnumSet.of(
+            Auction.AuctionStatus.IN_PROGRESS,
+            Auction.AuctionStatus.SCHEDULED);
+
+    /**
+     * 카드에서 바로 빼는 종료 경매 상태
+     */
+    private static final Set<Auction.AuctionStatus> CLOSED_STATUSES = EnumSet.of(
+            Auction.AuctionStatus.COMPLETED,
+            Auction.AuctionStatus.CANCELLED,
+            Auction.AuctionStatus.FAILED);
+
+    /**
+     * 최근 등록 상품 보충 대상 상품 상태
+     */
+    private static final Set<Product.ProductStatus> LISTED_PRODUCT_STATUSES = EnumSet.of(
+            Product.ProductStatus.ACTIVE,
+            Product.ProductStatus.IN_AUCTION);
+
+    /**
+     * 부족분 대비 카테고리/브랜드 후보, 최근 등록 후보를 살펴보는 배수 (기존 조회의 페이지 크기와 같음)
+     */
+    private static final int RELATED_SCAN_FACTOR = 10;
+    private static final int LATEST_SCAN_FACTOR = 5;
+
+    private static final Comparator<Candidate> NEWEST = Comparator
+            .comparing(Candidate::createdAt, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(Candidate::productId, Comparator.reverseOrder());
+
+    private static final Comparator<ScoredTarget> LOWEST_SCORE = Comparator
+            .comparing(ScoredTarget::score)
+            .thenComparing(ScoredTarget::productId, Comparator.reverseOrder());
+
+    private static final String PRODUCTS_SQL = "SELECT id, category, brand FROM product";
+
+    private static final String ASSOCIATIONS_SQL =
+            "SELECT pa.source_product_id, pa.target_product_id, pa.association_score, p.status AS target_status " +
+            "FROM product_associations pa JOIN product p ON p.id = pa.target_product_id";
+
+    private final AuctionRepository auctionRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int topK;
+    private final long rebuildIntervalMs;
+
+    /**
+     * 상품 ID -> 추천 카드 목록 (불변, 재구성 시 통째로 교체, 첫 구성 전에는 null)
+     */
+    private volatile Map<Long, List<ViewTogetherProductResponseDto>> recommendations;
+    private volatile long lastBuiltAt;
+    private final AtomicBoolean dirty = new AtomicBoolean();
+
+    /**
+     * 마지막 재구성 이후 종료/취소된 경매 ID
+     */
+    private final Set<Long> closedAuctionIds = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 마지막 재구성 이후 입찰 반영 값 (경매 ID -> 입찰 통계)
+     */
+    private final Map<Long, AuctionBidStatsChangedEvent> bidStats = new ConcurrentHashMap<>();
+
+    public ViewTogetherCache(AuctionRepository auctionRepository,
+                             JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${product.view-together.top-k:20}") int topK,
+                             @Value("${product.view-together.rebuild-interval-ms:300000}") long rebuildIntervalMs) {
+        this.auctionRepository = auctionRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.topK = Math.max(1, topK);
+        this.rebuildIntervalMs = rebuildIntervalMs;
+    }
+
+    /**
+     * 함께 본 상품 추천 카드 조회 (DB 조회 없음)
+     *
+     * @param productId 기준 상품 ID
+     * @param size 추천 상품 개수
+     * @return 추천 카드 목록, 캐시로 응답할 수 없으면 empty (DB 조회로 처리)
+     */
+    public Optional<List<ViewTogetherProductResponseDto>> find(Long productId, int size) {
+        Map<Long, List<ViewTogetherProductResponseDto>> current = recommendations;
+        if (current == null || size > topK) {
+            return Optional.empty();
+        }
+        List<ViewTogetherProductResponseDto> cards = current.get(productId);
+        if (cards == null) {
+            return Optional.empty();
+        }
+
+        if (closedAuctionIds.isEmpty() && bidStats.isEmpty()) {
+            return Optional.of(cards.size() > size ? cards.subList(0, size) : cards);
+        }
+        return Optional.of(cards.stream()
+                .filter(card -> !closedAuctionIds.contains(card.getAuctionId()))
+                .limit(size)
+                .map(this::withLatestBidStats)
+                .toList());
+    }
+
+    private ViewTogetherProductResponseDto withLatestBidStats(ViewTogetherProductResponseDto card) {
+        AuctionBidStatsChangedEvent stats = bidStats.get(card.getAuctionId());
+        if (stats == null) {
+            return card;
+        }
+        return card.toBuilder()
+                .currentHighestBid(stats.getCurrentHighestBid())
+                .bidCount(stats.getTotalBids() != null ? stats.getTotalBids() : 0)
+                .build();
+    }
+
+    /**
+     * 변경 이벤트가 있었거나 마지막 구성 후 일정 시간이 지났으면 재구성 (기본 5초마다 확인)
+     */
+    @Scheduled(fixedDelayString = "${product.view-together.refresh-interval-ms:5000}")
+    public void refresh() {
+        boolean changed = dirty.getAndSet(false);
+        if (changed || System.currentTimeMillis() - lastBuiltAt >= rebuildIntervalMs) {
+            rebuild();
+        }
+    }
+
+    /**
+     * 전체 추천 카드 목록을 다시 계산해 교체
+     */
+    private void rebuild() {
+        // 읽기 전에 받은 종료/입찰 이벤트는 새로 읽는 데이터에 이미 반영되어 있음
+        Set<Long> closedBefore = Set.copyOf(closedAuctionIds);
+        Map<Long, AuctionBidStatsChangedEvent> bidStatsBefore = Map.copyOf(bidStats);
+        try {
+            List<Candidate> candidates = readOnlyTransaction.execute(status ->
+                    toCandidates(auctionRepository.findByStatusInWithProduct(CARD_STATUSES)));
+            Set<Long> candidateIds = new HashSet<>();
+            candidates.forEach(candidate -> candidateIds.add(candidate.productId()));
+
+            List<BaseProduct> products = jdbcTemplate.query(PRODUCTS_SQL, (rs, rowNum) ->
+                    new BaseProduct(rs.getLong("id"), rs.getString("category"), rs.getString("brand")));
+            Map<Long, List<ScoredTarget>> associations = loadAssociations(candidateIds);
+
+            install(build(products, candidates, associations, topK));
+            closedAuctionIds.removeAll(closedBefore);
+            bidStatsBefore.forEach((auctionId, stats) -> bidStats.remove(auctionId, stats));
+            log.debug("함께 본 상품 추천 캐시 재구성 완료: 상품 {}개, 후보 {}개", products.size(), candidates.size());
+        } catch (Exception e) {
+            dirty.set(true);
+            log.error("함께 본 상품 추천 캐시 재구성 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 새로 계산한 추천 카드 목록으로 교체
+     */
+    void install(Map<Long, List<ViewTogetherProductResponseDto>> built) {
+        recommendations = built;
+        lastBuiltAt = System.currentTimeMillis();
+    }
+
+    /**
+     * 상품마다 카드로 쓸 경매 하나 선택 (진행 중 우선, 같은 상태면 최근 생성 경매)
+     */
+    private static List<Candidate> toCandidates(List<Auction> auctions) {
+        Map<Long, Auction> selected = new HashMap<>();
+        for (Auction auction : auctions) {
+            selected.merge(auction.getProduct().getId(), auction, ViewTogetherCache::prefer);
+        }
+        return selected.values().stream()
+                .map(auction -> {
+                    Product product = auction.getProduct();
+                    ViewTogetherProductResponseDto card = ViewTogetherProductResponseDto.fromProductWithCalculatedCount(
+                            product, auction, BigDecimal.ZERO, auction.getTotalBids());
+                    return new Candidate(card,
+                            product.getCategory() != null ? product.getCategory().name() : null,
+                            product.getBrand(), product.getStatus(), product.getCreatedAt(),
+                            auction.getStatus() == Auction.AuctionStatus.IN_PROGRESS);
+                })
+                .toList();
+    }
+
+    private static Auction prefer(Auction current, Auction other) {
+        boolean currentInProgress = current.getStatus() == Auction.AuctionStatus.IN_PROGRESS;
+        boolean otherInProgress = other.getStatus() == Auction.AuctionStatus.IN_PROGRESS;
+        if (currentInProgress != otherInProgress) {
+            return currentInProgress ? current : other;
+        }
+        if (current.getCreatedAt() == null || other.getCreatedAt() == null) {
+            return current.getCreatedAt() != null ? current : other;
+        }
+        return other.getCreatedAt().isAfter(current.getCreatedAt()) ? other : current;
+    }
+
+    /**
+     * 기준 상품별 점수 상위 K개 연관 상품 (카드 후보인 상품만, 점수 높은 순)
+     * 기존 조회가 연관도 행을 쓰는 상품(활성 상품과의 연관도 행이 있는 상품)은 카드 후보가 없어도 빈 목록으로 담습니다.
+     */
+    private Map<Long, List<ScoredTarget>> loadAssociations(Set<Long> candidateIds) {
+        Map<Long, PriorityQueue<ScoredTarget>> topTargets = new HashMap<>();
+        Set<Long> associatedSourceIds = new HashSet<>();
+        jdbcTemplate.query(ASSOCIATIONS_SQL, rs -> {
+            long sourceId = rs.getLong("source_product_id");
+            long targetId = rs.getLong("target_product_id");
+            if (Product.ProductStatus.ACTIVE.name().equals(rs.getString("target_status"))) {
+                associatedSourceIds.add(sourceId);
+            }
+            if (sourceId == targetId || !candidateIds.contains(targetId)) {
+                return;
+            }
+            PriorityQueue<ScoredTarget> queue = topTargets.computeIfAbsent(sourceId,
+                    id -> new PriorityQueue<>(LOWEST_SCORE));
+            queue.add(new ScoredTarget(targetId, rs.getBigDecimal("association_score")));
+            if (queue.size() > topK) {
+                queue.poll();
+            }
+        });
+
+        Map<Long, List<ScoredTarget>> associations = new HashMap<>(associatedSourceIds.size() * 2);
+        for (Long sourceId : associatedSourceIds) {
+            PriorityQueue<ScoredTarget> queue = topTargets.get(sourceId);
+            List<ScoredTarget> targets = queue != null ? new ArrayList<>(queue) : new ArrayList<>();
+            targets.sort(LOWEST_SCORE.reversed());
+            associations.put(sourceId, targets);
+        }
+        return associations;
+    }
+
+    /**
+     * 상품별 추천 카드 목록 계산
+     *
+     * @param products 기준 상품 (전체 상품)
+     * @param candidates 카드 후보 (진행 중/예약 경매가 있는 상품, 상품당 하나)
+     * @param associations 기준 상품 ID -> 점수 높은 순 연관 상품 (연관도 행이 없는 상품은 키가 없음)
+     * @param topK 상품당 카드 수
+     * @return 상품 ID -> 추천 카드 목록 (불변, 연관도 행이 없는 상품은 제외)
+     */
+    static Map<Long, List<ViewTogetherProductResponseDto>> build(
+            List<BaseProduct> products, Collection<Candidate> candidates,
+            Map<Long, List<ScoredTarget>> associations, int topK) {
+
+        Map<Long, Candidate> byProductId = new HashMap<>(candidates.size() * 2);
+        Map<String, List<Candidate>> byCategory = new HashMap<>();
+        Map<String, List<Candidate>> byBrand = new HashMap<>();
+        Map<CategoryBrand, List<Candidate>> byCategoryBrand = new HashMap<>();
+        List<Candidate> listed = new ArrayList<>();
+
+        for (Candidate candidate : candidates.stream().sorted(NEWEST).toList()) {
+            byProductId.put(candidate.productId(), candidate);
+            if (candidate.productStatus() == Product.ProductStatus.ACTIVE) {
+                byCategory.computeIfAbsent(candidate.category(), key -> new ArrayList<>()).add(candidate);
+                byBrand.computeIfAbsent(candidate.brand(), key -> new ArrayList<>()).add(candidate);
+                byCategoryBrand.computeIfAbsent(new CategoryBrand(candidate.category(), candidate.brand()),
+                        key -> new ArrayList<>()).add(candidate);
+            }
+            if (LISTED_PRODUCT_STATUSES.contains(candidate.productStatus())) {
+                listed.add(candidate);
+            }
+        }
+
+        Map<Long, List<ViewTogetherProductResponseDto>> result = new HashMap<>(products.size() * 2);
+        for (BaseProduct product : products) {
+            // 연관도 행이 없는 상품은 기존 조회의 실시간 연관도 계산으로 처리
+            List<ScoredTarget> targets = associations.get(product.productId());
+            if (targets == null) {
+                continue;
+            }
+            List<ViewTogetherProductResponseDto> cards = new ArrayList<>(topK);
+            Set<Long> picked = new HashSet<>();
+            picked.add(product.productId());
+
+            // 1. 연관도 점수 순
+            for (ScoredTarget target : targets) {
+                if (cards.size() >= topK) {
+                    break;
+                }
+                Candidate candidate = byProductId.get(target.productId());
+                if (candidate != null && picked.add(candidate.productId())) {
+                    cards.add(candidate.card().toBuilder().associationScore(target.score()).build());
+                }
+            }
+
+            int missing = topK - cards.size();
+            if (missing > 0) {
+                // 2. 같은 카테고리+브랜드, 같은 카테고리, 같은 브랜드 순 (진행 중 경매 우선)
+                Stream<Candidate> related = Stream.of(
+                                byCategoryBrand.getOrDefault(new CategoryBrand(product.category(), product.brand()), List.of()).stream(),
+                                byCategory.getOrDefault(product.category(), List.of()).stream()
+                                        .filter(candidate -> !Objects.equals(candidate.brand(), product.brand())),
+                                byBrand.getOrDefault(product.brand(), List.of()).stream()
+                                        .filter(candidate -> !Objects.equals(candidate.category(), product.category())))
+                        .flatMap(stream -> stream)
+                        .filter(candidate -> candidate.productId() != product.productId())
+                        .limit((long) missing * RELATED_SCAN_FACTOR);
+                List<Candidate> scheduled = new ArrayList<>();
+                Iterator<Candidate> iterator = related.iterator();
+                while (iterator.hasNext() && cards.size() < topK) {
+                    Candidate candidate = iterator.next();
+                    if (picked.contains(candidate.productId())) {
+                        continue;
+                    }
+                    if (candidate.inProgress()) {
+                        picked.add(candidate.productId());
+                        cards.add(candidate.card());
+                    } else {
+                        scheduled.add(candidate);
+                    }
+                }
+                for (Candidate candidate : scheduled) {
+                    if (cards.size() >= topK) {
+                        break;
+                    }
+                    picked.add(candidate.productId());
+                    cards.add(candidate.card());
+                }
+
+                // 3. 최근 등록 상품
+                Iterator<Candidate> latest = listed.stream()
+                        .filter(candidate -> candidate.productId() != product.productId())
+                        .limit((long) missing * LATEST_SCAN_FACTOR)
+                        .iterator();
+                while (latest.hasNext() && cards.size() < topK) {
+                    Candidate candidate = latest.next();
+                    if (picked.add(candidate.productId())) {
+                        cards.add(candidate.card());
+                    }
+                }
+            }
+
+            result.put(product.productId(), List.copyOf(cards));
+        }
+        return Map.copyOf(result);
+    }
+
+    /**
+     * 연관도 배치/실시간 반영 완료
+     */
+    @EventListener
+    public void onAssociationsUpdated(ProductAssociationsUpdatedEvent event) {
+        dirty.set(true);
+    }
+
+    /**
+     * 경매 생성/수정/상태 변경 (커밋 후, 종료/취소된 경매는 재구성 전에도 카드에서 뺌)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAuctionStatusChanged(AuctionStatusChangedEvent event) {
+        if (CLOSED_STATUSES.contains(event.getStatus())) {
+            closedAuctionIds.add(event.getAuctionId());
+        }
+        dirty.set(true);
+    }
+
+    /**
+     * 경매 시작/종료/취소/즉시구매 (아웃박스 전달)
+     */
+    @EventListener
+    public void onAuctionLifecycle(AuctionLifecycleEvent event) {
+        if (event.getEventType() != AuctionOutboxEvent.EventType.STARTED) {
+            closedAuctionIds.add(event.getAuctionId());
+        }
+        dirty.set(true);
+    }
+
+    /**
+     * 상품 변경 (커밋 후)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        dirty.set(true);
+    }
+
+    /**
+     * 입찰 반영 (현재가/입찰 수만 덮어 씀, 재구성하지 않음)
+     */
+    @EventListener
+    public void onBidStatsChanged(AuctionBidStatsChangedEvent event) {
+        bidStats.put(event.getAuctionId(), event);
+    }
+
+    /**
+     * 기준 상품
+     */
+    record BaseProduct(long productId, String category, String brand) {
+    }
+
+    /**
+     * 카드 후보 (상품과 카드로 쓸 경매)
+     */
+    record Candidate(ViewTogetherProductResponseDto card, String category, String brand,
+                     Product.ProductStatus productStatus, LocalDateTime createdAt, boolean inProgress) {
+
+        long productId() {
+            return card.getProductId();
+        }
+    }
+
+    /**
+     * 연관 상품과 점수
+     */
+    record ScoredTarget(long productId, BigDecimal score) {
+    }
+
+    private record CategoryBrand(String category, String brand) {
+    }
+}
@@ -0,0 +1,58 @@
+package com.highlight.highlight_backend.service.bid;
+
+import com.highlight.highlight_backend.domain.Auction;
+import com.highlight.highlight_backend.domain.AuctionBidder;
+import com.highlight.highlight_backend.domain.Bid;
+import com.highlight.highlight_backend.repository.AuctionBidderRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 경매 입찰 통계 서비스
+ * 
+ * 입찰이 저장될 때마다 경매 입찰자 행(AuctionBidder)과 경매의 입찰자 수/입찰 수를 증분 갱신합니다.
+ * 통계는 입찰 저장과 같은 트랜잭션에서 갱신되므로, 조회 시에는 Auction 의 컬럼을 그대로 읽으면 됩니다.
+ * 
+ * @author 전우선
+ * @since 2025.08.20
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuctionBidStatsService {
+    
+    private final AuctionBidderRepository auctionBidderRepository;
+    
+    /**
+     * 저장된 입찰을 통계에 반영
+     * 
+     * 입찰 수는 거래내역 표시 기준(사용자별 최신 입찰 1건)과 동일하게 입찰자 수와 함께 증가합니다.
+     * 
+     * @param auction 입찰한 경매 (영속 상태)
+     * @param bid 저장된 입찰
+     * @return 해당 경매에 처음 입찰한 사용자이면 true
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean recordBid(Auction auction, Bid bid) {
+        Long userId = bid.getUser().getId();
+        
+        AuctionBidder bidder = auctionBidderRepository.findByAuctionIdAndUserId(auction.getId(), userId)
+            .orElse(null);
+        
+        if (bidder != null) {
+            bidder.setLatestBidId(bid.getId());
+            return false;
+        }
+        
+        auctionBidderRepository.save(new AuctionBidder(auction.getId(), userId, bid.getId()));
+        auction.setTotalBidders(auction.getTotalBidders() + 1);
+        auction.setTotalBids(auction.getTotalBids() + 1);
+        
+        log.debug("경매 입찰자 추가: 경매ID={}, 사용자ID={}, 입찰자수={}", 
+                auction.getId(), userId, auction.getTotalBidders());
+        return true;
+    }
+}
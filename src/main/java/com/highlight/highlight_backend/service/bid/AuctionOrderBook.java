@@ -0,0 +1,509 @@
+package com.highlight.highlight_backend.service.bid;
+
+import com.highlight.highlight_backend.domain.Auction;
+import com.highlight.highlight_backend.domain.Bid;
+import com.highlight.highlight_backend.exception.AuctionErrorCode;
+import com.highlight.highlight_backend.exception.BusinessException;
+import com.highlight.highlight_backend.exception.CommonErrorCode;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 경매별 인메모리 호가창
+ *
+ * 진행 중인 경매 하나의 입찰 상태(현재 최고 입찰, 입찰자 집합, 입찰 횟수, 이미 사용된 입찰가)를
+ * 메모리에 보관하고, 입찰 요청을 DB 락 없이 검증/수락합니다.
+ * 자동 입찰(프록시 입찰)은 사용자별 최대 금액만 보관하고, 입찰이 수락될 때마다 같은 임계 구역 안에서
+ * 경쟁하는 자동 입찰을 한 번에 해소합니다. 최고 한도의 자동 입찰자가 (두 번째 한도 + 입찰 단위)로
+ * 한 번만 입찰하므로 자동 입찰 간의 중간 입찰은 생성되지 않습니다.
+ * 소프트 클로즈가 설정되면 종료 직전 구간의 입찰이 종료 시간을 연장하며, 종료 시간의 기준은 호가창입니다.
+ * 입찰 수락은 BidSequencer 의 경매별 단일 작성자가 순서대로 호출하므로 모니터 경합은 없으며,
+ * 모니터는 종료 처리와 통계 조회 등 다른 스레드에서의 접근에 대한 가시성을 보장합니다.
+ *
+ * @author 전우선
+ * @since 2025.08.20
+ */
+public class AuctionOrderBook {
+
+    @Getter
+    private final Long auctionId;
+    @Getter
+    private final String productName;
+    @Getter
+    private final BigDecimal startPrice;
+    @Getter
+    private final BigDecimal minimumBid;
+    @Getter
+    private final BigDecimal bidUnit;
+
+    /**
+     * 종료 예정 시간 (소프트 클로즈 연장 시 변경)
+     */
+    @Getter
+    private volatile LocalDateTime scheduledEndTime;
+
+    /**
+     * 소프트 클로즈: 종료 전 이 시간 안에 입찰이 들어오면 연장 (0이면 사용 안 함)
+     */
+    private final Duration softCloseWindow;
+
+    /**
+     * 소프트 클로즈: 연장 후 종료 시간 = 입찰 시간 + 연장 시간
+     */
+    private final Duration softCloseExtension;
+
+    /**
+     * 경매 상태 (종료/취소 시 close()로 변경)
+     */
+    @Getter
+    private volatile Auction.AuctionStatus status;
+
+    /**
+     * 무효화 여부 (DB와 어긋나 저장소에서 제거된 호가창, 이후 입찰은 모두 거부)
+     */
+    private boolean invalidated;
+
+    /**
+     * 현재 최고 입찰가 (입찰이 없으면 시작가)
+     */
+    @Getter
+    private BigDecimal currentHighestBid;
+
+    /**
+     * 현재 최고 입찰자 ID (입찰이 없으면 null)
+     */
+    @Getter
+    private Long topBidderId;
+
+    /**
+     * 마지막으로 DB에 저장된 최고 입찰 ID (write-behind 스레드만 갱신)
+     */
+    @Getter
+    private volatile Long persistedTopBidId;
+
+    /**
+     * 수락된 전체 입찰 횟수
+     */
+    @Getter
+    private long acceptedBidCount;
+
+    /**
+     * 입찰에 참여한 사용자 ID 집합
+     */
+    private final Set<Long> bidderIds = new HashSet<>();
+
+    /**
+     * 이미 사용된 입찰가 (선도착 우선 처리용, BigDecimal 스케일 무시를 위해 TreeSet 사용)
+     */
+    private final Set<BigDecimal> takenAmounts = new TreeSet<>();
+
+    /**
+     * 활성 자동 입찰 (사용자 ID -> 최대 금액/등록 순서)
+     */
+    private final Map<Long, ProxyBid> proxyBids = new HashMap<>();
+
+    /**
+     * 자동 입찰 등록 순서 (최대 금액이 같으면 먼저 등록한 사용자 우선)
+     */
+    private long proxySequence;
+
+    private AuctionOrderBook(Auction auction, Duration softCloseWindow, Duration softCloseExtension) {
+        this.auctionId = auction.getId();
+        this.productName = auction.getProduct() != null ? auction.getProduct().getProductName() : null;
+        this.startPrice = auction.getStartPrice();
+        this.minimumBid = auction.getMinimumBid();
+        this.bidUnit = auction.getBidUnit();
+        this.scheduledEndTime = auction.getScheduledEndTime();
+        this.softCloseWindow = softCloseWindow;
+        this.softCloseExtension = softCloseExtension;
+        this.status = auction.getStatus();
+        this.currentHighestBid = auction.getCurrentHighestBid();
+    }
+
+    /**
+     * DB의 경매/입찰 내역으로부터 호가창 생성
+     *
+     * @param auction 경매 엔티티 (상품 fetch 필요)
+     * @param bids 취소되지 않은 해당 경매의 입찰 목록 (사용자 fetch 필요)
+     * @return 복원된 호가창
+     */
+    public static AuctionOrderBook restore(Auction auction, List<Bid> bids) {
+        return restore(auction, bids, Duration.ZERO, Duration.ZERO);
+    }
+
+    /**
+     * DB의 경매/입찰 내역으로부터 호가창 생성 (소프트 클로즈 적용)
+     *
+     * @param auction 경매 엔티티 (상품 fetch 필요)
+     * @param bids 취소되지 않은 해당 경매의 입찰 목록 (사용자 fetch 필요)
+     * @param softCloseWindow 종료 전 연장 대상 구간 (0이면 연장하지 않음)
+     * @param softCloseExtension 연장 시 입찰 시간 기준 연장 시간
+     * @return 복원된 호가창
+     */
+    public static AuctionOrderBook restore(Auction auction, List<Bid> bids,
+                                           Duration softCloseWindow, Duration softCloseExtension) {
+        AuctionOrderBook book = new AuctionOrderBook(auction, softCloseWindow, softCloseExtension);
+
+        Bid topBid = null;
+        for (Bid bid : bids) {
+            book.bidderIds.add(bid.getUser().getId());
+            book.takenAmounts.add(bid.getBidAmount());
+            book.acceptedBidCount++;
+
+            if (bid.isActive() && (topBid == null || bid.getBidAmount().compareTo(topBid.getBidAmount()) > 0)) {
+                topBid = bid;
+            }
+        }
+
+        if (topBid != null) {
+            book.topBidderId = topBid.getUser().getId();
+            book.persistedTopBidId = topBid.getId();
+            if (book.currentHighestBid == null || topBid.getBidAmount().compareTo(book.currentHighestBid) > 0) {
+                book.currentHighestBid = topBid.getBidAmount();
+            }
+        }
+
+        // 사용자별 마지막 자동 입찰 한도로 자동 입찰 복원 (입찰 ID 순 = 등록 순)
+        for (Bid bid : bids) {
+            if (bid.isAutoBid() && bid.getMaxAutoBidAmount() != null) {
+                book.registerProxyBid(bid.getUser().getId(), bid.getMaxAutoBidAmount());
+            }
+        }
+        book.removeExhaustedProxyBids();
+
+        return book;
+    }
+
+    /**
+     * 입찰 검증 및 수락
+     *
+     * 검증 규칙은 기존 BidService.validateBidRequest 와 동일합니다.
+     *
+     * @param userId 입찰자 ID
+     * @param bidAmount 입찰 금액
+     * @param isAutoBid 자동 입찰 여부
+     * @param maxAutoBidAmount 자동 입찰 최대 금액
+     * @return 수락된 입찰 정보
+     */
+    public BidAcceptance accept(Long userId, BigDecimal bidAmount, boolean isAutoBid, BigDecimal maxAutoBidAmount) {
+        return accept(userId, bidAmount, isAutoBid, maxAutoBidAmount, LocalDateTime.now());
+    }
+
+    /**
+     * 입찰 검증 및 수락 (수락 시간 지정, 저널 재적용용)
+     *
+     * @param acceptedAt 수락 시간
+     * @return 수락된 입찰 정보
+     */
+    public synchronized BidAcceptance accept(Long userId, BigDecimal bidAmount, boolean isAutoBid,
+                                             BigDecimal maxAutoBidAmount, LocalDateTime acceptedAt) {
+        // 무효화된 호가창으로는 수락하지 않음 (다음 입찰에서 DB 기준으로 다시 복원)
+        if (invalidated) {
+            throw new BusinessException(CommonErrorCode.INTERNAL_SERVER_ERROR);
+        }
+
+        // 경매 진행 중 여부 확인
+        if (status != Auction.AuctionStatus.IN_PROGRESS) {
+            throw new BusinessException(AuctionErrorCode.CANNOT_START_AUCTION);
+        }
+
+        // 종료 시간이 지난 입찰 거부 (종료 처리 전이라도)
+        if (scheduledEndTime != null && acceptedAt.isAfter(scheduledEndTime)) {
+            throw new BusinessException(AuctionErrorCode.AUCTION_NOT_IN_PROGRESS);
+        }
+
+        // 입찰 금액 검증
+        if (currentHighestBid != null) {
+            // 기존 입찰이 있는 경우: 현재 최고가 + 최소 인상폭 이상
+            BigDecimal minimumRequiredBid = currentHighestBid.add(minimumBid);
+            if (bidAmount.compareTo(minimumRequiredBid) < 0) {
+                throw new BusinessException(AuctionErrorCode.INVALID_MINIMUM_BID);
+            }
+        } else if (bidAmount.compareTo(startPrice) < 0) {
+            // 첫 입찰인 경우: 시작가 이상
+            throw new BusinessException(AuctionErrorCode.INVALID_MINIMUM_BID);
+        }
+
+        // 입찰 단위 확인
+        if (!isValidBidUnit(bidAmount)) {
+            throw new BusinessException(AuctionErrorCode.BID_UNIT_MISMATCH);
+        }
+
+        // 동일한 금액으로 이미 입찰이 있는 경우 거부 (선도착 우선)
+        if (takenAmounts.contains(bidAmount)) {
+            throw new BusinessException(AuctionErrorCode.BID_AMOUNT_TOO_LOW);
+        }
+
+        // 자동 입찰 한도도 입찰 단위를 따라야 함 (자동 입찰 금액이 항상 단위에 맞도록)
+        boolean proxy = isAutoBid && maxAutoBidAmount != null;
+        if (proxy && !isValidBidUnit(maxAutoBidAmount)) {
+            throw new BusinessException(AuctionErrorCode.BID_UNIT_MISMATCH);
+        }
+
+        Long previousTopBidderId = topBidderId;
+        BigDecimal previousHighestBid = currentHighestBid;
+        boolean newBidder = bidderIds.add(userId);
+
+        if (proxy) {
+            registerProxyBid(userId, maxAutoBidAmount);
+        }
+
+        // 경쟁하는 자동 입찰 해소
+        BigDecimal finalAmount = bidAmount;
+        ProxyBid responder = resolveProxyBids(userId, bidAmount);
+        if (responder != null && responder.userId.equals(userId)) {
+            // 요청한 사용자 본인의 자동 입찰이 이기는 경우 요청 입찰가를 최종 금액으로 올림 (입찰 1건)
+            finalAmount = responder.resolvedAmount;
+            responder = null;
+        }
+
+        takenAmounts.add(finalAmount);
+        acceptedBidCount++;
+        currentHighestBid = finalAmount;
+        topBidderId = userId;
+
+        BidAcceptance proxyResponse = null;
+        if (responder != null) {
+            // 다른 사용자의 자동 입찰이 응답 (최종 금액으로 1건만 생성)
+            takenAmounts.add(responder.resolvedAmount);
+            acceptedBidCount++;
+            currentHighestBid = responder.resolvedAmount;
+            topBidderId = responder.userId;
+
+            proxyResponse = newAcceptance(responder.userId, responder.resolvedAmount, true, responder.maxAmount,
+                    userId, finalAmount, false, acceptedAt, null);
+        }
+        removeExhaustedProxyBids();
+
+        // 종료 직전 입찰이면 종료 시간 연장
+        LocalDateTime extendedEndTime = extendIfClosing(acceptedAt);
+
+        return newAcceptance(userId, finalAmount, isAutoBid, maxAutoBidAmount,
+                previousTopBidderId, previousHighestBid, newBidder, acceptedAt, proxyResponse)
+            .withExtendedEndTime(extendedEndTime);
+    }
+
+    /**
+     * 소프트 클로즈 연장 (임계 구역 안에서 호출)
+     *
+     * @param acceptedAt 입찰 수락 시간
+     * @return 연장된 종료 시간, 연장하지 않았으면 null
+     */
+    private LocalDateTime extendIfClosing(LocalDateTime acceptedAt) {
+        if (scheduledEndTime == null || softCloseWindow.isZero() || softCloseWindow.isNegative()) {
+            return null;
+        }
+        if (acceptedAt.isBefore(scheduledEndTime.minus(softCloseWindow))) {
+            return null;
+        }
+
+        LocalDateTime extended = acceptedAt.plus(softCloseExtension);
+        if (!extended.isAfter(scheduledEndTime)) {
+            return null;
+        }
+        scheduledEndTime = extended;
+        return extended;
+    }
+
+    /**
+     * 자동 입찰 경쟁 해소 (임계 구역 안에서 호출, 상태는 변경하지 않음)
+     *
+     * 한도가 가장 높은 자동 입찰자가 나머지 자동 입찰 한도와 방금 들어온 입찰가 중 가장 높은 금액에
+     * 입찰 단위를 더한 금액(자신의 한도 이내)으로 한 번 입찰합니다.
+     *
+     * @param userId 방금 입찰한 사용자 ID
+     * @param bidAmount 방금 들어온 입찰가
+     * @return 응답할 자동 입찰 (resolvedAmount 설정), 응답이 필요 없으면 null
+     */
+    private ProxyBid resolveProxyBids(Long userId, BigDecimal bidAmount) {
+        ProxyBid leader = null;
+        for (ProxyBid candidate : proxyBids.values()) {
+            if (leader == null || candidate.outranks(leader)) {
+                leader = candidate;
+            }
+        }
+        if (leader == null) {
+            return null;
+        }
+
+        // 리더가 넘어야 하는 금액: 다른 자동 입찰 한도, 리더가 아닌 사용자의 입찰가
+        BigDecimal challenger = leader.userId.equals(userId) ? null : bidAmount;
+        for (ProxyBid other : proxyBids.values()) {
+            if (other != leader && (challenger == null || other.maxAmount.compareTo(challenger) > 0)) {
+                challenger = other.maxAmount;
+            }
+        }
+        if (challenger == null) {
+            return null; // 경쟁 없음
+        }
+
+        BigDecimal increment = bidUnit != null && bidUnit.compareTo(BigDecimal.ZERO) > 0 ? bidUnit : minimumBid;
+        BigDecimal target = challenger.add(increment);
+
+        if (leader.userId.equals(userId)) {
+            // 리더 본인의 입찰: 요청 입찰가보다 높아야 의미가 있음
+            target = target.min(leader.maxAmount);
+            if (target.compareTo(bidAmount) <= 0) {
+                return null;
+            }
+        } else {
+            // 다른 사용자의 입찰에 대한 응답: 최소 인상폭 규칙도 만족해야 함
+            BigDecimal minimumRequiredBid = bidAmount.add(minimumBid);
+            target = target.max(minimumRequiredBid).min(leader.maxAmount);
+            if (target.compareTo(minimumRequiredBid) < 0 || takenAmounts.contains(target)) {
+                return null; // 한도 소진
+            }
+        }
+
+        leader.resolvedAmount = target;
+        return leader;
+    }
+
+    /**
+     * 자동 입찰 등록 (한도가 바뀌면 등록 순서도 갱신)
+     */
+    private void registerProxyBid(Long userId, BigDecimal maxAmount) {
+        ProxyBid existing = proxyBids.get(userId);
+        if (existing == null || existing.maxAmount.compareTo(maxAmount) != 0) {
+            proxyBids.put(userId, new ProxyBid(userId, maxAmount, ++proxySequence));
+        }
+    }
+
+    /**
+     * 더 이상 입찰할 수 없는 자동 입찰 제거 (현재 최고 입찰자 제외)
+     */
+    private void removeExhaustedProxyBids() {
+        if (currentHighestBid == null) {
+            return;
+        }
+        BigDecimal minimumNextBid = currentHighestBid.add(minimumBid);
+        proxyBids.values().removeIf(p -> !p.userId.equals(topBidderId) && p.maxAmount.compareTo(minimumNextBid) < 0);
+    }
+
+    private BidAcceptance newAcceptance(Long userId, BigDecimal bidAmount, boolean isAutoBid, BigDecimal maxAutoBidAmount,
+                                        Long previousTopBidderId, BigDecimal previousHighestBid, boolean newBidder,
+                                        LocalDateTime acceptedAt, BidAcceptance proxyResponse) {
+        return new BidAcceptance(
+            this,
+            userId,
+            bidAmount,
+            isAutoBid,
+            maxAutoBidAmount,
+            previousTopBidderId,
+            previousHighestBid,
+            newBidder,
+            getTotalBidders(),
+            getTotalBids(),
+            acceptedAt,
+            BidJournal.UNJOURNALED,
+            proxyResponse,
+            null
+        );
+    }
+
+    /**
+     * 경매 종료/취소 처리 (이후 입찰은 모두 거부)
+     *
+     * @param closedStatus 종료 후 경매 상태
+     */
+    public synchronized void close(Auction.AuctionStatus closedStatus) {
+        this.status = closedStatus;
+    }
+
+    /**
+     * 호가창 무효화 (저장 실패 등으로 DB와 어긋난 경우, 이후 입찰은 모두 거부)
+     */
+    public synchronized void invalidate() {
+        this.invalidated = true;
+    }
+
+    /**
+     * 종료 시간이 지난 경우에만 경매 종료 처리 (소프트 클로즈로 연장되었으면 종료하지 않음)
+     *
+     * @param now 현재 시간
+     * @param closedStatus 종료 후 경매 상태
+     * @return 종료 처리했으면 true
+     */
+    public synchronized boolean closeIfExpired(LocalDateTime now, Auction.AuctionStatus closedStatus) {
+        if (scheduledEndTime != null && now.isBefore(scheduledEndTime)) {
+            return false;
+        }
+        this.status = closedStatus;
+        return true;
+    }
+
+    /**
+     * write-behind 스레드가 입찰 저장 완료 후 호출
+     *
+     * @param bidId 저장된 최고 입찰 ID
+     */
+    public void markPersisted(Long bidId) {
+        this.persistedTopBidId = bidId;
+    }
+
+    /**
+     * 총 입찰자 수 (사용자 기준)
+     */
+    public synchronized long getTotalBidders() {
+        return bidderIds.size();
+    }
+
+    /**
+     * 사용자별 최신 입찰 수 (거래내역 표시 기준과 동일하게 사용자당 1건)
+     */
+    public synchronized long getTotalBids() {
+        return bidderIds.size();
+    }
+
+    /**
+     * 현재 활성 자동 입찰 수
+     */
+    public synchronized int getActiveProxyBidCount() {
+        return proxyBids.size();
+    }
+
+    /**
+     * 입찰 단위 유효성 검증
+     */
+    private boolean isValidBidUnit(BigDecimal bidAmount) {
+        if (bidUnit == null || bidUnit.compareTo(BigDecimal.ZERO) <= 0) {
+            return true; // 입찰 단위가 설정되지 않은 경우 통과
+        }
+
+        return bidAmount.remainder(bidUnit).compareTo(BigDecimal.ZERO) == 0;
+    }
+
+    /**
+     * 자동 입찰 (사용자별 최대 금액)
+     */
+    private static final class ProxyBid {
+
+        private final Long userId;
+        private final BigDecimal maxAmount;
+        private final long sequence;
+        private BigDecimal resolvedAmount;
+
+        private ProxyBid(Long userId, BigDecimal maxAmount, long sequence) {
+            this.userId = userId;
+            this.maxAmount = maxAmount;
+            this.sequence = sequence;
+        }
+
+        /**
+         * 한도가 더 높거나, 같으면 먼저 등록된 경우 우선
+         */
+        private boolean outranks(ProxyBid other) {
+            int compared = maxAmount.compareTo(other.maxAmount);
+            return compared > 0 || (compared == 0 && sequence < other.sequence);
+        }
+    }
+}
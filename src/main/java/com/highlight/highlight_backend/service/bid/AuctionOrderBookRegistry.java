@@ -0,0 +1,152 @@
+package com.highlight.highlight_backend.service.bid;
+
+import com.highlight.highlight_backend.domain.Auction;
+import com.highlight.highlight_backend.domain.Bid;
+import com.highlight.highlight_backend.exception.AuctionErrorCode;
+import com.highlight.highlight_backend.exception.BusinessException;
+import com.highlight.highlight_backend.repository.AuctionRepository;
+import com.highlight.highlight_backend.repository.BidRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 진행 중인 경매의 호가창 저장소
+ *
+ * 경매별 호가창을 최초 입찰 시 DB에서 한 번 복원하여 보관하고,
+ * 경매가 종료/취소되면 닫은 뒤 제거합니다.
+ * 소프트 클로즈(auction.soft-close.*) 설정은 복원하는 호가창에 적용되며, 기본은 꺼져 있습니다 (enabled=true 로 사용).
+ *
+ * @author 전우선
+ * @since 2025.08.20
+ */
+@Slf4j
+@Component
+public class AuctionOrderBookRegistry {
+
+    private final AuctionRepository auctionRepository;
+    private final BidRepository bidRepository;
+    private final Duration softCloseWindow;
+    private final Duration softCloseExtension;
+
+    private final Map<Long, AuctionOrderBook> orderBooks = new ConcurrentHashMap<>();
+
+    public AuctionOrderBookRegistry(AuctionRepository auctionRepository,
+                                    BidRepository bidRepository,
+                                    @Value("${auction.soft-close.enabled:false}") boolean softCloseEnabled,
+                                    @Value("${auction.soft-close.window-seconds:30}") long windowSeconds,
+                                    @Value("${auction.soft-close.extension-seconds:30}") long extensionSeconds) {
+        this.auctionRepository = auctionRepository;
+        this.bidRepository = bidRepository;
+        this.softCloseWindow = softCloseEnabled ? Duration.ofSeconds(Math.max(0, windowSeconds)) : Duration.ZERO;
+        this.softCloseExtension = Duration.ofSeconds(Math.max(0, extensionSeconds));
+    }
+
+    /**
+     * 호가창 조회 (없으면 DB에서 복원)
+     *
+     * 진행 중인 경매만 캐싱하며, 그 외 상태의 경매는 입찰 불가로 처리합니다.
+     *
+     * @param auctionId 경매 ID
+     * @return 경매 호가창
+     */
+    public AuctionOrderBook getOrLoad(Long auctionId) {
+        AuctionOrderBook book = orderBooks.get(auctionId);
+        if (book != null) {
+            return book;
+        }
+
+        Auction auction = auctionRepository.findByIdWithProduct(auctionId)
+            .orElseThrow(() -> new BusinessException(AuctionErrorCode.AUCTION_NOT_FOUND));
+
+        if (!auction.isInProgress()) {
+            throw new BusinessException(AuctionErrorCode.CANNOT_START_AUCTION);
+        }
+
+        List<Bid> bids = bidRepository.findAllByAuctionIdWithUser(auctionId);
+        AuctionOrderBook loaded = AuctionOrderBook.restore(auction, bids, softCloseWindow, softCloseExtension);
+
+        AuctionOrderBook existing = orderBooks.putIfAbsent(auctionId, loaded);
+        if (existing != null) {
+            return existing;
+        }
+
+        log.info("호가창 복원 완료: 경매ID={}, 입찰자수={}, 현재최고가={}",
+                auctionId, loaded.getTotalBidders(), loaded.getCurrentHighestBid());
+        return loaded;
+    }
+
+    /**
+     * 캐싱된 호가창 조회 (DB 접근 없음)
+     *
+     * @param auctionId 경매 ID
+     * @return 호가창 (없으면 null)
+     */
+    public AuctionOrderBook find(Long auctionId) {
+        return orderBooks.get(auctionId);
+    }
+
+    /**
+     * 경매 종료/취소 시 호가창을 닫고 제거
+     *
+     * @param auctionId 경매 ID
+     * @param closedStatus 종료 후 경매 상태
+     */
+    public void close(Long auctionId, Auction.AuctionStatus closedStatus) {
+        AuctionOrderBook book = orderBooks.remove(auctionId);
+        if (book != null) {
+            book.close(closedStatus);
+            log.info("호가창 종료: 경매ID={}, 상태={}", auctionId, closedStatus);
+        }
+    }
+
+    /**
+     * 종료 시간이 지난 경우에만 호가창을 닫고 제거
+     *
+     * 호가창이 없으면(이 노드에서 입찰이 없었던 경매) true 를 반환합니다. 다른 노드의 연장은 이 노드의 호가창이 모르므로,
+     * 종료 여부는 저장 완료 대기 후 경매 행 락을 잡고 읽은 DB의 종료 시간으로 최종 확인합니다
+     * (AuctionSchedulerService.endAuctionIfExpired).
+     *
+     * @param auctionId 경매 ID
+     * @param now 현재 시간
+     * @return 종료해도 되면 true, 소프트 클로즈로 연장되었으면 false
+     */
+    public boolean closeIfExpired(Long auctionId, LocalDateTime now) {
+        AuctionOrderBook book = orderBooks.get(auctionId);
+        if (book == null) {
+            return true;
+        }
+        if (!book.closeIfExpired(now, Auction.AuctionStatus.COMPLETED)) {
+            log.info("소프트 클로즈 연장으로 종료 보류: 경매ID={}, 종료예정={}", auctionId, book.getScheduledEndTime());
+            return false;
+        }
+        orderBooks.remove(auctionId, book);
+        log.info("호가창 종료: 경매ID={}, 상태={}", auctionId, Auction.AuctionStatus.COMPLETED);
+        return true;
+    }
+
+    /**
+     * 호가창 무효화 (저장 실패 등으로 DB와 불일치할 때, 다음 입찰 시 다시 복원)
+     *
+     * 제거 전에 호가창을 무효화하여, 이미 호가창을 잡은 입찰도 수락되지 않도록 합니다.
+     * 복원은 write-behind 큐에 남은 입찰이 모두 처리된 뒤에 해야 합니다 (BidService 참고).
+     *
+     * @param auctionId 경매 ID
+     */
+    public void invalidate(Long auctionId) {
+        AuctionOrderBook book = orderBooks.get(auctionId);
+        if (book == null) {
+            return;
+        }
+        book.invalidate();
+        if (orderBooks.remove(auctionId, book)) {
+            log.warn("호가창 무효화: 경매ID={}", auctionId);
+        }
+    }
+}
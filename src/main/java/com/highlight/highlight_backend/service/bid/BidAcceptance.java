@@ -0,0 +1,102 @@
+package com.highlight.highlight_backend.service.bid;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.With;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 호가창에서 수락된 입찰 정보
+ *
+ * 수락 시점의 호가창 상태를 함께 담아 write-behind 저장 단계로 전달합니다.
+ *
+ * @author 전우선
+ * @since 2025.08.20
+ */
+@Getter
+@AllArgsConstructor
+public class BidAcceptance {
+
+    /**
+     * 입찰을 수락한 호가창
+     */
+    private final AuctionOrderBook orderBook;
+
+    /**
+     * 입찰자 ID
+     */
+    private final Long userId;
+
+    /**
+     * 입찰 금액
+     */
+    private final BigDecimal bidAmount;
+
+    /**
+     * 자동 입찰 여부
+     */
+    private final boolean autoBid;
+
+    /**
+     * 자동 입찰 최대 금액
+     */
+    private final BigDecimal maxAutoBidAmount;
+
+    /**
+     * 직전 최고 입찰자 ID (첫 입찰이면 null)
+     */
+    private final Long previousTopBidderId;
+
+    /**
+     * 직전 최고 입찰가
+     */
+    private final BigDecimal previousHighestBid;
+
+    /**
+     * 해당 경매에 처음 입찰한 사용자인지 여부
+     */
+    private final boolean newBidder;
+
+    /**
+     * 수락 후 총 입찰자 수
+     */
+    private final long totalBidders;
+
+    /**
+     * 수락 후 사용자별 최신 입찰 수
+     */
+    private final long totalBids;
+
+    /**
+     * 수락 시간
+     */
+    private final LocalDateTime acceptedAt;
+
+    /**
+     * 입찰 저널 시퀀스 (저널에 기록되지 않았으면 BidJournal.UNJOURNALED)
+     */
+    @With
+    private final long journalSequence;
+
+    /**
+     * 이 입찰에 대한 자동 입찰 응답 (경쟁하는 자동 입찰이 없으면 null)
+     * 응답 입찰이 있으면 이 입찰은 즉시 밀리므로 NEW_BID 알림은 응답 입찰에서 한 번만 전송합니다.
+     */
+    @With
+    private final BidAcceptance proxyResponse;
+
+    /**
+     * 소프트 클로즈로 연장된 경매 종료 시간 (연장되지 않았으면 null)
+     */
+    @With
+    private final LocalDateTime extendedEndTime;
+
+    /**
+     * 경매 ID
+     */
+    public Long getAuctionId() {
+        return orderBook.getAuctionId();
+    }
+}
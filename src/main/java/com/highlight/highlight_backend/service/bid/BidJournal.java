@@ -0,0 +1,589 @@
+package com.highlight.highlight_backend.service.bid;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * 입찰 저널 (로컬 디스크 append-only 로그)
+ *
+ * 호가창에서 수락된 입찰을 DB 저장 전에 메모리 매핑된 세그먼트 파일에 순차 기록합니다.
+ * 기록은 전용 sync 스레드가 모아서 한 번에 fsync(force) 하므로, 여러 입찰이 하나의 디스크 동기화를 공유합니다.
+ * write-behind 저장이 커밋되면 해당 입찰의 적용 완료 레코드를 남기고,
+ * 적용되지 않은 입찰이 남아 있지 않은 세그먼트는 삭제합니다.
+ *
+ * 기동 시에는 남아 있는 세그먼트를 읽어 적용 완료 레코드가 없는 입찰 목록을 복원합니다 (BidJournalRecoveryService).
+ *
+ * 레코드 형식: [payload 길이(int)][CRC32(int)][payload], 길이가 0이거나 CRC가 맞지 않으면 세그먼트의 끝으로 봅니다.
+ *
+ * @author 전우선
+ * @since 2025.08.20
+ */
+@Slf4j
+@Component
+public class BidJournal {
+
+    /**
+     * 저널에 기록되지 않은 입찰의 시퀀스
+     */
+    public static final long UNJOURNALED = -1L;
+
+    private static final String SEGMENT_PREFIX = "bid-journal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final int RECORD_HEADER_SIZE = 8;
+    private static final byte TYPE_ACCEPT = 1;
+    private static final byte TYPE_APPLIED = 2;
+
+    private final boolean enabled;
+    private final Path directory;
+    private final int segmentSize;
+    private final long syncIntervalNanos;
+
+    /**
+     * 기동 시 복원된 미적용 입찰 (시퀀스 순)
+     */
+    private List<Entry> recoveredEntries = List.of();
+
+    /**
+     * 기동 시 세그먼트를 읽어 미적용 입찰을 복원하는 데 걸린 시간
+     */
+    private Duration recoveryDuration = Duration.ZERO;
+
+    /**
+     * 세그먼트 목록 (첫 시퀀스 -> 세그먼트), 모니터로 보호
+     */
+    private final NavigableMap<Long, Segment> segments = new TreeMap<>();
+    private Segment activeSegment;
+    private long nextSequence = 1;
+
+    /**
+     * 마지막으로 기록한 시퀀스 / 디스크에 동기화된 시퀀스
+     */
+    private volatile long writtenSequence;
+    private volatile long durableSequence;
+
+    private final ConcurrentNavigableMap<Long, CompletableFuture<Void>> syncWaiters = new ConcurrentSkipListMap<>();
+    private final Object syncSignal = new Object();
+    private final Thread syncThread;
+    private volatile boolean running = true;
+
+    public BidJournal(@Value("${bid.journal.enabled:true}") boolean enabled,
+                      @Value("${bid.journal.path:./data/bid-journal}") String path,
+                      @Value("${bid.journal.segment-size-mb:64}") int segmentSizeMb,
+                      @Value("${bid.journal.sync-interval-ms:1}") long syncIntervalMs) {
+        this.enabled = enabled;
+        this.directory = Paths.get(path);
+        this.segmentSize = Math.max(1, segmentSizeMb) * 1024 * 1024;
+        this.syncIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, syncIntervalMs));
+
+        if (!enabled) {
+            this.syncThread = null;
+            log.info("입찰 저널 비활성화");
+            return;
+        }
+
+        try {
+            Files.createDirectories(directory);
+            long startedAt = System.nanoTime();
+            recover();
+            this.recoveryDuration = Duration.ofNanos(System.nanoTime() - startedAt);
+            openSegment(nextSegmentIndex());
+        } catch (IOException e) {
+            throw new UncheckedIOException("입찰 저널 초기화 실패: " + directory, e);
+        }
+
+        this.syncThread = new Thread(this::runSync, "bid-journal-sync");
+        this.syncThread.setDaemon(true);
+        this.syncThread.start();
+    }
+
+    /**
+     * 수락된 입찰 기록 (디스크 동기화는 sync()로 대기)
+     *
+     * @return 저널 시퀀스 (저널 비활성화 시 UNJOURNALED)
+     */
+    public long append(BidAcceptance acceptance) {
+        return append(acceptance.getAuctionId(), acceptance.getUserId(), acceptance.getBidAmount(),
+                acceptance.isAutoBid(), acceptance.getMaxAutoBidAmount(), acceptance.getAcceptedAt());
+    }
+
+    /**
+     * 수락된 입찰 기록 (디스크 동기화는 sync()로 대기)
+     *
+     * @return 저널 시퀀스 (저널 비활성화 시 UNJOURNALED)
+     */
+    public long append(Long auctionId, Long userId, BigDecimal bidAmount, boolean autoBid,
+                       BigDecimal maxAutoBidAmount, LocalDateTime acceptedAt) {
+        if (!enabled) {
+            return UNJOURNALED;
+        }
+
+        long sequence;
+        synchronized (this) {
+            sequence = nextSequence;
+            write(encodeAccept(new Entry(sequence, auctionId, userId, bidAmount,
+                    autoBid, maxAutoBidAmount, acceptedAt)));
+            nextSequence++;
+            activeSegment.outstanding++;
+            writtenSequence = sequence;
+        }
+
+        synchronized (syncSignal) {
+            syncSignal.notifyAll();
+        }
+        return sequence;
+    }
+
+    /**
+     * 해당 시퀀스까지 디스크 동기화 완료 대기
+     *
+     * @param sequence append()가 반환한 시퀀스
+     * @return 동기화 완료 시 완료되는 Future
+     */
+    public CompletableFuture<Void> sync(long sequence) {
+        if (!enabled || sequence == UNJOURNALED || sequence <= durableSequence) {
+            return CompletableFuture.completedFuture(null);
+        }
+        if (!running) {
+            return CompletableFuture.failedFuture(new IllegalStateException("입찰 저널이 종료되었습니다."));
+        }
+
+        CompletableFuture<Void> future = syncWaiters.computeIfAbsent(sequence, s -> new CompletableFuture<>());
+        // sync 스레드가 이미 지나간 경우
+        if (sequence <= durableSequence) {
+            completeWaiters(durableSequence);
+        }
+        return future;
+    }
+
+    /**
+     * DB 반영(또는 재적용 불필요)이 끝난 입찰 기록
+     * 적용되지 않은 입찰이 없는 이전 세그먼트는 삭제합니다.
+     *
+     * @param sequences 저널 시퀀스 목록
+     */
+    public void markApplied(Collection<Long> sequences) {
+        if (!enabled) {
+            return;
+        }
+
+        List<Long> journaled = sequences.stream().filter(s -> s != UNJOURNALED).toList();
+        if (journaled.isEmpty()) {
+            return;
+        }
+
+        synchronized (this) {
+            // 적용 완료 레코드는 유실되어도 재적용이 멱등하므로 별도 동기화하지 않음
+            write(encodeApplied(journaled));
+
+            for (Long sequence : journaled) {
+                Map.Entry<Long, Segment> floor = segments.floorEntry(sequence);
+                if (floor != null) {
+                    floor.getValue().outstanding--;
+                }
+            }
+            deleteAppliedSegments();
+        }
+    }
+
+    /**
+     * 기동 시 복원된 미적용 입찰 목록 반환 (한 번만 반환)
+     */
+    public synchronized List<Entry> drainRecoveredEntries() {
+        List<Entry> entries = recoveredEntries;
+        recoveredEntries = List.of();
+        return entries;
+    }
+
+    /**
+     * 기동 시 저널 복원 소요 시간 (비활성화 시 0)
+     */
+    public Duration getRecoveryDuration() {
+        return recoveryDuration;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 애플리케이션 종료 시 남은 기록을 동기화하고 종료
+     */
+    @PreDestroy
+    public void close() {
+        if (!enabled) {
+            return;
+        }
+        running = false;
+        synchronized (syncSignal) {
+            syncSignal.notifyAll();
+        }
+        try {
+            syncThread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        synchronized (this) {
+            forceActiveSegment();
+            completeWaiters(writtenSequence);
+            for (Segment segment : segments.values()) {
+                segment.closeQuietly();
+            }
+        }
+    }
+
+    /**
+     * sync 스레드: 기록된 내용이 있으면 모아서 한 번에 디스크 동기화
+     */
+    private void runSync() {
+        while (running) {
+            try {
+                synchronized (syncSignal) {
+                    while (running && writtenSequence == durableSequence) {
+                        syncSignal.wait(100);
+                    }
+                }
+                if (syncIntervalNanos > 0) {
+                    TimeUnit.NANOSECONDS.sleep(syncIntervalNanos); // 그룹 동기화를 위한 대기
+                }
+
+                long target;
+                MappedByteBuffer buffer;
+                synchronized (this) {
+                    target = writtenSequence;
+                    buffer = activeSegment.buffer;
+                }
+                buffer.force();
+
+                durableSequence = target;
+                completeWaiters(target);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("입찰 저널 동기화 실패: {}", e.getMessage(), e);
+                failWaiters(e);
+            }
+        }
+    }
+
+    private void completeWaiters(long upTo) {
+        ConcurrentNavigableMap<Long, CompletableFuture<Void>> completed = syncWaiters.headMap(upTo, true);
+        for (Long sequence : new ArrayList<>(completed.keySet())) {
+            CompletableFuture<Void> future = syncWaiters.remove(sequence);
+            if (future != null) {
+                future.complete(null);
+            }
+        }
+    }
+
+    private void failWaiters(Throwable cause) {
+        for (Long sequence : new ArrayList<>(syncWaiters.keySet())) {
+            CompletableFuture<Void> future = syncWaiters.remove(sequence);
+            if (future != null) {
+                future.completeExceptionally(cause);
+            }
+        }
+    }
+
+    /**
+     * 레코드 기록 (모니터 안에서 호출, 현재 세그먼트에 자리가 없으면 새 세그먼트로 전환)
+     */
+    private void write(ByteBuffer payload) {
+        int recordSize = RECORD_HEADER_SIZE + payload.remaining();
+        if (recordSize + RECORD_HEADER_SIZE > segmentSize) {
+            throw new IllegalArgumentException("입찰 저널 레코드가 세그먼트보다 큽니다: " + recordSize);
+        }
+
+        // 세그먼트 끝 표시(길이 0)를 위한 공간을 남겨둠
+        if (activeSegment.buffer.remaining() < recordSize + RECORD_HEADER_SIZE) {
+            rollSegment();
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(payload.duplicate());
+
+        MappedByteBuffer buffer = activeSegment.buffer;
+        buffer.putInt(payload.remaining());
+        buffer.putInt((int) crc.getValue());
+        buffer.put(payload);
+    }
+
+    /**
+     * 현재 세그먼트를 동기화한 뒤 새 세그먼트로 전환
+     */
+    private void rollSegment() {
+        forceActiveSegment();
+        durableSequence = writtenSequence;
+        completeWaiters(durableSequence);
+
+        try {
+            openSegment(activeSegment.index + 1);
+        } catch (IOException e) {
+            throw new UncheckedIOException("입찰 저널 세그먼트 생성 실패", e);
+        }
+        deleteAppliedSegments();
+    }
+
+    private void forceActiveSegment() {
+        if (activeSegment != null) {
+            activeSegment.buffer.force();
+        }
+    }
+
+    private void openSegment(int index) throws IOException {
+        Path file = directory.resolve(String.format("%s%08d%s", SEGMENT_PREFIX, index, SEGMENT_SUFFIX));
+        FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+
+        activeSegment = new Segment(index, file, channel, buffer);
+        segments.put(nextSequence, activeSegment);
+    }
+
+    /**
+     * 현재 세그먼트를 제외하고 미적용 입찰이 없는 세그먼트 삭제
+     */
+    private void deleteAppliedSegments() {
+        segments.entrySet().removeIf(entry -> {
+            Segment segment = entry.getValue();
+            if (segment == activeSegment || segment.outstanding > 0) {
+                return false;
+            }
+            segment.closeQuietly();
+            try {
+                Files.deleteIfExists(segment.file);
+            } catch (IOException e) {
+                log.warn("입찰 저널 세그먼트 삭제 실패: {}", segment.file, e);
+            }
+            return true;
+        });
+    }
+
+    /**
+     * 기존 세그먼트를 읽어 미적용 입찰 복원 및 다음 시퀀스 결정
+     */
+    private void recover() throws IOException {
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(directory)) {
+            files = stream
+                .filter(p -> p.getFileName().toString().startsWith(SEGMENT_PREFIX))
+                .filter(p -> p.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                .sorted()
+                .toList();
+        }
+
+        TreeMap<Long, Entry> accepted = new TreeMap<>();
+        Map<Long, Path> fileBySequence = new HashMap<>();
+        Set<Long> applied = new HashSet<>();
+        long maxSequence = 0;
+
+        for (Path file : files) {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                while (buffer.remaining() >= RECORD_HEADER_SIZE) {
+                    int length = buffer.getInt();
+                    int checksum = buffer.getInt();
+                    if (length <= 0 || length > buffer.remaining()) {
+                        break; // 세그먼트 끝 또는 기록 중 중단된 레코드
+                    }
+
+                    ByteBuffer payload = buffer.slice(buffer.position(), length);
+                    buffer.position(buffer.position() + length);
+
+                    CRC32 crc = new CRC32();
+                    crc.update(payload.duplicate());
+                    if ((int) crc.getValue() != checksum) {
+                        log.warn("입찰 저널 레코드 손상: 파일={}, 위치={}", file, buffer.position() - length);
+                        break;
+                    }
+
+                    try {
+                        byte type = payload.get();
+                        if (type == TYPE_ACCEPT) {
+                            Entry entry = decodeAccept(payload);
+                            accepted.put(entry.sequence(), entry);
+                            fileBySequence.put(entry.sequence(), file);
+                            maxSequence = Math.max(maxSequence, entry.sequence());
+                        } else if (type == TYPE_APPLIED) {
+                            int count = payload.getInt();
+                            for (int i = 0; i < count; i++) {
+                                long sequence = payload.getLong();
+                                applied.add(sequence);
+                                maxSequence = Math.max(maxSequence, sequence);
+                            }
+                        }
+                    } catch (BufferUnderflowException e) {
+                        log.warn("입찰 저널 레코드 해석 실패: 파일={}", file);
+                        break;
+                    }
+                }
+            }
+        }
+
+        accepted.keySet().removeAll(applied);
+        this.recoveredEntries = List.copyOf(accepted.values());
+        this.nextSequence = maxSequence + 1;
+        this.writtenSequence = maxSequence;
+        this.durableSequence = maxSequence;
+
+        // 미적용 입찰이 남은 세그먼트만 유지 (키: 세그먼트의 첫 미적용 시퀀스, 재적용 후 markApplied 로 삭제)
+        Map<Path, Segment> retained = new HashMap<>();
+        for (Entry entry : recoveredEntries) {
+            Path file = fileBySequence.get(entry.sequence());
+            Segment segment = retained.computeIfAbsent(file, f -> {
+                Segment restored = new Segment(parseIndex(f), f, null, null);
+                segments.put(entry.sequence(), restored);
+                return restored;
+            });
+            segment.outstanding++;
+        }
+        for (Path file : files) {
+            if (!retained.containsKey(file)) {
+                Files.deleteIfExists(file);
+            }
+        }
+
+        if (!files.isEmpty()) {
+            log.info("입찰 저널 읽기 완료: 세그먼트={}개, 미적용 입찰={}건, 마지막 시퀀스={}",
+                    files.size(), recoveredEntries.size(), maxSequence);
+        }
+    }
+
+    private int nextSegmentIndex() throws IOException {
+        try (Stream<Path> stream = Files.list(directory)) {
+            return stream
+                .filter(p -> p.getFileName().toString().startsWith(SEGMENT_PREFIX))
+                .mapToInt(BidJournal::parseIndex)
+                .max()
+                .orElse(0) + 1;
+        }
+    }
+
+    private static int parseIndex(Path file) {
+        String name = file.getFileName().toString();
+        return Integer.parseInt(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static ByteBuffer encodeAccept(Entry entry) {
+        byte[] amount = entry.bidAmount().unscaledValue().toByteArray();
+        byte[] maxAmount = entry.maxAutoBidAmount() != null
+                ? entry.maxAutoBidAmount().unscaledValue().toByteArray() : new byte[0];
+
+        ByteBuffer buffer = ByteBuffer.allocate(1 + 8 * 3 + 1 + 8 + 4 + 4 + 2 + amount.length + 1 + 4 + 2 + maxAmount.length);
+        buffer.put(TYPE_ACCEPT);
+        buffer.putLong(entry.sequence());
+        buffer.putLong(entry.auctionId());
+        buffer.putLong(entry.userId());
+        buffer.put((byte) (entry.autoBid() ? 1 : 0));
+        buffer.putLong(entry.acceptedAt().toEpochSecond(ZoneOffset.UTC));
+        buffer.putInt(entry.acceptedAt().getNano());
+        putDecimal(buffer, entry.bidAmount().scale(), amount);
+        buffer.put((byte) (entry.maxAutoBidAmount() != null ? 1 : 0));
+        putDecimal(buffer, entry.maxAutoBidAmount() != null ? entry.maxAutoBidAmount().scale() : 0, maxAmount);
+        return buffer.flip();
+    }
+
+    private static Entry decodeAccept(ByteBuffer buffer) {
+        long sequence = buffer.getLong();
+        long auctionId = buffer.getLong();
+        long userId = buffer.getLong();
+        boolean autoBid = buffer.get() == 1;
+        LocalDateTime acceptedAt = LocalDateTime.ofEpochSecond(buffer.getLong(), buffer.getInt(), ZoneOffset.UTC);
+        BigDecimal bidAmount = getDecimal(buffer);
+        boolean hasMax = buffer.get() == 1;
+        BigDecimal maxAutoBidAmount = getDecimal(buffer);
+        return new Entry(sequence, auctionId, userId, bidAmount, autoBid, hasMax ? maxAutoBidAmount : null, acceptedAt);
+    }
+
+    private static ByteBuffer encodeApplied(List<Long> sequences) {
+        ByteBuffer buffer = ByteBuffer.allocate(1 + 4 + 8 * sequences.size());
+        buffer.put(TYPE_APPLIED);
+        buffer.putInt(sequences.size());
+        sequences.forEach(buffer::putLong);
+        return buffer.flip();
+    }
+
+    private static void putDecimal(ByteBuffer buffer, int scale, byte[] unscaled) {
+        buffer.putInt(scale);
+        buffer.putShort((short) unscaled.length);
+        buffer.put(unscaled);
+    }
+
+    private static BigDecimal getDecimal(ByteBuffer buffer) {
+        int scale = buffer.getInt();
+        byte[] unscaled = new byte[buffer.getShort()];
+        buffer.get(unscaled);
+        return unscaled.length == 0 ? null : new BigDecimal(new BigInteger(unscaled), scale);
+    }
+
+    /**
+     * 저널에 기록된 수락 입찰
+     */
+    public record Entry(long sequence, Long auctionId, Long userId, BigDecimal bidAmount, boolean autoBid,
+                        BigDecimal maxAutoBidAmount, LocalDateTime acceptedAt) {
+    }
+
+    /**
+     * 저널 세그먼트 파일 (복원 대기 중인 이전 세그먼트는 매핑하지 않음)
+     */
+    private static final class Segment {
+
+        private final int index;
+        private final Path file;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private int outstanding;
+
+        private Segment(int index, Path file, FileChannel channel, MappedByteBuffer buffer) {
+            this.index = index;
+            this.file = file;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+
+        private void closeQuietly() {
+            if (channel == null) {
+                return;
+            }
+            try {
+                channel.close();
+            } catch (IOException e) {
+                log.warn("입찰 저널 세그먼트 닫기 실패: {}", file, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.highlight.highlight_backend.service.bid;
+
+import com.highlight.highlight_backend.exception.BusinessException;
+import com.highlight.highlight_backend.service.AuctionTimerService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 입찰 저널 복구 서비스
+ *
+ * 기동 시(웹 서버가 요청을 받기 전) 저널에 남은 미적용 입찰을 경매별 수락 순서대로 호가창에 다시 적용하고,
+ * write-behind 로 DB에 저장합니다. 호가창은 DB 기준으로 복원된 뒤 재적용되므로,
+ * 이미 저장된 입찰(같은 금액이 이미 존재)이나 종료된 경매의 입찰은 호가창 검증에서 걸러져 중복 저장되지 않습니다.
+ *
+ * @author 전우선
+ * @since 2025.08.20
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BidJournalRecoveryService implements SmartInitializingSingleton {
+
+    /**
+     * 재적용 입찰 저장 대기 최대 시간 (초)
+     */
+    private static final long RECOVERY_TIMEOUT_SECONDS = 60;
+
+    private final BidJournal bidJournal;
+    private final AuctionOrderBookRegistry orderBookRegistry;
+    private final BidWriteBehindService bidWriteBehindService;
+    private final AuctionTimerService auctionTimerService;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        List<BidJournal.Entry> entries = bidJournal.drainRecoveredEntries();
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        log.info("입찰 저널 복구 시작: 미적용 입찰={}건, 저널 읽기 소요시간={}ms",
+                entries.size(), bidJournal.getRecoveryDuration().toMillis());
+
+        Map<Long, List<BidJournal.Entry>> entriesByAuction = new LinkedHashMap<>();
+        entries.forEach(entry -> entriesByAuction.computeIfAbsent(entry.auctionId(), id -> new ArrayList<>()).add(entry));
+
+        List<CompletableFuture<?>> persisted = new ArrayList<>();
+        List<Long> skipped = new ArrayList<>();
+
+        entriesByAuction.forEach((auctionId, auctionEntries) -> {
+            AuctionOrderBook orderBook;
+            try {
+                orderBook = orderBookRegistry.getOrLoad(auctionId);
+            } catch (BusinessException e) {
+                // 종료/취소된 경매
+                log.warn("입찰 저널 복구 건너뜀: 경매ID={}, 사유={}, 입찰={}건", auctionId, e.getMessage(), auctionEntries.size());
+                auctionEntries.forEach(entry -> skipped.add(entry.sequence()));
+                return;
+            }
+
+            for (BidJournal.Entry entry : auctionEntries) {
+                try {
+                    BidAcceptance acceptance = orderBook.accept(entry.userId(), entry.bidAmount(), entry.autoBid(),
+                            entry.maxAutoBidAmount(), entry.acceptedAt());
+                    persisted.add(bidWriteBehindService.submit(acceptance.withJournalSequence(entry.sequence())));
+                    if (acceptance.getExtendedEndTime() != null) {
+                        auctionTimerService.requestExtension(auctionId, acceptance.getExtendedEndTime());
+                    }
+                } catch (BusinessException e) {
+                    // 이미 저장된 입찰
+                    skipped.add(entry.sequence());
+                }
+            }
+        });
+
+        bidJournal.markApplied(skipped);
+
+        try {
+            CompletableFuture.allOf(persisted.toArray(CompletableFuture[]::new))
+                .get(RECOVERY_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            log.info("입찰 저널 복구 완료: 재적용={}건, 건너뜀={}건, 소요시간={}ms",
+                    persisted.size(), skipped.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        } catch (Exception e) {
+            // 저장되지 않은 입찰은 저널에 남아 다음 기동 시 다시 재적용됨
+            log.error("입찰 저널 복구 중 저장 실패: 재적용={}건, 오류={}", persisted.size(), e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.highlight.highlight_backend.service.bid;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 경매별 단일 작성자(single-writer) 입찰 시퀀서
+ *
+ * 경매 ID마다 메일박스(명령 큐)를 두고, 한 시점에는 하나의 스레드만 해당 메일박스를 비우면서
+ * 명령을 도착 순서대로 실행합니다. HTTP 요청 스레드는 명령을 넣고 CompletableFuture 로 결과를 기다리므로,
+ * 인기 경매 하나에 요청이 몰려도 Tomcat 스레드들이 락을 두고 경합하지 않습니다.
+ * 서로 다른 경매의 메일박스는 공유 스레드 풀에서 병렬로 처리됩니다.
+ *
+ * 비어 있는 메일박스는 제거되므로 진행 중인 경매 수만큼 메모리가 늘어나지 않습니다.
+ *
+ * @author 전우선
+ * @since 2025.08.20
+ */
+@Slf4j
+@Component
+public class BidSequencer {
+
+    /**
+     * 한 번 실행 시 처리할 최대 명령 수 (다른 경매에 스레드를 양보하기 위함)
+     */
+    private static final int DRAIN_BATCH_SIZE = 64;
+
+    private final Map<Long, Mailbox> mailboxes = new ConcurrentHashMap<>();
+    private final ExecutorService executor;
+
+    public BidSequencer(@Value("${bid.sequencer.thread-count:0}") int threadCount) {
+        int threads = threadCount > 0 ? threadCount : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads,
+                r -> new Thread(r, "bid-sequencer-" + sequence.getAndIncrement()));
+    }
+
+    /**
+     * 경매 메일박스에 명령 제출
+     *
+     * 같은 경매에 제출된 명령은 제출 순서대로 하나씩 실행됩니다.
+     *
+     * @param auctionId 경매 ID
+     * @param command 실행할 명령
+     * @return 명령 실행 결과
+     */
+    public <T> CompletableFuture<T> submit(Long auctionId, Supplier<T> command) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        Runnable task = () -> {
+            try {
+                future.complete(command.get());
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        };
+
+        Mailbox[] toSchedule = new Mailbox[1];
+        mailboxes.compute(auctionId, (id, mailbox) -> {
+            Mailbox target = mailbox != null ? mailbox : new Mailbox(id);
+            target.queue.add(task);
+            if (!target.scheduled) {
+                target.scheduled = true;
+                toSchedule[0] = target;
+            }
+            return target;
+        });
+
+        if (toSchedule[0] != null) {
+            schedule(toSchedule[0]);
+        }
+        return future;
+    }
+
+    /**
+     * 현재 메일박스가 있는 경매 수
+     */
+    public int getActiveMailboxCount() {
+        return mailboxes.size();
+    }
+
+    private void schedule(Mailbox mailbox) {
+        try {
+            executor.execute(() -> drain(mailbox));
+        } catch (RejectedExecutionException e) {
+            log.error("입찰 시퀀서 실행 거부: 경매ID={}", mailbox.auctionId);
+            Runnable task;
+            while ((task = mailbox.queue.poll()) != null) {
+                task.run();
+            }
+        }
+    }
+
+    /**
+     * 메일박스의 명령을 순서대로 실행
+     * 남은 명령이 있으면 다시 스케줄하고, 비었으면 메일박스를 제거합니다.
+     */
+    private void drain(Mailbox mailbox) {
+        for (int i = 0; i < DRAIN_BATCH_SIZE; i++) {
+            Runnable task = mailbox.queue.poll();
+            if (task == null) {
+                break;
+            }
+            task.run();
+        }
+
+        boolean[] reschedule = new boolean[1];
+        mailboxes.compute(mailbox.auctionId, (id, current) -> {
+            if (!mailbox.queue.isEmpty()) {
+                reschedule[0] = true;
+                return current;
+            }
+            mailbox.scheduled = false;
+            return current == mailbox ? null : current;
+        });
+
+        if (reschedule[0]) {
+            schedule(mailbox);
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 남은 명령을 처리한 뒤 종료
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                log.warn("입찰 시퀀서 종료 대기 시간 초과");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 경매별 명령 큐
+     * scheduled 플래그는 mailboxes.compute 안에서만 읽고 씁니다.
+     */
+    private static final class Mailbox {
+
+        private final Long auctionId;
+        private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+        private boolean scheduled;
+
+        private Mailbox(Long auctionId) {
+            this.auctionId = auctionId;
+        }
+    }
+}
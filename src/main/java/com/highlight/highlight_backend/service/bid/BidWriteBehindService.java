@@ -0,0 +1,867 @@
+package com.highlight.highlight_backend.service.bid;
+
+import com.highlight.highlight_backend.domain.Auction;
+import com.highlight.highlight_backend.domain.Bid;
+import com.highlight.highlight_backend.domain.User;
+import com.highlight.highlight_backend.event.AuctionBidStatsChangedEvent;
+import com.highlight.highlight_backend.exception.AuctionErrorCode;
+import com.highlight.highlight_backend.exception.BusinessException;
+import com.highlight.highlight_backend.exception.CommonErrorCode;
+import com.highlight.highlight_backend.repository.BidRepository;
+import com.highlight.highlight_backend.repository.user.UserRepository;
+import com.highlight.highlight_backend.service.WebSocketService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.SqlParameterValue;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 입찰 write-behind 저장 서비스 (그룹 커밋)
+ *
+ * 호가창에서 이미 수락된 입찰을 큐에 넣고, 전용 writer 스레드가 일정 시간(기본 5ms) 또는
+ * 일정 건수(기본 200건)만큼 모아서 하나의 트랜잭션에서 JDBC 배치로 저장합니다.
+ * 배치 하나에서 수행하는 쓰기는 다음과 같습니다.
+ * - 경매 최고가 UPDATE (경매당 1건, DB 최고가보다 높을 때만), 소프트 클로즈 연장 종료 시간도 함께 반영
+ * - 새 입찰 INSERT (경매별 마지막 입찰만 WINNING, 같은 배치 안에서 밀린 입찰은 OUTBID)
+ * - 해당 경매의 기존 최고 입찰 OUTBID 처리
+ * - 경매 입찰자(auction_bidder) UPSERT 및 실제로 추가된 입찰자 수만큼 입찰자 수/입찰 수 UPDATE
+ * - 처음 입찰한 사용자의 참여 횟수/등급 갱신
+ * 배치 트랜잭션이 실패하면 경매별 트랜잭션으로 나누어 다시 저장하여, 실패한 경매의 입찰만 실패 처리합니다.
+ *
+ * 호가창은 서버(JVM)마다 따로 있으므로 여러 서버가 같은 경매의 입찰을 받으면 서로의 입찰을 모릅니다.
+ * 경매 최고가 UPDATE 를 "배치의 첫 입찰가가 DB 최고가보다 높을 때만" 조건부로 실행하여,
+ * 다른 서버가 먼저 더 높거나 같은 금액을 저장했거나 이미 종료된 경매의 입찰은 저장하지 않고 실패 처리한 뒤
+ * 해당 호가창을 무효화합니다 (다음 입찰 시 다른 서버의 입찰까지 포함해 DB에서 복원).
+ * 연장된 종료 시간은 연장한 입찰과 같은 트랜잭션에서 저장되므로, 경매 종료는 행 락 후 DB의 종료 시간만 확인하면
+ * 다른 서버에서 연장된 경우까지 알 수 있습니다.
+ *
+ * 큐는 수락 순서를 유지하므로 같은 경매의 입찰은 수락 순서대로 저장됩니다.
+ * 클라이언트 응답을 저장 완료까지 기다릴지는 bid.write-behind.durable-ack 로 선택합니다.
+ * 저장 전 입찰은 BidJournal 에 기록되어 있으므로, 커밋 후 저널에 반영 완료를 남깁니다.
+ * 수락 즉시 응답한(durable-ack=false) 입찰의 배치가 실패하면, DB에서 다시 복원한 호가창에 수락 순서대로
+ * 다시 적용하여 재저장하고, 다시 적용할 수 없거나 재시도 횟수를 넘기면 입찰자에게 취소 알림을 보냅니다.
+ *
+ * @author 전우선
+ * @since 2025.08.20
+ */
+@Slf4j
+@Service
+public class BidWriteBehindService {
+
+    private static final String INSERT_BID_SQL =
+            "INSERT INTO bid (auction_id, user_id, bid_amount, status, is_auto_bid, is_buy_it_now, " +
+            "max_auto_bid_amount, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String OUTBID_PREVIOUS_WINNER_SQL =
+            "UPDATE bid SET status = 'OUTBID' WHERE auction_id = ? AND status = 'WINNING' AND id <> ?";
+
+    private static final String UPSERT_AUCTION_BIDDER_SQL =
+            "INSERT INTO auction_bidder (auction_id, user_id, latest_bid_id, updated_at) VALUES (?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE latest_bid_id = GREATEST(latest_bid_id, VALUES(latest_bid_id)), " +
+            "updated_at = VALUES(updated_at)";
+
+    private static final String UPDATE_AUCTION_BIDDER_SQL =
+            "UPDATE auction_bidder SET latest_bid_id = GREATEST(latest_bid_id, ?), updated_at = ? " +
+            "WHERE auction_id = ? AND user_id = ?";
+
+    private static final String UPDATE_AUCTION_SQL =
+            "UPDATE auction SET current_highest_bid = ?, " +
+            "scheduled_end_time = COALESCE(GREATEST(scheduled_end_time, ?), scheduled_end_time), updated_at = ? " +
+            "WHERE id = ? AND status = 'IN_PROGRESS' AND (current_highest_bid IS NULL OR current_highest_bid < ?)";
+
+    private static final String ADD_AUCTION_BIDDERS_SQL =
+            "UPDATE auction SET total_bidders = total_bidders + ?, total_bids = total_bids + ? WHERE id = ?";
+
+    /**
+     * 수락 즉시 응답한 입찰의 최대 재적용 횟수
+     */
+    private static final int MAX_REPLAYS = 3;
+
+    /**
+     * 호가창 복원 전 저장 대기 최대 시간 (초)
+     */
+    private static final long RESTORE_TIMEOUT_SECONDS = 10;
+
+    private final BidRepository bidRepository;
+    private final UserRepository userRepository;
+    private final WebSocketService webSocketService;
+    private final AuctionOrderBookRegistry orderBookRegistry;
+    private final BidSequencer bidSequencer;
+    private final BidJournal bidJournal;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final boolean durableAck;
+
+    private final BlockingQueue<PendingBid> queue = new LinkedBlockingQueue<>();
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    /**
+     * 큐에 넣은 입찰 수와 writer 가 처리(저장 또는 실패)한 입찰 수 (저장 완료 대기용)
+     */
+    private final AtomicLong enqueuedCount = new AtomicLong();
+    private volatile long processedCount;
+    private final Queue<DrainWaiter> drainWaiters = new ConcurrentLinkedQueue<>();
+
+    /**
+     * 호가창 복원을 기다리는 경매별 명령 (해당 경매 메일박스 안에서만 변경)
+     */
+    private final Map<Long, List<OrderBookCommand>> deferredUntilRestored = new ConcurrentHashMap<>();
+
+    public BidWriteBehindService(BidRepository bidRepository,
+                                 UserRepository userRepository,
+                                 WebSocketService webSocketService,
+                                 AuctionOrderBookRegistry orderBookRegistry,
+                                 BidSequencer bidSequencer,
+                                 BidJournal bidJournal,
+                                 JdbcTemplate jdbcTemplate,
+                                 PlatformTransactionManager transactionManager,
+                                 ApplicationEventPublisher eventPublisher,
+                                 @Value("${bid.write-behind.batch-size:200}") int batchSize,
+                                 @Value("${bid.write-behind.flush-interval-ms:5}") long flushIntervalMs,
+                                 @Value("${bid.write-behind.durable-ack:true}") boolean durableAck) {
+        this.bidRepository = bidRepository;
+        this.userRepository = userRepository;
+        this.webSocketService = webSocketService;
+        this.orderBookRegistry = orderBookRegistry;
+        this.bidSequencer = bidSequencer;
+        this.bidJournal = bidJournal;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.batchSize = Math.max(1, batchSize);
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, flushIntervalMs));
+        this.durableAck = durableAck;
+        this.writer = new Thread(this::runWriter, "bid-writer");
+        this.writer.start();
+    }
+
+    /**
+     * 수락된 입찰 저장 요청
+     *
+     * @param acceptance 호가창에서 수락된 입찰
+     * @return 저장된 입찰 엔티티 (경매/상품/입찰자 로딩 완료), 배치 커밋 후 완료
+     */
+    public CompletableFuture<Bid> submit(BidAcceptance acceptance) {
+        return submit(acceptance, 0);
+    }
+
+    private CompletableFuture<Bid> submit(BidAcceptance acceptance, int replays) {
+        PendingBid pending = new PendingBid(acceptance, false, replays);
+        if (!running) {
+            pending.future.completeExceptionally(new BusinessException(CommonErrorCode.INTERNAL_SERVER_ERROR));
+            return pending.future;
+        }
+        enqueuedCount.incrementAndGet();
+        queue.add(pending);
+        if (acceptance.getProxyResponse() != null) {
+            // 자동 입찰 응답은 요청 입찰 바로 뒤에 저장
+            enqueuedCount.incrementAndGet();
+            queue.add(new PendingBid(acceptance.getProxyResponse(), true, replays));
+        }
+        return pending.future;
+    }
+
+    /**
+     * 경매 메일박스(BidSequencer)에서 호가창에 명령 실행
+     *
+     * 호가창이 없으면(최초 입찰 또는 저장 실패로 무효화된 경우) 큐에 남은 입찰이 모두 처리된 뒤 DB에서 복원합니다.
+     * 무효화 전에 수락된 입찰이 복원된 호가창에서 빠지지 않도록 하기 위함입니다.
+     * 저장 완료를 메일박스 스레드에서 기다리지 않고, 완료되면 메일박스에 복원 명령을 다시 넣습니다.
+     * 복원 중에 들어온 같은 경매의 명령은 보류했다가 복원 직후 도착 순서대로 실행합니다.
+     *
+     * @param auctionId 경매 ID
+     * @param command 호가창으로 실행할 명령 (메일박스 안에서 실행)
+     * @return 명령 실행 결과
+     */
+    public <T> CompletableFuture<T> submitToOrderBook(Long auctionId, Function<AuctionOrderBook, T> command) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        OrderBookCommand task = (orderBook, error) -> {
+            if (error != null) {
+                result.completeExceptionally(error);
+                return;
+            }
+            try {
+                result.complete(command.apply(orderBook));
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            }
+        };
+
+        bidSequencer.submit(auctionId, () -> {
+            List<OrderBookCommand> deferred = deferredUntilRestored.get(auctionId);
+            if (deferred != null) {
+                deferred.add(task);
+                return null;
+            }
+            AuctionOrderBook orderBook = orderBookRegistry.find(auctionId);
+            if (orderBook != null) {
+                task.run(orderBook, null);
+            } else {
+                restoreOrderBook(auctionId, task);
+            }
+            return null;
+        });
+        return result;
+    }
+
+    /**
+     * 큐에 남은 입찰이 모두 처리된 뒤 메일박스에서 호가창 복원 후 보류한 명령 실행
+     */
+    private void restoreOrderBook(Long auctionId, OrderBookCommand first) {
+        List<OrderBookCommand> deferred = new ArrayList<>();
+        deferred.add(first);
+        deferredUntilRestored.put(auctionId, deferred);
+
+        awaitDrained()
+            .orTimeout(RESTORE_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+            .whenComplete((drained, drainError) -> bidSequencer.submit(auctionId, () -> {
+                List<OrderBookCommand> waiting = deferredUntilRestored.remove(auctionId);
+                AuctionOrderBook orderBook = null;
+                Throwable error = drainError != null
+                    ? new BusinessException(CommonErrorCode.INTERNAL_SERVER_ERROR, drainError) : null;
+                if (error == null) {
+                    try {
+                        orderBook = orderBookRegistry.getOrLoad(auctionId);
+                    } catch (RuntimeException e) {
+                        error = e;
+                    }
+                } else {
+                    log.error("호가창 복원 전 입찰 저장 대기 실패: 경매ID={}, 보류 명령={}건", auctionId, waiting.size());
+                }
+                for (OrderBookCommand command : waiting) {
+                    command.run(orderBook, error);
+                }
+                return null;
+            }));
+    }
+
+    /**
+     * 호출 시점까지 큐에 들어온 입찰이 모두 처리(저장 또는 실패)될 때까지 대기
+     * 경매 종료 시 호가창을 닫은 뒤 호출하여, 마지막 입찰까지 DB에 반영된 상태에서 낙찰자를 정합니다.
+     *
+     * @return 처리 완료 시 완료되는 Future
+     */
+    public CompletableFuture<Void> awaitDrained() {
+        DrainWaiter waiter = new DrainWaiter(enqueuedCount.get());
+        drainWaiters.add(waiter);
+        completeDrainWaiters();
+        return waiter.future;
+    }
+
+    /**
+     * 경매 메일박스에서 호가창을 닫은 뒤, 닫기 전에 수락된 입찰이 모두 처리될 때까지 대기
+     *
+     * 관리자 종료나 즉시구매처럼 요청 스레드에서 경매를 끝낼 때 사용하며, 반환 후 경매 행 락을 잡고 낙찰자를 정합니다.
+     * writer 의 경매 UPDATE 가 행 락을 기다리게 되므로 경매 행 락을 잡기 전, 트랜잭션 밖에서 호출합니다.
+     *
+     * @param auctionId 경매 ID
+     * @param closedStatus 종료 후 경매 상태
+     */
+    public void closeOrderBook(Long auctionId, Auction.AuctionStatus closedStatus) {
+        try {
+            bidSequencer.submit(auctionId, () -> {
+                    orderBookRegistry.close(auctionId, closedStatus);
+                    return null;
+                })
+                .thenCompose(closed -> awaitDrained())
+                .get(RESTORE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(CommonErrorCode.INTERNAL_SERVER_ERROR, e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new BusinessException(CommonErrorCode.INTERNAL_SERVER_ERROR, e);
+        }
+    }
+
+    /**
+     * 클라이언트 응답 전에 DB 저장 완료를 기다려야 하는지 여부
+     */
+    public boolean isDurableAck() {
+        return durableAck;
+    }
+
+    /**
+     * writer 스레드: 첫 입찰이 들어온 시점부터 flush 간격 또는 배치 크기만큼 모아서 저장
+     */
+    private void runWriter() {
+        List<PendingBid> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingBid first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                long deadline = System.nanoTime() + flushIntervalNanos;
+                while (batch.size() < batchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    PendingBid next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                flush(batch);
+            } catch (InterruptedException e) {
+                // 종료 요청: 이미 모은 입찰과 큐에 남은 입찰은 계속 저장
+                running = false;
+                if (!batch.isEmpty()) {
+                    flush(batch);
+                }
+            } catch (RuntimeException e) {
+                log.error("입찰 writer 처리 중 오류 발생: {}", e.getMessage(), e);
+            } finally {
+                if (!batch.isEmpty()) {
+                    processedCount += batch.size();
+                    completeDrainWaiters();
+                }
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 처리 건수에 도달한 저장 완료 대기 해제
+     */
+    private void completeDrainWaiters() {
+        long processed = processedCount;
+        for (Iterator<DrainWaiter> it = drainWaiters.iterator(); it.hasNext(); ) {
+            DrainWaiter waiter = it.next();
+            if (waiter.target <= processed) {
+                waiter.future.complete(null);
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * 배치 저장 (단일 트랜잭션) 후 호가창 반영, 응답 완료, 실시간 알림
+     */
+    private void flush(List<PendingBid> batch) {
+        // 배치 시작 시점의 경매별 직전 최고 입찰 ID (writer 스레드만 갱신하므로 안정적)
+        Map<Long, Long> previousTopBidIds = new LinkedHashMap<>();
+        for (PendingBid pending : batch) {
+            AuctionOrderBook book = pending.acceptance.getOrderBook();
+            previousTopBidIds.putIfAbsent(book.getAuctionId(), book.getPersistedTopBidId());
+        }
+
+        Set<Long> outbidAuctionIds;
+        Set<Long> failedAuctionIds = new HashSet<>();
+        try {
+            outbidAuctionIds = transactionTemplate.execute(status -> writeBatch(batch));
+        } catch (Exception e) {
+            log.error("입찰 배치 저장 실패, 경매별로 다시 저장: {}건, 오류={}", batch.size(), e.getMessage(), e);
+            outbidAuctionIds = writeByAuction(batch, e, failedAuctionIds);
+        }
+
+        List<PendingBid> saved = batch;
+        if (!outbidAuctionIds.isEmpty() || !failedAuctionIds.isEmpty()) {
+            // 다른 서버가 먼저 저장한 입찰에 밀렸거나 저장에 실패한 경매: 이 배치의 해당 경매 입찰은 저장되지 않음
+            Set<Long> outbid = outbidAuctionIds;
+            List<PendingBid> rejected = new ArrayList<>();
+            saved = new ArrayList<>();
+            for (PendingBid pending : batch) {
+                Long auctionId = pending.acceptance.getAuctionId();
+                if (outbid.contains(auctionId)) {
+                    rejected.add(pending);
+                } else if (!failedAuctionIds.contains(auctionId)) {
+                    saved.add(pending);
+                }
+            }
+            outbidAuctionIds.forEach(previousTopBidIds::remove);
+            failedAuctionIds.forEach(previousTopBidIds::remove);
+            if (!rejected.isEmpty()) {
+                log.warn("다른 서버의 입찰에 밀렸거나 종료된 경매라 저장하지 않은 입찰: {}건, 경매ID={}", rejected.size(), outbidAuctionIds);
+                failBids(rejected, new BusinessException(AuctionErrorCode.BID_AMOUNT_TOO_LOW));
+            }
+            if (saved.isEmpty()) {
+                return;
+            }
+        }
+
+        // 수락 순서대로 반영하므로 경매별 마지막 입찰이 저장된 최고 입찰로 남음
+        for (PendingBid pending : saved) {
+            pending.acceptance.getOrderBook().markPersisted(pending.bidId);
+        }
+
+        // 저널에 DB 반영 완료 기록 (재기동 시 재적용 대상에서 제외)
+        try {
+            bidJournal.markApplied(saved.stream().map(pending -> pending.acceptance.getJournalSequence()).toList());
+        } catch (RuntimeException e) {
+            log.warn("입찰 저널 반영 완료 기록 실패: {}", e.getMessage());
+        }
+
+        Map<Long, Bid> savedBids = loadSavedBids(saved, previousTopBidIds);
+
+        for (PendingBid pending : saved) {
+            Bid savedBid = savedBids.get(pending.bidId);
+            if (savedBid != null) {
+                pending.future.complete(savedBid);
+            } else {
+                pending.future.completeExceptionally(new BusinessException(CommonErrorCode.INTERNAL_SERVER_ERROR));
+            }
+        }
+
+        sendNotifications(saved, previousTopBidIds, savedBids);
+        publishBidStats(saved, savedBids);
+
+        log.debug("입찰 배치 저장 완료: {}건, 경매 {}개", saved.size(), previousTopBidIds.size());
+    }
+
+    /**
+     * 배치 트랜잭션 실패 시 경매별 트랜잭션으로 다시 저장
+     *
+     * 한 경매의 쓰기 오류(제약 조건 위반 등)로 같은 배치의 다른 경매 입찰까지 실패하지 않도록,
+     * 경매별로 나누어 저장하고 다시 실패한 경매의 입찰만 실패 처리합니다.
+     *
+     * @param failedAuctionIds 저장에 실패하여 실패 처리한 경매 ID (출력)
+     * @return 다른 서버가 먼저 같거나 높은 입찰을 저장하여 저장하지 않은 경매 ID
+     */
+    private Set<Long> writeByAuction(List<PendingBid> batch, Exception batchError, Set<Long> failedAuctionIds) {
+        Map<Long, List<PendingBid>> byAuction = new LinkedHashMap<>();
+        for (PendingBid pending : batch) {
+            byAuction.computeIfAbsent(pending.acceptance.getAuctionId(), id -> new ArrayList<>()).add(pending);
+        }
+
+        Set<Long> outbidAuctionIds = new HashSet<>();
+        if (byAuction.size() == 1) {
+            failedAuctionIds.addAll(byAuction.keySet());
+            failBids(batch, batchError);
+            return outbidAuctionIds;
+        }
+
+        byAuction.forEach((auctionId, bids) -> {
+            try {
+                outbidAuctionIds.addAll(transactionTemplate.execute(status -> writeBatch(bids)));
+            } catch (Exception e) {
+                log.error("경매 입찰 저장 실패: 경매ID={}, {}건, 오류={}", auctionId, bids.size(), e.getMessage(), e);
+                failedAuctionIds.add(auctionId);
+                failBids(bids, e);
+            }
+        });
+        return outbidAuctionIds;
+    }
+
+    /**
+     * 저장하지 못한 입찰 실패 처리
+     *
+     * 호가창과 DB가 어긋났으므로 해당 경매 호가창을 무효화하여 다음 입찰 시 DB에서 다시 복원합니다.
+     * 수락 즉시 응답한 입찰은 복원된 호가창에 다시 적용합니다 (자동 입찰 응답은 요청 입찰을 다시 적용할 때 새로 계산).
+     */
+    private void failBids(List<PendingBid> failed, Throwable cause) {
+        failed.stream()
+            .map(pending -> pending.acceptance.getAuctionId())
+            .distinct()
+            .forEach(orderBookRegistry::invalidate);
+        failed.forEach(pending -> pending.future.completeExceptionally(cause));
+        if (durableAck) {
+            // 클라이언트에 실패로 응답했으므로 재기동 시 재적용하지 않음
+            bidJournal.markApplied(failed.stream().map(pending -> pending.acceptance.getJournalSequence()).toList());
+            return;
+        }
+
+        List<Long> dropped = new ArrayList<>();
+        for (PendingBid pending : failed) {
+            if (pending.proxyResponse) {
+                dropped.add(pending.acceptance.getJournalSequence());
+            } else if (pending.replays >= MAX_REPLAYS) {
+                rejectAcknowledged(pending, cause);
+            } else {
+                replay(pending);
+            }
+        }
+        bidJournal.markApplied(dropped);
+    }
+
+    /**
+     * 수락 즉시 응답한 입찰을 경매 메일박스에서 복원된 호가창에 다시 적용 후 재저장
+     *
+     * 같은 저널 시퀀스를 사용하므로 재저장 전에 재기동되면 저널 복구에서 다시 적용됩니다.
+     */
+    private void replay(PendingBid pending) {
+        BidAcceptance original = pending.acceptance;
+        submitToOrderBook(original.getAuctionId(), orderBook -> {
+            BidAcceptance replayed = orderBook.accept(original.getUserId(), original.getBidAmount(),
+                    original.isAutoBid(), original.getMaxAutoBidAmount(), original.getAcceptedAt());
+            return submit(replayed.withJournalSequence(original.getJournalSequence()), pending.replays + 1);
+        }).whenComplete((persisted, e) -> {
+            if (e != null) {
+                rejectAcknowledged(pending, e);
+            }
+        });
+        log.warn("수락 응답한 입찰 재적용 요청: 경매ID={}, 사용자ID={}, 금액={}, 재시도={}",
+                original.getAuctionId(), original.getUserId(), original.getBidAmount(), pending.replays + 1);
+    }
+
+    /**
+     * 다시 적용할 수 없는 수락 응답 입찰 취소 (저널에서 제외하고 입찰자에게 알림)
+     */
+    private void rejectAcknowledged(PendingBid pending, Throwable cause) {
+        BidAcceptance acceptance = pending.acceptance;
+        log.error("수락 응답한 입찰 취소: 경매ID={}, 사용자ID={}, 금액={}, 사유={}",
+                acceptance.getAuctionId(), acceptance.getUserId(), acceptance.getBidAmount(), cause.getMessage());
+        bidJournal.markApplied(List.of(acceptance.getJournalSequence()));
+        try {
+            webSocketService.sendPersonalNotification(acceptance.getUserId(),
+                    acceptance.getBidAmount() + "원 입찰이 저장되지 못해 취소되었습니다. 다시 입찰해 주세요.",
+                    acceptance.getAuctionId());
+        } catch (Exception e) {
+            log.error("입찰 취소 알림 전송 실패: 사용자ID={}, 오류={}", acceptance.getUserId(), e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 배치 쓰기 (트랜잭션 안에서 실행)
+     *
+     * @return 다른 서버가 먼저 같거나 높은 입찰을 저장했거나 이미 종료되어 이 배치의 입찰을 저장하지 않은 경매 ID
+     */
+    private Set<Long> writeBatch(List<PendingBid> batch) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        // 경매별 배치 내 첫 입찰(최고가 조건), 마지막 입찰(WINNING 으로 저장), 가장 늦은 연장 종료 시간
+        Map<Long, PendingBid> firstByAuction = new LinkedHashMap<>();
+        Map<Long, PendingBid> lastByAuction = new LinkedHashMap<>();
+        Map<Long, LocalDateTime> extendedEndByAuction = new HashMap<>();
+        for (PendingBid pending : batch) {
+            Long auctionId = pending.acceptance.getAuctionId();
+            firstByAuction.putIfAbsent(auctionId, pending);
+            lastByAuction.put(auctionId, pending);
+            if (pending.acceptance.getExtendedEndTime() != null) {
+                extendedEndByAuction.merge(auctionId, pending.acceptance.getExtendedEndTime(),
+                        (a, b) -> a.isAfter(b) ? a : b);
+            }
+        }
+
+        // 경매 입찰자별 최신 입찰 (호가창 기준 처음 입찰한 사용자는 UPSERT 로 추가 여부 확인)
+        Map<BidderKey, PendingBid> latestByBidder = new LinkedHashMap<>();
+        Set<BidderKey> newBidderHints = new HashSet<>();
+        for (PendingBid pending : batch) {
+            BidderKey key = new BidderKey(pending.acceptance.getAuctionId(), pending.acceptance.getUserId());
+            latestByBidder.put(key, pending);
+            if (pending.acceptance.isNewBidder()) {
+                newBidderHints.add(key);
+            }
+        }
+
+        // 1. 경매 최고가 및 연장된 종료 시간 업데이트 (경매당 1건)
+        //    진행 중이고 배치의 첫 입찰가가 DB 최고가보다 높을 때만 반영 (종료된 경매, 다른 서버가 먼저 저장한 입찰 보호)
+        //    드라이버가 배치 건수를 돌려주지 않을 수 있어 경매별로 실행 (배치당 경매 수만큼)
+        Set<Long> outbidAuctionIds = new HashSet<>();
+        lastByAuction.forEach((auctionId, last) -> {
+            LocalDateTime extendedEnd = extendedEndByAuction.get(auctionId);
+            int updated = jdbcTemplate.update(UPDATE_AUCTION_SQL, last.acceptance.getBidAmount(),
+                    new SqlParameterValue(Types.TIMESTAMP, extendedEnd != null ? Timestamp.valueOf(extendedEnd) : null),
+                    now, auctionId, firstByAuction.get(auctionId).acceptance.getBidAmount());
+            if (updated == 0) {
+                outbidAuctionIds.add(auctionId);
+            }
+        });
+        List<PendingBid> writable = outbidAuctionIds.isEmpty() ? batch : batch.stream()
+            .filter(pending -> !outbidAuctionIds.contains(pending.acceptance.getAuctionId()))
+            .toList();
+        if (writable.isEmpty()) {
+            return outbidAuctionIds;
+        }
+
+        // 2. 새 입찰 INSERT
+        insertBids(writable, lastByAuction);
+
+        // 3. 같은 경매의 기존 최고 입찰을 OUTBID로 변경 (다른 서버가 저장한 최고 입찰 포함)
+        List<Object[]> previousWinners = new ArrayList<>();
+        lastByAuction.forEach((auctionId, last) -> {
+            if (!outbidAuctionIds.contains(auctionId)) {
+                previousWinners.add(new Object[]{auctionId, last.bidId});
+            }
+        });
+        jdbcTemplate.batchUpdate(OUTBID_PREVIOUS_WINNER_SQL, previousWinners);
+
+        // 4. 경매 입찰자별 최신 입찰 ID 갱신
+        //    호가창은 서버마다 따로 있어 "처음 입찰" 여부를 믿을 수 없으므로 실제로 추가된 행만 새 입찰자로 계산
+        //    - 호가창 기준 기존 입찰자: UPDATE 배치 (행이 없으면 UPSERT 로 추가)
+        //    - 호가창 기준 새 입찰자: 행별 UPSERT (updated_at 이 항상 바뀌므로 추가 1, 갱신 2 반환)
+        List<BidderKey> upserts = new ArrayList<>();
+        List<BidderKey> updates = new ArrayList<>();
+        latestByBidder.forEach((key, pending) -> {
+            if (!outbidAuctionIds.contains(key.auctionId())) {
+                (newBidderHints.contains(key) ? upserts : updates).add(key);
+            }
+        });
+        if (!updates.isEmpty()) {
+            int[] counts = jdbcTemplate.batchUpdate(UPDATE_AUCTION_BIDDER_SQL, updates.stream()
+                .map(key -> new Object[]{latestByBidder.get(key).bidId, now, key.auctionId(), key.userId()})
+                .toList());
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] == 0) {
+                    upserts.add(updates.get(i));
+                }
+            }
+        }
+
+        List<BidderKey> addedBidders = new ArrayList<>();
+        for (BidderKey key : upserts) {
+            int affected = jdbcTemplate.update(UPSERT_AUCTION_BIDDER_SQL,
+                    key.auctionId(), key.userId(), latestByBidder.get(key).bidId, now);
+            if (affected == 1) {
+                addedBidders.add(key);
+            }
+        }
+
+        // 5. 실제로 추가된 입찰자 수만큼 입찰자 수/입찰 수 증가 (입찰 수는 사용자별 최신 입찰 기준)
+        Map<Long, Integer> addedByAuction = new LinkedHashMap<>();
+        for (BidderKey key : addedBidders) {
+            addedByAuction.merge(key.auctionId(), 1, Integer::sum);
+        }
+        addedByAuction.forEach((auctionId, added) ->
+            jdbcTemplate.update(ADD_AUCTION_BIDDERS_SQL, added, added, auctionId));
+
+        // 6. 사용자가 해당 경매에 처음 입찰하는 경우 참여 횟수 증가 (등급 계산은 도메인 로직 사용)
+        Map<Long, Integer> newAuctionsByUser = new HashMap<>();
+        for (BidderKey key : addedBidders) {
+            newAuctionsByUser.merge(key.userId(), 1, Integer::sum);
+        }
+        if (!newAuctionsByUser.isEmpty()) {
+            for (User user : userRepository.findAllById(newAuctionsByUser.keySet())) {
+                int count = newAuctionsByUser.get(user.getId());
+                for (int i = 0; i < count; i++) {
+                    user.participateInAuction();
+                }
+                log.info("경매 참여 횟수 증가: 사용자ID={}, 새로운 참여횟수={}, 등급={}",
+                        user.getId(), user.getParticipationCount(), user.getRank());
+            }
+        }
+        return outbidAuctionIds;
+    }
+
+    /**
+     * 새 입찰 배치 INSERT 후 생성된 ID를 각 입찰에 기록
+     */
+    private void insertBids(List<PendingBid> batch, Map<Long, PendingBid> lastByAuction) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+            con -> con.prepareStatement(INSERT_BID_SQL, Statement.RETURN_GENERATED_KEYS),
+            new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    PendingBid pending = batch.get(i);
+                    BidAcceptance acceptance = pending.acceptance;
+                    boolean winning = lastByAuction.get(acceptance.getAuctionId()) == pending;
+
+                    ps.setLong(1, acceptance.getAuctionId());
+                    ps.setLong(2, acceptance.getUserId());
+                    ps.setBigDecimal(3, acceptance.getBidAmount());
+                    ps.setString(4, (winning ? Bid.BidStatus.WINNING : Bid.BidStatus.OUTBID).name());
+                    ps.setBoolean(5, acceptance.isAutoBid());
+                    ps.setBoolean(6, false);
+                    if (acceptance.getMaxAutoBidAmount() != null) {
+                        ps.setBigDecimal(7, acceptance.getMaxAutoBidAmount());
+                    } else {
+                        ps.setNull(7, Types.DECIMAL);
+                    }
+                    ps.setTimestamp(8, Timestamp.valueOf(acceptance.getAcceptedAt()));
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return batch.size();
+                }
+            },
+            keyHolder
+        );
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.size() != batch.size()) {
+            throw new IllegalStateException("생성된 입찰 ID 수가 일치하지 않습니다: " + keys.size() + "/" + batch.size());
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).bidId = ((Number) keys.get(i).values().iterator().next()).longValue();
+        }
+    }
+
+    /**
+     * 커밋된 입찰과 직전 최고 입찰을 한 번에 조회 (경매/상품/입찰자 fetch)
+     */
+    private Map<Long, Bid> loadSavedBids(List<PendingBid> batch, Map<Long, Long> previousTopBidIds) {
+        Set<Long> ids = batch.stream().map(pending -> pending.bidId).collect(Collectors.toCollection(HashSet::new));
+        previousTopBidIds.values().stream().filter(Objects::nonNull).forEach(ids::add);
+
+        try {
+            return bidRepository.findAllByIdInWithAuctionAndUser(ids).stream()
+                .collect(Collectors.toMap(Bid::getId, Function.identity()));
+        } catch (Exception e) {
+            log.error("저장된 입찰 조회 실패: {}", e.getMessage(), e);
+            return Map.of();
+        }
+    }
+
+    /**
+     * 새 입찰 알림 및 이전 최고 입찰자 개인 알림 (경매별 수락 순서대로)
+     */
+    private void sendNotifications(List<PendingBid> batch, Map<Long, Long> previousTopBidIds, Map<Long, Bid> savedBids) {
+        Map<Long, Bid> previousByAuction = new HashMap<>();
+        previousTopBidIds.forEach((auctionId, bidId) -> {
+            if (bidId != null && savedBids.containsKey(bidId)) {
+                previousByAuction.put(auctionId, savedBids.get(bidId));
+            }
+        });
+
+        for (PendingBid pending : batch) {
+            Bid bid = savedBids.get(pending.bidId);
+            if (bid == null) {
+                continue;
+            }
+            try {
+                Bid previousWinner = previousByAuction.put(pending.acceptance.getAuctionId(), bid);
+                BidAcceptance proxyResponse = pending.acceptance.getProxyResponse();
+
+                if (proxyResponse != null) {
+                    // 자동 입찰에 바로 밀린 입찰: NEW_BID 는 응답 입찰에서 한 번만 전송하고,
+                    // 이전 최고 입찰자가 응답한 자동 입찰자가 아닌 경우에만 밀림 알림 전송
+                    if (previousWinner != null && !previousWinner.getUser().getId().equals(bid.getUser().getId())
+                            && !previousWinner.getUser().getId().equals(proxyResponse.getUserId())) {
+                        webSocketService.sendBidOutbidNotification(previousWinner, bid);
+                    }
+                    continue;
+                }
+
+                webSocketService.sendNewBidNotification(bid);
+
+                // 이전 최고 입찰자에게 개인 알림 (다른 사용자인 경우)
+                if (previousWinner != null && !previousWinner.getUser().getId().equals(bid.getUser().getId())) {
+                    webSocketService.sendBidOutbidNotification(previousWinner, bid);
+                }
+            } catch (Exception e) {
+                log.error("입찰 알림 전송 실패: 입찰ID={}, 오류={}", bid.getId(), e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * 경매별 입찰 통계 변경 이벤트 발행 (배치 내 마지막 입찰 기준, 경매마다 한 번)
+     */
+    private void publishBidStats(List<PendingBid> batch, Map<Long, Bid> savedBids) {
+        Map<Long, Bid> lastByAuction = new LinkedHashMap<>();
+        for (PendingBid pending : batch) {
+            Bid bid = savedBids.get(pending.bidId);
+            if (bid != null) {
+                lastByAuction.put(pending.acceptance.getAuctionId(), bid);
+            }
+        }
+
+        lastByAuction.forEach((auctionId, bid) -> {
+            try {
+                eventPublisher.publishEvent(new AuctionBidStatsChangedEvent(
+                    auctionId, bid.getAuction().getCurrentHighestBid(), bid.getAuction().getTotalBids()));
+            } catch (Exception e) {
+                log.error("입찰 통계 변경 이벤트 발행 실패: 경매ID={}, 오류={}", auctionId, e.getMessage(), e);
+            }
+        });
+    }
+
+    /**
+     * 애플리케이션 종료 시 대기 중인 입찰을 모두 저장한 뒤 writer 종료
+     */
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(10));
+            if (writer.isAlive()) {
+                log.warn("입찰 writer 종료 대기 시간 초과: 대기 중인 입찰={}건", queue.size());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 경매 입찰자 키
+     */
+    private record BidderKey(Long auctionId, Long userId) {
+    }
+
+    /**
+     * 저장 대기 중인 입찰
+     */
+    private static final class PendingBid {
+
+        private final BidAcceptance acceptance;
+
+        /**
+         * 자동 입찰 응답 여부 (재적용 시 요청 입찰에서 다시 계산되므로 따로 재적용하지 않음)
+         */
+        private final boolean proxyResponse;
+
+        /**
+         * 배치 실패 후 재적용 횟수
+         */
+        private final int replays;
+
+        private final CompletableFuture<Bid> future = new CompletableFuture<>();
+        private Long bidId;
+
+        private PendingBid(BidAcceptance acceptance, boolean proxyResponse, int replays) {
+            this.acceptance = acceptance;
+            this.proxyResponse = proxyResponse;
+            this.replays = replays;
+        }
+    }
+
+    /**
+     * 호가창 명령 (복원 실패 시 error 로 완료)
+     */
+    @FunctionalInterface
+    private interface OrderBookCommand {
+
+        void run(AuctionOrderBook orderBook, Throwable error);
+    }
+
+    private record DrainWaiter(long target, CompletableFuture<Void> future) {
+
+        private DrainWaiter(long target) {
+            this(target, new CompletableFuture<>());
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.highlight.highlight_backend.service.cluster;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 스케줄러 리더 노드에서만 실행할 작업 표시
+ * 
+ * 여러 인스턴스가 같은 @Scheduled 작업을 실행하지 않도록, 리더가 아닌 노드에서는 메서드를 실행하지 않고
+ * 바로 반환합니다 (반환 타입이 있으면 null). 리더 여부는 SchedulerLeaderElection 의 DB 리스로 결정됩니다.
+ * 
+ * @author 전우선
+ * @since 2025.08.20
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface LeaderOnly {
+}
@@ -0,0 +1,34 @@
+package com.highlight.highlight_backend.service.cluster;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * {@link LeaderOnly} 메서드 인터셉터
+ * 
+ * 리더가 아닌 노드에서는 대상 메서드를 호출하지 않습니다.
+ * 
+ * @author 전우선
+ * @since 2025.08.20
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class LeaderOnlyInterceptor implements MethodInterceptor {
+    
+    /**
+     * 인프라 빈(advisor) 생성 시점에 JDBC 빈까지 초기화하지 않도록 지연 조회
+     */
+    private final ObjectProvider<SchedulerLeaderElection> leaderElection;
+    
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        if (!leaderElection.getObject().isLeader()) {
+            log.trace("리더 노드가 아니므로 작업 건너뜀: {}", invocation.getMethod().getName());
+            return null;
+        }
+        return invocation.proceed();
+    }
+}
@@ -0,0 +1,171 @@
+package com.highlight.highlight_backend.service.cluster;
+
+import com.highlight.highlight_backend.event.SchedulerLeadershipAcquiredEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 스케줄러 리더 선출 (DB 리스)
+ *
+ * 여러 서버 인스턴스 중 한 노드만 스케줄 작업({@link LeaderOnly})을 실행하도록, scheduler_lease 테이블의
+ * 리스를 조건부 UPDATE/INSERT 로 획득하고 주기적으로 갱신합니다.
+ * 리스가 만료되기 전에 갱신하지 못하면(노드 장애, DB 단절) 다른 노드가 다음 갱신 주기에 리스를 가져가며,
+ * 정상 종료 시에는 리스를 바로 반납하여 다음 노드가 즉시 이어받습니다.
+ *
+ * 리스 만료 시간은 각 노드의 시계로 기록하므로, 로컬에서는 리스 시간의 3/4 동안만 리더로 간주하여
+ * 노드 간 시계 오차가 있어도 두 노드가 동시에 리더로 동작하지 않도록 합니다.
+ * scheduler.lease.enabled=false 이면 항상 리더입니다 (단일 인스턴스).
+ *
+ * @author 전우선
+ * @since 2025.08.20
+ */
+@Slf4j
+@Component
+public class SchedulerLeaderElection {
+
+    /**
+     * 스케줄러 리더 리스 이름
+     */
+    public static final String LEADER_LEASE = "scheduler-leader";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final long leaseMs;
+    private final String nodeId;
+
+    /**
+     * 로컬에서 리더로 간주하는 기한 (System.nanoTime 기준)
+     */
+    private volatile long leaderUntilNanos;
+    private volatile boolean leader;
+
+    public SchedulerLeaderElection(JdbcTemplate jdbcTemplate,
+                                   ApplicationEventPublisher eventPublisher,
+                                   @Value("${scheduler.lease.enabled:true}") boolean enabled,
+                                   @Value("${scheduler.lease.duration-ms:10000}") long leaseMs,
+                                   @Value("${scheduler.lease.node-id:}") String nodeId) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.leaseMs = leaseMs;
+        this.nodeId = nodeId == null || nodeId.isBlank() ? defaultNodeId() : nodeId;
+    }
+
+    /**
+     * 현재 노드가 리더인지 여부
+     */
+    public boolean isLeader() {
+        if (!enabled) {
+            return true;
+        }
+        return leader && System.nanoTime() - leaderUntilNanos < 0;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 리스 획득/갱신 (리스 시간보다 충분히 짧은 주기로 실행)
+     */
+    @Scheduled(fixedDelayString = "${scheduler.lease.renew-interval-ms:3000}")
+    public void renew() {
+        if (enabled) {
+            tryAcquire();
+        }
+    }
+
+    /**
+     * 리스 획득 시도 (만료되었거나 이미 보유 중이면 획득/연장)
+     *
+     * @return 획득했으면 true
+     */
+    public boolean tryAcquire() {
+        long startedNanos = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime lockedUntil = now.plusNanos(leaseMs * 1_000_000L);
+
+        boolean acquired;
+        try {
+            int updated = jdbcTemplate.update(
+                "UPDATE scheduler_lease SET owner_id = ?, locked_until = ?, updated_at = ? " +
+                "WHERE lease_name = ? AND (owner_id = ? OR locked_until < ?)",
+                nodeId, lockedUntil, now, LEADER_LEASE, nodeId, now);
+            acquired = updated > 0 || insertLease(now, lockedUntil);
+        } catch (DataAccessException e) {
+            log.warn("스케줄러 리스 갱신 실패: 노드={}, 오류={}", nodeId, e.getMessage());
+            acquired = false;
+        }
+
+        boolean wasLeader = leader;
+        if (acquired) {
+            leaderUntilNanos = startedNanos + leaseMs * 750_000L;
+            leader = true;
+            if (!wasLeader) {
+                log.info("스케줄러 리더 획득: 노드={}, 리스={}ms", nodeId, leaseMs);
+                eventPublisher.publishEvent(new SchedulerLeadershipAcquiredEvent(nodeId));
+            }
+        } else {
+            leader = false;
+            if (wasLeader) {
+                log.warn("스케줄러 리더 상실: 노드={}", nodeId);
+            }
+        }
+        return acquired;
+    }
+
+    /**
+     * 리스 반납 (정상 종료 시 다른 노드가 다음 갱신 주기에 바로 이어받도록)
+     */
+    @PreDestroy
+    public void release() {
+        if (!enabled || !leader) {
+            return;
+        }
+        leader = false;
+        try {
+            jdbcTemplate.update(
+                "UPDATE scheduler_lease SET locked_until = ? WHERE lease_name = ? AND owner_id = ?",
+                LocalDateTime.now().minusSeconds(1), LEADER_LEASE, nodeId);
+            log.info("스케줄러 리스 반납: 노드={}", nodeId);
+        } catch (DataAccessException e) {
+            log.warn("스케줄러 리스 반납 실패: 노드={}, 오류={}", nodeId, e.getMessage());
+        }
+    }
+
+    /**
+     * 리스 행이 없는 경우(최초 기동) 생성
+     */
+    private boolean insertLease(LocalDateTime now, LocalDateTime lockedUntil) {
+        try {
+            return jdbcTemplate.update(
+                "INSERT INTO scheduler_lease (lease_name, owner_id, locked_until, updated_at) VALUES (?, ?, ?, ?)",
+                LEADER_LEASE, nodeId, lockedUntil, now) > 0;
+        } catch (DuplicateKeyException e) {
+            // 다른 노드가 먼저 생성
+            return false;
+        }
+    }
+
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "unknown";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
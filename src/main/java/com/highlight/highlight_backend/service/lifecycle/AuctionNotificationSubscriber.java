@@ -0,0 +1,68 @@
+package com.highlight.highlight_backend.service.lifecycle;
+
+import com.highlight.highlight_backend.domain.Auction;
+import com.highlight.highlight_backend.domain.Bid;
+import com.highlight.highlight_backend.event.AuctionLifecycleEvent;
+import com.highlight.highlight_backend.repository.AuctionRepository;
+import com.highlight.highlight_backend.repository.BidRepository;
+import com.highlight.highlight_backend.service.WebSocketService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 경매 생명주기 WebSocket 알림 구독자
+ *
+ * 경매 시작/종료/취소/즉시구매 알림과 낙찰자 결제 필요 알림을 전송합니다.
+ * 알림 전송 실패는 로그만 남기며 이벤트 재전달 대상이 아닙니다.
+ * 재전달된 이벤트는 처리 기록({@link AuctionOutboxApplyLog})으로 걸러 같은 알림을 다시 보내지 않습니다.
+ *
+ * @author 전우선
+ * @since 2025.08.20
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuctionNotificationSubscriber {
+
+    /**
+     * 처리 기록 구독자 이름
+     */
+    static final String SUBSCRIBER = "AUCTION_NOTIFICATION";
+
+    private final AuctionRepository auctionRepository;
+    private final BidRepository bidRepository;
+    private final WebSocketService webSocketService;
+    private final AuctionOutboxApplyLog applyLog;
+
+    @EventListener
+    @Transactional
+    public void onAuctionLifecycle(AuctionLifecycleEvent event) {
+        try {
+            Auction auction = auctionRepository.findByIdWithProduct(event.getAuctionId()).orElse(null);
+            if (auction == null || !applyLog.markApplied(SUBSCRIBER, event.getOutboxEventId())) {
+                return;
+            }
+            Bid winnerBid = event.getWinnerBidId() != null
+                ? bidRepository.findById(event.getWinnerBidId()).orElse(null)
+                : null;
+
+            switch (event.getEventType()) {
+                case STARTED -> webSocketService.sendAuctionStartedNotification(auction);
+                case ENDED -> {
+                    webSocketService.sendAuctionEndedNotification(auction, winnerBid);
+                    if (winnerBid != null) {
+                        webSocketService.sendPaymentRequiredNotification(auction.getId(), winnerBid.getBidAmount());
+                    }
+                }
+                case CANCELLED -> webSocketService.sendAuctionCancelledNotification(auction);
+                case BOUGHT_NOW -> webSocketService.sendAuctionEndedNotification(auction, winnerBid);
+            }
+        } catch (Exception e) {
+            log.error("경매 알림 전송 중 오류 발생: 경매ID={}, 이벤트={}, 오류={}",
+                    event.getAuctionId(), event.getEventType(), e.getMessage(), e);
+        }
+    }
+}
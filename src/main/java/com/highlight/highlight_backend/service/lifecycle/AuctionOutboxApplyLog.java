@@ -0,0 +1,48 @@
+package com.highlight.highlight_backend.service.lifecycle;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * 경매 생명주기 이벤트 구독자별 처리 기록
+ *
+ * 아웃박스 이벤트는 최소 한 번 전달되므로, 같은 이벤트를 두 번 처리하면 안 되는 구독자는
+ * 처리 전에 {@link #markApplied} 로 (구독자, 아웃박스 이벤트 ID) 를 기록하고 이미 기록된 이벤트는 건너뜁니다.
+ * 구독자의 트랜잭션 안에서 호출하면 처리가 롤백될 때 기록도 함께 롤백되어 다음 재전달에서 다시 처리됩니다.
+ *
+ * @author 전우선
+ * @since 2025.08.20
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuctionOutboxApplyLog {
+
+    private static final String INSERT_APPLIED_SQL =
+        "INSERT INTO auction_outbox_applied (subscriber, outbox_event_id, applied_at) VALUES (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 이벤트 처리 기록
+     *
+     * @param subscriber 구독자 이름
+     * @param outboxEventId 아웃박스 이벤트 ID
+     * @return 처음 처리하는 이벤트면 true, 이미 처리한 이벤트면 false
+     */
+    public boolean markApplied(String subscriber, Long outboxEventId) {
+        try {
+            jdbcTemplate.update(INSERT_APPLIED_SQL, subscriber, outboxEventId, Timestamp.valueOf(LocalDateTime.now()));
+            return true;
+        } catch (DuplicateKeyException e) {
+            log.debug("이미 처리한 경매 이벤트 생략: 구독자={}, 이벤트ID={}", subscriber, outboxEventId);
+            return false;
+        }
+    }
+}
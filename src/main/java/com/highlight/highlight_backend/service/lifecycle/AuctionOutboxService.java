@@ -0,0 +1,132 @@
+package com.highlight.highlight_backend.service.lifecycle;
+
+import com.highlight.highlight_backend.domain.Auction;
+import com.highlight.highlight_backend.domain.AuctionOutboxEvent;
+import com.highlight.highlight_backend.domain.Bid;
+import com.highlight.highlight_backend.event.AuctionLifecycleEvent;
+import com.highlight.highlight_backend.repository.AuctionOutboxEventRepository;
+import com.highlight.highlight_backend.service.cluster.LeaderOnly;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 경매 생명주기 이벤트 아웃박스 서비스
+ *
+ * 경매 상태를 바꾸는 트랜잭션 안에서 아웃박스 행을 함께 저장하고({@link #record}), 커밋 후 별도 스레드에서
+ * {@link AuctionLifecycleEvent} 로 구독자(상품 상태, WebSocket 알림, 판매자 통계)에게 전달합니다.
+ * 전달 전에 노드가 종료되는 등 커밋 직후 전달되지 못한 이벤트는 리더 노드가 주기적으로 다시 전달하므로,
+ * 커밋된 상태 변경의 후속 처리는 최소 한 번 실행됩니다.
+ *
+ * @author 전우선
+ * @since 2025.08.20
+ */
+@Slf4j
+@Service
+public class AuctionOutboxService {
+
+    /**
+     * 재전달 대상 기준 (발생 후 이 시간이 지나도 미전달인 이벤트)
+     */
+    private static final long REDELIVERY_DELAY_SECONDS = 5;
+
+    /**
+     * 재전달 1회 조회 건수
+     */
+    private static final int REDELIVERY_BATCH_SIZE = 100;
+
+    private final AuctionOutboxEventRepository outboxRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService relayExecutor;
+
+    public AuctionOutboxService(AuctionOutboxEventRepository outboxRepository,
+                                ApplicationEventPublisher eventPublisher,
+                                PlatformTransactionManager transactionManager) {
+        this.outboxRepository = outboxRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.relayExecutor = Executors.newSingleThreadExecutor(r -> new Thread(r, "auction-outbox-relay"));
+    }
+
+    /**
+     * 경매 생명주기 이벤트 기록 (상태 변경과 같은 트랜잭션에서 호출)
+     *
+     * @param auction 상태가 바뀐 경매
+     * @param eventType 이벤트 종류
+     * @param winnerBid 낙찰 입찰 (종료/즉시구매, 없으면 null)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(Auction auction, AuctionOutboxEvent.EventType eventType, Bid winnerBid) {
+        AuctionOutboxEvent outboxEvent = outboxRepository.save(
+            new AuctionOutboxEvent(auction.getId(), eventType, winnerBid != null ? winnerBid.getId() : null));
+        eventPublisher.publishEvent(outboxEvent);
+    }
+
+    /**
+     * 커밋 직후 기록된 이벤트 전달 (요청 스레드를 막지 않도록 전달 스레드에서 처리)
+     */
+    @TransactionalEventListener
+    public void onRecorded(AuctionOutboxEvent outboxEvent) {
+        Long outboxEventId = outboxEvent.getId();
+        relayExecutor.execute(() -> outboxRepository.findUnpublishedByIdIn(List.of(outboxEventId))
+            .forEach(this::deliver));
+    }
+
+    /**
+     * 커밋 직후 전달되지 못한 이벤트 재전달 (리더 노드, 발생 순)
+     */
+    @Scheduled(fixedDelayString = "${auction.outbox.redelivery-interval-ms:1000}")
+    @LeaderOnly
+    public void redeliverPending() {
+        List<AuctionOutboxEvent> pending;
+        do {
+            pending = outboxRepository.findUnpublished(
+                LocalDateTime.now().minusSeconds(REDELIVERY_DELAY_SECONDS), PageRequest.of(0, REDELIVERY_BATCH_SIZE));
+            for (AuctionOutboxEvent outboxEvent : pending) {
+                if (!deliver(outboxEvent)) {
+                    return; // 다음 주기에 같은 순서로 재시도
+                }
+            }
+            if (!pending.isEmpty()) {
+                log.info("경매 이벤트 재전달: {}건", pending.size());
+            }
+        } while (pending.size() == REDELIVERY_BATCH_SIZE);
+    }
+
+    /**
+     * 구독자에게 전달 후 전달 완료 기록
+     *
+     * @return 전달에 성공했으면 true
+     */
+    private boolean deliver(AuctionOutboxEvent outboxEvent) {
+        try {
+            eventPublisher.publishEvent(AuctionLifecycleEvent.from(outboxEvent));
+            transactionTemplate.executeWithoutResult(status ->
+                outboxRepository.markPublished(outboxEvent.getId(), LocalDateTime.now()));
+            return true;
+        } catch (Exception e) {
+            log.error("경매 이벤트 전달 실패: 이벤트ID={}, 경매ID={}, 종류={}, 오류={}",
+                    outboxEvent.getId(), outboxEvent.getAuctionId(), outboxEvent.getEventType(), e.getMessage(), e);
+            return false;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        relayExecutor.shutdown();
+    }
+}
@@ -0,0 +1,66 @@
+package com.highlight.highlight_backend.service.lifecycle;
+
+import com.highlight.highlight_backend.domain.Auction;
+import com.highlight.highlight_backend.domain.AuctionOutboxEvent;
+import com.highlight.highlight_backend.domain.Product;
+import com.highlight.highlight_backend.event.AuctionLifecycleEvent;
+import com.highlight.highlight_backend.repository.AuctionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 경매 생명주기에 따른 상품 상태 변경 구독자
+ *
+ * 시작 -> IN_AUCTION, 종료/즉시구매 -> AUCTION_COMPLETED, 취소 -> ACTIVE 로 변경합니다.
+ * 경매의 현재 상태가 이벤트와 맞을 때만 변경하므로, 재전달로 순서가 뒤바뀌어도 이전 상태로 되돌리지 않습니다.
+ *
+ * @author 전우선
+ * @since 2025.08.20
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductStatusSubscriber {
+
+    private final AuctionRepository auctionRepository;
+
+    @EventListener
+    @Transactional
+    public void onAuctionLifecycle(AuctionLifecycleEvent event) {
+        Auction auction = auctionRepository.findByIdWithProduct(event.getAuctionId()).orElse(null);
+        if (auction == null || auction.getProduct() == null) {
+            return;
+        }
+        if (auction.getStatus() != expectedAuctionStatus(event.getEventType())) {
+            log.debug("경매 상태가 바뀌어 상품 상태 변경 생략: 경매ID={}, 이벤트={}, 현재상태={}",
+                    auction.getId(), event.getEventType(), auction.getStatus());
+            return;
+        }
+
+        Product product = auction.getProduct();
+        Product.ProductStatus productStatus = productStatus(event.getEventType());
+        if (product.getStatus() != productStatus) {
+            product.setStatus(productStatus);
+            log.info("상품 상태 변경: 상품ID={}, 경매ID={}, 상태={}", product.getId(), auction.getId(), productStatus);
+        }
+    }
+
+    private static Auction.AuctionStatus expectedAuctionStatus(AuctionOutboxEvent.EventType eventType) {
+        return switch (eventType) {
+            case STARTED -> Auction.AuctionStatus.IN_PROGRESS;
+            case ENDED, BOUGHT_NOW -> Auction.AuctionStatus.COMPLETED;
+            case CANCELLED -> Auction.AuctionStatus.CANCELLED;
+        };
+    }
+
+    private static Product.ProductStatus productStatus(AuctionOutboxEvent.EventType eventType) {
+        return switch (eventType) {
+            case STARTED -> Product.ProductStatus.IN_AUCTION;
+            case ENDED, BOUGHT_NOW -> Product.ProductStatus.AUCTION_COMPLETED;
+            case CANCELLED -> Product.ProductStatus.ACTIVE;
+        };
+    }
+}
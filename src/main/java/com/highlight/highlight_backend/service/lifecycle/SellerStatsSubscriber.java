@@ -0,0 +1,60 @@
+package com.highlight.highlight_backend.service.lifecycle;
+
+import com.highlight.highlight_backend.domain.Auction;
+import com.highlight.highlight_backend.domain.AuctionOutboxEvent;
+import com.highlight.highlight_backend.domain.Seller;
+import com.highlight.highlight_backend.event.AuctionLifecycleEvent;
+import com.highlight.highlight_backend.repository.AuctionRepository;
+import com.highlight.highlight_backend.repository.SellerRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 판매자 통계 구독자
+ *
+ * 낙찰자가 있는 경매 종료와 즉시구매 시 상품 판매자의 판매 건수와 마지막 활동 시간을 갱신합니다.
+ * 재전달된 이벤트는 처리 기록({@link AuctionOutboxApplyLog})으로 걸러 판매 건수를 한 번만 올립니다.
+ *
+ * @author 전우선
+ * @since 2025.08.20
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SellerStatsSubscriber {
+
+    /**
+     * 처리 기록 구독자 이름
+     */
+    static final String SUBSCRIBER = "SELLER_STATS";
+
+    private final AuctionRepository auctionRepository;
+    private final SellerRepository sellerRepository;
+    private final AuctionOutboxApplyLog applyLog;
+
+    @EventListener
+    @Transactional
+    public void onAuctionLifecycle(AuctionLifecycleEvent event) {
+        boolean sold = event.getEventType() == AuctionOutboxEvent.EventType.BOUGHT_NOW
+            || (event.getEventType() == AuctionOutboxEvent.EventType.ENDED && event.getWinnerBidId() != null);
+        if (!sold) {
+            return;
+        }
+
+        Auction auction = auctionRepository.findByIdWithProduct(event.getAuctionId()).orElse(null);
+        if (auction == null || auction.getProduct() == null || auction.getProduct().getSellerId() == null) {
+            return;
+        }
+
+        Seller seller = sellerRepository.findById(auction.getProduct().getSellerId()).orElse(null);
+        if (seller != null && applyLog.markApplied(SUBSCRIBER, event.getOutboxEventId())) {
+            seller.incrementSalesCount();
+            seller.updateLastActiveAt();
+            log.info("판매자 판매 건수 증가: 판매자ID={}, 경매ID={}, 판매건수={}",
+                    seller.getId(), auction.getId(), seller.getSalesCount());
+        }
+    }
+}
@@ -0,0 +1,382 @@
+package com.highlight.highlight_backend.service.notification;
+
+import com.highlight.highlight_backend.domain.AuctionOutboxEvent;
+import com.highlight.highlight_backend.domain.NotificationDispatch;
+import com.highlight.highlight_backend.domain.ProductNotification;
+import com.highlight.highlight_backend.event.AuctionLifecycleEvent;
+import com.highlight.highlight_backend.service.WebSocketService;
+import com.highlight.highlight_backend.service.cluster.LeaderOnly;
+import com.highlight.highlight_backend.service.sms.SmsGateway;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 상품 알림 대량 발송 엔진
+ *
+ * 경매가 시작되면(아웃박스 STARTED 이벤트) 경매 시작 알림을 신청한 사용자에게 WebSocket 개인 알림과 SMS 를 보냅니다.
+ * 신청자는 상품 알림 ID 순으로 페이지(기본 500건) 단위로 조회하며, 페이지마다 WebSocket 전송은 고정 크기 워커 풀에
+ * 나눠 처리하고 SMS 는 제공자의 요청당 최대 수신 번호 수 단위로 SmsGateway 에 배치 발송을 요청합니다.
+ * 페이지의 전송/발송이 끝난 뒤 다음 페이지를 조회하므로 조회 속도가 발송 속도를 앞지르지 않습니다.
+ *
+ * 페이지를 마칠 때마다 마지막 상품 알림 ID 를 notification_dispatch 에 기록하므로, 발송 도중 재기동되어도
+ * 리더 노드가 멈춘 발송을 찾아 커서 이후부터 이어서 보냅니다 (최대 한 페이지만 중복 발송).
+ * 기록은 직전에 기록한 진행 시간이 그대로일 때만 성공하므로, 다른 노드가 이어받은 발송은 원래 노드에서 멈춥니다.
+ *
+ * @author 전우선
+ * @since 2025.08.20
+ */
+@Slf4j
+@Service
+public class ProductNotificationDispatcher {
+
+    private static final String SELECT_AUCTION_SQL =
+            "SELECT a.product_id, p.product_name FROM auction a JOIN product p ON p.id = a.product_id WHERE a.id = ?";
+
+    private static final String INSERT_DISPATCH_SQL =
+            "INSERT INTO notification_dispatch (auction_id, product_id, notification_type, status, " +
+            "last_notification_id, sent_count, created_at, updated_at) VALUES (?, ?, ?, 'IN_PROGRESS', 0, 0, ?, ?)";
+
+    private static final String SELECT_DISPATCH_SQL =
+            "SELECT id, auction_id, product_id, notification_type, status, last_notification_id, updated_at " +
+            "FROM notification_dispatch WHERE auction_id = ? AND notification_type = ?";
+
+    private static final String SELECT_STALLED_SQL =
+            "SELECT id, auction_id, product_id, notification_type, status, last_notification_id, updated_at " +
+            "FROM notification_dispatch WHERE status = 'IN_PROGRESS' AND updated_at < ? ORDER BY id LIMIT 100";
+
+    private static final String CLAIM_SQL =
+            "UPDATE notification_dispatch SET updated_at = ? WHERE id = ? AND status = 'IN_PROGRESS' AND updated_at = ?";
+
+    private static final String CHECKPOINT_SQL =
+            "UPDATE notification_dispatch SET last_notification_id = ?, sent_count = sent_count + ?, updated_at = ? " +
+            "WHERE id = ? AND updated_at = ?";
+
+    private static final String COMPLETE_SQL =
+            "UPDATE notification_dispatch SET status = 'COMPLETED', updated_at = ? WHERE id = ? AND updated_at = ?";
+
+    private static final String SELECT_RECIPIENTS_SQL =
+            "SELECT n.id, n.user_id, u.phone_number FROM product_notification n " +
+            "JOIN user u ON u.id = n.user_id " +
+            "WHERE n.product_id = ? AND n.notification_type = ? AND n.is_active = TRUE " +
+            "AND u.deleted_at IS NULL AND n.id > ? ORDER BY n.id LIMIT ?";
+
+    private static final String MARK_NOTIFIED_SQL =
+            "UPDATE product_notification SET last_notified_at = ? " +
+            "WHERE product_id = ? AND notification_type = ? AND is_active = TRUE AND id > ? AND id <= ?";
+
+    /**
+     * WebSocket 전송 작업 하나에 담는 수신자 수
+     */
+    private static final int WEBSOCKET_SLICE_SIZE = 100;
+
+    private static final RowMapper<Dispatch> DISPATCH_MAPPER = (rs, rowNum) -> new Dispatch(
+            rs.getLong("id"),
+            rs.getLong("auction_id"),
+            rs.getLong("product_id"),
+            ProductNotification.NotificationType.valueOf(rs.getString("notification_type")),
+            NotificationDispatch.DispatchStatus.valueOf(rs.getString("status")),
+            rs.getLong("last_notification_id"),
+            rs.getTimestamp("updated_at").toLocalDateTime());
+
+    private static final RowMapper<Recipient> RECIPIENT_MAPPER = (rs, rowNum) -> new Recipient(
+            rs.getLong("id"),
+            rs.getLong("user_id"),
+            rs.getString("phone_number"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final SmsGateway smsGateway;
+    private final WebSocketService webSocketService;
+
+    private final int pageSize;
+    private final long staleMs;
+
+    private final ExecutorService coordinator;
+    private final ExecutorService workers;
+    private volatile boolean running = true;
+
+    public ProductNotificationDispatcher(JdbcTemplate jdbcTemplate,
+                                         PlatformTransactionManager transactionManager,
+                                         SmsGateway smsGateway,
+                                         WebSocketService webSocketService,
+                                         @Value("${notification.dispatch.page-size:500}") int pageSize,
+                                         @Value("${notification.dispatch.workers:4}") int workerCount,
+                                         @Value("${notification.dispatch.stale-ms:120000}") long staleMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.smsGateway = smsGateway;
+        this.webSocketService = webSocketService;
+        this.pageSize = Math.max(1, pageSize);
+        this.staleMs = Math.max(0, staleMs);
+
+        int threads = Math.max(1, workerCount);
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.coordinator = Executors.newSingleThreadExecutor(r -> new Thread(r, "notification-dispatch"));
+        this.workers = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(threads * 2),
+            r -> new Thread(r, "notification-dispatch-worker-" + threadIndex.incrementAndGet()),
+            new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * 경매 시작 시 시작 알림 발송 (아웃박스 전달 스레드를 막지 않도록 발송 스레드에서 처리)
+     */
+    @EventListener
+    public void onAuctionLifecycle(AuctionLifecycleEvent event) {
+        if (event.getEventType() == AuctionOutboxEvent.EventType.STARTED) {
+            dispatchAuctionStart(event.getAuctionId());
+        }
+    }
+
+    /**
+     * 경매 시작 알림 발송 요청
+     * 아웃박스 재전달 등으로 같은 경매에 여러 번 요청되어도 발송은 한 번만 진행됩니다.
+     *
+     * @param auctionId 시작된 경매 ID
+     * @return 이 요청의 처리(발송 또는 생략)가 끝나면 완료되는 Future
+     */
+    public CompletableFuture<Void> dispatchAuctionStart(Long auctionId) {
+        return CompletableFuture.runAsync(() -> {
+            try {
+                start(auctionId, ProductNotification.NotificationType.AUCTION_START);
+            } catch (Exception e) {
+                // 진행 상황이 남아 있으면 리더 노드가 이어서 발송
+                log.error("경매 시작 알림 발송 중 오류 발생: 경매ID={}, 오류={}", auctionId, e.getMessage(), e);
+            }
+        }, coordinator);
+    }
+
+    /**
+     * 멈춘 발송 이어서 처리 (진행 시간이 오래 갱신되지 않은 발송, 리더 노드에서만)
+     *
+     * @return 이어받은 발송의 처리가 모두 끝나면 완료되는 Future
+     */
+    @Scheduled(fixedDelayString = "${notification.dispatch.resume-interval-ms:30000}")
+    @LeaderOnly
+    public CompletableFuture<Void> resumeStalledDispatches() {
+        List<Dispatch> stalled = jdbcTemplate.query(SELECT_STALLED_SQL, DISPATCH_MAPPER,
+                Timestamp.valueOf(now().minus(staleMs, ChronoUnit.MILLIS)));
+        List<CompletableFuture<Void>> resumed = new ArrayList<>();
+        for (Dispatch dispatch : stalled) {
+            resumed.add(CompletableFuture.runAsync(() -> {
+                try {
+                    Dispatch claimed = claim(dispatch);
+                    if (claimed != null) {
+                        log.info("멈춘 상품 알림 발송 재개: 경매ID={}, 유형={}, 커서={}",
+                                dispatch.auctionId, dispatch.type, dispatch.lastNotificationId);
+                        run(claimed);
+                    }
+                } catch (Exception e) {
+                    log.error("상품 알림 발송 재개 중 오류 발생: 경매ID={}, 오류={}", dispatch.auctionId, e.getMessage(), e);
+                }
+            }, coordinator));
+        }
+        return CompletableFuture.allOf(resumed.toArray(CompletableFuture[]::new));
+    }
+
+    /**
+     * 발송 진행 상황 생성 후 발송 (이미 있으면 멈춘 경우에만 이어받음)
+     */
+    private void start(Long auctionId, ProductNotification.NotificationType type) {
+        List<Long> productIds = jdbcTemplate.query(SELECT_AUCTION_SQL, (rs, rowNum) -> rs.getLong("product_id"), auctionId);
+        if (productIds.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = now();
+        Dispatch dispatch;
+        try {
+            jdbcTemplate.update(INSERT_DISPATCH_SQL, auctionId, productIds.get(0), type.name(),
+                    Timestamp.valueOf(now), Timestamp.valueOf(now));
+            dispatch = findDispatch(auctionId, type);
+        } catch (DuplicateKeyException e) {
+            Dispatch existing = findDispatch(auctionId, type);
+            if (existing.status == NotificationDispatch.DispatchStatus.COMPLETED
+                    || existing.updatedAt.isAfter(now.minus(staleMs, ChronoUnit.MILLIS))) {
+                log.debug("상품 알림 발송 생략 (완료 또는 진행 중): 경매ID={}, 유형={}", auctionId, type);
+                return;
+            }
+            dispatch = claim(existing);
+            if (dispatch == null) {
+                return;
+            }
+        }
+        run(dispatch);
+    }
+
+    /**
+     * 멈춘 발송 이어받기 (마지막 진행 시간이 그대로일 때만 성공)
+     */
+    private Dispatch claim(Dispatch dispatch) {
+        LocalDateTime now = now();
+        int updated = jdbcTemplate.update(CLAIM_SQL, Timestamp.valueOf(now), dispatch.id, Timestamp.valueOf(dispatch.updatedAt));
+        return updated > 0 ? dispatch.withProgress(dispatch.lastNotificationId, now) : null;
+    }
+
+    /**
+     * 커서 이후 신청자를 페이지 단위로 발송하고 페이지마다 진행 상황 기록
+     */
+    private void run(Dispatch dispatch) {
+        List<String> productNames = jdbcTemplate.query(SELECT_AUCTION_SQL,
+                (rs, rowNum) -> rs.getString("product_name"), dispatch.auctionId);
+        String message = reminderMessage(productNames.isEmpty() ? null : productNames.get(0));
+
+        Dispatch current = dispatch;
+        int sent = 0;
+        while (running) {
+            List<Recipient> page = jdbcTemplate.query(SELECT_RECIPIENTS_SQL, RECIPIENT_MAPPER,
+                    current.productId, current.type.name(), current.lastNotificationId, pageSize);
+            if (page.isEmpty()) {
+                complete(current, sent);
+                return;
+            }
+
+            int failed = fanOut(current.auctionId, message, page);
+            if (failed > 0) {
+                log.warn("상품 알림 SMS 일부 발송 실패: 경매ID={}, 실패={}건", current.auctionId, failed);
+            }
+
+            current = checkpoint(current, page);
+            if (current == null) {
+                log.warn("다른 노드가 상품 알림 발송을 이어받아 중단: 경매ID={}", dispatch.auctionId);
+                return;
+            }
+            sent += page.size();
+        }
+    }
+
+    /**
+     * 페이지 한 개 발송: WebSocket 은 수신자 묶음 단위로 워커에 분배, SMS 는 제공자 배치 크기 단위로 게이트웨이에 요청
+     *
+     * @return SMS 발송에 실패한 수신 번호 수
+     */
+    private int fanOut(Long auctionId, String message, List<Recipient> page) {
+        List<CompletableFuture<Integer>> tasks = new ArrayList<>();
+
+        for (List<Recipient> slice : partition(page, WEBSOCKET_SLICE_SIZE)) {
+            tasks.add(CompletableFuture.supplyAsync(() -> {
+                for (Recipient recipient : slice) {
+                    try {
+                        webSocketService.sendAuctionStartReminder(recipient.userId, auctionId, message);
+                    } catch (RuntimeException e) {
+                        log.warn("경매 시작 WebSocket 알림 전송 실패: 사용자={}, 오류={}", recipient.userId, e.getMessage());
+                    }
+                }
+                return 0;
+            }, workers));
+        }
+
+        List<String> phoneNumbers = page.stream()
+            .map(Recipient::phoneNumber)
+            .filter(phoneNumber -> phoneNumber != null && !phoneNumber.isBlank())
+            .distinct()
+            .toList();
+        for (List<String> batch : partition(phoneNumbers, smsGateway.getMaxBatchSize())) {
+            tasks.add(smsGateway.sendBatch(message, batch).handle((result, error) -> {
+                if (error == null) {
+                    return 0;
+                }
+                log.error("경매 시작 SMS 배치 발송 실패: 경매ID={}, 수신 {}건, 오류={}", auctionId, batch.size(), error.getMessage());
+                return batch.size();
+            }));
+        }
+
+        return tasks.stream().mapToInt(CompletableFuture::join).sum();
+    }
+
+    /**
+     * 페이지 발송 완료 기록 (커서 이동 + 상품 알림 마지막 발송 시간 갱신, 한 트랜잭션)
+     *
+     * @return 갱신된 진행 상황, 다른 노드가 이어받았으면 null
+     */
+    private Dispatch checkpoint(Dispatch dispatch, List<Recipient> page) {
+        long lastNotificationId = page.get(page.size() - 1).notificationId;
+        LocalDateTime now = now();
+
+        Boolean owned = transactionTemplate.execute(status -> {
+            int updated = jdbcTemplate.update(CHECKPOINT_SQL, lastNotificationId, page.size(),
+                    Timestamp.valueOf(now), dispatch.id, Timestamp.valueOf(dispatch.updatedAt));
+            if (updated == 0) {
+                return false;
+            }
+            jdbcTemplate.update(MARK_NOTIFIED_SQL, Timestamp.valueOf(now), dispatch.productId, dispatch.type.name(),
+                    dispatch.lastNotificationId, lastNotificationId);
+            return true;
+        });
+        return Boolean.TRUE.equals(owned) ? dispatch.withProgress(lastNotificationId, now) : null;
+    }
+
+    private void complete(Dispatch dispatch, int sent) {
+        int updated = jdbcTemplate.update(COMPLETE_SQL, Timestamp.valueOf(now()), dispatch.id,
+                Timestamp.valueOf(dispatch.updatedAt));
+        if (updated > 0) {
+            log.info("상품 알림 발송 완료: 경매ID={}, 유형={}, 발송={}건", dispatch.auctionId, dispatch.type, sent);
+        }
+    }
+
+    private Dispatch findDispatch(Long auctionId, ProductNotification.NotificationType type) {
+        return jdbcTemplate.queryForObject(SELECT_DISPATCH_SQL, DISPATCH_MAPPER, auctionId, type.name());
+    }
+
+    private static String reminderMessage(String productName) {
+        return productName != null
+            ? "[nafal] 알림 신청하신 '" + productName + "' 경매가 시작되었습니다."
+            : "[nafal] 알림 신청하신 경매가 시작되었습니다.";
+    }
+
+    private static <T> List<List<T>> partition(List<T> items, int size) {
+        List<List<T>> partitions = new ArrayList<>();
+        for (int from = 0; from < items.size(); from += size) {
+            partitions.add(items.subList(from, Math.min(items.size(), from + size)));
+        }
+        return partitions;
+    }
+
+    /**
+     * 진행 시간 비교에 쓰므로 DB 컬럼 정밀도(마이크로초)에 맞춤
+     */
+    private static LocalDateTime now() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        coordinator.shutdown();
+        workers.shutdown();
+    }
+
+    private record Dispatch(Long id, Long auctionId, Long productId, ProductNotification.NotificationType type,
+                            NotificationDispatch.DispatchStatus status, long lastNotificationId,
+                            LocalDateTime updatedAt) {
+
+        private Dispatch withProgress(long lastNotificationId, LocalDateTime updatedAt) {
+            return new Dispatch(id, auctionId, productId, type, status, lastNotificationId, updatedAt);
+        }
+    }
+
+    private record Recipient(long notificationId, Long userId, String phoneNumber) {
+    }
+}
@@ -0,0 +1,165 @@
+package com.highlight.highlight_backend.service.notification;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.highlight.highlight_backend.dto.websocket.NotificationReplayDto;
+import com.highlight.highlight_backend.dto.websocket.WebSocketMessageDto;
+import com.highlight.highlight_backend.dto.websocket.WebSocketMessageDto.WebSocketMessageType;
+import com.highlight.highlight_backend.service.cluster.LeaderOnly;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 사용자 개인 알림함
+ *
+ * /queue/user/{id}/notifications 로 보내는 개인 알림을 전송 전에 user_notification 에 저장하고,
+ * 저장된 ID 를 알림 순번(seq)으로 붙여 보냅니다. 오프라인이었던 클라이언트는 구독할 때 마지막으로 받은 순번을
+ * 보내면 이후 알림을 한 프레임으로 다시 받습니다 (WebSocketEventListener).
+ * - 재전송은 최근 알림부터 최대 한도(기본 100건)까지만 하며, 넘치면 truncated 로 알림
+ * - 보관 기간(기본 72시간)이 지난 알림은 리더 노드가 주기적으로 삭제
+ *
+ * 저장에 실패해도 실시간 전송은 그대로 진행합니다 (순번 없이 전송).
+ *
+ * @author 전우선
+ * @since 2025.08.20
+ */
+@Slf4j
+@Service
+public class UserNotificationInbox {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO user_notification (user_id, message_type, auction_id, payload, created_at) VALUES (?, ?, ?, ?, ?)";
+
+    private static final String SELECT_AFTER_SQL =
+            "SELECT id, message_type, auction_id, payload, created_at FROM user_notification " +
+            "WHERE user_id = ? AND id > ? ORDER BY id DESC LIMIT ?";
+
+    private static final String PURGE_SQL =
+            "DELETE FROM user_notification WHERE created_at < ? LIMIT ?";
+
+    /**
+     * 보관 기간이 지난 알림 삭제 시 한 번에 지우는 행 수 (긴 락 방지)
+     */
+    private static final int PURGE_BATCH_SIZE = 5000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final int replayLimit;
+    private final long retentionHours;
+
+    private final RowMapper<WebSocketMessageDto> messageMapper;
+
+    public UserNotificationInbox(JdbcTemplate jdbcTemplate,
+                                 ObjectMapper objectMapper,
+                                 @Value("${notification.inbox.replay-limit:100}") int replayLimit,
+                                 @Value("${notification.inbox.retention-hours:72}") long retentionHours) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.replayLimit = Math.max(1, replayLimit);
+        this.retentionHours = Math.max(1, retentionHours);
+        this.messageMapper = (rs, rowNum) -> new WebSocketMessageDto(
+                WebSocketMessageType.valueOf(rs.getString("message_type")),
+                rs.getObject("auction_id", Long.class),
+                readPayload(rs.getString("payload")),
+                rs.getTimestamp("created_at").toLocalDateTime(),
+                rs.getLong("id"),
+                null);
+    }
+
+    /**
+     * 개인 알림 저장
+     *
+     * @param userId 수신 사용자 ID
+     * @param message 전송할 알림
+     * @return 순번이 붙은 알림 (저장 실패 시 원본 그대로)
+     */
+    public WebSocketMessageDto append(Long userId, WebSocketMessageDto message) {
+        try {
+            String payload = objectMapper.writeValueAsString(message.getData());
+            LocalDateTime createdAt = message.getTimestamp() != null ? message.getTimestamp() : LocalDateTime.now();
+
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.update(con -> {
+                PreparedStatement ps = con.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS);
+                ps.setLong(1, userId);
+                ps.setString(2, message.getType().name());
+                if (message.getAuctionId() != null) {
+                    ps.setLong(3, message.getAuctionId());
+                } else {
+                    ps.setNull(3, Types.BIGINT);
+                }
+                ps.setString(4, payload);
+                ps.setTimestamp(5, Timestamp.valueOf(createdAt));
+                return ps;
+            }, keyHolder);
+
+            return message.withSeq(keyHolder.getKey().longValue());
+        } catch (Exception e) {
+            log.error("개인 알림 저장 실패, 순번 없이 전송합니다: 사용자={}, 타입={}, 오류={}",
+                    userId, message.getType(), e.getMessage());
+            return message;
+        }
+    }
+
+    /**
+     * 마지막으로 받은 순번 이후의 알림 조회 (재전송 한도를 넘으면 최근 알림만)
+     *
+     * @param userId 사용자 ID
+     * @param lastSeq 클라이언트가 마지막으로 받은 순번
+     * @return 순번 오름차순 알림 묶음
+     */
+    public NotificationReplayDto findAfter(Long userId, long lastSeq) {
+        List<WebSocketMessageDto> newestFirst = jdbcTemplate.query(
+                SELECT_AFTER_SQL, messageMapper, userId, lastSeq, replayLimit + 1);
+
+        boolean truncated = newestFirst.size() > replayLimit;
+        List<WebSocketMessageDto> messages = new ArrayList<>(
+                truncated ? newestFirst.subList(0, replayLimit) : newestFirst);
+        Collections.reverse(messages);
+
+        long replayedSeq = messages.isEmpty() ? lastSeq : messages.get(messages.size() - 1).getSeq();
+        return new NotificationReplayDto(messages, replayedSeq, truncated);
+    }
+
+    /**
+     * 보관 기간이 지난 알림 삭제 (리더 노드)
+     */
+    @Scheduled(fixedDelayString = "${notification.inbox.purge-interval-ms:600000}")
+    @LeaderOnly
+    public void purgeExpired() {
+        Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now().minusHours(retentionHours));
+        int total = 0;
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update(PURGE_SQL, cutoff, PURGE_BATCH_SIZE);
+            total += deleted;
+        } while (deleted == PURGE_BATCH_SIZE);
+
+        if (total > 0) {
+            log.info("보관 기간이 지난 개인 알림 삭제: {}건", total);
+        }
+    }
+
+    private Object readPayload(String payload) {
+        try {
+            return objectMapper.readTree(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("개인 알림 데이터 변환 실패", e);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.highlight.highlight_backend.service.search;
+
+import com.highlight.highlight_backend.domain.Auction;
+import com.highlight.highlight_backend.domain.Product;
+import com.highlight.highlight_backend.domain.ProductImage;
+import com.highlight.highlight_backend.dto.UserAuctionResponseDto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 경매 검색 인덱스 문서
+ *
+ * 경매 목록 응답에 필요한 경매/상품 정보를 담은 불변 스냅샷이며, 검색 결과를 DB 조회 없이 만들 수 있습니다.
+ *
+ * @author 전우선
+ * @since 2025.08.20
+ */
+public record AuctionDocument(
+        Long auctionId,
+        Long productId,
+        String productName,
+        String thumbnailUrl,
+        String brand,
+        Product.Category category,
+        boolean premium,
+        Auction.AuctionStatus status,
+        BigDecimal startPrice,
+        BigDecimal buyNowPrice,
+        BigDecimal currentPrice,
+        Integer totalBids,
+        LocalDateTime scheduledStartTime,
+        LocalDateTime scheduledEndTime,
+        LocalDateTime createdAt) {
+
+    /**
+     * 경매 엔티티로부터 문서 생성 (상품/이미지가 로딩된 상태여야 함)
+     */
+    public static AuctionDocument from(Auction auction) {
+        Product product = auction.getProduct();
+        List<ProductImage> images = product.getImages();
+        String thumbnailUrl = (images != null && !images.isEmpty()) ? images.get(0).getImageUrl() : null;
+
+        return new AuctionDocument(
+                auction.getId(),
+                product.getId(),
+                product.getProductName(),
+                thumbnailUrl,
+                product.getBrand(),
+                product.getCategory(),
+                Boolean.TRUE.equals(product.getIsPremium()),
+                auction.getStatus(),
+                auction.getStartPrice(),
+                auction.getBuyItNowPrice(),
+                auction.getCurrentHighestBid(),
+                auction.getTotalBids(),
+                auction.getScheduledStartTime(),
+                auction.getScheduledEndTime(),
+                auction.getCreatedAt());
+    }
+
+    /**
+     * 입찰 통계를 반영한 문서
+     */
+    public AuctionDocument withBidStats(BigDecimal currentPrice, Integer totalBids) {
+        return new AuctionDocument(auctionId, productId, productName, thumbnailUrl, brand, category, premium, status,
+                startPrice, buyNowPrice, currentPrice, totalBids, scheduledStartTime, scheduledEndTime, createdAt);
+    }
+
+    /**
+     * 경매 목록 응답 DTO로 변환
+     */
+    public UserAuctionResponseDto toResponseDto() {
+        return UserAuctionResponseDto.builder()
+                .auctionId(auctionId)
+                .productId(productId)
+                .thumbnailUrl(thumbnailUrl)
+                .productName(productName)
+                .brand(brand)
+                .startPrice(startPrice)
+                .buyNowPrice(buyNowPrice)
+                .currentPrice(currentPrice)
+                .minimumBid(startPrice)
+                .bidCount(totalBids)
+                .endTime(scheduledEndTime)
+                .startTime(scheduledStartTime)
+                .auctionStatus(status.name())
+                .isPremium(premium)
+                .build();
+    }
+}
@@ -0,0 +1,565 @@
+package com.highlight.highlight_backend.service.search;
+
+import com.highlight.highlight_backend.domain.Auction;
+import com.highlight.highlight_backend.domain.Product;
+import com.highlight.highlight_backend.dto.AuctionFacetsDto;
+import com.highlight.highlight_backend.dto.AuctionSearchResultDto;
+import com.highlight.highlight_backend.dto.UserAuctionResponseDto;
+import com.highlight.highlight_backend.event.AuctionBidStatsChangedEvent;
+import com.highlight.highlight_backend.event.AuctionLifecycleEvent;
+import com.highlight.highlight_backend.event.AuctionStatusChangedEvent;
+import com.highlight.highlight_backend.event.ProductChangedEvent;
+import com.highlight.highlight_backend.repository.AuctionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * 공개 경매 목록 검색 인덱스 (메모리)
+ *
+ * 예약/진행 중인 경매를 메모리에 색인하여 /api/public/products/ 검색을 DB 조회 없이 처리합니다.
+ * - 카테고리, 경매 상태, 프리미엄 여부: 값별 BitSet
+ * - 브랜드, 상품명 토큰: 값별 정렬된 문서 번호 목록
+ * - 현재가, 종료 시간: 값 순 정렬 구조 (범위 조회)
+ * 필터마다 문서 번호 집합을 교집합하고, 결과만 정렬해 페이지를 만듭니다.
+ * 필터 UI 용 카테고리/브랜드/가격 구간별 건수도 같은 잠금 안에서 한 번의 순회로 함께 계산합니다.
+ *
+ * 경매 상태/일정 변경과 생명주기 이벤트, 상품 변경은 커밋 후 해당 경매만 다시 읽어 반영하고,
+ * 입찰은 이벤트에 담긴 현재가/입찰 수만 반영합니다 (DB 조회 없음).
+ * 다른 노드에서 바뀐 경매와 누락된 이벤트에 대비해 주기적으로(기본 5분) DB와 전체를 맞추며,
+ * 첫 구성이 끝나기 전에는 UserAuctionSearchService 가 DB 검색을 사용합니다.
+ *
+ * @author 전우선
+ * @since 2025.08.20
+ */
+@Slf4j
+@Component
+public class AuctionSearchIndex {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    /**
+     * 색인 대상 경매 상태 (공개 목록에 노출되는 예약/진행 중 경매)
+     */
+    public static final Set<Auction.AuctionStatus> INDEXED_STATUSES = EnumSet.of(
+            Auction.AuctionStatus.SCHEDULED,
+            Auction.AuctionStatus.READY,
+            Auction.AuctionStatus.IN_PROGRESS);
+
+    private static final Comparator<AuctionDocument> NEWEST = Comparator
+            .comparing(AuctionDocument::createdAt, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(AuctionDocument::auctionId, Comparator.reverseOrder());
+
+    private static final Comparator<AuctionDocument> ENDING = Comparator
+            .comparing(AuctionDocument::scheduledEndTime, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(AuctionDocument::auctionId);
+
+    private static final Comparator<AuctionDocument> POPULAR = Comparator
+            .comparing((AuctionDocument document) -> document.totalBids() != null ? document.totalBids() : 0,
+                    Comparator.reverseOrder())
+            .thenComparing(AuctionDocument::auctionId, Comparator.reverseOrder());
+
+    /**
+     * 가격 구간 하한 (원, 오름차순) - 각 구간은 다음 하한 직전까지
+     */
+    private static final long[] PRICE_BUCKETS = {0L, 100_000L, 500_000L, 1_000_000L, 5_000_000L};
+
+    /**
+     * 브랜드 건수 최대 개수 (건수 많은 순)
+     */
+    private static final int MAX_BRAND_FACETS = 30;
+
+    private final AuctionRepository auctionRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 문서 저장소 (문서 번호 -> 문서, 삭제된 번호는 null 로 두고 재사용)
+     */
+    private final List<AuctionDocument> documents = new ArrayList<>();
+    private final Map<Long, Integer> ordinalsByAuctionId = new HashMap<>();
+    private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+    private final BitSet live = new BitSet();
+
+    private final Map<Product.Category, BitSet> byCategory = new EnumMap<>(Product.Category.class);
+    private final Map<Auction.AuctionStatus, BitSet> byStatus = new EnumMap<>(Auction.AuctionStatus.class);
+    private final BitSet premium = new BitSet();
+    private final Map<String, Postings> byBrand = new HashMap<>();
+    private final Map<String, Postings> byTitleToken = new HashMap<>();
+    private final SortedPostings<Long> byPrice = new SortedPostings<>();
+    private final SortedPostings<LocalDateTime> byEndTime = new SortedPostings<>();
+
+    private volatile boolean ready;
+
+    public AuctionSearchIndex(AuctionRepository auctionRepository, PlatformTransactionManager transactionManager) {
+        this.auctionRepository = auctionRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 첫 구성 완료 여부 (완료 전에는 DB 검색 사용)
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 경매 목록 검색 (필터 항목별 건수 포함)
+     *
+     * @param category 카테고리 (Product.Category 이름)
+     * @param minPrice 최소 현재가
+     * @param maxPrice 최대 현재가
+     * @param brand 브랜드
+     * @param eventName 상품명에 포함된 문자열
+     * @param isPremium 프리미엄 여부
+     * @param status 경매 상태 (IN_PROGRESS, SCHEDULED, ENDING_SOON)
+     * @param sortCode 정렬 기준 (ending, popular, newest)
+     * @param pageable 페이지 정보
+     * @return 경매 목록 페이지와 항목별 건수
+     */
+    public AuctionSearchResultDto search(
+            String category, Long minPrice, Long maxPrice, String brand, String eventName,
+            Boolean isPremium, String status, String sortCode, Pageable pageable) {
+
+        List<AuctionDocument> matched = new ArrayList<>();
+        AuctionFacetsDto facets;
+        lock.readLock().lock();
+        try {
+            // 항목 필터(카테고리/브랜드/가격)를 뺀 나머지 조건의 결과
+            BitSet base = baseMatch(eventName, isPremium, status);
+            BitSet categoryFilter = StringUtils.hasText(category) ? categoryPostings(category) : null;
+            BitSet brandFilter = StringUtils.hasText(brand) ? toBitSet(byBrand.get(normalize(brand))) : null;
+            BitSet priceFilter = (minPrice != null || maxPrice != null) ? byPrice.range(minPrice, maxPrice) : null;
+
+            BitSet matches = (BitSet) base.clone();
+            andIfPresent(matches, categoryFilter);
+            andIfPresent(matches, brandFilter);
+            andIfPresent(matches, priceFilter);
+            for (int ordinal = matches.nextSetBit(0); ordinal >= 0; ordinal = matches.nextSetBit(ordinal + 1)) {
+                matched.add(documents.get(ordinal));
+            }
+
+            facets = countFacets(base, categoryFilter, brandFilter, priceFilter);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        matched.sort(comparator(sortCode));
+        int from = (int) Math.min(pageable.getOffset(), matched.size());
+        int to = Math.min(from + pageable.getPageSize(), matched.size());
+        List<UserAuctionResponseDto> content = matched.subList(from, to).stream()
+                .map(AuctionDocument::toResponseDto)
+                .toList();
+
+        return new AuctionSearchResultDto(content, PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()),
+                matched.size(), facets);
+    }
+
+    /**
+     * 카테고리/브랜드/가격 구간별 건수를 한 번의 순회로 계산 (읽기 잠금 안에서 호출)
+     *
+     * 각 항목은 자신의 필터를 뺀 나머지 필터를 통과한 문서만 셉니다.
+     * 항목 필터를 뺀 결과(base)를 한 번 순회하면서 문서마다 세 필터 통과 여부를 보고
+     * 나머지 두 필터를 통과한 경우에만 해당 항목 건수를 올립니다.
+     */
+    private AuctionFacetsDto countFacets(BitSet base, BitSet categoryFilter, BitSet brandFilter, BitSet priceFilter) {
+        long[] categoryCounts = new long[Product.Category.values().length];
+        long[] bucketCounts = new long[PRICE_BUCKETS.length];
+        Map<String, long[]> brandCounts = new HashMap<>();
+        Map<String, String> brandLabels = new HashMap<>();
+
+        for (int ordinal = base.nextSetBit(0); ordinal >= 0; ordinal = base.nextSetBit(ordinal + 1)) {
+            boolean categoryOk = categoryFilter == null || categoryFilter.get(ordinal);
+            boolean brandOk = brandFilter == null || brandFilter.get(ordinal);
+            boolean priceOk = priceFilter == null || priceFilter.get(ordinal);
+            AuctionDocument document = documents.get(ordinal);
+
+            if (brandOk && priceOk && document.category() != null) {
+                categoryCounts[document.category().ordinal()]++;
+            }
+            if (categoryOk && priceOk && StringUtils.hasText(document.brand())) {
+                String key = normalize(document.brand());
+                brandCounts.computeIfAbsent(key, k -> new long[1])[0]++;
+                brandLabels.putIfAbsent(key, document.brand().trim());
+            }
+            if (categoryOk && brandOk && document.currentPrice() != null) {
+                bucketCounts[priceBucket(document.currentPrice().longValue())]++;
+            }
+        }
+
+        List<AuctionFacetsDto.FacetCount> categories = new ArrayList<>();
+        for (Product.Category value : Product.Category.values()) {
+            categories.add(new AuctionFacetsDto.FacetCount(value.name(), value.getDisplayName(),
+                    categoryCounts[value.ordinal()]));
+        }
+
+        List<AuctionFacetsDto.FacetCount> brands = brandCounts.entrySet().stream()
+                .sorted(Map.Entry.<String, long[]>comparingByValue(
+                        Comparator.comparingLong((long[] count) -> count[0]).reversed())
+                        .thenComparing(Map.Entry.<String, long[]>comparingByKey()))
+                .limit(MAX_BRAND_FACETS)
+                .map(entry -> new AuctionFacetsDto.FacetCount(brandLabels.get(entry.getKey()),
+                        brandLabels.get(entry.getKey()), entry.getValue()[0]))
+                .toList();
+
+        List<AuctionFacetsDto.PriceBucketCount> priceBuckets = new ArrayList<>();
+        for (int i = 0; i < PRICE_BUCKETS.length; i++) {
+            Long max = i + 1 < PRICE_BUCKETS.length ? PRICE_BUCKETS[i + 1] - 1 : null;
+            priceBuckets.add(new AuctionFacetsDto.PriceBucketCount(PRICE_BUCKETS[i], max, bucketCounts[i]));
+        }
+
+        return new AuctionFacetsDto(categories, brands, priceBuckets);
+    }
+
+    /**
+     * 가격이 속한 구간 번호
+     */
+    private static int priceBucket(long price) {
+        int bucket = 0;
+        while (bucket + 1 < PRICE_BUCKETS.length && price >= PRICE_BUCKETS[bucket + 1]) {
+            bucket++;
+        }
+        return bucket;
+    }
+
+    private static void andIfPresent(BitSet result, BitSet filter) {
+        if (filter != null) {
+            result.and(filter);
+        }
+    }
+
+    /**
+     * 항목 필터를 제외한 조건(상품명, 프리미엄, 상태)에 맞는 문서 번호 집합 (읽기 잠금 안에서 호출)
+     */
+    private BitSet baseMatch(String eventName, Boolean isPremium, String status) {
+        BitSet result = (BitSet) live.clone();
+
+        if (StringUtils.hasText(eventName)) {
+            andTitleContains(result, eventName);
+        }
+        if (isPremium != null) {
+            if (isPremium) {
+                result.and(premium);
+            } else {
+                result.andNot(premium);
+            }
+        }
+        if (StringUtils.hasText(status)) {
+            andStatus(result, status);
+        }
+        return result;
+    }
+
+    private BitSet categoryPostings(String category) {
+        try {
+            return byCategory.getOrDefault(Product.Category.valueOf(category.trim().toUpperCase(Locale.ROOT)), new BitSet());
+        } catch (IllegalArgumentException e) {
+            return new BitSet();
+        }
+    }
+
+    /**
+     * 경매 상태 필터 (진행중/예정/마감임박, 그 외 값은 무시)
+     */
+    private void andStatus(BitSet result, String status) {
+        switch (status.toUpperCase(Locale.ROOT)) {
+            case "IN_PROGRESS" -> result.and(byStatus.getOrDefault(Auction.AuctionStatus.IN_PROGRESS, new BitSet()));
+            case "SCHEDULED" -> result.and(byStatus.getOrDefault(Auction.AuctionStatus.SCHEDULED, new BitSet()));
+            case "ENDING_SOON" -> {
+                // 마감임박: 진행 중이고 종료 시간이 1시간 이내
+                LocalDateTime now = LocalDateTime.now(KST);
+                result.and(byStatus.getOrDefault(Auction.AuctionStatus.IN_PROGRESS, new BitSet()));
+                result.and(byEndTime.range(now, now.plusHours(1)));
+            }
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * 상품명에 검색어가 포함된 문서만 남김
+     * 검색어의 공백 구분 토큰마다 그 토큰을 포함하는 색인 토큰의 문서로 후보를 줄인 뒤, 후보만 전체 문자열로 확인합니다.
+     */
+    private void andTitleContains(BitSet result, String eventName) {
+        String query = normalize(eventName);
+        for (String queryToken : query.split("\\s+")) {
+            if (queryToken.isEmpty()) {
+                continue;
+            }
+            BitSet candidates = new BitSet();
+            byTitleToken.forEach((token, postings) -> {
+                if (token.contains(queryToken)) {
+                    postings.orInto(candidates);
+                }
+            });
+            result.and(candidates);
+        }
+
+        for (int ordinal = result.nextSetBit(0); ordinal >= 0; ordinal = result.nextSetBit(ordinal + 1)) {
+            String title = documents.get(ordinal).productName();
+            if (title == null || !normalize(title).contains(query)) {
+                result.clear(ordinal);
+            }
+        }
+    }
+
+    private Comparator<AuctionDocument> comparator(String sortCode) {
+        if (!StringUtils.hasText(sortCode)) {
+            return NEWEST;
+        }
+        return switch (sortCode.toLowerCase(Locale.ROOT)) {
+            case "ending" -> ENDING;
+            case "popular" -> POPULAR;
+            default -> NEWEST;
+        };
+    }
+
+    /**
+     * 색인 대상 경매 전체를 DB와 맞춤 (기동 시 1회 + 기본 5분마다)
+     */
+    @Scheduled(fixedDelayString = "${search.index.rebuild-interval-ms:300000}")
+    public void rebuild() {
+        try {
+            List<AuctionDocument> loaded = readOnlyTransaction.execute(status ->
+                    auctionRepository.findByStatusInWithProduct(INDEXED_STATUSES).stream()
+                            .map(AuctionDocument::from)
+                            .toList());
+            Set<Long> loadedIds = new HashSet<>();
+            loaded.forEach(document -> loadedIds.add(document.auctionId()));
+
+            lock.writeLock().lock();
+            try {
+                new ArrayList<>(ordinalsByAuctionId.keySet()).stream()
+                        .filter(auctionId -> !loadedIds.contains(auctionId))
+                        .forEach(this::removeLocked);
+                loaded.forEach(this::upsertLocked);
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            ready = true;
+            log.debug("경매 검색 인덱스 동기화 완료: {}건", loaded.size());
+        } catch (Exception e) {
+            log.error("경매 검색 인덱스 동기화 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 경매 생성/수정/상태 변경 시 해당 경매 다시 읽기 (커밋 후)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAuctionStatusChanged(AuctionStatusChangedEvent event) {
+        reload(event.getAuctionId(), () -> auctionRepository.findByIdWithProduct(event.getAuctionId())
+                .map(List::of).orElse(List.of()));
+    }
+
+    /**
+     * 경매 시작/종료/취소/즉시구매 시 해당 경매 다시 읽기 (아웃박스 전달)
+     */
+    @EventListener
+    public void onAuctionLifecycle(AuctionLifecycleEvent event) {
+        reload(event.getAuctionId(), () -> auctionRepository.findByIdWithProduct(event.getAuctionId())
+                .map(List::of).orElse(List.of()));
+    }
+
+    /**
+     * 상품 변경 시 해당 상품의 경매 다시 읽기 (커밋 후)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        reload(null, () -> auctionRepository.findByProductIdWithProduct(event.getProductId()));
+    }
+
+    /**
+     * 입찰 반영 (현재가/입찰 수만 갱신, DB 조회 없음)
+     */
+    @EventListener
+    public void onBidStatsChanged(AuctionBidStatsChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinalsByAuctionId.get(event.getAuctionId());
+            if (ordinal != null) {
+                upsertLocked(documents.get(ordinal).withBidStats(event.getCurrentHighestBid(), event.getTotalBids()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 경매 다시 읽어 반영 (DB에 없으면 인덱스에서 제거)
+     */
+    private void reload(Long auctionId, Supplier<List<Auction>> loader) {
+        try {
+            List<AuctionDocument> loaded = readOnlyTransaction.execute(status ->
+                    loader.get().stream().map(AuctionDocument::from).toList());
+
+            lock.writeLock().lock();
+            try {
+                if (auctionId != null && loaded.isEmpty()) {
+                    removeLocked(auctionId);
+                }
+                loaded.forEach(this::upsertLocked);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } catch (Exception e) {
+            log.error("경매 검색 인덱스 갱신 실패: 경매ID={}, 오류={}", auctionId, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 문서 추가/교체 (색인 대상 상태가 아니면 제거, 쓰기 잠금 안에서 호출)
+     */
+    void upsertLocked(AuctionDocument document) {
+        if (!INDEXED_STATUSES.contains(document.status())) {
+            removeLocked(document.auctionId());
+            return;
+        }
+
+        Integer ordinal = ordinalsByAuctionId.get(document.auctionId());
+        if (ordinal != null) {
+            unindex(ordinal, documents.get(ordinal));
+        } else {
+            ordinal = allocateOrdinal();
+            ordinalsByAuctionId.put(document.auctionId(), ordinal);
+        }
+        documents.set(ordinal, document);
+        index(ordinal, document);
+    }
+
+    /**
+     * 문서 제거 (쓰기 잠금 안에서 호출)
+     */
+    private void removeLocked(Long auctionId) {
+        Integer ordinal = ordinalsByAuctionId.remove(auctionId);
+        if (ordinal == null) {
+            return;
+        }
+        unindex(ordinal, documents.get(ordinal));
+        documents.set(ordinal, null);
+        freeOrdinals.push(ordinal);
+    }
+
+    private int allocateOrdinal() {
+        Integer reused = freeOrdinals.poll();
+        if (reused != null) {
+            return reused;
+        }
+        documents.add(null);
+        return documents.size() - 1;
+    }
+
+    private void index(int ordinal, AuctionDocument document) {
+        live.set(ordinal);
+        if (document.category() != null) {
+            byCategory.computeIfAbsent(document.category(), category -> new BitSet()).set(ordinal);
+        }
+        byStatus.computeIfAbsent(document.status(), status -> new BitSet()).set(ordinal);
+        if (document.premium()) {
+            premium.set(ordinal);
+        }
+        if (StringUtils.hasText(document.brand())) {
+            byBrand.computeIfAbsent(normalize(document.brand()), brand -> new Postings()).add(ordinal);
+        }
+        for (String token : titleTokens(document.productName())) {
+            byTitleToken.computeIfAbsent(token, t -> new Postings()).add(ordinal);
+        }
+        byPrice.add(priceKey(document.currentPrice()), ordinal);
+        byEndTime.add(document.scheduledEndTime(), ordinal);
+    }
+
+    private void unindex(int ordinal, AuctionDocument document) {
+        live.clear(ordinal);
+        if (document.category() != null) {
+            clearBit(byCategory, document.category(), ordinal);
+        }
+        clearBit(byStatus, document.status(), ordinal);
+        premium.clear(ordinal);
+        if (StringUtils.hasText(document.brand())) {
+            removePosting(byBrand, normalize(document.brand()), ordinal);
+        }
+        for (String token : titleTokens(document.productName())) {
+            removePosting(byTitleToken, token, ordinal);
+        }
+        byPrice.remove(priceKey(document.currentPrice()), ordinal);
+        byEndTime.remove(document.scheduledEndTime(), ordinal);
+    }
+
+    private static <K> void clearBit(Map<K, BitSet> postings, K key, int ordinal) {
+        BitSet bits = postings.get(key);
+        if (bits != null) {
+            bits.clear(ordinal);
+        }
+    }
+
+    private static void removePosting(Map<String, Postings> postings, String key, int ordinal) {
+        Postings list = postings.get(key);
+        if (list != null) {
+            list.remove(ordinal);
+            if (list.isEmpty()) {
+                postings.remove(key);
+            }
+        }
+    }
+
+    private static BitSet toBitSet(Postings postings) {
+        BitSet bits = new BitSet();
+        if (postings != null) {
+            postings.orInto(bits);
+        }
+        return bits;
+    }
+
+    private static Set<String> titleTokens(String title) {
+        Set<String> tokens = new HashSet<>();
+        if (title != null) {
+            for (String token : normalize(title).split("\\s+")) {
+                if (!token.isEmpty()) {
+                    tokens.add(token);
+                }
+            }
+        }
+        return tokens;
+    }
+
+    private static Long priceKey(BigDecimal price) {
+        return price != null ? price.longValue() : null;
+    }
+
+    /**
+     * 대소문자 구분 없이 비교하기 위한 정규화 (DB collation 과 동일하게)
+     */
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+}
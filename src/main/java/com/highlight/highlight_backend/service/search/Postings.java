@@ -0,0 +1,55 @@
+package com.highlight.highlight_backend.service.search;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * 정렬된 문서 번호 목록 (포스팅 리스트)
+ *
+ * 값 종류가 많아 값마다 BitSet 을 두면 메모리가 커지는 필드(브랜드, 제목 토큰, 가격, 종료 시간)에 사용합니다.
+ * 인덱스 잠금 안에서만 사용하므로 동기화하지 않습니다.
+ *
+ * @author 전우선
+ * @since 2025.08.20
+ */
+final class Postings {
+
+    private int[] ordinals = new int[2];
+    private int size;
+
+    void add(int ordinal) {
+        int index = Arrays.binarySearch(ordinals, 0, size, ordinal);
+        if (index >= 0) {
+            return;
+        }
+        int insertAt = -index - 1;
+        if (size == ordinals.length) {
+            ordinals = Arrays.copyOf(ordinals, size * 2);
+        }
+        System.arraycopy(ordinals, insertAt, ordinals, insertAt + 1, size - insertAt);
+        ordinals[insertAt] = ordinal;
+        size++;
+    }
+
+    void remove(int ordinal) {
+        int index = Arrays.binarySearch(ordinals, 0, size, ordinal);
+        if (index < 0) {
+            return;
+        }
+        System.arraycopy(ordinals, index + 1, ordinals, index, size - index - 1);
+        size--;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 목록의 문서 번호를 BitSet 에 추가 (합집합)
+     */
+    void orInto(BitSet target) {
+        for (int i = 0; i < size; i++) {
+            target.set(ordinals[i]);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.highlight.highlight_backend.service.search;
+
+import java.util.BitSet;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * 값 순으로 정렬된 포스팅 리스트 (가격 범위, 종료 시간 범위 조회용)
+ *
+ * 인덱스 잠금 안에서만 사용하므로 동기화하지 않습니다.
+ *
+ * @author 전우선
+ * @since 2025.08.20
+ */
+final class SortedPostings<K extends Comparable<K>> {
+
+    private final TreeMap<K, Postings> postings = new TreeMap<>();
+
+    void add(K key, int ordinal) {
+        if (key != null) {
+            postings.computeIfAbsent(key, k -> new Postings()).add(ordinal);
+        }
+    }
+
+    void remove(K key, int ordinal) {
+        if (key == null) {
+            return;
+        }
+        Postings list = postings.get(key);
+        if (list != null) {
+            list.remove(ordinal);
+            if (list.isEmpty()) {
+                postings.remove(key);
+            }
+        }
+    }
+
+    /**
+     * 범위 안의 문서 번호 (양 끝 포함, null 이면 제한 없음)
+     */
+    BitSet range(K from, K to) {
+        NavigableMap<K, Postings> range = postings;
+        if (from != null && to != null) {
+            if (from.compareTo(to) > 0) {
+                return new BitSet();
+            }
+            range = postings.subMap(from, true, to, true);
+        } else if (from != null) {
+            range = postings.tailMap(from, true);
+        } else if (to != null) {
+            range = postings.headMap(to, true);
+        }
+
+        BitSet result = new BitSet();
+        range.values().forEach(list -> list.orInto(result));
+        return result;
+    }
+
+    void clear() {
+        postings.clear();
+    }
+}
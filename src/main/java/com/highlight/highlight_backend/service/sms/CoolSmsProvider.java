@@ -0,0 +1,64 @@
+package com.highlight.highlight_backend.service.sms;
+
+import com.highlight.highlight_backend.exception.BusinessException;
+import com.highlight.highlight_backend.exception.SmsErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import net.nurigo.java_sdk.api.Message;
+import net.nurigo.java_sdk.exceptions.CoolsmsException;
+
+import java.nio.charset.Charset;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * CoolSMS 발송 제공자
+ *
+ * 수신 번호를 콤마로 이어 한 번의 API 요청으로 발송합니다 (CoolSMS 는 요청당 최대 1000개).
+ * 90바이트(EUC-KR)를 넘는 문구는 LMS 로 발송합니다.
+ *
+ * @author 전우선
+ * @since 2025.08.20
+ */
+@Slf4j
+public class CoolSmsProvider implements SmsProvider {
+
+    private static final int SMS_MAX_BYTES = 90;
+    private static final Charset EUC_KR = Charset.forName("EUC-KR");
+
+    private final String apiKey;
+    private final String apiSecret;
+    private final String fromPhoneNumber;
+    private final int maxBatchSize;
+
+    public CoolSmsProvider(String apiKey, String apiSecret, String fromPhoneNumber, int maxBatchSize) {
+        this.apiKey = apiKey;
+        this.apiSecret = apiSecret;
+        this.fromPhoneNumber = fromPhoneNumber;
+        this.maxBatchSize = Math.max(1, Math.min(1000, maxBatchSize));
+    }
+
+    @Override
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    @Override
+    public void send(String text, List<String> phoneNumbers) {
+        if (phoneNumbers.isEmpty()) {
+            return;
+        }
+
+        HashMap<String, String> params = new HashMap<>();
+        params.put("to", String.join(",", phoneNumbers));
+        params.put("from", fromPhoneNumber);
+        params.put("type", text.getBytes(EUC_KR).length > SMS_MAX_BYTES ? "LMS" : "SMS");
+        params.put("text", text);
+
+        try {
+            new Message(apiKey, apiSecret).send(params);
+        } catch (CoolsmsException e) {
+            log.error("SMS 발송 실패: 수신 {}건, 오류={}", phoneNumbers.size(), e.getMessage());
+            throw new BusinessException(SmsErrorCode.SMS_SEND_FAILED, e);
+        }
+    }
+}
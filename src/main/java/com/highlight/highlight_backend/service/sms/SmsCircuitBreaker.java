@@ -0,0 +1,86 @@
+package com.highlight.highlight_backend.service.sms;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * SMS 제공자 서킷 브레이커
+ *
+ * 연속 실패(시간 초과 포함)가 기준 횟수에 도달하면 열려서 일정 시간 동안 발송을 바로 실패시킵니다.
+ * 열린 시간이 지나면 발송 한 건만 시험 삼아 허용하고(반열림), 성공하면 닫히고 실패하면 다시 열립니다.
+ *
+ * @author 전우선
+ * @since 2025.08.20
+ */
+@Slf4j
+public class SmsCircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openDurationMs;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    public SmsCircuitBreaker(int failureThreshold, long openDurationMs) {
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openDurationMs = Math.max(0, openDurationMs);
+    }
+
+    /**
+     * 발송 요청을 받을 수 있는지 여부 (상태를 바꾸지 않음, 요청 접수 시 빠른 실패용)
+     */
+    public synchronized boolean isAvailable() {
+        return state != State.OPEN || System.currentTimeMillis() - openedAt >= openDurationMs;
+    }
+
+    /**
+     * 제공자 호출 허용 여부 (열린 시간이 지났으면 반열림으로 바꾸고 한 건만 허용)
+     */
+    public synchronized boolean tryAcquire() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (System.currentTimeMillis() - openedAt < openDurationMs) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                trialInFlight = true;
+                return true;
+            default:
+                if (trialInFlight) {
+                    return false;
+                }
+                trialInFlight = true;
+                return true;
+        }
+    }
+
+    public synchronized void onSuccess() {
+        if (state != State.CLOSED) {
+            log.info("SMS 서킷 브레이커 닫힘 (제공자 복구)");
+        }
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        trialInFlight = false;
+    }
+
+    public synchronized void onFailure() {
+        trialInFlight = false;
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || (state == State.CLOSED && consecutiveFailures >= failureThreshold)) {
+            state = State.OPEN;
+            openedAt = System.currentTimeMillis();
+            log.warn("SMS 서킷 브레이커 열림: 연속 실패 {}회, {}ms 동안 발송 중단", consecutiveFailures, openDurationMs);
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+}
@@ -0,0 +1,284 @@
+package com.highlight.highlight_backend.service.sms;
+
+import com.highlight.highlight_backend.exception.BusinessException;
+import com.highlight.highlight_backend.exception.SmsErrorCode;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * SMS 발송 게이트웨이
+ *
+ * 발송 요청을 큐에 넣고 바로 반환하며, 전용 sender 스레드가 큐에 쌓인 요청을 꺼내 같은 문구끼리
+ * 제공자 배치 크기만큼 묶어서 발송합니다. 요청 스레드(및 DB 커넥션)가 SMS 제공자 응답을 기다리지 않습니다.
+ * - 트랜잭션 안에서 요청하면 커밋 후에 큐에 넣음 (롤백되면 발송하지 않음)
+ * - 제공자 호출은 동시 호출 수(기본 4)와 시간 제한(기본 5초)을 두며, 시간 초과도 실패로 처리
+ * - 연속 실패 시 서킷 브레이커가 열려 일정 시간 동안 새 요청을 바로 실패시킴
+ *
+ * 제공자는 sms.provider 로 선택합니다 (coolsms, 로컬/테스트용 stub).
+ *
+ * @author 전우선
+ * @since 2025.08.20
+ */
+@Slf4j
+@Service
+public class SmsGateway {
+
+    /**
+     * sender 스레드가 한 번에 꺼내는 최대 요청 수
+     */
+    private static final int DRAIN_LIMIT = 1000;
+
+    private final SmsProvider smsProvider;
+    private final SmsCircuitBreaker circuitBreaker;
+    private final long timeoutMs;
+
+    private final BlockingQueue<SmsRequest> queue;
+    private final Semaphore callPermits;
+    private final ExecutorService callExecutor;
+    private final Thread sender;
+    private volatile boolean running = true;
+
+    public SmsGateway(SmsProvider smsProvider,
+                      @Value("${sms.gateway.queue-capacity:10000}") int queueCapacity,
+                      @Value("${sms.gateway.timeout-ms:5000}") long timeoutMs,
+                      @Value("${sms.gateway.concurrency:4}") int concurrency,
+                      @Value("${sms.gateway.circuit.failure-threshold:5}") int failureThreshold,
+                      @Value("${sms.gateway.circuit.open-ms:30000}") long openDurationMs) {
+        this.smsProvider = smsProvider;
+        this.circuitBreaker = new SmsCircuitBreaker(failureThreshold, openDurationMs);
+        this.timeoutMs = Math.max(1, timeoutMs);
+        this.queue = new LinkedBlockingQueue<>(Math.max(1, queueCapacity));
+
+        int threads = Math.max(1, concurrency);
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.callPermits = new Semaphore(threads);
+        this.callExecutor = Executors.newFixedThreadPool(threads,
+            r -> new Thread(r, "sms-gateway-call-" + threadIndex.incrementAndGet()));
+        this.sender = new Thread(this::runSender, "sms-gateway");
+        this.sender.start();
+    }
+
+    /**
+     * 발송 가능 여부 (서킷 브레이커가 열려 있으면 false)
+     */
+    public boolean isAvailable() {
+        return circuitBreaker.isAvailable();
+    }
+
+    /**
+     * 한 번의 제공자 호출에 담을 수 있는 최대 수신 번호 수
+     */
+    public int getMaxBatchSize() {
+        return smsProvider.getMaxBatchSize();
+    }
+
+    /**
+     * 단건 발송 요청
+     *
+     * @param phoneNumber 수신 번호
+     * @param text 발송 문구
+     * @return 발송 완료 시 완료되는 Future (실패 시 예외로 완료)
+     */
+    public CompletableFuture<Void> send(String phoneNumber, String text) {
+        return sendBatch(text, List.of(phoneNumber));
+    }
+
+    /**
+     * 같은 문구를 여러 번호로 발송 요청 (제공자 배치 크기를 넘으면 나눠서 발송)
+     *
+     * @param text 발송 문구
+     * @param phoneNumbers 수신 번호 목록
+     * @return 모든 번호의 발송이 끝나면 완료되는 Future (일부라도 실패하면 예외로 완료)
+     */
+    public CompletableFuture<Void> sendBatch(String text, List<String> phoneNumbers) {
+        if (phoneNumbers.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        if (!circuitBreaker.isAvailable()) {
+            return CompletableFuture.failedFuture(new BusinessException(SmsErrorCode.SMS_PROVIDER_UNAVAILABLE));
+        }
+
+        int maxBatchSize = smsProvider.getMaxBatchSize();
+        List<SmsRequest> requests = new ArrayList<>();
+        for (int from = 0; from < phoneNumbers.size(); from += maxBatchSize) {
+            requests.add(new SmsRequest(text,
+                List.copyOf(phoneNumbers.subList(from, Math.min(phoneNumbers.size(), from + maxBatchSize)))));
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        requests.forEach(SmsGateway.this::enqueue);
+                    } else {
+                        requests.forEach(request -> request.future.cancel(false));
+                    }
+                }
+            });
+        } else {
+            requests.forEach(this::enqueue);
+        }
+
+        return requests.size() == 1
+            ? requests.get(0).future
+            : CompletableFuture.allOf(requests.stream().map(request -> request.future).toArray(CompletableFuture[]::new));
+    }
+
+    private void enqueue(SmsRequest request) {
+        if (!running || !queue.offer(request)) {
+            log.warn("SMS 발송 대기열이 가득 차 요청을 거부합니다: 수신 {}건", request.phoneNumbers.size());
+            request.future.completeExceptionally(new BusinessException(SmsErrorCode.SMS_PROVIDER_UNAVAILABLE));
+        }
+    }
+
+    /**
+     * sender 스레드: 쌓인 요청을 꺼내 같은 문구끼리 묶어 발송
+     */
+    private void runSender() {
+        List<SmsRequest> drained = new ArrayList<>();
+        while (running || !queue.isEmpty()) {
+            try {
+                SmsRequest first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                drained.add(first);
+                queue.drainTo(drained, DRAIN_LIMIT - 1);
+
+                for (SmsBatch batch : coalesce(drained)) {
+                    submit(batch);
+                }
+            } catch (InterruptedException e) {
+                // 종료 요청: 꺼낸 요청 중 발송하지 못한 요청은 실패 처리, 큐에 남은 요청은 계속 발송
+                running = false;
+                drained.forEach(request -> request.future.completeExceptionally(
+                    new BusinessException(SmsErrorCode.SMS_PROVIDER_UNAVAILABLE)));
+            } catch (RuntimeException e) {
+                log.error("SMS 발송 처리 중 오류 발생: {}", e.getMessage(), e);
+                drained.forEach(request -> request.future.completeExceptionally(e));
+            } finally {
+                drained.clear();
+            }
+        }
+    }
+
+    /**
+     * 같은 문구의 요청을 제공자 배치 크기 이내로 묶음
+     */
+    private List<SmsBatch> coalesce(List<SmsRequest> requests) {
+        int maxBatchSize = smsProvider.getMaxBatchSize();
+        Map<String, List<SmsBatch>> byText = new LinkedHashMap<>();
+        for (SmsRequest request : requests) {
+            List<SmsBatch> batches = byText.computeIfAbsent(request.text, text -> new ArrayList<>());
+            SmsBatch last = batches.isEmpty() ? null : batches.get(batches.size() - 1);
+            if (last == null || last.phoneNumbers.size() + request.phoneNumbers.size() > maxBatchSize) {
+                last = new SmsBatch(request.text);
+                batches.add(last);
+            }
+            last.add(request);
+        }
+        return byText.values().stream().flatMap(List::stream).toList();
+    }
+
+    /**
+     * 배치 하나를 제공자에 전달 (서킷 브레이커, 동시 호출 수, 시간 제한 적용)
+     */
+    private void submit(SmsBatch batch) throws InterruptedException {
+        if (!circuitBreaker.tryAcquire()) {
+            batch.fail(new BusinessException(SmsErrorCode.SMS_PROVIDER_UNAVAILABLE));
+            return;
+        }
+        // 이전 호출이 모두 응답하지 않는 경우에도 sender 스레드가 무한정 기다리지 않도록 시간 제한
+        if (!callPermits.tryAcquire(timeoutMs, TimeUnit.MILLISECONDS)) {
+            circuitBreaker.onFailure();
+            batch.fail(new TimeoutException("SMS 제공자 호출 대기 시간 초과"));
+            return;
+        }
+
+        CompletableFuture.runAsync(() -> {
+            try {
+                smsProvider.send(batch.text, batch.phoneNumbers);
+            } finally {
+                callPermits.release();
+            }
+        }, callExecutor)
+            .orTimeout(timeoutMs, TimeUnit.MILLISECONDS)
+            .whenComplete((result, error) -> {
+                if (error == null) {
+                    circuitBreaker.onSuccess();
+                    batch.complete();
+                } else {
+                    circuitBreaker.onFailure();
+                    log.error("SMS 발송 실패: 수신 {}건, 오류={}", batch.phoneNumbers.size(), error.toString());
+                    batch.fail(error);
+                }
+            });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        sender.interrupt();
+        try {
+            sender.join(timeoutMs * 2);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        callExecutor.shutdown();
+    }
+
+    private static final class SmsRequest {
+
+        private final String text;
+        private final List<String> phoneNumbers;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        private SmsRequest(String text, List<String> phoneNumbers) {
+            this.text = text;
+            this.phoneNumbers = phoneNumbers;
+        }
+    }
+
+    private static final class SmsBatch {
+
+        private final String text;
+        private final List<String> phoneNumbers = new ArrayList<>();
+        private final List<SmsRequest> requests = new ArrayList<>();
+
+        private SmsBatch(String text) {
+            this.text = text;
+        }
+
+        private void add(SmsRequest request) {
+            phoneNumbers.addAll(request.phoneNumbers);
+            requests.add(request);
+        }
+
+        private void complete() {
+            requests.forEach(request -> request.future.complete(null));
+        }
+
+        private void fail(Throwable error) {
+            requests.forEach(request -> request.future.completeExceptionally(error));
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.highlight.highlight_backend.service.sms;
+
+import java.util.List;
+
+/**
+ * SMS 발송 제공자
+ *
+ * 같은 문구를 여러 수신 번호로 한 번에 보내는 배치 발송을 기본 단위로 합니다.
+ * 발송 실패 시 BusinessException(SmsErrorCode.SMS_SEND_FAILED)을 던집니다.
+ *
+ * @author 전우선
+ * @since 2025.08.20
+ */
+public interface SmsProvider {
+
+    /**
+     * 한 번의 발송 요청에 담을 수 있는 최대 수신 번호 수
+     */
+    int getMaxBatchSize();
+
+    /**
+     * 같은 문구를 여러 번호로 발송
+     *
+     * @param text 발송 문구
+     * @param phoneNumbers 수신 번호 목록 (최대 getMaxBatchSize() 개)
+     */
+    void send(String text, List<String> phoneNumbers);
+}
@@ -0,0 +1,51 @@
+package com.highlight.highlight_backend.service.sms;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 로컬/오프라인 테스트용 SMS 제공자 (sms.provider=stub)
+ *
+ * 외부로 발송하지 않고 로그를 남기며, 번호별 마지막 발송 문구를 메모리에 보관합니다.
+ * 로컬에서 회원가입 인증번호를 로그로 확인할 때 사용합니다.
+ *
+ * @author 전우선
+ * @since 2025.08.20
+ */
+@Slf4j
+public class StubSmsProvider implements SmsProvider {
+
+    private static final int MAX_BATCH_SIZE = 1000;
+
+    private final ConcurrentMap<String, String> lastMessages = new ConcurrentHashMap<>();
+
+    @Override
+    public int getMaxBatchSize() {
+        return MAX_BATCH_SIZE;
+    }
+
+    @Override
+    public void send(String text, List<String> phoneNumbers) {
+        phoneNumbers.forEach(phoneNumber -> lastMessages.put(phoneNumber, text));
+        log.info("[SMS stub] 발송: 수신 {}건, 문구={}", phoneNumbers.size(), text);
+    }
+
+    /**
+     * 번호별 마지막 발송 문구 조회
+     */
+    public Optional<String> getLastMessage(String phoneNumber) {
+        return Optional.ofNullable(lastMessages.get(phoneNumber));
+    }
+
+    /**
+     * 발송 기록이 있는 번호 목록
+     */
+    public List<String> getPhoneNumbers() {
+        return new ArrayList<>(lastMessages.keySet());
+    }
+}
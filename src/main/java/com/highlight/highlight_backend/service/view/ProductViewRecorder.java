@@ -0,0 +1,355 @@
+package com.highlight.highlight_backend.service.view;
+
+import jakarta.annotation.PreDestroy;
+import com.highlight.highlight_backend.event.ProductViewsRecordedEvent;
+import com.highlight.highlight_backend.event.ProductViewsRecordedEvent.RecordedView;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 조회 이력 수집기
+ *
+ * 상품 상세 조회마다 DB를 거치지 않도록 조회 이력을 메모리에서 중복 제거하고 큐에 넣은 뒤,
+ * 전용 writer 스레드가 모아서 저장합니다.
+ * - 중복 제거: (사용자 ID 또는 세션 ID, 상품 ID) 를 시간 구간 버킷(만료 시간 30분을 6개로 나눈 구간)에 보관
+ *   최대 개수(기본 200,000)를 버킷 수로 나눈 만큼 차거나 구간 시간이 지나면 새 버킷을 시작하고,
+ *   버킷 수를 넘거나 만료된 버킷은 가장 오래된 것부터 통째로 버림 (요청 스레드에서 전체 조회 없음)
+ * - 저장: 일정 시간(기본 1초) 또는 일정 건수(기본 500건)마다 존재하는 상품만 골라 multi-row INSERT 한 번
+ * - 큐가 가득 차면 조회 이력을 버림 (상품 조회 응답에는 영향 없음)
+ * - 저장한 배치는 ProductViewsRecordedEvent 로 발행 (연관도 실시간 갱신용)
+ *
+ * 중복 제거 정보는 노드별로 보관하므로, 다른 노드로 요청이 나뉘거나 재기동 직후에는
+ * 30분 이내 조회가 한 번 더 저장될 수 있습니다. 버킷 단위로 버리므로 중복 제거 기간은 최대 한 구간(5분) 짧아질 수 있습니다.
+ *
+ * @author 전우선
+ * @since 2025.08.20
+ */
+@Slf4j
+@Service
+public class ProductViewRecorder {
+
+    private static final String INSERT_VIEWS_SQL_PREFIX =
+            "INSERT INTO user_product_views (user_id, session_id, product_id, viewed_at, ip_address, user_agent) VALUES ";
+
+    private static final String INSERT_VIEWS_SQL_ROW = "(?, ?, ?, ?, ?, ?)";
+
+    /**
+     * 중복 제거 버킷 수 (만료 시간과 최대 개수를 나누는 단위)
+     */
+    private static final int DEDUP_BUCKETS = 6;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long dedupWindowMs;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final long dedupBucketMs;
+    private final int dedupBucketCapacity;
+
+    /**
+     * 중복 제거 버킷 (최신 버킷이 맨 앞, 교체 시 새 목록으로 바꿈)
+     */
+    private volatile List<DedupBucket> dedupBuckets;
+    private final Object dedupLock = new Object();
+
+    private final BlockingQueue<PendingView> queue;
+    private final AtomicLong dropped = new AtomicLong();
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    public ProductViewRecorder(JdbcTemplate jdbcTemplate,
+                               ApplicationEventPublisher eventPublisher,
+                               @Value("${product.view.dedup-minutes:30}") long dedupMinutes,
+                               @Value("${product.view.queue-capacity:10000}") int queueCapacity,
+                               @Value("${product.view.batch-size:500}") int batchSize,
+                               @Value("${product.view.flush-interval-ms:1000}") long flushIntervalMs,
+                               @Value("${product.view.dedup-max-entries:200000}") int dedupMaxEntries) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.dedupWindowMs = TimeUnit.MINUTES.toMillis(Math.max(0, dedupMinutes));
+        this.batchSize = Math.max(1, batchSize);
+        this.flushIntervalMs = Math.max(1, flushIntervalMs);
+        this.dedupBucketMs = Math.max(1, dedupWindowMs / DEDUP_BUCKETS);
+        this.dedupBucketCapacity = Math.max(1, dedupMaxEntries / DEDUP_BUCKETS);
+        this.dedupBuckets = List.of(new DedupBucket(System.currentTimeMillis()));
+        this.queue = new LinkedBlockingQueue<>(Math.max(1, queueCapacity));
+        this.writer = new Thread(this::runWriter, "product-view-writer");
+        this.writer.start();
+    }
+
+    /**
+     * 상품 조회 이력 기록 요청 (DB 접근 없이 바로 반환)
+     *
+     * @param productId 상품 ID
+     * @param userId 사용자 ID (비회원은 null)
+     * @param sessionId 세션 ID
+     * @param ipAddress IP 주소
+     * @param userAgent User-Agent 정보
+     * @return 저장 대기열에 넣었으면 true, 중복 조회이거나 대기열이 가득 차면 false
+     */
+    public boolean record(Long productId, Long userId, String sessionId, String ipAddress, String userAgent) {
+        if (productId == null) {
+            return false;
+        }
+
+        String key = dedupKey(productId, userId, sessionId);
+        if (key != null && !markViewed(key)) {
+            log.debug("최근 조회 기록이 존재하여 중복 저장 방지: productId={}, userId={}, sessionId={}",
+                    productId, userId, sessionId);
+            return false;
+        }
+
+        PendingView view = new PendingView(userId, sessionId, productId, LocalDateTime.now(), ipAddress, userAgent);
+        if (!running || !queue.offer(view)) {
+            // 저장하지 못한 조회는 중복으로 보지 않도록 되돌림
+            if (key != null) {
+                dedupBuckets.forEach(bucket -> bucket.keys.remove(key));
+            }
+            dropped.incrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 중복 제거 키 (회원은 사용자 ID, 비회원은 세션 ID 기준)
+     */
+    private static String dedupKey(Long productId, Long userId, String sessionId) {
+        if (userId != null) {
+            return "u:" + userId + "|" + productId;
+        }
+        if (sessionId != null) {
+            return "s:" + sessionId + "|" + productId;
+        }
+        return null;
+    }
+
+    /**
+     * 만료되지 않은 버킷에 조회 기록이 없으면 최신 버킷에 새로 표시
+     *
+     * @return 새로 표시했으면 true, 중복 조회면 false
+     */
+    private boolean markViewed(String key) {
+        long now = System.currentTimeMillis();
+        List<DedupBucket> buckets = dedupBuckets;
+        for (DedupBucket bucket : buckets) {
+            if (bucket.startedAt + dedupWindowMs > now && bucket.keys.contains(key)) {
+                return false;
+            }
+        }
+
+        DedupBucket head = buckets.get(0);
+        if (!head.keys.add(key)) {
+            return false;
+        }
+        if (head.keys.size() >= dedupBucketCapacity) {
+            // 최신 버킷이 가득 참: 새 버킷을 시작하고 버킷 수를 넘으면 가장 오래된 버킷을 버림 (전체 조회 없음)
+            rotate(head, now);
+        }
+        return true;
+    }
+
+    /**
+     * 만료된 중복 제거 버킷 정리 및 구간 시간이 지난 최신 버킷 교체 (기본 1분마다, 요청 스레드에서는 실행하지 않음)
+     */
+    @Scheduled(fixedDelayString = "${product.view.dedup-purge-interval-ms:60000}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        synchronized (dedupLock) {
+            List<DedupBucket> live = new ArrayList<>();
+            for (DedupBucket bucket : dedupBuckets) {
+                if (bucket.startedAt + dedupWindowMs > now) {
+                    live.add(bucket);
+                }
+            }
+            if (live.isEmpty() || live.get(0).startedAt + dedupBucketMs <= now) {
+                live.add(0, new DedupBucket(now));
+            }
+            dedupBuckets = List.copyOf(live.subList(0, Math.min(live.size(), DEDUP_BUCKETS)));
+        }
+    }
+
+    /**
+     * 최신 버킷 교체 (다른 요청이 이미 교체했으면 생략)
+     */
+    private void rotate(DedupBucket head, long now) {
+        synchronized (dedupLock) {
+            List<DedupBucket> buckets = dedupBuckets;
+            if (buckets.get(0) != head) {
+                return;
+            }
+            List<DedupBucket> rotated = new ArrayList<>(DEDUP_BUCKETS);
+            rotated.add(new DedupBucket(now));
+            rotated.addAll(buckets.subList(0, Math.min(buckets.size(), DEDUP_BUCKETS - 1)));
+            dedupBuckets = List.copyOf(rotated);
+        }
+    }
+
+    /**
+     * writer 스레드: 쌓인 조회 이력을 모아서 저장
+     */
+    private void runWriter() {
+        List<PendingView> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingView first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                // 첫 건 이후 flush 간격 동안 더 모아서 한 번에 저장
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+                while (batch.size() < batchSize && running) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    PendingView next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next != null) {
+                        batch.add(next);
+                    }
+                }
+                flush(batch);
+            } catch (InterruptedException e) {
+                // 종료 요청: 모은 이력을 저장하고 큐에 남은 이력도 계속 저장
+                running = false;
+                flush(batch);
+            } catch (RuntimeException e) {
+                log.error("상품 조회 이력 저장 처리 중 오류 발생: {}", e.getMessage(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 조회 이력 배치 저장 (존재하는 상품만 multi-row INSERT 한 번)
+     */
+    private void flush(List<PendingView> batch) {
+        long droppedCount = dropped.getAndSet(0);
+        if (droppedCount > 0) {
+            log.warn("상품 조회 이력 대기열이 가득 차 {}건을 저장하지 않았습니다.", droppedCount);
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        List<PendingView> views;
+        try {
+            Set<Long> existing = findExistingProductIds(batch);
+            views = batch.stream()
+                    .filter(view -> existing.contains(view.productId))
+                    .toList();
+            if (views.size() < batch.size()) {
+                log.warn("존재하지 않는 상품 조회 이력 {}건을 저장하지 않았습니다.", batch.size() - views.size());
+            }
+            if (views.isEmpty()) {
+                return;
+            }
+
+            String sql = INSERT_VIEWS_SQL_PREFIX + String.join(", ", Collections.nCopies(views.size(), INSERT_VIEWS_SQL_ROW));
+            Object[] args = new Object[views.size() * 6];
+            int i = 0;
+            for (PendingView view : views) {
+                args[i++] = view.userId;
+                args[i++] = view.sessionId;
+                args[i++] = view.productId;
+                args[i++] = Timestamp.valueOf(view.viewedAt);
+                args[i++] = view.ipAddress;
+                args[i++] = view.userAgent;
+            }
+            jdbcTemplate.update(sql, args);
+
+            log.debug("상품 조회 이력 저장 완료: {}건", views.size());
+        } catch (Exception e) {
+            log.error("상품 조회 이력 저장 실패: {}건, 오류={}", batch.size(), e.getMessage(), e);
+            return;
+        }
+
+        publishRecorded(views);
+    }
+
+    /**
+     * 저장한 조회 이력 발행 (구독자 오류가 writer 스레드를 멈추지 않도록 처리)
+     */
+    private void publishRecorded(List<PendingView> views) {
+        try {
+            eventPublisher.publishEvent(new ProductViewsRecordedEvent(views.stream()
+                    .map(view -> new RecordedView(view.userId, view.sessionId, view.productId, view.viewedAt))
+                    .toList()));
+        } catch (Exception e) {
+            log.error("상품 조회 이력 저장 이벤트 처리 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private Set<Long> findExistingProductIds(List<PendingView> batch) {
+        Set<Long> productIds = batch.stream().map(view -> view.productId).collect(Collectors.toSet());
+        String placeholders = String.join(", ", Collections.nCopies(productIds.size(), "?"));
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT id FROM product WHERE id IN (" + placeholders + ")",
+                Long.class, productIds.toArray()));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        writer.interrupt();
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 중복 제거 버킷 (시작 시각 이후 표시한 키, 시작 시각 + 만료 시간이 지나면 통째로 만료)
+     */
+    private static final class DedupBucket {
+
+        private final long startedAt;
+        private final Set<String> keys = ConcurrentHashMap.newKeySet();
+
+        private DedupBucket(long startedAt) {
+            this.startedAt = startedAt;
+        }
+    }
+
+    private static final class PendingView {
+
+        private final Long userId;
+        private final String sessionId;
+        private final Long productId;
+        private final LocalDateTime viewedAt;
+        private final String ipAddress;
+        private final String userAgent;
+
+        private PendingView(Long userId, String sessionId, Long productId, LocalDateTime viewedAt,
+                            String ipAddress, String userAgent) {
+            this.userId = userId;
+            this.sessionId = sessionId;
+            this.productId = productId;
+            this.viewedAt = viewedAt;
+            this.ipAddress = ipAddress;
+            this.userAgent = userAgent;
+        }
+    }
+}
@@ -0,0 +1,287 @@
+package com.highlight.highlight_backend.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * 계층형 타이밍 휠 (Hierarchical Timing Wheel)
+ *
+ * 다수의 지연 작업을 O(1)로 등록/취소하기 위한 타이머입니다.
+ * 가장 낮은 단계의 휠은 tickMs 단위 버킷으로 구성되고, 휠 범위(tickMs * wheelSize)를 넘는 작업은
+ * 상위 휠(틱 = 하위 휠 전체 범위)에 등록되었다가 만료 시점이 가까워지면 하위 휠로 내려옵니다.
+ *
+ * 비어 있지 않은 버킷만 DelayQueue 에 등록되므로, 등록된 작업이 없을 때는 구동 스레드가 깨어나지 않습니다.
+ * 만료된 작업은 생성 시 전달한 Executor 에서 실행됩니다.
+ *
+ * @author 전우선
+ * @since 2025.08.20
+ */
+@Slf4j
+public class HierarchicalTimingWheel implements AutoCloseable {
+
+    private final Executor taskExecutor;
+    private final DelayQueue<Bucket> delayQueue = new DelayQueue<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Wheel rootWheel;
+    private final Thread driver;
+    private volatile boolean running = true;
+
+    /**
+     * @param name 구동 스레드 이름
+     * @param tickMs 최하위 휠의 틱 간격 (밀리초)
+     * @param wheelSize 휠당 버킷 수
+     * @param taskExecutor 만료된 작업을 실행할 Executor
+     */
+    public HierarchicalTimingWheel(String name, long tickMs, int wheelSize, Executor taskExecutor) {
+        if (tickMs <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("tickMs, wheelSize 는 0보다 커야 합니다.");
+        }
+        this.taskExecutor = taskExecutor;
+        this.rootWheel = new Wheel(tickMs, wheelSize, currentTimeMs());
+        this.driver = new Thread(this::runDriver, name);
+        this.driver.setDaemon(true);
+        this.driver.start();
+    }
+
+    /**
+     * 지연 작업 등록
+     *
+     * @param task 실행할 작업
+     * @param delayMs 지연 시간 (밀리초, 0 이하이면 즉시 실행)
+     * @return 취소용 핸들
+     */
+    public Timeout schedule(Runnable task, long delayMs) {
+        Timeout timeout = new Timeout(task, currentTimeMs() + Math.max(0, delayMs));
+        lock.readLock().lock();
+        try {
+            addOrRun(timeout);
+        } finally {
+            lock.readLock().unlock();
+        }
+        return timeout;
+    }
+
+    /**
+     * 타이머 종료 (등록된 작업은 실행되지 않음)
+     */
+    @Override
+    public void close() {
+        running = false;
+        driver.interrupt();
+    }
+
+    private void addOrRun(Timeout timeout) {
+        if (rootWheel.add(timeout) || timeout.isCancelled()) {
+            return;
+        }
+        // 이미 만료된 작업은 바로 실행
+        try {
+            taskExecutor.execute(timeout::run);
+        } catch (RuntimeException e) {
+            log.error("타이밍 휠 작업 실행 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private void runDriver() {
+        while (running) {
+            try {
+                Bucket bucket = delayQueue.poll(200, TimeUnit.MILLISECONDS);
+                if (bucket == null) {
+                    continue;
+                }
+                lock.writeLock().lock();
+                try {
+                    while (bucket != null) {
+                        rootWheel.advanceClock(bucket.getExpiration());
+                        bucket.flush(this::addOrRun);
+                        bucket = delayQueue.poll();
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("타이밍 휠 구동 중 오류 발생: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    private static long currentTimeMs() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+    }
+
+    /**
+     * 등록된 지연 작업 핸들
+     */
+    public static final class Timeout {
+
+        private final Runnable task;
+        private final long expirationMs;
+        private volatile Bucket bucket;
+        private volatile boolean cancelled;
+
+        private Timeout(Runnable task, long expirationMs) {
+            this.task = task;
+            this.expirationMs = expirationMs;
+        }
+
+        /**
+         * 작업 취소 (이미 실행된 작업에는 영향 없음)
+         */
+        public void cancel() {
+            cancelled = true;
+            Bucket current = bucket;
+            if (current != null) {
+                current.remove(this);
+            }
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        private void run() {
+            if (!cancelled) {
+                task.run();
+            }
+        }
+    }
+
+    /**
+     * 한 틱 구간에 만료되는 작업 묶음
+     */
+    private static final class Bucket implements Delayed {
+
+        private final AtomicLong expiration = new AtomicLong(-1L);
+        private final Set<Timeout> timeouts = new LinkedHashSet<>();
+
+        synchronized void add(Timeout timeout) {
+            timeouts.add(timeout);
+            timeout.bucket = this;
+        }
+
+        synchronized void remove(Timeout timeout) {
+            if (timeouts.remove(timeout)) {
+                timeout.bucket = null;
+            }
+        }
+
+        /**
+         * 버킷을 비우고 각 작업을 다시 등록 (하위 휠로 이동하거나 실행)
+         */
+        void flush(Consumer<Timeout> reinsert) {
+            List<Timeout> drained;
+            synchronized (this) {
+                drained = new ArrayList<>(timeouts);
+                timeouts.clear();
+                expiration.set(-1L);
+            }
+            for (Timeout timeout : drained) {
+                timeout.bucket = null;
+                reinsert.accept(timeout);
+            }
+        }
+
+        /**
+         * @return 만료 시간이 바뀐 경우(새로 DelayQueue 에 넣어야 하는 경우) true
+         */
+        boolean setExpiration(long expirationMs) {
+            return expiration.getAndSet(expirationMs) != expirationMs;
+        }
+
+        long getExpiration() {
+            return expiration.get();
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(Math.max(getExpiration() - currentTimeMs(), 0), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getExpiration(), ((Bucket) other).getExpiration());
+        }
+    }
+
+    /**
+     * 단일 단계 휠
+     */
+    private final class Wheel {
+
+        private final long tickMs;
+        private final int wheelSize;
+        private final long interval;
+        private final Bucket[] buckets;
+        private long currentTime;
+        private volatile Wheel overflowWheel;
+
+        Wheel(long tickMs, int wheelSize, long startMs) {
+            this.tickMs = tickMs;
+            this.wheelSize = wheelSize;
+            this.interval = tickMs * wheelSize;
+            this.buckets = new Bucket[wheelSize];
+            for (int i = 0; i < wheelSize; i++) {
+                buckets[i] = new Bucket();
+            }
+            this.currentTime = startMs - Math.floorMod(startMs, tickMs);
+        }
+
+        /**
+         * @return 휠에 등록되었으면 true, 이미 만료되었거나 취소되었으면 false
+         */
+        boolean add(Timeout timeout) {
+            long expiration = timeout.expirationMs;
+            if (timeout.isCancelled()) {
+                return false;
+            }
+            if (expiration < currentTime + tickMs) {
+                return false;
+            }
+            if (expiration < currentTime + interval) {
+                long virtualId = Math.floorDiv(expiration, tickMs);
+                Bucket bucket = buckets[(int) Math.floorMod(virtualId, (long) wheelSize)];
+                bucket.add(timeout);
+                if (bucket.setExpiration(virtualId * tickMs)) {
+                    delayQueue.offer(bucket);
+                }
+                return true;
+            }
+            return overflow().add(timeout);
+        }
+
+        void advanceClock(long timeMs) {
+            if (timeMs >= currentTime + tickMs) {
+                currentTime = timeMs - Math.floorMod(timeMs, tickMs);
+                Wheel overflow = overflowWheel;
+                if (overflow != null) {
+                    overflow.advanceClock(currentTime);
+                }
+            }
+        }
+
+        private Wheel overflow() {
+            if (overflowWheel == null) {
+                synchronized (this) {
+                    if (overflowWheel == null) {
+                        overflowWheel = new Wheel(interval, wheelSize, currentTime);
+                    }
+                }
+            }
+            return overflowWheel;
+        }
+    }
+}
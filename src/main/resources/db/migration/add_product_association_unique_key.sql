@@ -0,0 +1,11 @@
+-- 상품 연관도 (기준 상품, 연관 상품) 유니크 키 추가
+-- 연관도 배치가 INSERT ... ON DUPLICATE KEY UPDATE 로 일괄 저장하므로 쌍마다 한 행이어야 함
+
+-- 중복 행이 있으면 가장 최근 행만 남김
+DELETE pa1 FROM product_associations pa1
+JOIN product_associations pa2
+  ON pa1.source_product_id = pa2.source_product_id
+ AND pa1.target_product_id = pa2.target_product_id
+ AND pa1.association_id < pa2.association_id;
+
+ALTER TABLE product_associations ADD UNIQUE KEY uk_source_target (source_product_id, target_product_id);
@@ -0,0 +1,29 @@
+-- 경매별 입찰 통계 증분 관리를 위한 테이블 생성 스크립트
+-- 작성자: 전우선
+-- 작성일: 2025.08.20
+
+-- 1. 경매 입찰자 테이블 (경매별 사용자당 1행, 사용자별 최신 입찰 ID)
+CREATE TABLE IF NOT EXISTS auction_bidder (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    auction_id BIGINT NOT NULL COMMENT '경매 ID',
+    user_id BIGINT NOT NULL COMMENT '입찰자 ID',
+    latest_bid_id BIGINT NOT NULL COMMENT '사용자별 최신 입찰 ID',
+    updated_at TIMESTAMP NULL COMMENT '마지막 입찰 시간',
+    
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_auction_bidder (auction_id, user_id),
+    INDEX idx_latest_bid_id (latest_bid_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+COMMENT='경매 입찰자 및 사용자별 최신 입찰';
+
+-- 2. 기존 입찰 내역으로부터 입찰자 행 생성
+INSERT IGNORE INTO auction_bidder (auction_id, user_id, latest_bid_id, updated_at)
+SELECT b.auction_id, b.user_id, MAX(b.id), MAX(b.created_at)
+FROM bid b
+WHERE b.status != 'CANCELLED'
+GROUP BY b.auction_id, b.user_id;
+
+-- 3. 경매별 입찰자 수/입찰 수 재계산 (사용자별 최신 입찰 기준)
+UPDATE auction a
+SET a.total_bidders = (SELECT COUNT(*) FROM auction_bidder ab WHERE ab.auction_id = a.id),
+    a.total_bids = (SELECT COUNT(*) FROM auction_bidder ab WHERE ab.auction_id = a.id);
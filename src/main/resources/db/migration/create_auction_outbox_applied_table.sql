@@ -0,0 +1,12 @@
+-- 경매 생명주기 이벤트 구독자별 처리 기록 테이블 생성 스크립트
+-- 작성자: 전우선
+-- 작성일: 2025.08.20
+
+CREATE TABLE IF NOT EXISTS auction_outbox_applied (
+    subscriber VARCHAR(50) NOT NULL COMMENT '구독자 이름',
+    outbox_event_id BIGINT NOT NULL COMMENT '아웃박스 이벤트 ID',
+    applied_at DATETIME(6) NOT NULL COMMENT '처리 시간',
+    
+    PRIMARY KEY (subscriber, outbox_event_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+COMMENT='경매 생명주기 이벤트 구독자별 처리 기록';
@@ -0,0 +1,16 @@
+-- 경매 생명주기 이벤트 아웃박스 테이블 생성 스크립트
+-- 작성자: 전우선
+-- 작성일: 2025.08.20
+
+CREATE TABLE IF NOT EXISTS auction_outbox_event (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    auction_id BIGINT NOT NULL COMMENT '경매 ID',
+    event_type VARCHAR(20) NOT NULL COMMENT '이벤트 종류 (STARTED, ENDED, CANCELLED, BOUGHT_NOW)',
+    winner_bid_id BIGINT NULL COMMENT '낙찰 입찰 ID',
+    created_at DATETIME(6) NOT NULL COMMENT '이벤트 발생 시간',
+    published_at DATETIME(6) NULL COMMENT '전달 완료 시간',
+    
+    PRIMARY KEY (id),
+    INDEX idx_outbox_unpublished (published_at, id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+COMMENT='경매 생명주기 이벤트 아웃박스';
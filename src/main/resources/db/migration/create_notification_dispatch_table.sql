@@ -0,0 +1,24 @@
+-- 상품 알림 대량 발송 진행 상황 테이블 생성 스크립트
+-- 작성자: 전우선
+-- 작성일: 2025.08.20
+
+CREATE TABLE IF NOT EXISTS notification_dispatch (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    auction_id BIGINT NOT NULL COMMENT '경매 ID',
+    product_id BIGINT NOT NULL COMMENT '상품 ID',
+    notification_type VARCHAR(30) NOT NULL COMMENT '알림 유형 (AUCTION_START 등)',
+    status VARCHAR(20) NOT NULL COMMENT '발송 상태 (IN_PROGRESS, COMPLETED)',
+    last_notification_id BIGINT NOT NULL DEFAULT 0 COMMENT '마지막으로 발송을 마친 상품 알림 ID',
+    sent_count INT NOT NULL DEFAULT 0 COMMENT '발송 대상 수',
+    created_at DATETIME(6) NOT NULL COMMENT '생성 시간',
+    updated_at DATETIME(6) NOT NULL COMMENT '마지막 진행 시간',
+    
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_dispatch_auction_type (auction_id, notification_type),
+    INDEX idx_dispatch_status (status, updated_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+COMMENT='상품 알림 대량 발송 진행 상황';
+
+-- 상품별 알림 대상 페이지 조회용 (product_id, notification_type, is_active 조건 + id 순)
+CREATE INDEX idx_product_notification_dispatch
+    ON product_notification (product_id, notification_type, is_active, id);
@@ -0,0 +1,13 @@
+-- 다중 인스턴스 스케줄 작업 리더 선출을 위한 리스 테이블 생성 스크립트
+-- 작성자: 전우선
+-- 작성일: 2025.08.20
+
+CREATE TABLE IF NOT EXISTS scheduler_lease (
+    lease_name VARCHAR(64) NOT NULL COMMENT '리스 이름',
+    owner_id VARCHAR(128) NOT NULL COMMENT '리스 보유 노드 ID',
+    locked_until DATETIME(6) NOT NULL COMMENT '리스 만료 시간',
+    updated_at DATETIME(6) NOT NULL COMMENT '마지막 획득/갱신 시간',
+    
+    PRIMARY KEY (lease_name)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+COMMENT='스케줄러 리더 리스';
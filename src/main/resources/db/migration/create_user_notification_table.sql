@@ -0,0 +1,17 @@
+-- 사용자 개인 알림함 테이블 생성 스크립트
+-- 작성자: 전우선
+-- 작성일: 2025.08.20
+
+CREATE TABLE IF NOT EXISTS user_notification (
+    id BIGINT NOT NULL AUTO_INCREMENT COMMENT '알림 순번',
+    user_id BIGINT NOT NULL COMMENT '수신 사용자 ID',
+    message_type VARCHAR(40) NOT NULL COMMENT '메시지 타입 (BID_OUTBID 등)',
+    auction_id BIGINT NULL COMMENT '관련 경매 ID',
+    payload TEXT NOT NULL COMMENT '메시지 데이터 (JSON)',
+    created_at DATETIME(6) NOT NULL COMMENT '알림 생성 시간',
+    
+    PRIMARY KEY (id),
+    INDEX idx_user_notification_user (user_id, id),
+    INDEX idx_user_notification_created (created_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+COMMENT='사용자 개인 알림함 (재연결 시 재전송용)';
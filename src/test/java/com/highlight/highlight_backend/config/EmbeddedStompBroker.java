@@ -0,0 +1,190 @@
+package com.highlight.highlight_backend.config;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 테스트용 내장 STOMP 브로커
+ *
+ * 외부 브로커(ActiveMQ Artemis 등) 대신 relay 모드 테스트에 사용하는 최소 구현입니다.
+ * CONNECT/STOMP, SUBSCRIBE, UNSUBSCRIBE, SEND, DISCONNECT 와 receipt 만 지원하며,
+ * 같은 destination 의 모든 구독자에게 메시지를 전달합니다. 하트비트는 사용하지 않습니다.
+ */
+class EmbeddedStompBroker implements AutoCloseable {
+
+    private final ServerSocket serverSocket;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final List<Connection> connections = new CopyOnWriteArrayList<>();
+    private final AtomicLong messageIds = new AtomicLong();
+
+    EmbeddedStompBroker() throws IOException {
+        this.serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        executor.execute(this::acceptLoop);
+    }
+
+    int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        for (Connection connection : connections) {
+            connection.close();
+        }
+        executor.shutdownNow();
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Connection connection = new Connection(serverSocket.accept());
+                connections.add(connection);
+                executor.execute(() -> handle(connection));
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private void handle(Connection connection) {
+        try (connection) {
+            Frame frame;
+            while ((frame = connection.read()) != null) {
+                String id = frame.headers.get("id");
+                switch (frame.command) {
+                    case "CONNECT", "STOMP" -> connection.write("CONNECTED",
+                            Map.of("version", "1.2", "heart-beat", "0,0"), "");
+                    case "SUBSCRIBE" -> subscriptions.add(
+                            new Subscription(connection, id, frame.headers.get("destination")));
+                    case "UNSUBSCRIBE" -> subscriptions.removeIf(
+                            s -> s.connection == connection && s.id.equals(id));
+                    case "SEND" -> deliver(frame);
+                    case "DISCONNECT" -> {
+                        sendReceipt(connection, frame);
+                        return;
+                    }
+                    default -> { }
+                }
+                sendReceipt(connection, frame);
+            }
+        } catch (IOException ignored) {
+            // 연결 종료
+        } finally {
+            subscriptions.removeIf(s -> s.connection == connection);
+            connections.remove(connection);
+        }
+    }
+
+    private void deliver(Frame frame) throws IOException {
+        String destination = frame.headers.get("destination");
+        for (Subscription subscription : subscriptions) {
+            if (!subscription.destination.equals(destination)) {
+                continue;
+            }
+            Map<String, String> headers = new LinkedHashMap<>();
+            headers.put("destination", destination);
+            headers.put("subscription", subscription.id);
+            headers.put("message-id", String.valueOf(messageIds.incrementAndGet()));
+            if (frame.headers.containsKey("content-type")) {
+                headers.put("content-type", frame.headers.get("content-type"));
+            }
+            subscription.connection.write("MESSAGE", headers, frame.body);
+        }
+    }
+
+    private void sendReceipt(Connection connection, Frame frame) throws IOException {
+        String receipt = frame.headers.get("receipt");
+        if (receipt != null) {
+            connection.write("RECEIPT", Map.of("receipt-id", receipt), "");
+        }
+    }
+
+    private record Subscription(Connection connection, String id, String destination) {
+    }
+
+    private record Frame(String command, Map<String, String> headers, String body) {
+    }
+
+    private static final class Connection implements AutoCloseable {
+
+        private final Socket socket;
+        private final InputStream in;
+        private final OutputStream out;
+
+        private Connection(Socket socket) {
+            this.socket = socket;
+            try {
+                this.in = socket.getInputStream();
+                this.out = socket.getOutputStream();
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        /**
+         * NUL 로 끝나는 프레임 하나를 읽음 (프레임 사이의 개행은 무시)
+         */
+        private Frame read() throws IOException {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            int b;
+            while ((b = in.read()) != -1) {
+                if (b == 0) {
+                    break;
+                }
+                if (buffer.size() == 0 && (b == '\n' || b == '\r')) {
+                    continue;
+                }
+                buffer.write(b);
+            }
+            if (b == -1) {
+                return null;
+            }
+
+            String raw = buffer.toString(StandardCharsets.UTF_8);
+            int headerEnd = raw.indexOf("\n\n");
+            String head = headerEnd >= 0 ? raw.substring(0, headerEnd) : raw;
+            String body = headerEnd >= 0 ? raw.substring(headerEnd + 2) : "";
+
+            String[] lines = head.replace("\r", "").split("\n");
+            Map<String, String> headers = new LinkedHashMap<>();
+            for (int i = 1; i < lines.length; i++) {
+                int colon = lines[i].indexOf(':');
+                if (colon > 0) {
+                    headers.putIfAbsent(lines[i].substring(0, colon), lines[i].substring(colon + 1));
+                }
+            }
+            return new Frame(lines[0], headers, body);
+        }
+
+        private synchronized void write(String command, Map<String, String> headers, String body) throws IOException {
+            byte[] payload = body.getBytes(StandardCharsets.UTF_8);
+            StringBuilder frame = new StringBuilder(command).append('\n');
+            headers.forEach((name, value) -> frame.append(name).append(':').append(value).append('\n'));
+            frame.append("content-length:").append(payload.length).append("\n\n");
+            out.write(frame.toString().getBytes(StandardCharsets.UTF_8));
+            out.write(payload);
+            out.write(0);
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            socket.close();
+        }
+    }
+}
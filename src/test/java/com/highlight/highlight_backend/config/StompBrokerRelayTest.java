@@ -0,0 +1,117 @@
+package com.highlight.highlight_backend.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompBrokerRelayMessageHandler;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * websocket.broker.mode=relay 구성 검증
+ *
+ * 백엔드 두 대(nodeA, nodeB)가 같은 외부 브로커(내장 STOMP 브로커)로 중계할 때,
+ * nodeA 에서 발행한 경매 메시지가 nodeB 에 연결된 구독자에게 전달되는지 확인합니다.
+ */
+class StompBrokerRelayTest {
+
+    private EmbeddedStompBroker broker;
+    private StompBrokerRelayMessageHandler nodeA;
+    private StompBrokerRelayMessageHandler nodeB;
+
+    private final ExecutorSubscribableChannel brokerChannelA = new ExecutorSubscribableChannel();
+    private final ExecutorSubscribableChannel clientInboundB = new ExecutorSubscribableChannel();
+    private final BlockingQueue<Message<?>> clientOutboundB = new LinkedBlockingQueue<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        broker = new EmbeddedStompBroker();
+
+        nodeA = relay(new ExecutorSubscribableChannel(), new ExecutorSubscribableChannel(), brokerChannelA);
+
+        ExecutorSubscribableChannel outboundB = new ExecutorSubscribableChannel();
+        outboundB.subscribe(clientOutboundB::add);
+        nodeB = relay(clientInboundB, outboundB, new ExecutorSubscribableChannel());
+
+        awaitBrokerAvailable(nodeA);
+        awaitBrokerAvailable(nodeB);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        nodeA.stop();
+        nodeB.stop();
+        broker.close();
+    }
+
+    @Test
+    void messagePublishedOnOneNodeReachesSubscriberOnAnotherNode() throws Exception {
+        // nodeB 에 클라이언트 연결 및 경매 토픽 구독
+        StompHeaderAccessor connect = StompHeaderAccessor.create(StompCommand.CONNECT);
+        connect.setSessionId("client-1");
+        connect.setAcceptVersion("1.2");
+        connect.setHeartbeat(0, 0);
+        clientInboundB.send(MessageBuilder.createMessage(new byte[0], connect.getMessageHeaders()));
+        assertEquals(StompCommand.CONNECTED, nextCommand());
+
+        StompHeaderAccessor subscribe = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        subscribe.setSessionId("client-1");
+        subscribe.setSubscriptionId("sub-1");
+        subscribe.setDestination("/topic/auction/1");
+        subscribe.setReceipt("subscribed");
+        clientInboundB.send(MessageBuilder.createMessage(new byte[0], subscribe.getMessageHeaders()));
+        assertEquals(StompCommand.RECEIPT, nextCommand());
+
+        // nodeA 에서 발행 (WebSocketService 와 동일한 SimpMessagingTemplate 경로)
+        new SimpMessagingTemplate(brokerChannelA).convertAndSend("/topic/auction/1", Map.of("type", "NEW_BID"));
+
+        Message<?> delivered = clientOutboundB.poll(5, TimeUnit.SECONDS);
+        assertNotNull(delivered, "nodeB 구독자가 메시지를 받지 못했습니다.");
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(delivered);
+        assertEquals(StompCommand.MESSAGE, accessor.getCommand());
+        assertEquals("/topic/auction/1", accessor.getDestination());
+        assertTrue(new String((byte[]) delivered.getPayload(), StandardCharsets.UTF_8).contains("NEW_BID"));
+    }
+
+    private StompBrokerRelayMessageHandler relay(ExecutorSubscribableChannel inbound,
+                                                 ExecutorSubscribableChannel outbound,
+                                                 ExecutorSubscribableChannel brokerChannel) {
+        StompBrokerRelayMessageHandler relay =
+                new StompBrokerRelayMessageHandler(inbound, outbound, brokerChannel, List.of("/topic", "/queue"));
+        relay.setRelayHost("127.0.0.1");
+        relay.setRelayPort(broker.getPort());
+        relay.setSystemHeartbeatSendInterval(0);
+        relay.setSystemHeartbeatReceiveInterval(0);
+        relay.start();
+        return relay;
+    }
+
+    private Object nextCommand() throws InterruptedException {
+        Message<?> message = clientOutboundB.poll(5, TimeUnit.SECONDS);
+        assertNotNull(message, "브로커 응답이 없습니다.");
+        return StompHeaderAccessor.wrap(message).getCommand();
+    }
+
+    private static void awaitBrokerAvailable(StompBrokerRelayMessageHandler relay) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!relay.isBrokerAvailable() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertTrue(relay.isBrokerAvailable(), "브로커 연결 실패");
+    }
+}
@@ -0,0 +1,59 @@
+package com.highlight.highlight_backend.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import java.security.Principal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * STOMP 개인 알림 구독 권한 검증
+ *
+ * 개인 알림 경로는 세션 사용자 본인만 구독할 수 있고, 공개 경매 토픽은 익명 세션도 구독할 수 있는지 확인합니다.
+ */
+class StompAuthChannelInterceptorTest {
+
+    private final StompAuthChannelInterceptor interceptor = new StompAuthChannelInterceptor(null);
+
+    @Test
+    void allowsOwnPersonalNotifications() {
+        Message<byte[]> message = subscribe("/queue/user/7/notifications", user(7L));
+        assertSame(message, interceptor.preSend(message, null));
+    }
+
+    @Test
+    void rejectsOtherUsersAndAnonymousSessions() {
+        assertThrows(MessageDeliveryException.class,
+                () -> interceptor.preSend(subscribe("/queue/user/7/notifications", user(8L)), null));
+        assertThrows(MessageDeliveryException.class,
+                () -> interceptor.preSend(subscribe("/queue/user/7/notifications", null), null));
+    }
+
+    @Test
+    void allowsAnonymousAuctionTopic() {
+        Message<byte[]> message = subscribe("/topic/auction/1", null);
+        assertSame(message, interceptor.preSend(message, null));
+    }
+
+    private static Principal user(Long userId) {
+        return new UsernamePasswordAuthenticationToken(userId, null, List.of());
+    }
+
+    private static Message<byte[]> subscribe(String destination, Principal user) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setSessionId("session-1");
+        accessor.setSubscriptionId("sub-1");
+        accessor.setDestination(destination);
+        accessor.setUser(user);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,163 @@
+package com.highlight.highlight_backend.service;
+
+import com.highlight.highlight_backend.domain.Auction;
+import com.highlight.highlight_backend.domain.Bid;
+import com.highlight.highlight_backend.domain.Product;
+import com.highlight.highlight_backend.domain.User;
+import com.highlight.highlight_backend.dto.PaymentPreviewDto;
+import com.highlight.highlight_backend.repository.AuctionRepository;
+import com.highlight.highlight_backend.repository.BidRepository;
+import com.highlight.highlight_backend.repository.user.UserRepository;
+import com.highlight.highlight_backend.service.bid.AuctionOrderBookRegistry;
+import com.highlight.highlight_backend.service.bid.BidSequencer;
+import com.highlight.highlight_backend.service.bid.BidWriteBehindService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 만료 경매 일괄 종료 엔진 검증
+ *
+ * 호가창 닫기 -> 저장 완료 대기 -> 경매 종료 -> 낙찰 표시 순서, 소프트 클로즈 연장 시 종료 보류,
+ * 낙찰 표시 실패 시 다음 주기 재시도, 그리고 엔진으로 종료된 경매의 낙찰자가 결제 미리보기를 조회할 수 있는지 확인합니다.
+ * DB 접근은 리포지토리 목으로 대신합니다.
+ */
+class AuctionCloseEngineTest {
+
+    private static final Long AUCTION_ID = 1L;
+
+    private final AuctionSchedulerService schedulerService = mock(AuctionSchedulerService.class);
+    private final AuctionOrderBookRegistry orderBookRegistry = mock(AuctionOrderBookRegistry.class);
+    private final BidWriteBehindService writeBehindService = mock(BidWriteBehindService.class);
+    private final BidRepository bidRepository = mock(BidRepository.class);
+    private final AuctionRepository auctionRepository = mock(AuctionRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+
+    private BidSequencer sequencer;
+    private AuctionCloseEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        when(orderBookRegistry.closeIfExpired(any(), any())).thenReturn(true);
+        when(writeBehindService.awaitDrained()).thenReturn(CompletableFuture.completedFuture(null));
+
+        sequencer = new BidSequencer(1);
+        engine = new AuctionCloseEngine(schedulerService, orderBookRegistry, sequencer, writeBehindService,
+                bidRepository, mock(PlatformTransactionManager.class), new SimpleMeterRegistry(), 2, 10, 1_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        engine.shutdown();
+        sequencer.shutdown();
+    }
+
+    @Test
+    void closesBookDrainsEndsThenMarksWinners() throws Exception {
+        when(schedulerService.endAuctionIfExpired(AUCTION_ID)).thenReturn(true);
+        when(bidRepository.markWinningBidsAsWon(List.of(AUCTION_ID))).thenReturn(1);
+
+        assertTrue(engine.requestClose(AUCTION_ID, LocalDateTime.now()).get(5, TimeUnit.SECONDS));
+
+        InOrder order = inOrder(orderBookRegistry, writeBehindService, schedulerService, bidRepository);
+        order.verify(orderBookRegistry).closeIfExpired(eq(AUCTION_ID), any());
+        order.verify(writeBehindService).awaitDrained();
+        order.verify(schedulerService).endAuctionIfExpired(AUCTION_ID);
+        order.verify(bidRepository).markWinningBidsAsWon(List.of(AUCTION_ID));
+    }
+
+    @Test
+    void extendedAuctionIsNotEnded() throws Exception {
+        when(orderBookRegistry.closeIfExpired(eq(AUCTION_ID), any())).thenReturn(false);
+
+        assertFalse(engine.requestClose(AUCTION_ID, LocalDateTime.now()).get(5, TimeUnit.SECONDS));
+
+        verify(writeBehindService, never()).awaitDrained();
+        verify(schedulerService, never()).endAuctionIfExpired(any());
+        verify(bidRepository, never()).markWinningBidsAsWon(any());
+    }
+
+    @Test
+    void retriesWinnerMarksAfterFailure() throws Exception {
+        when(schedulerService.endAuctionIfExpired(AUCTION_ID)).thenReturn(true);
+        when(bidRepository.markWinningBidsAsWon(List.of(AUCTION_ID)))
+                .thenThrow(new IllegalStateException("lock wait timeout"))
+                .thenReturn(1);
+
+        // 종료 자체는 성공, 낙찰 표시는 대기열이 빈 다음 주기에 다시 시도
+        assertTrue(engine.requestClose(AUCTION_ID, LocalDateTime.now()).get(5, TimeUnit.SECONDS));
+        verify(bidRepository, timeout(5_000).times(2)).markWinningBidsAsWon(List.of(AUCTION_ID));
+
+        // 성공한 뒤에는 다시 시도하지 않음
+        verify(bidRepository, after(1_500).times(2)).markWinningBidsAsWon(any());
+    }
+
+    @Test
+    void winnerCanPreviewPaymentAfterEngineClose() throws Exception {
+        User winner = new User();
+        winner.setId(7L);
+        winner.setPoint(new BigDecimal("3000"));
+
+        Product product = new Product();
+        product.setProductName("라운지 체어");
+
+        Auction auction = new Auction();
+        auction.setId(AUCTION_ID);
+        auction.setProduct(product);
+        auction.setStatus(Auction.AuctionStatus.IN_PROGRESS);
+        auction.setShippingFee(new BigDecimal("5000"));
+
+        Bid bid = Bid.builder()
+                .auction(auction)
+                .user(winner)
+                .bidAmount(new BigDecimal("50000"))
+                .status(Bid.BidStatus.WINNING)
+                .build();
+
+        when(schedulerService.endAuctionIfExpired(AUCTION_ID)).thenAnswer(invocation -> {
+            auction.setStatus(Auction.AuctionStatus.COMPLETED);
+            return true;
+        });
+        when(bidRepository.markWinningBidsAsWon(List.of(AUCTION_ID))).thenAnswer(invocation -> {
+            bid.setAsWon();
+            return 1;
+        });
+        when(bidRepository.findWinnerBidByAuction(auction)).thenReturn(Optional.of(bid));
+        when(auctionRepository.findById(AUCTION_ID)).thenReturn(Optional.of(auction));
+        when(userRepository.findById(7L)).thenReturn(Optional.of(winner));
+
+        assertTrue(engine.requestClose(AUCTION_ID, LocalDateTime.now()).get(5, TimeUnit.SECONDS));
+        assertEquals(Bid.BidStatus.WON, bid.getStatus());
+
+        PaymentService paymentService = new PaymentService(auctionRepository, bidRepository, userRepository,
+                mock(WebSocketService.class), orderBookRegistry);
+        PaymentPreviewDto preview = paymentService.getPaymentPreview(AUCTION_ID, 7L);
+
+        assertEquals(new BigDecimal("50000"), preview.getWinningBidAmount());
+        assertEquals(new BigDecimal("55000"), preview.getTotalAmount());
+        assertEquals(new BigDecimal("52000"), preview.getActualPaymentAmount());
+    }
+}
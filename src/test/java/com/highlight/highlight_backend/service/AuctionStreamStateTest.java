@@ -0,0 +1,68 @@
+package com.highlight.highlight_backend.service;
+
+import com.highlight.highlight_backend.dto.websocket.WebSocketMessageDto;
+import com.highlight.highlight_backend.dto.websocket.WebSocketMessageDto.WebSocketMessageType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * 경매 스트림 순번 epoch 검증
+ *
+ * 서로 다른 서버(인스턴스)가 같은 경매에 붙인 순번이 epoch 으로 구분되는지,
+ * 한 서버 안에서는 같은 epoch 으로 순번이 이어지고 캐시에서 제거된 뒤에는 새 epoch 으로 다시 시작하는지 확인합니다.
+ */
+class AuctionStreamStateTest {
+
+    private static final Long AUCTION_ID = 1L;
+
+    @Test
+    void separatesSequencesOfDifferentNodesByEpoch() {
+        AuctionStreamState first = streamState(600_000);
+        AuctionStreamState second = streamState(600_000);
+
+        WebSocketMessageDto a1 = first.sequence(AUCTION_ID, newBid());
+        WebSocketMessageDto b1 = second.sequence(AUCTION_ID, newBid());
+        WebSocketMessageDto a2 = first.sequence(AUCTION_ID, newBid());
+
+        // 두 서버 모두 1부터 순번을 붙이지만 epoch 이 달라 클라이언트가 건너뜀으로 보지 않음
+        assertEquals(1L, a1.getSeq());
+        assertEquals(1L, b1.getSeq());
+        assertNotEquals(a1.getEpoch(), b1.getEpoch());
+
+        // 같은 서버의 순번은 같은 epoch 으로 이어짐
+        assertEquals(a1.getEpoch(), a2.getEpoch());
+        assertEquals(2L, a2.getSeq());
+    }
+
+    @Test
+    void restartsWithNewEpochAfterEviction() {
+        AuctionStreamState state = streamState(-60_000);
+
+        WebSocketMessageDto before = state.sequence(AUCTION_ID, newBid());
+        state.evictIdle();
+        WebSocketMessageDto after = state.sequence(AUCTION_ID, newBid());
+
+        assertEquals(1L, after.getSeq());
+        assertNotEquals(before.getEpoch(), after.getEpoch());
+    }
+
+    @Test
+    void leavesTransientMessagesUnsequenced() {
+        WebSocketMessageDto countdown = streamState(600_000).sequence(AUCTION_ID,
+                WebSocketMessageDto.of(WebSocketMessageType.AUCTION_COUNTDOWN, AUCTION_ID, 30L));
+
+        assertNull(countdown.getSeq());
+        assertNull(countdown.getEpoch());
+    }
+
+    private static AuctionStreamState streamState(long idleEvictMs) {
+        return new AuctionStreamState(null, null, null, idleEvictMs);
+    }
+
+    private static WebSocketMessageDto newBid() {
+        return WebSocketMessageDto.of(WebSocketMessageType.NEW_BID, AUCTION_ID, null);
+    }
+}
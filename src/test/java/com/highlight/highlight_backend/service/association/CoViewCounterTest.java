@@ -0,0 +1,114 @@
+package com.highlight.highlight_backend.service.association;
+
+import com.highlight.highlight_backend.service.association.ProductAssociationWriter.AssociationRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * H2 에서 함께 조회 건수 계산과 연관도 일괄 저장 검증
+ *
+ * 세션 60분 / 사용자 24시간 창 안의 조회만 짝지어지는지, 대상 상품 밖의 조회는 빠지는지,
+ * 데이터가 적을 때 근사 계산이 정확한 계산과 같은지,
+ * 같은 쌍을 다시 저장하면 행이 늘지 않고 건수만 바뀌는지 확인합니다.
+ */
+class CoViewCounterTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 8, 20, 12, 0);
+
+    private JdbcTemplate jdbcTemplate;
+    private CoViewCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:coview-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE user_product_views (view_id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                "user_id BIGINT NULL, session_id VARCHAR(255) NULL, product_id BIGINT NOT NULL, viewed_at TIMESTAMP NULL)");
+        jdbcTemplate.execute("CREATE TABLE product_associations (association_id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                "source_product_id BIGINT NOT NULL, target_product_id BIGINT NOT NULL, " +
+                "association_score DECIMAL(5,2) NOT NULL, co_view_count INT NOT NULL, same_session_count INT NOT NULL, " +
+                "same_user_count INT NOT NULL, last_co_viewed_at TIMESTAMP NULL, score_calculated_at TIMESTAMP NULL, " +
+                "created_at TIMESTAMP NULL, CONSTRAINT uk_source_target UNIQUE (source_product_id, target_product_id))");
+        counter = new CoViewCounter(jdbcTemplate, 2, false);
+    }
+
+    @Test
+    void countsPairsInsideSessionAndUserWindows() {
+        view(null, "s1", 1L, 0);
+        view(null, "s1", 2L, 30);
+        view(null, "s1", 3L, 120);   // 60분 초과: 1, 2 와 짝 없음
+        view(null, "s2", 1L, 0);
+        view(null, "s2", 2L, 10);
+        view(7L, "s3", 1L, 0);
+        view(7L, "s4", 3L, 600);    // 같은 회원, 24시간 이내
+        view(null, "s1", 99L, 31);   // 대상 상품 아님
+
+        CoViewMatrix matrix = counter.count(BASE.minusDays(1), List.of(1L, 2L, 3L));
+        Map<String, int[]> pairs = new HashMap<>();
+        matrix.forEachPair((source, target, session, user) -> pairs.put(source + "-" + target, new int[]{session, user}));
+
+        assertEquals(2, pairs.get("1-2")[0]);
+        assertEquals(2, pairs.get("2-1")[0]);
+        assertEquals(0, pairs.get("1-3")[0]);
+        assertEquals(1, pairs.get("1-3")[1]);
+        assertEquals(1, pairs.get("3-1")[1]);
+        assertFalse(pairs.containsKey("2-3"));
+        assertFalse(pairs.containsKey("1-99"));
+        assertEquals(4, matrix.pairCount());
+    }
+
+    @Test
+    void approximateCountsMatchExactCountsOnSmallData() {
+        view(null, "s1", 1L, 0);
+        view(null, "s1", 2L, 30);
+        view(null, "s1", 3L, 45);
+        view(null, "s2", 1L, 0);
+        view(null, "s2", 2L, 10);
+        view(7L, "s3", 1L, 0);
+        view(7L, "s4", 3L, 600);
+
+        List<Long> productIds = List.of(1L, 2L, 3L);
+        ApproximateCoViewCounter approximate = new ApproximateCoViewCounter(jdbcTemplate, 0.001, 0.01, 20, 50, 1000, false);
+
+        assertEquals(pairs(counter.count(BASE.minusDays(1), productIds)),
+                pairs(approximate.count(BASE.minusDays(1), productIds)));
+    }
+
+    @Test
+    void upsertReplacesCountsForExistingPairs() {
+        ProductAssociationWriter writer = new ProductAssociationWriter(jdbcTemplate);
+        writer.upsert(List.of(new AssociationRow(1L, 2L, BigDecimal.valueOf(5), 2, 2, 0)));
+        writer.upsert(List.of(new AssociationRow(1L, 2L, BigDecimal.valueOf(9), 4, 2, 2),
+                new AssociationRow(2L, 1L, BigDecimal.valueOf(9), 4, 2, 2)));
+
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM product_associations", Integer.class));
+        assertEquals(4, jdbcTemplate.queryForObject(
+                "SELECT co_view_count FROM product_associations WHERE source_product_id = 1 AND target_product_id = 2",
+                Integer.class));
+    }
+
+    private static Map<String, List<Integer>> pairs(CoViewCounts counts) {
+        Map<String, List<Integer>> pairs = new HashMap<>();
+        counts.forEachPair((source, target, session, user) -> pairs.put(source + "-" + target, List.of(session, user)));
+        return pairs;
+    }
+
+    private void view(Long userId, String sessionId, Long productId, int minutes) {
+        jdbcTemplate.update("INSERT INTO user_product_views (user_id, session_id, product_id, viewed_at) VALUES (?, ?, ?, ?)",
+                userId, sessionId, productId, Timestamp.valueOf(BASE.plusMinutes(minutes)));
+    }
+}
@@ -0,0 +1,107 @@
+package com.highlight.highlight_backend.service.association;
+
+import com.highlight.highlight_backend.event.ProductViewsRecordedEvent;
+import com.highlight.highlight_backend.event.ProductViewsRecordedEvent.RecordedView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * H2 에서 상품 연관도 실시간 갱신 검증
+ *
+ * 세션 창 안의 조회끼리 증가분이 쌓여 주기마다 더해지는지, 비활성 상품과의 쌍은 빠지는지,
+ * 배치와 같은 최소 건수 기준에 못 미친 쌍은 다음 주기로 넘겨지는지, 배치 재계산 중에는 증가분을 보류했다가
+ * 재계산이 끝난 뒤 더하는지 확인합니다.
+ */
+class IncrementalAssociationUpdaterTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private ProductAssociationWriter writer;
+    private IncrementalAssociationUpdater updater;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:incremental-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE product (id BIGINT PRIMARY KEY, category VARCHAR(20), status VARCHAR(20))");
+        jdbcTemplate.execute("CREATE TABLE product_associations (association_id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                "source_product_id BIGINT NOT NULL, target_product_id BIGINT NOT NULL, " +
+                "association_score DECIMAL(5,2) NOT NULL, co_view_count INT NOT NULL, same_session_count INT NOT NULL, " +
+                "same_user_count INT NOT NULL, last_co_viewed_at TIMESTAMP NULL, score_calculated_at TIMESTAMP NULL, " +
+                "created_at TIMESTAMP NULL, CONSTRAINT uk_source_target UNIQUE (source_product_id, target_product_id))");
+        jdbcTemplate.execute("CREATE TABLE scheduler_lease (lease_name VARCHAR(64) PRIMARY KEY, " +
+                "owner_id VARCHAR(128) NOT NULL, locked_until DATETIME(6) NOT NULL, updated_at DATETIME(6) NOT NULL)");
+        jdbcTemplate.update("INSERT INTO product (id, category, status) VALUES " +
+                "(1, 'FURNITURE', 'ACTIVE'), (2, 'FURNITURE', 'ACTIVE'), (3, 'PROPS', 'DRAFT')");
+        writer = new ProductAssociationWriter(jdbcTemplate);
+        updater = new IncrementalAssociationUpdater(jdbcTemplate, writer, event -> { }, true, 50, 1000, 1000);
+    }
+
+    @Test
+    void addsSessionCoViewsOnceOverBatchThresholds() {
+        LocalDateTime now = LocalDateTime.now();
+        updater.onViewsRecorded(event(
+                new RecordedView(null, "s1", 1L, now.minusMinutes(20)),
+                new RecordedView(null, "s1", 2L, now.minusMinutes(10)),
+                new RecordedView(null, "s1", 3L, now.minusMinutes(5))));
+        updater.flush();
+
+        // 동일 세션 1건은 최소 건수 미만이라 저장하지 않고 다음 주기로 넘김
+        assertEquals(0, associationCount());
+
+        updater.onViewsRecorded(event(new RecordedView(null, "s1", 1L, now)));
+        updater.flush();
+
+        assertEquals(2, coViewCount(1, 2));
+        assertEquals(2, coViewCount(2, 1));
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT same_session_count FROM product_associations " +
+                "WHERE source_product_id = 1 AND target_product_id = 2", Integer.class));
+        assertEquals(2, associationCount());
+    }
+
+    @Test
+    void holdsDeltasWhileBatchRecalculates() {
+        LocalDateTime now = LocalDateTime.now();
+        updater.onViewsRecorded(event(
+                new RecordedView(7L, null, 1L, now.minusMinutes(30)),
+                new RecordedView(7L, null, 2L, now.minusMinutes(20))));
+        updater.flush();
+        assertEquals(0, associationCount());
+
+        // 재계산 중에는 저장하지 않음 (재계산 전에 넘겨 둔 1건은 배치 건수에 포함되므로 버림)
+        writer.beginRecalculation(Duration.ofHours(1));
+        updater.onViewsRecorded(event(new RecordedView(7L, null, 1L, now.minusMinutes(10))));
+        updater.flush();
+        assertEquals(0, associationCount());
+
+        // 재계산이 끝나면 보류한 증가분과 새 증가분을 함께 더함
+        writer.endRecalculation();
+        updater.onViewsRecorded(event(new RecordedView(7L, null, 2L, now)));
+        updater.flush();
+
+        assertEquals(3, coViewCount(1, 2));
+        assertEquals(3, coViewCount(2, 1));
+    }
+
+    private int associationCount() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM product_associations", Integer.class);
+    }
+
+    private int coViewCount(long source, long target) {
+        return jdbcTemplate.queryForObject("SELECT co_view_count FROM product_associations " +
+                "WHERE source_product_id = ? AND target_product_id = ?", Integer.class, source, target);
+    }
+
+    private static ProductViewsRecordedEvent event(RecordedView... views) {
+        return new ProductViewsRecordedEvent(List.of(views));
+    }
+}
@@ -0,0 +1,104 @@
+package com.highlight.highlight_backend.service.association;
+
+import com.highlight.highlight_backend.domain.Auction;
+import com.highlight.highlight_backend.domain.Product;
+import com.highlight.highlight_backend.dto.ViewTogetherProductResponseDto;
+import com.highlight.highlight_backend.event.AuctionBidStatsChangedEvent;
+import com.highlight.highlight_backend.event.AuctionStatusChangedEvent;
+import com.highlight.highlight_backend.service.association.ViewTogetherCache.BaseProduct;
+import com.highlight.highlight_backend.service.association.ViewTogetherCache.Candidate;
+import com.highlight.highlight_backend.service.association.ViewTogetherCache.ScoredTarget;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 함께 본 상품 추천 캐시 검증
+ *
+ * 연관도 순 카드 뒤에 카테고리/브랜드, 최근 등록 상품 순으로 채워지는지, 연관도 행이 없는 상품은
+ * 캐시에 담지 않아 DB 조회(실시간 연관도 계산)로 넘어가는지,
+ * 종료된 경매와 입찰 변경이 재구성 전에도 응답에 반영되는지 확인합니다.
+ */
+class ViewTogetherCacheTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 8, 20, 12, 0);
+
+    @Test
+    void fillsAssociationsThenRelatedThenLatest() {
+        List<Candidate> candidates = List.of(
+                candidate(2, "FURNITURE", "Hay", Product.ProductStatus.IN_AUCTION, true, 1),
+                candidate(3, "FURNITURE", "Hay", Product.ProductStatus.ACTIVE, false, 2),
+                candidate(4, "FURNITURE", "Muuto", Product.ProductStatus.ACTIVE, true, 3),
+                candidate(5, "PROPS", "Hay", Product.ProductStatus.ACTIVE, true, 4),
+                candidate(6, "PROPS", "Muuto", Product.ProductStatus.IN_AUCTION, true, 5));
+        // 4는 연관도 행은 있지만 카드 후보인 연관 상품이 없음, 5는 연관도 행이 없음
+        Map<Long, List<ScoredTarget>> associations = Map.of(
+                1L, List.of(new ScoredTarget(2, new BigDecimal("80.00")), new ScoredTarget(9, new BigDecimal("70.00"))),
+                4L, List.of());
+
+        Map<Long, List<ViewTogetherProductResponseDto>> built = ViewTogetherCache.build(
+                List.of(new BaseProduct(1, "FURNITURE", "Hay"), new BaseProduct(4, "FURNITURE", "Muuto"),
+                        new BaseProduct(5, "PROPS", "Hay")),
+                candidates, associations, 5);
+
+        // 연관 상품 2 -> 진행 중인 같은 카테고리(4)/브랜드(5) -> 예약된 같은 카테고리+브랜드(3) -> 최근 등록(6)
+        assertEquals(List.of(2L, 4L, 5L, 3L, 6L), ids(built.get(1L)));
+        assertEquals(new BigDecimal("80.00"), built.get(1L).get(0).getAssociationScore());
+        assertEquals(BigDecimal.ZERO, built.get(1L).get(1).getAssociationScore());
+
+        // 자기 자신은 제외, 활성 상품 중 같은 카테고리는 예약(3)뿐 -> 나머지는 최근 등록 순(6, 5, 2)
+        assertEquals(List.of(3L, 6L, 5L, 2L), ids(built.get(4L)));
+
+        // 연관도 행이 없는 상품은 캐시에 없음 (기존 조회의 실시간 연관도 계산으로 처리)
+        assertFalse(built.containsKey(5L));
+    }
+
+    @Test
+    void dropsClosedAuctionsAndAppliesBidStatsBeforeRebuild() {
+        ViewTogetherCache cache = new ViewTogetherCache(null, null, null, 3, 300_000);
+        assertTrue(cache.find(1L, 2).isEmpty());
+
+        cache.install(ViewTogetherCache.build(
+                List.of(new BaseProduct(1, "FURNITURE", "Hay")),
+                List.of(candidate(2, "FURNITURE", "Hay", Product.ProductStatus.ACTIVE, true, 1),
+                        candidate(3, "FURNITURE", "Hay", Product.ProductStatus.ACTIVE, true, 2),
+                        candidate(4, "FURNITURE", "Hay", Product.ProductStatus.ACTIVE, true, 3)),
+                Map.of(1L, List.of()), 3));
+        assertEquals(List.of(4L, 3L), ids(cache.find(1L, 2).orElseThrow()));
+        assertTrue(cache.find(1L, 4).isEmpty());
+        assertTrue(cache.find(99L, 2).isEmpty());
+
+        cache.onAuctionStatusChanged(new AuctionStatusChangedEvent(400L, Auction.AuctionStatus.COMPLETED, null, null));
+        cache.onBidStatsChanged(new AuctionBidStatsChangedEvent(300L, new BigDecimal("15000"), 4));
+
+        List<ViewTogetherProductResponseDto> cards = cache.find(1L, 2).orElseThrow();
+        assertEquals(List.of(3L, 2L), ids(cards));
+        assertEquals(new BigDecimal("15000"), cards.get(0).getCurrentHighestBid());
+        assertEquals(4, cards.get(0).getBidCount());
+    }
+
+    private static Candidate candidate(long productId, String category, String brand,
+                                       Product.ProductStatus productStatus, boolean inProgress, int createdMinutes) {
+        ViewTogetherProductResponseDto card = ViewTogetherProductResponseDto.builder()
+                .productId(productId)
+                .auctionId(productId * 100)
+                .category(category)
+                .brand(brand)
+                .auctionStatus(inProgress ? "IN_PROGRESS" : "SCHEDULED")
+                .bidCount(0)
+                .associationScore(BigDecimal.ZERO)
+                .build();
+        return new Candidate(card, category, brand, productStatus, BASE.plusMinutes(createdMinutes), inProgress);
+    }
+
+    private static List<Long> ids(List<ViewTogetherProductResponseDto> cards) {
+        return cards.stream().map(ViewTogetherProductResponseDto::getProductId).toList();
+    }
+}
@@ -0,0 +1,178 @@
+package com.highlight.highlight_backend.service.bid;
+
+import com.highlight.highlight_backend.domain.Auction;
+import com.highlight.highlight_backend.exception.AuctionErrorCode;
+import com.highlight.highlight_backend.exception.BusinessException;
+import com.highlight.highlight_backend.exception.ErrorCode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 경매 호가창 입찰 수락 검증
+ *
+ * 경쟁하는 자동 입찰이 한 번의 응답 입찰로 해소되는지, 한도가 같으면 먼저 등록한 자동 입찰이 이기는지,
+ * 응답 금액이 자동 입찰 한도와 입찰 단위를 따르는지 확인합니다.
+ * 소프트 클로즈 구간 안의 입찰만 종료 시간을 연장하는지, 종료 처리 후 입찰이 거부되는지도 확인합니다.
+ */
+class AuctionOrderBookTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 8, 20, 12, 0);
+    private static final LocalDateTime END = BASE.plusHours(1);
+
+    @Test
+    void resolvesCompetingProxiesWithSingleResponse() {
+        AuctionOrderBook book = book(won(1000));
+
+        BidAcceptance first = book.accept(1L, won(11000), true, won(20000), BASE);
+        assertEquals(won(11000), first.getBidAmount());
+        assertNull(first.getProxyResponse());
+
+        // 낮은 한도의 자동 입찰은 높은 한도 자동 입찰의 응답 1건으로 바로 밀림 (두 번째 한도 + 입찰 단위)
+        BidAcceptance second = book.accept(2L, won(12000), true, won(15000), BASE.plusMinutes(1));
+        assertEquals(won(12000), second.getBidAmount());
+        BidAcceptance response = second.getProxyResponse();
+        assertEquals(1L, response.getUserId());
+        assertEquals(won(16000), response.getBidAmount());
+        assertEquals(2L, response.getPreviousTopBidderId());
+
+        assertEquals(1L, book.getTopBidderId());
+        assertEquals(won(16000), book.getCurrentHighestBid());
+        assertEquals(1, book.getActiveProxyBidCount());
+    }
+
+    @Test
+    void earlierProxyWinsTieAtSameLimit() {
+        AuctionOrderBook book = book(won(1000));
+
+        book.accept(1L, won(11000), true, won(20000), BASE);
+        BidAcceptance second = book.accept(2L, won(12000), true, won(20000), BASE.plusMinutes(1));
+
+        assertEquals(1L, second.getProxyResponse().getUserId());
+        assertEquals(won(20000), second.getProxyResponse().getBidAmount());
+        assertEquals(1L, book.getTopBidderId());
+        assertEquals(1, book.getActiveProxyBidCount());
+    }
+
+    @Test
+    void manualBidAtProxyLimitWins() {
+        AuctionOrderBook book = book(won(1000));
+
+        book.accept(1L, won(11000), true, won(20000), BASE);
+        // 한도와 같은 수동 입찰에는 최소 인상폭을 넘는 응답이 불가능하므로 수동 입찰이 최고가
+        BidAcceptance manual = book.accept(2L, won(20000), false, null, BASE.plusMinutes(1));
+
+        assertNull(manual.getProxyResponse());
+        assertEquals(2L, book.getTopBidderId());
+        assertEquals(won(20000), book.getCurrentHighestBid());
+        assertEquals(0, book.getActiveProxyBidCount());
+    }
+
+    @Test
+    void capsResponseAtMaxAutoBid() {
+        AuctionOrderBook book = book(won(1000));
+
+        book.accept(1L, won(11000), true, won(15000), BASE);
+        BidAcceptance manual = book.accept(2L, won(14000), false, null, BASE.plusMinutes(1));
+        assertEquals(won(15000), manual.getProxyResponse().getBidAmount());
+
+        // 한도 소진 후에는 응답하지 않음
+        BidAcceptance higher = book.accept(2L, won(16000), false, null, BASE.plusMinutes(2));
+        assertNull(higher.getProxyResponse());
+        assertEquals(2L, book.getTopBidderId());
+        assertEquals(0, book.getActiveProxyBidCount());
+    }
+
+    @Test
+    void keepsProxyAmountsOnBidUnit() {
+        // 최소 인상폭(500)이 입찰 단위(1000)보다 작아도 응답은 입찰 단위로 올림
+        AuctionOrderBook book = book(won(500));
+
+        book.accept(1L, won(11000), true, won(20000), BASE);
+        BidAcceptance manual = book.accept(2L, won(12000), false, null, BASE.plusMinutes(1));
+        assertEquals(won(13000), manual.getProxyResponse().getBidAmount());
+
+        // 요청한 사용자 본인의 자동 입찰이 이기면 요청 입찰가를 올려 1건만 수락
+        BidAcceptance own = book.accept(2L, won(14000), true, won(30000), BASE.plusMinutes(2));
+        assertEquals(won(21000), own.getBidAmount());
+        assertNull(own.getProxyResponse());
+        assertEquals(2L, book.getTopBidderId());
+
+        assertRejected(AuctionErrorCode.BID_UNIT_MISMATCH,
+                () -> book.accept(3L, won(22500), false, null, BASE.plusMinutes(3)));
+        assertRejected(AuctionErrorCode.BID_UNIT_MISMATCH,
+                () -> book.accept(3L, won(22000), true, won(35500), BASE.plusMinutes(3)));
+        assertRejected(AuctionErrorCode.INVALID_MINIMUM_BID,
+                () -> book.accept(3L, won(21000), false, null, BASE.plusMinutes(3)));
+    }
+
+    @Test
+    void extendsOnlyInsideSoftCloseWindow() {
+        AuctionOrderBook book = book(won(1000), Duration.ofMinutes(2), Duration.ofMinutes(3));
+
+        // 구간 밖 입찰은 연장하지 않음
+        assertNull(book.accept(1L, won(11000), false, null, END.minusMinutes(10)).getExtendedEndTime());
+        assertEquals(END, book.getScheduledEndTime());
+
+        // 구간 안 입찰은 입찰 시간 + 연장 시간으로 연장
+        BidAcceptance late = book.accept(2L, won(12000), false, null, END.minusMinutes(1));
+        assertEquals(END.plusMinutes(2), late.getExtendedEndTime());
+        assertEquals(END.plusMinutes(2), book.getScheduledEndTime());
+
+        // 원래 종료 시간이 지나도 연장된 동안은 종료하지 않고 입찰을 받음
+        assertFalse(book.closeIfExpired(END.plusSeconds(30), Auction.AuctionStatus.COMPLETED));
+        BidAcceptance extended = book.accept(1L, won(13000), false, null, END.plusSeconds(90));
+        assertEquals(END.plusSeconds(90).plusMinutes(3), extended.getExtendedEndTime());
+    }
+
+    @Test
+    void rejectsBidsAfterCloseIfExpired() {
+        AuctionOrderBook book = book(won(1000));
+
+        assertFalse(book.closeIfExpired(END.minusMinutes(1), Auction.AuctionStatus.COMPLETED));
+        book.accept(1L, won(11000), false, null, END.minusMinutes(1));
+
+        // 종료 처리 전이라도 종료 시간이 지난 입찰은 거부
+        assertRejected(AuctionErrorCode.AUCTION_NOT_IN_PROGRESS,
+                () -> book.accept(2L, won(12000), false, null, END.plusSeconds(1)));
+
+        assertTrue(book.closeIfExpired(END, Auction.AuctionStatus.COMPLETED));
+        assertEquals(Auction.AuctionStatus.COMPLETED, book.getStatus());
+        assertRejected(AuctionErrorCode.CANNOT_START_AUCTION,
+                () -> book.accept(2L, won(12000), false, null, END.minusSeconds(1)));
+    }
+
+    private static AuctionOrderBook book(BigDecimal minimumBid) {
+        return book(minimumBid, Duration.ZERO, Duration.ZERO);
+    }
+
+    private static AuctionOrderBook book(BigDecimal minimumBid, Duration softCloseWindow, Duration softCloseExtension) {
+        Auction auction = new Auction();
+        auction.setId(1L);
+        auction.setStatus(Auction.AuctionStatus.IN_PROGRESS);
+        auction.setStartPrice(won(10000));
+        auction.setCurrentHighestBid(won(10000));
+        auction.setMinimumBid(minimumBid);
+        auction.setBidUnit(won(1000));
+        auction.setScheduledEndTime(END);
+        return AuctionOrderBook.restore(auction, List.of(), softCloseWindow, softCloseExtension);
+    }
+
+    private static void assertRejected(ErrorCode errorCode, Executable executable) {
+        assertEquals(errorCode, assertThrows(BusinessException.class, executable).getErrorCode());
+    }
+
+    private static BigDecimal won(long amount) {
+        return BigDecimal.valueOf(amount);
+    }
+}
@@ -0,0 +1,135 @@
+package com.highlight.highlight_backend.service.bid;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 입찰 저널 기록/복원 검증
+ *
+ * 종료 처리 없이 프로세스가 중단된 상황을 가정하여, 새 저널 인스턴스가 미적용 입찰만 순서대로 복원하는지와
+ * 끝부분이 깨진 레코드를 무시하는지 확인합니다. 복원 소요 시간이 기록되고 넉넉한 상한 안에 드는지도 확인합니다.
+ */
+class BidJournalTest {
+
+    private static final int BID_COUNT = 20_000;
+    private static final Duration RECOVERY_TIME_LIMIT = Duration.ofSeconds(30);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void recoversUnappliedBidsInOrder() throws Exception {
+        BidJournal journal = new BidJournal(true, directory.toString(), 8, 1);
+        BidJournal recovered = null;
+        try {
+            LocalDateTime acceptedAt = LocalDateTime.of(2025, 8, 20, 12, 0, 0, 123_000_000);
+
+            List<Long> applied = new ArrayList<>();
+            long lastSequence = 0;
+            for (int i = 0; i < BID_COUNT; i++) {
+                BigDecimal maxAutoBid = i % 10 == 0 ? BigDecimal.valueOf(1_000_000L + i) : null;
+                lastSequence = journal.append((long) (i % 100), (long) i, BigDecimal.valueOf(10_000L + i),
+                        maxAutoBid != null, maxAutoBid, acceptedAt);
+                // 절반은 DB 반영 완료
+                if (i % 2 == 0) {
+                    applied.add(lastSequence);
+                }
+                if (applied.size() == 200) {
+                    journal.markApplied(applied);
+                    applied.clear();
+                }
+            }
+            journal.sync(lastSequence).get(5, TimeUnit.SECONDS);
+
+            // 기존 저널을 닫기 전에 새 인스턴스로 복원 (close() 없이 중단된 것으로 가정)
+            recovered = new BidJournal(true, directory.toString(), 8, 1);
+            List<BidJournal.Entry> entries = recovered.drainRecoveredEntries();
+
+            // 복원 소요 시간 기록 (20,000건 재생은 넉넉한 상한 안에서 끝나야 함)
+            Duration recoveryDuration = recovered.getRecoveryDuration();
+            assertTrue(recoveryDuration.compareTo(Duration.ZERO) > 0);
+            assertTrue(recoveryDuration.compareTo(RECOVERY_TIME_LIMIT) < 0,
+                    () -> "저널 복원 소요 시간 초과: " + recoveryDuration.toMillis() + "ms");
+
+            // 마지막 200건 미만의 적용 완료 기록은 markApplied 전에 중단되어 미적용으로 남음
+            assertEquals(BID_COUNT / 2 + applied.size(), entries.size());
+
+            BidJournal.Entry first = entries.get(0);
+            assertEquals(2L, first.sequence());
+            assertEquals(1L, first.auctionId());
+            assertEquals(1L, first.userId());
+            assertEquals(0, BigDecimal.valueOf(10_001L).compareTo(first.bidAmount()));
+            assertNull(first.maxAutoBidAmount());
+            assertEquals(acceptedAt, first.acceptedAt());
+            for (int i = 1; i < entries.size(); i++) {
+                assertTrue(entries.get(i - 1).sequence() < entries.get(i).sequence());
+            }
+
+            // 새 입찰은 이전 시퀀스 이후부터 기록
+            assertTrue(recovered.append(1L, 1L, BigDecimal.ONE, false, null, acceptedAt) > lastSequence);
+        } finally {
+            if (recovered != null) {
+                recovered.close();
+            }
+            journal.close();
+        }
+    }
+
+    @Test
+    void ignoresTornRecordAtTail() throws Exception {
+        BidJournal journal = new BidJournal(true, directory.toString(), 1, 1);
+        try {
+            LocalDateTime acceptedAt = LocalDateTime.now();
+            journal.append(1L, 1L, BigDecimal.valueOf(1000), false, null, acceptedAt);
+            long second = journal.append(1L, 2L, BigDecimal.valueOf(2000), true, BigDecimal.valueOf(5000), acceptedAt);
+            journal.sync(second).get(5, TimeUnit.SECONDS);
+        } finally {
+            journal.close();
+        }
+
+        // 두 번째 레코드의 payload 일부를 훼손 (기록 도중 중단된 상황)
+        Path segment = onlySegment();
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(4);
+            channel.read(header, 0);
+            int firstRecordSize = 8 + header.flip().getInt();
+            channel.write(ByteBuffer.wrap(new byte[]{(byte) 0xFF, (byte) 0xFF}), firstRecordSize + 12);
+        }
+
+        BidJournal recovered = new BidJournal(true, directory.toString(), 1, 1);
+        try {
+            List<BidJournal.Entry> entries = recovered.drainRecoveredEntries();
+
+            assertEquals(1, entries.size());
+            assertEquals(1L, entries.get(0).userId());
+        } finally {
+            recovered.close();
+        }
+    }
+
+    private Path onlySegment() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> segments = files.toList();
+            assertEquals(1, segments.size());
+            return segments.get(0);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.highlight.highlight_backend.service.cluster;
+
+import com.highlight.highlight_backend.event.SchedulerLeadershipAcquiredEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * H2 에서 스케줄러 리스 기반 리더 선출 검증
+ *
+ * 두 노드(nodeA, nodeB)가 같은 리스 테이블을 사용할 때 한 노드만 리더가 되는지,
+ * 리더가 리스를 반납하거나 갱신을 멈추면 다른 노드가 이어받는지 확인합니다.
+ */
+class SchedulerLeaderElectionTest {
+
+    private static final long LEASE_MS = 400;
+
+    private JdbcTemplate jdbcTemplate;
+    private final List<Object> events = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                "jdbc:h2:mem:lease-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbcTemplate.execute("CREATE TABLE scheduler_lease (" +
+                "lease_name VARCHAR(64) NOT NULL PRIMARY KEY, " +
+                "owner_id VARCHAR(128) NOT NULL, " +
+                "locked_until TIMESTAMP(6) NOT NULL, " +
+                "updated_at TIMESTAMP(6) NOT NULL)");
+    }
+
+    @Test
+    void onlyOneNodeBecomesLeader() {
+        SchedulerLeaderElection nodeA = node("node-a");
+        SchedulerLeaderElection nodeB = node("node-b");
+
+        assertTrue(nodeA.tryAcquire());
+        assertFalse(nodeB.tryAcquire());
+
+        // 보유 노드의 갱신은 계속 성공
+        assertTrue(nodeA.tryAcquire());
+        assertFalse(nodeB.tryAcquire());
+
+        assertTrue(nodeA.isLeader());
+        assertFalse(nodeB.isLeader());
+        assertEquals(1, events.size());
+        assertEquals("node-a", ((SchedulerLeadershipAcquiredEvent) events.get(0)).getNodeId());
+    }
+
+    @Test
+    void releasedLeaseIsTakenOverImmediately() {
+        SchedulerLeaderElection nodeA = node("node-a");
+        SchedulerLeaderElection nodeB = node("node-b");
+        assertTrue(nodeA.tryAcquire());
+
+        nodeA.release();
+
+        assertFalse(nodeA.isLeader());
+        assertTrue(nodeB.tryAcquire());
+        assertTrue(nodeB.isLeader());
+    }
+
+    @Test
+    void expiredLeaseFailsOverToAnotherNode() throws InterruptedException {
+        SchedulerLeaderElection nodeA = node("node-a");
+        SchedulerLeaderElection nodeB = node("node-b");
+        assertTrue(nodeA.tryAcquire());
+
+        // nodeA 가 갱신을 멈춤 (장애): 로컬 리더 기한이 리스 만료보다 먼저 끝남
+        Thread.sleep(LEASE_MS * 3 / 4 + 20);
+        assertFalse(nodeA.isLeader());
+        assertFalse(nodeB.tryAcquire());
+
+        Thread.sleep(LEASE_MS / 4 + 20);
+        assertTrue(nodeB.tryAcquire());
+        assertTrue(nodeB.isLeader());
+
+        // 복구된 nodeA 는 리더가 되지 못함
+        assertFalse(nodeA.tryAcquire());
+        assertFalse(nodeA.isLeader());
+    }
+
+    @Test
+    void disabledElectionIsAlwaysLeader() {
+        SchedulerLeaderElection single = new SchedulerLeaderElection(jdbcTemplate, events::add, false, LEASE_MS, "single");
+
+        assertTrue(single.isLeader());
+    }
+
+    private SchedulerLeaderElection node(String nodeId) {
+        return new SchedulerLeaderElection(jdbcTemplate, events::add, true, LEASE_MS, nodeId);
+    }
+}
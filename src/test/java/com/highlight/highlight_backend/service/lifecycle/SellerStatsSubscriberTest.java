@@ -0,0 +1,89 @@
+package com.highlight.highlight_backend.service.lifecycle;
+
+import com.highlight.highlight_backend.domain.Auction;
+import com.highlight.highlight_backend.domain.AuctionOutboxEvent;
+import com.highlight.highlight_backend.domain.Product;
+import com.highlight.highlight_backend.domain.Seller;
+import com.highlight.highlight_backend.event.AuctionLifecycleEvent;
+import com.highlight.highlight_backend.repository.AuctionRepository;
+import com.highlight.highlight_backend.repository.SellerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * H2 에서 판매자 통계 구독자의 재전달 처리 검증
+ *
+ * 같은 아웃박스 이벤트가 다시 전달되어도 판매 건수가 한 번만 오르고,
+ * 처리 기록은 구독자마다 따로 남는지 확인합니다. 경매/판매자 조회는 리포지토리 목으로 대신합니다.
+ */
+class SellerStatsSubscriberTest {
+
+    private static final Long AUCTION_ID = 1L;
+    private static final Long SELLER_ID = 5L;
+
+    private final AuctionRepository auctionRepository = mock(AuctionRepository.class);
+    private final SellerRepository sellerRepository = mock(SellerRepository.class);
+
+    private AuctionOutboxApplyLog applyLog;
+    private SellerStatsSubscriber subscriber;
+    private Seller seller;
+
+    @BeforeEach
+    void setUp() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                "jdbc:h2:mem:outbox-applied-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbcTemplate.execute("""
+                CREATE TABLE auction_outbox_applied (
+                    subscriber VARCHAR(50) NOT NULL,
+                    outbox_event_id BIGINT NOT NULL,
+                    applied_at DATETIME(6) NOT NULL,
+                    PRIMARY KEY (subscriber, outbox_event_id)
+                )""");
+        applyLog = new AuctionOutboxApplyLog(jdbcTemplate);
+
+        Product product = new Product();
+        product.setSellerId(SELLER_ID);
+        Auction auction = new Auction();
+        auction.setId(AUCTION_ID);
+        auction.setProduct(product);
+        seller = new Seller();
+        seller.setId(SELLER_ID);
+
+        when(auctionRepository.findByIdWithProduct(AUCTION_ID)).thenReturn(Optional.of(auction));
+        when(sellerRepository.findById(SELLER_ID)).thenReturn(Optional.of(seller));
+        subscriber = new SellerStatsSubscriber(auctionRepository, sellerRepository, applyLog);
+    }
+
+    @Test
+    void countsRedeliveredSaleOnce() {
+        AuctionLifecycleEvent event = new AuctionLifecycleEvent(100L, AUCTION_ID,
+                AuctionOutboxEvent.EventType.ENDED, 9L);
+
+        subscriber.onAuctionLifecycle(event);
+        subscriber.onAuctionLifecycle(event);
+        assertEquals(1L, seller.getSalesCount());
+
+        // 다른 이벤트(다른 경매 판매)는 따로 반영
+        subscriber.onAuctionLifecycle(new AuctionLifecycleEvent(101L, AUCTION_ID,
+                AuctionOutboxEvent.EventType.BOUGHT_NOW, 10L));
+        assertEquals(2L, seller.getSalesCount());
+    }
+
+    @Test
+    void recordsEachSubscriberSeparately() {
+        assertTrue(applyLog.markApplied(SellerStatsSubscriber.SUBSCRIBER, 100L));
+        assertFalse(applyLog.markApplied(SellerStatsSubscriber.SUBSCRIBER, 100L));
+        assertTrue(applyLog.markApplied(AuctionNotificationSubscriber.SUBSCRIBER, 100L));
+    }
+}
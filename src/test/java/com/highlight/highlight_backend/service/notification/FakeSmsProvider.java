@@ -0,0 +1,50 @@
+package com.highlight.highlight_backend.service.notification;
+
+import com.highlight.highlight_backend.exception.BusinessException;
+import com.highlight.highlight_backend.exception.SmsErrorCode;
+import com.highlight.highlight_backend.service.sms.SmsProvider;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 테스트용 인메모리 SMS 제공자
+ *
+ * 발송 요청을 배치 단위로 기록하며, failOnNextSend 로 다음 발송을 실패시킬 수 있습니다.
+ */
+class FakeSmsProvider implements SmsProvider {
+
+    private final int maxBatchSize;
+    private final List<List<String>> batches = new CopyOnWriteArrayList<>();
+    private volatile boolean failOnNextSend;
+
+    FakeSmsProvider(int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    @Override
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    @Override
+    public void send(String text, List<String> phoneNumbers) {
+        if (failOnNextSend) {
+            failOnNextSend = false;
+            throw new BusinessException(SmsErrorCode.SMS_SEND_FAILED);
+        }
+        batches.add(List.copyOf(phoneNumbers));
+    }
+
+    void failOnNextSend() {
+        this.failOnNextSend = true;
+    }
+
+    List<List<String>> getBatches() {
+        return batches;
+    }
+
+    List<String> getPhoneNumbers() {
+        return batches.stream().flatMap(List::stream).toList();
+    }
+}
@@ -0,0 +1,172 @@
+package com.highlight.highlight_backend.service.notification;
+
+import com.highlight.highlight_backend.service.WebSocketService;
+import com.highlight.highlight_backend.service.sms.SmsGateway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * H2 에서 상품 알림 대량 발송 엔진 검증
+ *
+ * 경매 시작 알림 신청자에게 WebSocket/SMS 가 한 번씩 발송되는지, SMS 가 제공자 배치 크기로 묶이는지,
+ * 같은 경매에 다시 요청해도 재발송하지 않는지, 멈춘 발송이 커서 이후부터 이어지는지 확인합니다.
+ */
+class ProductNotificationDispatcherTest {
+
+    private static final long AUCTION_ID = 1L;
+    private static final long PRODUCT_ID = 10L;
+
+    private JdbcTemplate jdbcTemplate;
+    private FakeSmsProvider smsProvider;
+    private SmsGateway smsGateway;
+    private ProductNotificationDispatcher dispatcher;
+    private final List<String> webSocketDestinations = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:dispatch-" + UUID.randomUUID() + ";MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        createTables();
+
+        jdbcTemplate.update("INSERT INTO product (id, product_name) VALUES (?, ?)", PRODUCT_ID, "빈티지 의자");
+        jdbcTemplate.update("INSERT INTO auction (id, product_id) VALUES (?, ?)", AUCTION_ID, PRODUCT_ID);
+        for (long userId = 1; userId <= 7; userId++) {
+            subscribe(userId, "AUCTION_START", true);
+        }
+        subscribe(8L, "AUCTION_START", false);  // 비활성
+        subscribe(9L, "BID_UPDATE", true);      // 다른 유형
+
+        // 전송 대상만 기록 (메시지 변환/브로커 없이)
+        SimpMessagingTemplate messagingTemplate = new SimpMessagingTemplate(new ExecutorSubscribableChannel()) {
+            @Override
+            public void convertAndSend(String destination, Object payload) {
+                webSocketDestinations.add(destination);
+            }
+        };
+        WebSocketService webSocketService = new WebSocketService(messagingTemplate, null, null, null);
+
+        smsProvider = new FakeSmsProvider(3);
+        smsGateway = new SmsGateway(smsProvider, 100, 1000, 2, 5, 30000);
+        dispatcher = new ProductNotificationDispatcher(jdbcTemplate, new DataSourceTransactionManager(dataSource),
+                smsGateway, webSocketService, 2, 2, 1000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+        smsGateway.shutdown();
+    }
+
+    @Test
+    void dispatchesToActiveSubscribersInProviderBatchesOnlyOnce() throws Exception {
+        dispatcher.dispatchAuctionStart(AUCTION_ID).get(5, TimeUnit.SECONDS);
+
+        assertEquals(phones(1, 7), Set.copyOf(smsProvider.getPhoneNumbers()));
+        assertEquals(7, smsProvider.getPhoneNumbers().size());
+        assertTrue(smsProvider.getBatches().stream().allMatch(batch -> batch.size() <= 3));
+        assertEquals(7, webSocketDestinations.size());
+        assertTrue(webSocketDestinations.contains("/queue/user/1/notifications"));
+        assertEquals("COMPLETED", dispatchStatus());
+        assertEquals(7, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM product_notification WHERE last_notified_at IS NOT NULL", Integer.class));
+
+        // 아웃박스 재전달 등으로 다시 요청되어도 재발송하지 않음
+        dispatcher.dispatchAuctionStart(AUCTION_ID).get(5, TimeUnit.SECONDS);
+        assertEquals(7, smsProvider.getPhoneNumbers().size());
+        assertEquals(7, webSocketDestinations.size());
+    }
+
+    @Test
+    void stalledDispatchResumesAfterCursor() throws Exception {
+        // 4번째 신청자까지 발송한 뒤 멈춘 발송
+        long cursor = jdbcTemplate.queryForObject(
+                "SELECT id FROM product_notification WHERE user_id = 4", Long.class);
+        Timestamp stalledAt = Timestamp.valueOf(LocalDateTime.now().minusMinutes(5));
+        jdbcTemplate.update("INSERT INTO notification_dispatch (auction_id, product_id, notification_type, status, " +
+                "last_notification_id, sent_count, created_at, updated_at) VALUES (?, ?, 'AUCTION_START', 'IN_PROGRESS', ?, 4, ?, ?)",
+                AUCTION_ID, PRODUCT_ID, cursor, stalledAt, stalledAt);
+
+        dispatcher.resumeStalledDispatches().get(5, TimeUnit.SECONDS);
+
+        assertEquals(phones(5, 7), Set.copyOf(smsProvider.getPhoneNumbers()));
+        assertEquals(3, webSocketDestinations.size());
+        assertEquals("COMPLETED", dispatchStatus());
+        assertEquals(7, jdbcTemplate.queryForObject(
+                "SELECT sent_count FROM notification_dispatch WHERE auction_id = ?", Integer.class, AUCTION_ID));
+    }
+
+    @Test
+    void failedSmsBatchDoesNotStopDispatch() throws Exception {
+        smsProvider.failOnNextSend();
+
+        dispatcher.dispatchAuctionStart(AUCTION_ID).get(5, TimeUnit.SECONDS);
+
+        assertEquals(7, webSocketDestinations.size());
+        assertEquals("COMPLETED", dispatchStatus());
+    }
+
+    private void createTables() {
+        jdbcTemplate.execute("CREATE TABLE product (id BIGINT PRIMARY KEY, product_name VARCHAR(100))");
+        jdbcTemplate.execute("CREATE TABLE auction (id BIGINT PRIMARY KEY, product_id BIGINT NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE user (id BIGINT PRIMARY KEY, phone_number VARCHAR(20), deleted_at TIMESTAMP(6))");
+        jdbcTemplate.execute("CREATE TABLE product_notification (" +
+                "id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                "user_id BIGINT NOT NULL, " +
+                "product_id BIGINT NOT NULL, " +
+                "is_active BOOLEAN NOT NULL, " +
+                "notification_type VARCHAR(30) NOT NULL, " +
+                "last_notified_at TIMESTAMP(6))");
+        jdbcTemplate.execute("CREATE TABLE notification_dispatch (" +
+                "id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                "auction_id BIGINT NOT NULL, " +
+                "product_id BIGINT NOT NULL, " +
+                "notification_type VARCHAR(30) NOT NULL, " +
+                "status VARCHAR(20) NOT NULL, " +
+                "last_notification_id BIGINT NOT NULL DEFAULT 0, " +
+                "sent_count INT NOT NULL DEFAULT 0, " +
+                "created_at TIMESTAMP(6) NOT NULL, " +
+                "updated_at TIMESTAMP(6) NOT NULL, " +
+                "CONSTRAINT uk_dispatch_auction_type UNIQUE (auction_id, notification_type))");
+    }
+
+    private void subscribe(long userId, String notificationType, boolean active) {
+        jdbcTemplate.update("INSERT INTO user (id, phone_number) VALUES (?, ?)", userId, phone(userId));
+        jdbcTemplate.update("INSERT INTO product_notification (user_id, product_id, is_active, notification_type) " +
+                "VALUES (?, ?, ?, ?)", userId, PRODUCT_ID, active, notificationType);
+    }
+
+    private String dispatchStatus() {
+        return jdbcTemplate.queryForObject(
+                "SELECT status FROM notification_dispatch WHERE auction_id = ?", String.class, AUCTION_ID);
+    }
+
+    private static String phone(long userId) {
+        return "0100000000" + userId;
+    }
+
+    private static Set<String> phones(long fromUserId, long toUserId) {
+        return LongStream.rangeClosed(fromUserId, toUserId)
+                .mapToObj(ProductNotificationDispatcherTest::phone)
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,78 @@
+package com.highlight.highlight_backend.service.notification;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.highlight.highlight_backend.dto.websocket.NotificationReplayDto;
+import com.highlight.highlight_backend.dto.websocket.WebSocketMessageDto;
+import com.highlight.highlight_backend.dto.websocket.WebSocketMessageDto.WebSocketMessageType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * H2 에서 개인 알림함 검증
+ *
+ * 저장한 알림에 순번이 붙는지, 마지막 순번 이후 알림만 오름차순으로 재전송되는지,
+ * 재전송 한도를 넘으면 최근 알림만 보내고 누락을 알리는지 확인합니다.
+ */
+class UserNotificationInboxTest {
+
+    private UserNotificationInbox inbox;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:inbox-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE user_notification (" +
+                "id BIGINT AUTO_INCREMENT PRIMARY KEY, user_id BIGINT NOT NULL, message_type VARCHAR(40) NOT NULL, " +
+                "auction_id BIGINT NULL, payload TEXT NOT NULL, created_at TIMESTAMP(6) NOT NULL)");
+        inbox = new UserNotificationInbox(jdbcTemplate, new ObjectMapper(), 3, 72);
+    }
+
+    @Test
+    void replaysOnlyNotificationsAfterLastSeq() {
+        WebSocketMessageDto first = inbox.append(1L, outbid("첫 번째"));
+        inbox.append(2L, outbid("다른 사용자"));
+        WebSocketMessageDto second = inbox.append(1L, outbid("두 번째"));
+
+        NotificationReplayDto replay = inbox.findAfter(1L, first.getSeq());
+
+        assertEquals(1, replay.getMessages().size());
+        assertEquals(second.getSeq(), replay.getLastSeq());
+        assertEquals("두 번째", ((JsonNode) replay.getMessages().get(0).getData()).asText());
+        assertEquals(WebSocketMessageType.BID_OUTBID, replay.getMessages().get(0).getType());
+        assertFalse(replay.isTruncated());
+
+        NotificationReplayDto upToDate = inbox.findAfter(1L, second.getSeq());
+        assertTrue(upToDate.getMessages().isEmpty());
+        assertEquals(second.getSeq(), upToDate.getLastSeq());
+    }
+
+    @Test
+    void replaysNewestNotificationsWhenOverLimit() {
+        List<Long> seqs = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            seqs.add(inbox.append(1L, outbid("알림 " + i)).getSeq());
+        }
+
+        NotificationReplayDto replay = inbox.findAfter(1L, 0L);
+
+        assertTrue(replay.isTruncated());
+        assertEquals(seqs.subList(2, 5), replay.getMessages().stream().map(WebSocketMessageDto::getSeq).toList());
+        assertEquals(seqs.get(4), replay.getLastSeq());
+    }
+
+    private WebSocketMessageDto outbid(String message) {
+        return WebSocketMessageDto.of(WebSocketMessageType.BID_OUTBID, 100L, message);
+    }
+}
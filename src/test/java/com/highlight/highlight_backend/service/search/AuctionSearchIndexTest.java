@@ -0,0 +1,112 @@
+package com.highlight.highlight_backend.service.search;
+
+import com.highlight.highlight_backend.domain.Auction;
+import com.highlight.highlight_backend.domain.Product;
+import com.highlight.highlight_backend.dto.AuctionFacetsDto;
+import com.highlight.highlight_backend.dto.UserAuctionResponseDto;
+import com.highlight.highlight_backend.event.AuctionBidStatsChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 경매 검색 인덱스 검증
+ *
+ * 필터 교집합, 상품명 부분 검색, 가격 범위, 정렬/페이지, 항목별 건수, 입찰/상태 변경 반영을 확인합니다.
+ */
+class AuctionSearchIndexTest {
+
+    private AuctionSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new AuctionSearchIndex(null, null);
+        index.upsertLocked(document(1L, "빈티지 원목 의자", "Hay", Product.Category.FURNITURE, true, 10_000, 3, 1));
+        index.upsertLocked(document(2L, "원목 테이블", "Hay", Product.Category.FURNITURE, false, 50_000, 7, 2));
+        index.upsertLocked(document(3L, "세라믹 조명", "Muuto", Product.Category.PROPS, true, 30_000, 1, 3));
+    }
+
+    @Test
+    void intersectsFilters() {
+        assertEquals(List.of(2L, 1L), ids(search("furniture", null, null, "hay", null, null, null)));
+        assertEquals(List.of(1L), ids(search("FURNITURE", null, null, null, null, true, null)));
+        assertEquals(List.of(2L), ids(search(null, null, null, null, null, false, null)));
+        assertEquals(List.of(), ids(search("UNKNOWN", null, null, null, null, null, null)));
+    }
+
+    @Test
+    void matchesTitleSubstringAndPriceRange() {
+        assertEquals(List.of(2L, 1L), ids(search(null, null, null, null, "원목", null, null)));
+        assertEquals(List.of(1L), ids(search(null, null, null, null, "원목 의", null, null)));
+        assertEquals(List.of(3L, 1L), ids(search(null, 10_000L, 30_000L, null, null, null, null)));
+    }
+
+    @Test
+    void sortsAndPages() {
+        Page<UserAuctionResponseDto> page = index.search(null, null, null, null, null, null, null, "popular",
+                PageRequest.of(0, 2));
+        assertEquals(List.of(2L, 1L), ids(page));
+        assertEquals(3, page.getTotalElements());
+
+        Page<UserAuctionResponseDto> ending = index.search(null, null, null, null, null, null, null, "ending",
+                PageRequest.of(1, 2));
+        assertEquals(List.of(3L), ids(ending));
+    }
+
+    @Test
+    void countsFacetsExcludingOwnFilter() {
+        AuctionFacetsDto facets = index.search("FURNITURE", null, null, null, null, null, null, null,
+                PageRequest.of(0, 20)).getFacets();
+
+        // 카테고리 건수는 카테고리 필터를 빼고 셈
+        assertEquals(2, count(facets.getCategories(), "FURNITURE"));
+        assertEquals(1, count(facets.getCategories(), "PROPS"));
+        // 브랜드/가격 건수는 카테고리 필터를 적용해서 셈
+        assertEquals(2, count(facets.getBrands(), "Hay"));
+        assertEquals(0, count(facets.getBrands(), "Muuto"));
+        assertEquals(2, facets.getPriceBuckets().get(0).getCount());
+    }
+
+    @Test
+    void appliesBidStatsAndRemovesClosedAuctions() {
+        index.onBidStatsChanged(new AuctionBidStatsChangedEvent(3L, BigDecimal.valueOf(90_000), 20));
+        assertEquals(List.of(3L), ids(search(null, 80_000L, null, null, null, null, null)));
+
+        AuctionDocument closed = document(2L, "원목 테이블", "Hay", Product.Category.FURNITURE, false, 50_000, 7, 2);
+        index.upsertLocked(new AuctionDocument(closed.auctionId(), closed.productId(), closed.productName(),
+                closed.thumbnailUrl(), closed.brand(), closed.category(), closed.premium(), Auction.AuctionStatus.COMPLETED,
+                closed.startPrice(), closed.buyNowPrice(), closed.currentPrice(), closed.totalBids(),
+                closed.scheduledStartTime(), closed.scheduledEndTime(), closed.createdAt()));
+        assertEquals(List.of(3L, 1L), ids(search(null, null, null, null, null, null, null)));
+    }
+
+    private Page<UserAuctionResponseDto> search(String category, Long minPrice, Long maxPrice, String brand,
+                                                String eventName, Boolean isPremium, String status) {
+        return index.search(category, minPrice, maxPrice, brand, eventName, isPremium, status, null,
+                PageRequest.of(0, 20));
+    }
+
+    private static long count(List<AuctionFacetsDto.FacetCount> counts, String value) {
+        return counts.stream().filter(count -> count.getValue().equals(value))
+                .mapToLong(AuctionFacetsDto.FacetCount::getCount).findFirst().orElse(0);
+    }
+
+    private static List<Long> ids(Page<UserAuctionResponseDto> page) {
+        return page.getContent().stream().map(UserAuctionResponseDto::getAuctionId).toList();
+    }
+
+    private static AuctionDocument document(Long auctionId, String productName, String brand, Product.Category category,
+                                            boolean premium, long currentPrice, int totalBids, int order) {
+        LocalDateTime base = LocalDateTime.of(2025, 8, 20, 12, 0);
+        return new AuctionDocument(auctionId, auctionId * 10, productName, null, brand, category, premium,
+                Auction.AuctionStatus.IN_PROGRESS, BigDecimal.valueOf(1_000), null, BigDecimal.valueOf(currentPrice),
+                totalBids, base, base.plusHours(order), base.plusMinutes(order));
+    }
+}
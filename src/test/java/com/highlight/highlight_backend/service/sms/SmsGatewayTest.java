@@ -0,0 +1,121 @@
+package com.highlight.highlight_backend.service.sms;
+
+import com.highlight.highlight_backend.exception.BusinessException;
+import com.highlight.highlight_backend.exception.SmsErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * SMS 게이트웨이 검증
+ *
+ * 제공자가 느린 동안 쌓인 같은 문구 요청이 한 번의 호출로 묶이는지, 시간 초과가 이어지면 서킷 브레이커가 열려
+ * 새 요청을 바로 실패시키는지, 열린 시간이 지나면 다시 발송되는지 확인합니다.
+ */
+class SmsGatewayTest {
+
+    private SmsGateway gateway;
+
+    @AfterEach
+    void tearDown() {
+        gateway.shutdown();
+    }
+
+    @Test
+    void queuedRequestsWithSameTextAreSentInOneCall() throws Exception {
+        ControllableProvider provider = new ControllableProvider();
+        provider.block();
+        gateway = new SmsGateway(provider, 100, 2000, 1, 5, 30000);
+
+        // 첫 호출이 막혀 있는 동안 같은 문구 요청이 쌓임
+        CompletableFuture<Void> first = gateway.send("01000000000", "공지");
+        List<CompletableFuture<Void>> queued = List.of(
+                gateway.send("01000000001", "공지"),
+                gateway.send("01000000002", "공지"),
+                gateway.send("01000000003", "공지"),
+                gateway.send("01000000004", "공지"));
+        Thread.sleep(100);
+        provider.unblock();
+
+        first.get(2, TimeUnit.SECONDS);
+        for (CompletableFuture<Void> future : queued) {
+            future.get(2, TimeUnit.SECONDS);
+        }
+        assertEquals(5, provider.calls.stream().mapToInt(List::size).sum());
+        assertTrue(provider.calls.size() <= 3, "쌓인 요청이 묶이지 않았습니다: " + provider.calls);
+    }
+
+    @Test
+    void timeoutsOpenCircuitAndFailFastUntilRecovered() throws Exception {
+        ControllableProvider provider = new ControllableProvider();
+        provider.block();
+        gateway = new SmsGateway(provider, 100, 100, 4, 2, 300);
+
+        // 연속 시간 초과 2회로 서킷 브레이커 열림
+        assertFailsWith(gateway.send("01000000001", "인증번호 1"), TimeoutException.class);
+        assertFailsWith(gateway.send("01000000002", "인증번호 2"), TimeoutException.class);
+        assertFalse(gateway.isAvailable());
+
+        CompletableFuture<Void> rejected = gateway.send("01000000003", "인증번호 3");
+        ExecutionException error = assertThrows(ExecutionException.class, () -> rejected.get(1, TimeUnit.SECONDS));
+        assertEquals(SmsErrorCode.SMS_PROVIDER_UNAVAILABLE, ((BusinessException) error.getCause()).getErrorCode());
+
+        // 제공자 복구 후 열린 시간이 지나면 시험 발송이 성공하고 닫힘
+        provider.unblock();
+        Thread.sleep(350);
+        assertTrue(gateway.isAvailable());
+        gateway.send("01000000004", "인증번호 4").get(1, TimeUnit.SECONDS);
+        gateway.send("01000000005", "인증번호 5").get(1, TimeUnit.SECONDS);
+    }
+
+    private static void assertFailsWith(CompletableFuture<Void> future, Class<? extends Throwable> type) {
+        ExecutionException error = assertThrows(ExecutionException.class, () -> future.get(2, TimeUnit.SECONDS));
+        assertInstanceOf(type, error.getCause());
+    }
+
+    /**
+     * 응답을 막았다 풀 수 있는 제공자 (배치 크기 10)
+     */
+    private static final class ControllableProvider implements SmsProvider {
+
+        private final List<List<String>> calls = new CopyOnWriteArrayList<>();
+        private volatile CountDownLatch gate = new CountDownLatch(0);
+
+        void block() {
+            gate = new CountDownLatch(1);
+        }
+
+        void unblock() {
+            gate.countDown();
+        }
+
+        @Override
+        public int getMaxBatchSize() {
+            return 10;
+        }
+
+        @Override
+        public void send(String text, List<String> phoneNumbers) {
+            try {
+                gate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            calls.add(List.copyOf(phoneNumbers));
+        }
+    }
+}
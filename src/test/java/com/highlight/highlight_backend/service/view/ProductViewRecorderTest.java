@@ -0,0 +1,83 @@
+package com.highlight.highlight_backend.service.view;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * H2 에서 상품 조회 이력 수집 검증
+ *
+ * 30분 이내 같은 사용자/세션의 같은 상품 조회는 한 번만 저장되는지,
+ * 없는 상품의 조회는 배치 전체를 실패시키지 않고 빠지는지,
+ * 중복 제거 최대 개수를 넘으면 가장 오래된 기록부터 버리는지 확인합니다.
+ */
+class ProductViewRecorderTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private ProductViewRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:views-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE product (id BIGINT PRIMARY KEY)");
+        jdbcTemplate.execute("CREATE TABLE user_product_views (" +
+                "view_id BIGINT AUTO_INCREMENT PRIMARY KEY, user_id BIGINT NULL, session_id VARCHAR(255) NULL, " +
+                "product_id BIGINT NOT NULL REFERENCES product(id), viewed_at TIMESTAMP NULL, " +
+                "ip_address VARCHAR(45) NULL, user_agent TEXT NULL, duration_seconds INT NULL)");
+        jdbcTemplate.update("INSERT INTO product (id) VALUES (1), (2)");
+        recorder = new ProductViewRecorder(jdbcTemplate, event -> { }, 30, 100, 50, 10, 1000);
+    }
+
+    @Test
+    void recordsEachViewerOncePerWindow() {
+        assertTrue(recorder.record(1L, null, "session-a", "127.0.0.1", "agent"));
+        assertFalse(recorder.record(1L, null, "session-a", "127.0.0.1", "agent"));
+        assertTrue(recorder.record(1L, null, "session-b", "127.0.0.1", "agent"));
+        assertTrue(recorder.record(1L, 7L, "session-a", "127.0.0.1", "agent"));
+        assertTrue(recorder.record(2L, null, "session-a", "127.0.0.1", "agent"));
+
+        recorder.shutdown();
+
+        assertEquals(4, count());
+    }
+
+    @Test
+    void evictsOldestEntriesOverMaxEntries() {
+        // 최대 6건: 버킷당 1건이라 기록마다 새 버킷을 시작하고 7번째 버킷부터 가장 오래된 버킷을 버림
+        ProductViewRecorder bounded = new ProductViewRecorder(jdbcTemplate, event -> { }, 30, 100, 50, 10, 6);
+        for (int i = 0; i < 6; i++) {
+            assertTrue(bounded.record(1L, null, "session-" + i, null, null));
+        }
+
+        assertTrue(bounded.record(1L, null, "session-0", null, null));
+        assertFalse(bounded.record(1L, null, "session-5", null, null));
+
+        bounded.shutdown();
+        recorder.shutdown();
+
+        assertEquals(7, count());
+    }
+
+    @Test
+    void skipsViewsOfMissingProducts() {
+        recorder.record(1L, null, "session-a", null, null);
+        recorder.record(99L, null, "session-a", null, null);
+
+        recorder.shutdown();
+
+        assertEquals(1, count());
+    }
+
+    private int count() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM user_product_views", Integer.class);
+    }
+}